@@ -0,0 +1,145 @@
+package com.api.todos.application.usecase.auth;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import com.api.todos.application.command.auth.LoginCommand;
+import com.api.todos.application.dto.AuthResult;
+import com.api.todos.domain.model.RefreshToken;
+import com.api.todos.domain.model.User;
+import com.api.todos.domain.repository.RefreshTokenRepository;
+import com.api.todos.domain.repository.UserRepository;
+import com.api.todos.infrastructure.security.JwtAlgorithm;
+import com.api.todos.infrastructure.security.JwtKeyRing;
+import com.api.todos.infrastructure.security.JwtServiceImpl;
+import com.api.todos.infrastructure.security.PasswordHasherImpl;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * BCryptコスト別のログインスループット計測ベンチマーク
+ *
+ * <p>LoginUseCase（パスワード検証 + アクセストークン・リフレッシュトークン発行）をCPUコア数のスレッドで並行実行する。
+ * リポジトリはメモリ上のスタブのため、データベースを除いたログイン1件あたりのCPUコストを比較できる
+ *
+ * <p>結果（ops/s）はハッシュ処理用プール（password.hashing.pool-size = CPUコア数）で処理できるログイン数の上限の目安になる
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(Threads.MAX)
+public class LoginThroughputBenchmark {
+
+    private static final String SECRET =
+            "benchmark-secret-key-must-be-at-least-256-bits-long-for-hs256-algorithm";
+    private static final long EXPIRATION_MS = 900000L;
+    private static final String USERNAME = "benchmark_user";
+    private static final String PASSWORD = "benchmark-password";
+
+    @Param({"8", "10", "12"})
+    private int strength;
+
+    private LoginUseCase loginUseCase;
+    private LoginCommand command;
+
+    @Setup
+    public void setUp() {
+        PasswordHasherImpl passwordHasher =
+                new PasswordHasherImpl(new BCryptPasswordEncoder(strength));
+        User user =
+                new User(
+                        USERNAME,
+                        "Bench",
+                        "べんち",
+                        "Mark",
+                        "まーく",
+                        8,
+                        passwordHasher.hash(PASSWORD),
+                        "benchmark");
+
+        JwtKeyRing keyRing =
+                new JwtKeyRing(JwtAlgorithm.HS256, SECRET, "default", "", "", EXPIRATION_MS);
+        JwtServiceImpl jwtService = new JwtServiceImpl(keyRing, EXPIRATION_MS);
+        AuthTokenIssuer authTokenIssuer =
+                new AuthTokenIssuer(
+                        jwtService,
+                        new DiscardingRefreshTokenRepository(),
+                        Duration.ofMillis(EXPIRATION_MS),
+                        Duration.ofDays(14));
+        loginUseCase =
+                new LoginUseCase(new SingleUserRepository(user), passwordHasher, authTokenIssuer);
+        command = new LoginCommand(USERNAME, PASSWORD);
+    }
+
+    /** ログイン（パスワード検証 + トークン発行） */
+    @Benchmark
+    public AuthResult login() {
+        return loginUseCase.execute(command);
+    }
+
+    /** 1ユーザーのみを返すユーザーリポジトリ */
+    private static final class SingleUserRepository implements UserRepository {
+
+        private final User user;
+
+        SingleUserRepository(User user) {
+            this.user = user;
+        }
+
+        @Override
+        public Optional<User> findById(UUID id) {
+            return user.getId().equals(id) ? Optional.of(user) : Optional.empty();
+        }
+
+        @Override
+        public Optional<User> findByUsername(String username) {
+            return user.getUsername().equals(username) ? Optional.of(user) : Optional.empty();
+        }
+
+        @Override
+        public User save(User user) {
+            return user;
+        }
+    }
+
+    /** 保存したトークンを保持しないリフレッシュトークンリポジトリ */
+    private static final class DiscardingRefreshTokenRepository implements RefreshTokenRepository {
+
+        @Override
+        public Optional<RefreshToken> findByTokenHash(String tokenHash) {
+            return Optional.empty();
+        }
+
+        @Override
+        public RefreshToken save(RefreshToken refreshToken) {
+            return refreshToken;
+        }
+
+        @Override
+        public boolean revoke(UUID id) {
+            return false;
+        }
+
+        @Override
+        public int revokeAllByUserId(UUID userId) {
+            return 0;
+        }
+
+        @Override
+        public int deleteExpired(LocalDateTime now) {
+            return 0;
+        }
+    }
+}
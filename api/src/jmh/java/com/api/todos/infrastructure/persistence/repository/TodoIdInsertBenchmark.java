@@ -0,0 +1,141 @@
+package com.api.todos.infrastructure.persistence.repository;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import com.api.todos.domain.service.IdGenerator;
+import com.api.todos.domain.service.UuidV7Generator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * TODO主キーの採番方式（UUIDv4 / UUIDv7）別のINSERTスループット比較ベンチマーク
+ *
+ * <p>ローカルのPostgreSQL（マイグレーション適用済み）にベンチマーク用ユーザーを作成し、TODOをバッチINSERTする（1操作 = 1行）。
+ * 主キーインデックスが共有バッファに収まらない規模になるほど、挿入位置がランダムなUUIDv4はページ読み込み・分割が増えて遅くなる。
+ * 事前投入件数（existingRows）で既存インデックスの大きさを変えて比較する
+ *
+ * <p>終了時に主キーインデックス（todos_pkey）のサイズの増分を標準出力に出力し、投入したデータはユーザーごと削除する
+ *
+ * <p>接続先はシステムプロパティ bench.datasource.url / username / password で変更できる（デフォルトはapplication.propertiesと同じ）
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TodoIdInsertBenchmark {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO todos (id, title, user_id, created_at, updated_at)"
+                    + " VALUES (?, ?, ?, ?, ?)";
+
+    private static final String INDEX_SIZE_SQL = "SELECT pg_relation_size('todos_pkey')";
+
+    /** 採番方式 */
+    @Param({"v4", "v7"})
+    public String idVersion;
+
+    /** 計測前に同じ採番方式で投入しておく件数 */
+    @Param({"0", "1000000"})
+    public int existingRows;
+
+    private Connection connection;
+    private PreparedStatement insert;
+    private IdGenerator idGenerator;
+    private UUID userId;
+    private long initialIndexSize;
+    private int sequence;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection =
+                DriverManager.getConnection(
+                        System.getProperty(
+                                "bench.datasource.url",
+                                "jdbc:postgresql://localhost:5432/todos_db"),
+                        System.getProperty("bench.datasource.username", "todos_user"),
+                        System.getProperty("bench.datasource.password", "todos_password"));
+        idGenerator = "v7".equals(idVersion) ? new UuidV7Generator() : IdGenerator.UUID_V4;
+        userId = UUID.randomUUID();
+        try (PreparedStatement user =
+                connection.prepareStatement(
+                        "INSERT INTO users (id, username, password_hash) VALUES (?, ?, ?)")) {
+            user.setObject(1, userId);
+            user.setString(2, "bench_" + userId);
+            user.setString(3, "-");
+            user.executeUpdate();
+        }
+        connection.setAutoCommit(false);
+        insert = connection.prepareStatement(INSERT_SQL);
+        for (int i = 0; i < existingRows; i += BATCH_SIZE) {
+            insertBatch();
+        }
+        try (PreparedStatement analyze = connection.prepareStatement("ANALYZE todos")) {
+            analyze.execute();
+        }
+        connection.commit();
+        initialIndexSize = indexSize();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        long growth = indexSize() - initialIndexSize;
+        System.out.printf(
+                "%n[%s, existingRows=%d] todos_pkey growth: %.1f MB (%,d rows inserted)%n",
+                idVersion, existingRows, growth / 1024.0 / 1024.0, sequence - existingRows);
+        insert.close();
+        try (PreparedStatement statement =
+                connection.prepareStatement("DELETE FROM users WHERE id = ?")) {
+            statement.setObject(1, userId);
+            statement.executeUpdate();
+        }
+        connection.commit();
+        connection.close();
+    }
+
+    /** BATCH_SIZE 件を1トランザクションでINSERTする */
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void insert() throws SQLException {
+        insertBatch();
+    }
+
+    private void insertBatch() throws SQLException {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            insert.setObject(1, idGenerator.generate());
+            insert.setString(2, "todo " + sequence++);
+            insert.setObject(3, userId);
+            insert.setTimestamp(4, now);
+            insert.setTimestamp(5, now);
+            insert.addBatch();
+        }
+        insert.executeBatch();
+        connection.commit();
+    }
+
+    private long indexSize() throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(INDEX_SIZE_SQL);
+                ResultSet resultSet = statement.executeQuery()) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.api.todos.infrastructure.persistence.repository;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceConfiguration;
+
+import com.api.todos.application.dto.TodoResult;
+import com.api.todos.domain.model.Todo;
+import com.api.todos.infrastructure.persistence.entity.TodoJpaEntity;
+import com.api.todos.infrastructure.persistence.mapper.TodoMapper;
+
+import org.hibernate.Session;
+import org.hibernate.jpa.HibernatePersistenceConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+/**
+ * TODO一覧の取得方式（JPA Entity / 列を絞ったJdbcClient）別のアロケーション比較ベンチマーク
+ *
+ * <p>ローカルのPostgreSQL（マイグレーション適用済み）にベンチマーク用ユーザーとTODOを投入し、1ページ分を取得してApplication層の結果に変換する。
+ * gcプロファイラの gc.alloc.rate.norm（B/op）で1ページあたりの確保バイト数を比較する
+ *
+ * <ul>
+ *   <li>entity: 全列を TodoJpaEntity として取得し、Domain Model を経由して変換する（変更前の一覧。読み取り専用トランザクション）
+ *   <li>projection: TodoListJdbcRepository で一覧に必要な列のみを取得し、行から Domain Model を生成する
+ * </ul>
+ *
+ * <p>接続先はシステムプロパティ bench.datasource.url / username / password で変更できる（デフォルトはapplication.propertiesと同じ）
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TodoListHydrationBenchmark {
+
+    private static final int PAGE_SIZE = 100;
+
+    private static final String ENTITY_SQL =
+            "SELECT * FROM todos WHERE user_id = :userId AND deleted = false"
+                    + " ORDER BY created_at DESC, id DESC LIMIT :limit";
+
+    private String url;
+    private String username;
+    private String password;
+    private UUID userId;
+    private EntityManagerFactory entityManagerFactory;
+    private SingleConnectionDataSource dataSource;
+    private TodoListJdbcRepository listRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        url =
+                System.getProperty(
+                        "bench.datasource.url", "jdbc:postgresql://localhost:5432/todos_db");
+        username = System.getProperty("bench.datasource.username", "todos_user");
+        password = System.getProperty("bench.datasource.password", "todos_password");
+        userId = UUID.randomUUID();
+        seed();
+
+        entityManagerFactory =
+                new HibernatePersistenceConfiguration("bench")
+                        .managedClass(TodoJpaEntity.class)
+                        .property(PersistenceConfiguration.JDBC_URL, url)
+                        .property(PersistenceConfiguration.JDBC_USER, username)
+                        .property(PersistenceConfiguration.JDBC_PASSWORD, password)
+                        .createEntityManagerFactory();
+        dataSource = new SingleConnectionDataSource(url, username, password, true);
+        listRepository = new TodoListJdbcRepository(JdbcClient.create(dataSource));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        entityManagerFactory.close();
+        dataSource.destroy();
+        try (Connection connection = DriverManager.getConnection(url, username, password);
+                PreparedStatement statement =
+                        connection.prepareStatement("DELETE FROM users WHERE id = ?")) {
+            statement.setObject(1, userId);
+            statement.executeUpdate();
+        }
+    }
+
+    /** JPA Entity（永続化コンテキストに登録してから変換） */
+    @Benchmark
+    public void entity(Blackhole blackhole) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            entityManager.getTransaction().begin();
+            // @Transactional(readOnly = true) と同じくダーティチェック用のスナップショットを保持しない
+            entityManager.unwrap(Session.class).setDefaultReadOnly(true);
+            @SuppressWarnings("unchecked")
+            List<TodoJpaEntity> entities =
+                    entityManager
+                            .createNativeQuery(ENTITY_SQL, TodoJpaEntity.class)
+                            .setParameter("userId", userId)
+                            .setParameter("limit", PAGE_SIZE)
+                            .getResultList();
+            for (TodoJpaEntity entity : entities) {
+                blackhole.consume(TodoResult.from(TodoMapper.toDomainModel(entity)));
+            }
+            entityManager.getTransaction().commit();
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    /** 列を絞ったJdbcClient（行から直接変換） */
+    @Benchmark
+    public void projection(Blackhole blackhole) {
+        for (Todo todo : listRepository.findPage(userId, null, null, null, PAGE_SIZE)) {
+            blackhole.consume(TodoResult.from(todo));
+        }
+    }
+
+    private void seed() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(url, username, password)) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement user =
+                    connection.prepareStatement(
+                            "INSERT INTO users (id, username, password_hash) VALUES (?, ?, ?)")) {
+                user.setObject(1, userId);
+                user.setString(2, "bench_" + userId);
+                user.setString(3, "-");
+                user.executeUpdate();
+            }
+            LocalDateTime base = LocalDateTime.now().minusDays(1);
+            try (PreparedStatement todo =
+                    connection.prepareStatement(
+                            "INSERT INTO todos (id, title, descriptions, user_id, created_at)"
+                                    + " VALUES (?, ?, ?, ?, ?)")) {
+                for (int i = 0; i < PAGE_SIZE; i++) {
+                    todo.setObject(1, UUID.randomUUID());
+                    todo.setString(2, "todo " + i);
+                    todo.setString(3, "description " + i);
+                    todo.setObject(4, userId);
+                    todo.setTimestamp(5, Timestamp.valueOf(base.plusSeconds(i)));
+                    todo.addBatch();
+                }
+                todo.executeBatch();
+            }
+            connection.commit();
+        }
+    }
+}
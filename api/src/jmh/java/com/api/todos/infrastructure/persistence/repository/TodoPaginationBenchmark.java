@@ -0,0 +1,184 @@
+package com.api.todos.infrastructure.persistence.repository;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * TODO一覧のOFFSET方式とキーセット方式のレイテンシ比較ベンチマーク
+ *
+ * <p>ローカルのPostgreSQL（マイグレーション適用済み）にベンチマーク用ユーザーとTODOを投入し、指定ページの取得時間を比較する。
+ * 投入したデータは終了時にユーザーごと削除する（ON DELETE CASCADE）
+ *
+ * <ul>
+ *   <li>offset: OFFSET (page - 1) * perPage で読み飛ばす（ページ番号に比例して遅くなる）
+ *   <li>keyset: 前のページの最後の (created_at, id) から範囲走査する（TodoListJdbcRepository#findPage と同じ条件）
+ * </ul>
+ *
+ * <p>接続先はシステムプロパティ bench.datasource.url / username / password で変更できる（デフォルトはapplication.propertiesと同じ）
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TodoPaginationBenchmark {
+
+    private static final int PER_PAGE = 20;
+    private static final int SEED_BATCH_SIZE = 1000;
+
+    private static final String OFFSET_SQL =
+            "SELECT * FROM todos WHERE user_id = ? AND deleted = false"
+                    + " ORDER BY created_at DESC, id DESC LIMIT ? OFFSET ?";
+
+    private static final String KEYSET_SQL =
+            "SELECT * FROM todos WHERE user_id = ? AND deleted = false"
+                    + " AND (created_at, id) < (?, ?) ORDER BY created_at DESC, id DESC LIMIT ?";
+
+    /** 取得するページ番号 */
+    @Param({"1", "100", "1000"})
+    public int page;
+
+    /** ユーザーあたりのTODO件数（page × perPage 以上にすること） */
+    @Param({"50000"})
+    public int todoCount;
+
+    private Connection connection;
+    private UUID userId;
+    private Timestamp cursorCreatedAt;
+    private UUID cursorId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection =
+                DriverManager.getConnection(
+                        System.getProperty(
+                                "bench.datasource.url",
+                                "jdbc:postgresql://localhost:5432/todos_db"),
+                        System.getProperty("bench.datasource.username", "todos_user"),
+                        System.getProperty("bench.datasource.password", "todos_password"));
+        userId = UUID.randomUUID();
+        seed();
+        loadCursor();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (PreparedStatement statement =
+                connection.prepareStatement("DELETE FROM users WHERE id = ?")) {
+            statement.setObject(1, userId);
+            statement.executeUpdate();
+        }
+        connection.close();
+    }
+
+    /** OFFSET方式 */
+    @Benchmark
+    public void offset(Blackhole blackhole) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(OFFSET_SQL)) {
+            statement.setObject(1, userId);
+            statement.setInt(2, PER_PAGE);
+            statement.setInt(3, (page - 1) * PER_PAGE);
+            consume(statement, blackhole);
+        }
+    }
+
+    /** キーセット方式 */
+    @Benchmark
+    public void keyset(Blackhole blackhole) throws SQLException {
+        if (cursorId == null) {
+            // 先頭ページはカーソルなし（OFFSET 0と同じ）
+            offset(blackhole);
+            return;
+        }
+        try (PreparedStatement statement = connection.prepareStatement(KEYSET_SQL)) {
+            statement.setObject(1, userId);
+            statement.setTimestamp(2, cursorCreatedAt);
+            statement.setObject(3, cursorId);
+            statement.setInt(4, PER_PAGE);
+            consume(statement, blackhole);
+        }
+    }
+
+    private static void consume(PreparedStatement statement, Blackhole blackhole)
+            throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                blackhole.consume(resultSet.getObject("id"));
+                blackhole.consume(resultSet.getString("title"));
+            }
+        }
+    }
+
+    private void seed() throws SQLException {
+        connection.setAutoCommit(false);
+        try (PreparedStatement user =
+                connection.prepareStatement(
+                        "INSERT INTO users (id, username, password_hash) VALUES (?, ?, ?)")) {
+            user.setObject(1, userId);
+            user.setString(2, "bench_" + userId);
+            user.setString(3, "-");
+            user.executeUpdate();
+        }
+        LocalDateTime base = LocalDateTime.now().minusDays(1);
+        try (PreparedStatement todo =
+                connection.prepareStatement(
+                        "INSERT INTO todos (id, title, user_id, created_at, updated_at)"
+                                + " VALUES (?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < todoCount; i++) {
+                // 同一時刻のTODOも含め、(created_at, id) の順序付けを検証する
+                Timestamp createdAt = Timestamp.valueOf(base.plusNanos((i / 2) * 1000L));
+                todo.setObject(1, UUID.randomUUID());
+                todo.setString(2, "todo " + i);
+                todo.setObject(3, userId);
+                todo.setTimestamp(4, createdAt);
+                todo.setTimestamp(5, createdAt);
+                todo.addBatch();
+                if ((i + 1) % SEED_BATCH_SIZE == 0) {
+                    todo.executeBatch();
+                }
+            }
+            todo.executeBatch();
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+        try (PreparedStatement analyze = connection.prepareStatement("ANALYZE todos")) {
+            analyze.execute();
+        }
+    }
+
+    /** 前のページの最後の要素（キーセット方式のカーソル）を取得する */
+    private void loadCursor() throws SQLException {
+        if (page == 1) {
+            return;
+        }
+        try (PreparedStatement statement = connection.prepareStatement(OFFSET_SQL)) {
+            statement.setObject(1, userId);
+            statement.setInt(2, 1);
+            statement.setInt(3, (page - 1) * PER_PAGE - 1);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (!resultSet.next()) {
+                    throw new IllegalStateException("todoCountがページ数に対して不足しています");
+                }
+                cursorCreatedAt = resultSet.getTimestamp("created_at");
+                cursorId = resultSet.getObject("id", UUID.class);
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.api.todos.infrastructure.security;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import com.api.todos.domain.service.JwtPrincipal;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 署名アルゴリズム別のJWT発行・検証コスト計測ベンチマーク
+ *
+ * <p>HS256と非対称鍵（RS256 / ES256 / EdDSA）を比較する。検証は JwtKeyRing のkid検索 + 署名検証1回
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAlgorithmBenchmark {
+
+    private static final String SECRET =
+            "benchmark-secret-key-must-be-at-least-256-bits-long-for-hs256-algorithm";
+    private static final long EXPIRATION_MS = 86400000L;
+
+    @Param({"HS256", "RS256", "ES256", "EdDSA"})
+    private JwtAlgorithm algorithm;
+
+    private JwtServiceImpl jwtService;
+    private UUID userId;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtKeyRing keyRing =
+                new JwtKeyRing(algorithm, SECRET, "benchmark", "", "", EXPIRATION_MS);
+        // 退役鍵を保持した状態（kid検索対象が複数）で計測する
+        keyRing.rotate();
+        keyRing.rotate();
+        jwtService = new JwtServiceImpl(keyRing, EXPIRATION_MS);
+        userId = UUID.randomUUID();
+        token = jwtService.generateToken(userId, "benchmark_user", 8);
+    }
+
+    /** トークン発行（署名） */
+    @Benchmark
+    public String sign() {
+        return jwtService.generateToken(userId, "benchmark_user", 8);
+    }
+
+    /** トークン検証（kid検索 + 署名検証） */
+    @Benchmark
+    public JwtPrincipal verify() {
+        return jwtService.verifyToken(token);
+    }
+}
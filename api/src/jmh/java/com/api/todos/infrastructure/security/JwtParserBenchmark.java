@@ -0,0 +1,59 @@
+package com.api.todos.infrastructure.security;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+
+/**
+ * JwtParser再利用によるアロケーション削減の計測ベンチマーク
+ *
+ * <p>GCプロファイラ（build.gradleのjmh.profilers）の gc.alloc.rate.norm で1操作あたりの確保バイト数を比較する
+ *
+ * <p>両方とも署名検証・Claimsの取得のみを計測し、差がパーサー構築の有無だけになるようにする（同じ鍵リングで鍵を特定する）
+ *
+ * <ul>
+ *   <li>parserPerCall: 呼び出し毎に Jwts.parser().keyLocator(keyRing).build() を実行（変更前の実装）
+ *   <li>prebuiltParser: JwtServiceImpl が起動時に構築したパーサーを再利用
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtParserBenchmark {
+
+    private static final String SECRET =
+            "benchmark-secret-key-must-be-at-least-256-bits-long-for-hs256-algorithm";
+
+    private JwtKeyRing keyRing;
+    private JwtServiceImpl jwtService;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        keyRing = new JwtKeyRing(JwtAlgorithm.HS256, SECRET, "default", "", "", 86400000L);
+        jwtService = new JwtServiceImpl(keyRing, 86400000L);
+        token = jwtService.generateToken(UUID.randomUUID(), "benchmark_user", 8);
+    }
+
+    /** 変更前: 呼び出し毎にパーサーを構築 */
+    @Benchmark
+    public Claims parserPerCall() {
+        return Jwts.parser().keyLocator(keyRing).build().parseSignedClaims(token).getPayload();
+    }
+
+    /** 変更後: 構築済みパーサーを再利用 */
+    @Benchmark
+    public Claims prebuiltParser() {
+        return jwtService.extractClaims(token);
+    }
+}
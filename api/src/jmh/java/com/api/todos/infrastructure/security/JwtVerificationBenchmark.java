@@ -0,0 +1,63 @@
+package com.api.todos.infrastructure.security;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import com.api.todos.domain.service.JwtPrincipal;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JWT検証のリクエスト毎コスト計測ベンチマーク
+ *
+ * <p>認証フィルターが1リクエストで行うJWT処理を再現し、従来の4回解析と1回解析を比較する
+ *
+ * <ul>
+ *   <li>fourPassExtraction: isTokenValid → validateTokenAndGetUserId → getUsernameFromToken →
+ *       getRoleFromToken（署名検証・JSON解析が4回）
+ *   <li>singlePassVerification: verifyToken（署名検証・JSON解析が1回）
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET =
+            "benchmark-secret-key-must-be-at-least-256-bits-long-for-hs256-algorithm";
+
+    private JwtServiceImpl jwtService;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService =
+                new JwtServiceImpl(
+                        new JwtKeyRing(JwtAlgorithm.HS256, SECRET, "default", "", "", 86400000L),
+                        86400000L);
+        token = jwtService.generateToken(UUID.randomUUID(), "benchmark_user", 8);
+    }
+
+    /** 従来の認証フィルター相当（4回解析） */
+    @Benchmark
+    public void fourPassExtraction(Blackhole blackhole) {
+        if (jwtService.isTokenValid(token)) {
+            blackhole.consume(jwtService.validateTokenAndGetUserId(token));
+            blackhole.consume(jwtService.getUsernameFromToken(token));
+            blackhole.consume(jwtService.getRoleFromToken(token));
+        }
+    }
+
+    /** 1回解析による検証 */
+    @Benchmark
+    public JwtPrincipal singlePassVerification() {
+        return jwtService.verifyToken(token);
+    }
+}
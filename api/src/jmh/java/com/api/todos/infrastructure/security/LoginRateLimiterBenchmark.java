@@ -0,0 +1,58 @@
+package com.api.todos.infrastructure.security;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * 認証レート制限の許可経路のレイテンシ計測ベンチマーク
+ *
+ * <p>許可されるリクエストに追加されるコスト（Caffeineからのバケット取得＋CAS）が1マイクロ秒未満であることを確認する。
+ * 容量を十分大きくして常に許可される状態とし、全スレッドが同一キーを取り合う場合（CAS競合）と、キーが分散する場合を比較する
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(Threads.MAX)
+public class LoginRateLimiterBenchmark {
+
+    private static final int KEY_COUNT = 1024;
+
+    /** キーの種類数（1の場合は全スレッドが同一バケットを更新） */
+    @Param({"1", "1024"})
+    public int distinctKeys;
+
+    private LoginRateLimiter rateLimiter;
+    private String[] keys;
+
+    @Setup
+    public void setUp() {
+        rateLimiter =
+                new LoginRateLimiter(
+                        true, Integer.MAX_VALUE, 1, Integer.MAX_VALUE, 1, 100_000, 600_000);
+        keys = new String[KEY_COUNT];
+        for (int i = 0; i < KEY_COUNT; i++) {
+            keys[i] = "192.0.2." + (i % distinctKeys);
+        }
+    }
+
+    /** スレッド毎のキー選択位置 */
+    @State(Scope.Thread)
+    public static class Cursor {
+        int index;
+    }
+
+    @Benchmark
+    public long tryAcquireAllowed(Cursor cursor) {
+        String key = keys[cursor.index++ & (KEY_COUNT - 1)];
+        return rateLimiter.tryAcquireForIp(key);
+    }
+}
@@ -0,0 +1,54 @@
+package com.api.todos.infrastructure.security;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * パスワードエンコーダー別の検証レイテンシ・メモリ計測ベンチマーク
+ *
+ * <p>application.properties のデフォルト設定（BCrypt strength=10、Argon2id 19MiB / t=2 / p=1、scrypt N=2^16 / r=8 /
+ * p=1）で1回の検証（matches）を比較する
+ *
+ * <p>GCプロファイラの gc.alloc.rate.norm（B/op）が1回の検証で確保するメモリ量で、
+ * ハッシュ処理用プールのスレッド数を掛けた値がピークメモリの目安になる
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PasswordEncoderBenchmark {
+
+    private static final String PASSWORD = "benchmark-password";
+
+    @Param({PasswordEncoders.BCRYPT, PasswordEncoders.ARGON2, PasswordEncoders.SCRYPT})
+    private String algorithm;
+
+    private PasswordEncoder encoder;
+    private String passwordHash;
+
+    @Setup
+    public void setUp() {
+        encoder =
+                switch (algorithm) {
+                    case PasswordEncoders.BCRYPT -> PasswordEncoders.bcrypt(10);
+                    case PasswordEncoders.ARGON2 -> PasswordEncoders.argon2(19456, 2, 1);
+                    case PasswordEncoders.SCRYPT -> PasswordEncoders.scrypt(65536, 8, 1);
+                    default -> throw new IllegalArgumentException(algorithm);
+                };
+        passwordHash = encoder.encode(PASSWORD);
+    }
+
+    /** パスワード検証（ログイン1回分のハッシュ計算） */
+    @Benchmark
+    public boolean verify() {
+        return encoder.matches(PASSWORD, passwordHash);
+    }
+}
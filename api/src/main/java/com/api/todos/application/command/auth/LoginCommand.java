@@ -0,0 +1,59 @@
+package com.api.todos.application.command.auth;
+
+import java.util.Objects;
+
+/** ログインコマンド（Application層専用） Pure Javaの不変オブジェクト UseCaseの入力として使用 */
+public class LoginCommand {
+
+    private final String username;
+    private final String password;
+
+    /**
+     * コンストラクタ
+     *
+     * @param username ユーザー名（必須）
+     * @param password 平文パスワード（必須）
+     * @throws IllegalArgumentException ユーザー名またはパスワードが空の場合
+     */
+    public LoginCommand(String username, String password) {
+        if (username == null || username.isBlank()) {
+            throw new IllegalArgumentException("ユーザー名は必須です");
+        }
+        if (password == null || password.isEmpty()) {
+            throw new IllegalArgumentException("パスワードは必須です");
+        }
+        this.username = username;
+        this.password = password;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        LoginCommand that = (LoginCommand) o;
+        return Objects.equals(username, that.username) && Objects.equals(password, that.password);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(username, password);
+    }
+
+    @Override
+    public String toString() {
+        // パスワードは出力しない
+        return "LoginCommand{username='" + username + "', password='[PROTECTED]'}";
+    }
+}
@@ -0,0 +1,57 @@
+package com.api.todos.application.command.auth;
+
+import java.util.Objects;
+
+/**
+ * ログアウトコマンド（Application層専用） Pure Javaの不変オブジェクト UseCaseの入力として使用
+ *
+ * <p>アクセストークン・リフレッシュトークンはいずれも任意。指定されたトークンのみ失効させる
+ */
+public class LogoutCommand {
+
+    private final String accessToken;
+    private final String refreshToken;
+
+    /**
+     * コンストラクタ
+     *
+     * @param accessToken アクセストークン（任意）
+     * @param refreshToken リフレッシュトークン（任意）
+     */
+    public LogoutCommand(String accessToken, String refreshToken) {
+        this.accessToken = accessToken == null || accessToken.isBlank() ? null : accessToken;
+        this.refreshToken = refreshToken == null || refreshToken.isBlank() ? null : refreshToken;
+    }
+
+    public String getAccessToken() {
+        return accessToken;
+    }
+
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        LogoutCommand that = (LogoutCommand) o;
+        return Objects.equals(accessToken, that.accessToken)
+                && Objects.equals(refreshToken, that.refreshToken);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(accessToken, refreshToken);
+    }
+
+    @Override
+    public String toString() {
+        // トークンは出力しない
+        return "LogoutCommand{accessToken='[PROTECTED]', refreshToken='[PROTECTED]'}";
+    }
+}
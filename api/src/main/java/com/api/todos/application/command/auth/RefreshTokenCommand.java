@@ -0,0 +1,49 @@
+package com.api.todos.application.command.auth;
+
+import java.util.Objects;
+
+/** トークン再発行コマンド（Application層専用） Pure Javaの不変オブジェクト UseCaseの入力として使用 */
+public class RefreshTokenCommand {
+
+    private final String refreshToken;
+
+    /**
+     * コンストラクタ
+     *
+     * @param refreshToken リフレッシュトークン（必須）
+     * @throws IllegalArgumentException リフレッシュトークンが空の場合
+     */
+    public RefreshTokenCommand(String refreshToken) {
+        if (refreshToken == null || refreshToken.isBlank()) {
+            throw new IllegalArgumentException("リフレッシュトークンは必須です");
+        }
+        this.refreshToken = refreshToken;
+    }
+
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        RefreshTokenCommand that = (RefreshTokenCommand) o;
+        return Objects.equals(refreshToken, that.refreshToken);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(refreshToken);
+    }
+
+    @Override
+    public String toString() {
+        // トークンは出力しない
+        return "RefreshTokenCommand{refreshToken='[PROTECTED]'}";
+    }
+}
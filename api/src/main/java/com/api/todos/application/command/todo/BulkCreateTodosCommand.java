@@ -0,0 +1,71 @@
+package com.api.todos.application.command.todo;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/** TODO一括登録コマンド（Application層専用） Pure Javaの不変オブジェクト UseCaseの入力として使用 */
+public class BulkCreateTodosCommand {
+
+    /** 1リクエストで登録できる件数の上限 */
+    public static final int MAX_ITEMS = 10_000;
+
+    private final UUID userId;
+    private final List<Item> items;
+
+    /**
+     * 登録するTODO（各項目の検証はTodoのコンストラクタで行う）
+     *
+     * @param title タイトル
+     * @param descriptions 説明
+     */
+    public record Item(String title, String descriptions) {}
+
+    /**
+     * コンストラクタ
+     *
+     * @param userId ユーザーID（必須）
+     * @param items 登録するTODO（1〜10,000件）
+     * @throws IllegalArgumentException ユーザーIDが未指定、または件数が範囲外の場合
+     */
+    public BulkCreateTodosCommand(UUID userId, List<Item> items) {
+        if (userId == null) {
+            throw new IllegalArgumentException("ユーザーIDは必須です");
+        }
+        if (items == null || items.isEmpty() || items.size() > MAX_ITEMS) {
+            throw new IllegalArgumentException("登録件数は1〜" + MAX_ITEMS + "件で指定してください");
+        }
+        this.userId = userId;
+        this.items = List.copyOf(items);
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public List<Item> getItems() {
+        return items;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        BulkCreateTodosCommand that = (BulkCreateTodosCommand) o;
+        return Objects.equals(userId, that.userId) && Objects.equals(items, that.items);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(userId, items);
+    }
+
+    @Override
+    public String toString() {
+        return "BulkCreateTodosCommand{userId=" + userId + ", items=" + items.size() + "}";
+    }
+}
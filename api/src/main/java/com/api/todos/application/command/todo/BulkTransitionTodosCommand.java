@@ -0,0 +1,84 @@
+package com.api.todos.application.command.todo;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import com.api.todos.domain.model.TodoStateTransition;
+
+/** TODO一括状態遷移コマンド（Application層専用） Pure Javaの不変オブジェクト UseCaseの入力として使用 */
+public class BulkTransitionTodosCommand {
+
+    /** 1リクエストで指定できるIDの上限 */
+    public static final int MAX_IDS = 1_000;
+
+    private final UUID userId;
+    private final TodoStateTransition transition;
+    private final List<UUID> ids;
+
+    /**
+     * コンストラクタ
+     *
+     * @param userId ユーザーID（必須）
+     * @param transition 状態遷移（必須）
+     * @param ids 対象のTODO ID（1〜1,000件）
+     * @throws IllegalArgumentException 必須項目が未指定、または件数が範囲外の場合
+     */
+    public BulkTransitionTodosCommand(
+            UUID userId, TodoStateTransition transition, List<UUID> ids) {
+        if (userId == null) {
+            throw new IllegalArgumentException("ユーザーIDは必須です");
+        }
+        if (transition == null) {
+            throw new IllegalArgumentException("操作は必須です");
+        }
+        if (ids == null || ids.isEmpty() || ids.size() > MAX_IDS) {
+            throw new IllegalArgumentException("TODO IDは1〜" + MAX_IDS + "件で指定してください");
+        }
+        this.userId = userId;
+        this.transition = transition;
+        this.ids = List.copyOf(ids);
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public TodoStateTransition getTransition() {
+        return transition;
+    }
+
+    public List<UUID> getIds() {
+        return ids;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        BulkTransitionTodosCommand that = (BulkTransitionTodosCommand) o;
+        return Objects.equals(userId, that.userId)
+                && transition == that.transition
+                && Objects.equals(ids, that.ids);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(userId, transition, ids);
+    }
+
+    @Override
+    public String toString() {
+        return "BulkTransitionTodosCommand{userId="
+                + userId
+                + ", transition="
+                + transition
+                + ", ids="
+                + ids.size()
+                + "}";
+    }
+}
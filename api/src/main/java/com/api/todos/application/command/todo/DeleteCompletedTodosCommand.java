@@ -0,0 +1,49 @@
+package com.api.todos.application.command.todo;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/** 完了済みTODO一括削除コマンド（Application層専用） Pure Javaの不変オブジェクト UseCaseの入力として使用 */
+public class DeleteCompletedTodosCommand {
+
+    private final UUID userId;
+
+    /**
+     * コンストラクタ
+     *
+     * @param userId ユーザーID（必須）
+     * @throws IllegalArgumentException ユーザーIDが未指定の場合
+     */
+    public DeleteCompletedTodosCommand(UUID userId) {
+        if (userId == null) {
+            throw new IllegalArgumentException("ユーザーIDは必須です");
+        }
+        this.userId = userId;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        DeleteCompletedTodosCommand that = (DeleteCompletedTodosCommand) o;
+        return Objects.equals(userId, that.userId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(userId);
+    }
+
+    @Override
+    public String toString() {
+        return "DeleteCompletedTodosCommand{userId=" + userId + "}";
+    }
+}
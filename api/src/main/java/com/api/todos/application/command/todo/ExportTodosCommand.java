@@ -0,0 +1,79 @@
+package com.api.todos.application.command.todo;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * TODOエクスポートコマンド（Application層専用） Pure Javaの不変オブジェクト UseCaseの入力として使用
+ *
+ * <p>中断したエクスポートを再開する場合は、受信済みの最後のTODOの作成日時とIDを指定する
+ */
+public class ExportTodosCommand {
+
+    private final UUID userId;
+    private final LocalDateTime afterCreatedAt;
+    private final UUID afterId;
+
+    /**
+     * コンストラクタ
+     *
+     * @param userId ユーザーID（必須）
+     * @param afterCreatedAt 受信済みの最後のTODOの作成日時（先頭から出力する場合null）
+     * @param afterId 受信済みの最後のTODOのID（先頭から出力する場合null）
+     * @throws IllegalArgumentException ユーザーIDが未指定の場合、作成日時とIDの一方のみ指定された場合
+     */
+    public ExportTodosCommand(UUID userId, LocalDateTime afterCreatedAt, UUID afterId) {
+        if (userId == null) {
+            throw new IllegalArgumentException("ユーザーIDは必須です");
+        }
+        if ((afterCreatedAt == null) != (afterId == null)) {
+            throw new IllegalArgumentException("再開位置は作成日時とIDの両方を指定してください");
+        }
+        this.userId = userId;
+        this.afterCreatedAt = afterCreatedAt;
+        this.afterId = afterId;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public LocalDateTime getAfterCreatedAt() {
+        return afterCreatedAt;
+    }
+
+    public UUID getAfterId() {
+        return afterId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ExportTodosCommand that = (ExportTodosCommand) o;
+        return Objects.equals(userId, that.userId)
+                && Objects.equals(afterCreatedAt, that.afterCreatedAt)
+                && Objects.equals(afterId, that.afterId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(userId, afterCreatedAt, afterId);
+    }
+
+    @Override
+    public String toString() {
+        return "ExportTodosCommand{userId="
+                + userId
+                + ", afterCreatedAt="
+                + afterCreatedAt
+                + ", afterId="
+                + afterId
+                + "}";
+    }
+}
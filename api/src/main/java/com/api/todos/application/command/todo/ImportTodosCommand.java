@@ -0,0 +1,99 @@
+package com.api.todos.application.command.todo;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * TODOインポートコマンド（Application層専用） UseCaseの入力として使用
+ *
+ * <p>登録するTODOは全件をリストに保持せず、読み込み元（アップロードの解析）から1件ずつ取り出す。
+ * このため1回のUseCase実行でのみ使用できる
+ */
+public class ImportTodosCommand {
+
+    private final UUID userId;
+    private final Iterator<Record> records;
+
+    /**
+     * 読み込んだ1件（各項目の検証はTodoのコンストラクタで行う）
+     *
+     * @param line 読み込み元での行番号（1始まり）
+     * @param title タイトル
+     * @param descriptions 説明
+     * @param error 解析エラー（解析できた場合null）
+     */
+    public record Record(long line, String title, String descriptions, String error) {
+
+        /**
+         * 解析できた1件
+         *
+         * @param line 行番号
+         * @param title タイトル
+         * @param descriptions 説明
+         * @return 読み込んだ1件
+         */
+        public static Record of(long line, String title, String descriptions) {
+            return new Record(line, title, descriptions, null);
+        }
+
+        /**
+         * 解析できなかった1件
+         *
+         * @param line 行番号
+         * @param error 解析エラー
+         * @return 読み込んだ1件
+         */
+        public static Record invalid(long line, String error) {
+            return new Record(line, null, null, error);
+        }
+    }
+
+    /**
+     * コンストラクタ
+     *
+     * @param userId ユーザーID（必須）
+     * @param records 登録するTODOの読み込み元（必須）
+     * @throws IllegalArgumentException ユーザーID・読み込み元が未指定の場合
+     */
+    public ImportTodosCommand(UUID userId, Iterator<Record> records) {
+        if (userId == null) {
+            throw new IllegalArgumentException("ユーザーIDは必須です");
+        }
+        if (records == null) {
+            throw new IllegalArgumentException("インポートするTODOは必須です");
+        }
+        this.userId = userId;
+        this.records = records;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public Iterator<Record> getRecords() {
+        return records;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ImportTodosCommand that = (ImportTodosCommand) o;
+        return Objects.equals(userId, that.userId) && records == that.records;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(userId, System.identityHashCode(records));
+    }
+
+    @Override
+    public String toString() {
+        return "ImportTodosCommand{userId=" + userId + "}";
+    }
+}
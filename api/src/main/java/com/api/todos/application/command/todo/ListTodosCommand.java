@@ -0,0 +1,88 @@
+package com.api.todos.application.command.todo;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/** TODO一覧取得コマンド（Application層専用） Pure Javaの不変オブジェクト UseCaseの入力として使用 */
+public class ListTodosCommand {
+
+    /** 1ページあたりの件数の上限 */
+    public static final int MAX_PER_PAGE = 100;
+
+    private final UUID userId;
+    private final Boolean completed;
+    private final String cursor;
+    private final int perPage;
+
+    /**
+     * コンストラクタ
+     *
+     * @param userId ユーザーID（必須）
+     * @param completed 完了状態の絞り込み（nullの場合は全件）
+     * @param cursor 前のページのレスポンスで返されたカーソル（先頭ページの場合null）
+     * @param perPage 1ページあたりの件数（1〜100）
+     * @throws IllegalArgumentException ユーザーIDが未指定、または件数が範囲外の場合
+     */
+    public ListTodosCommand(UUID userId, Boolean completed, String cursor, int perPage) {
+        if (userId == null) {
+            throw new IllegalArgumentException("ユーザーIDは必須です");
+        }
+        if (perPage < 1 || perPage > MAX_PER_PAGE) {
+            throw new IllegalArgumentException(
+                    "1ページあたりの件数は1〜" + MAX_PER_PAGE + "で指定してください");
+        }
+        this.userId = userId;
+        this.completed = completed;
+        this.cursor = cursor == null || cursor.isBlank() ? null : cursor;
+        this.perPage = perPage;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public Boolean getCompleted() {
+        return completed;
+    }
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    public int getPerPage() {
+        return perPage;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ListTodosCommand that = (ListTodosCommand) o;
+        return perPage == that.perPage
+                && Objects.equals(userId, that.userId)
+                && Objects.equals(completed, that.completed)
+                && Objects.equals(cursor, that.cursor);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(userId, completed, cursor, perPage);
+    }
+
+    @Override
+    public String toString() {
+        return "ListTodosCommand{userId="
+                + userId
+                + ", completed="
+                + completed
+                + ", cursor='"
+                + cursor
+                + "', perPage="
+                + perPage
+                + "}";
+    }
+}
@@ -0,0 +1,53 @@
+package com.api.todos.application.dto;
+
+/** 認証結果（Application層） Pure Javaの不変オブジェクト ログイン・トークン再発行UseCaseの出力として使用 */
+public class AuthResult {
+
+    private final String accessToken;
+    private final long accessTokenExpiresIn;
+    private final String refreshToken;
+    private final long refreshTokenExpiresIn;
+    private final UserResult user;
+
+    /**
+     * コンストラクタ
+     *
+     * @param accessToken アクセストークン（JWT）
+     * @param accessTokenExpiresIn アクセストークンの有効期間（秒）
+     * @param refreshToken リフレッシュトークン
+     * @param refreshTokenExpiresIn リフレッシュトークンの有効期間（秒）
+     * @param user ユーザー
+     */
+    public AuthResult(
+            String accessToken,
+            long accessTokenExpiresIn,
+            String refreshToken,
+            long refreshTokenExpiresIn,
+            UserResult user) {
+        this.accessToken = accessToken;
+        this.accessTokenExpiresIn = accessTokenExpiresIn;
+        this.refreshToken = refreshToken;
+        this.refreshTokenExpiresIn = refreshTokenExpiresIn;
+        this.user = user;
+    }
+
+    public String getAccessToken() {
+        return accessToken;
+    }
+
+    public long getAccessTokenExpiresIn() {
+        return accessTokenExpiresIn;
+    }
+
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+
+    public long getRefreshTokenExpiresIn() {
+        return refreshTokenExpiresIn;
+    }
+
+    public UserResult getUser() {
+        return user;
+    }
+}
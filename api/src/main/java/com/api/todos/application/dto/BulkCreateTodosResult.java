@@ -0,0 +1,27 @@
+package com.api.todos.application.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/** TODO一括登録結果（Application層） Pure Javaの不変オブジェクト UseCaseの出力として使用 */
+public class BulkCreateTodosResult {
+
+    private final List<UUID> ids;
+
+    /**
+     * コンストラクタ
+     *
+     * @param ids 登録したTODOのID（リクエストの順序）
+     */
+    public BulkCreateTodosResult(List<UUID> ids) {
+        this.ids = List.copyOf(ids);
+    }
+
+    public int getCreated() {
+        return ids.size();
+    }
+
+    public List<UUID> getIds() {
+        return ids;
+    }
+}
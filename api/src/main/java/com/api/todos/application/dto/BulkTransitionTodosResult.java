@@ -0,0 +1,43 @@
+package com.api.todos.application.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.api.todos.domain.model.TodoTransitionOutcome;
+
+/** TODO一括状態遷移結果（Application層） Pure Javaの不変オブジェクト UseCaseの出力として使用 */
+public class BulkTransitionTodosResult {
+
+    private final List<Item> items;
+    private final int updated;
+
+    /**
+     * TODO毎の結果
+     *
+     * @param id TODO ID
+     * @param outcome 結果
+     */
+    public record Item(UUID id, TodoTransitionOutcome outcome) {}
+
+    /**
+     * コンストラクタ
+     *
+     * @param items TODO毎の結果（指定されたIDの順序）
+     */
+    public BulkTransitionTodosResult(List<Item> items) {
+        this.items = List.copyOf(items);
+        this.updated =
+                (int)
+                        items.stream()
+                                .filter(item -> item.outcome() == TodoTransitionOutcome.UPDATED)
+                                .count();
+    }
+
+    public List<Item> getItems() {
+        return items;
+    }
+
+    public int getUpdated() {
+        return updated;
+    }
+}
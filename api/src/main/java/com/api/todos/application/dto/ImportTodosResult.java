@@ -0,0 +1,38 @@
+package com.api.todos.application.dto;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/** TODOインポート結果（Application層） Pure Javaの不変オブジェクト UseCaseの出力として使用 */
+public class ImportTodosResult {
+
+    private final long imported;
+    private final long failed;
+    private final Map<Long, String> errors;
+
+    /**
+     * コンストラクタ
+     *
+     * @param imported 登録件数
+     * @param failed エラー件数
+     * @param errors 行番号毎のエラー（先頭から上限件数まで、行番号の順）
+     */
+    public ImportTodosResult(long imported, long failed, Map<Long, String> errors) {
+        this.imported = imported;
+        this.failed = failed;
+        this.errors = Collections.unmodifiableMap(new LinkedHashMap<>(errors));
+    }
+
+    public long getImported() {
+        return imported;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public Map<Long, String> getErrors() {
+        return errors;
+    }
+}
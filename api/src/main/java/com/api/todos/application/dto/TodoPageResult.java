@@ -0,0 +1,51 @@
+package com.api.todos.application.dto;
+
+import java.util.List;
+
+/** TODO一覧結果（Application層） Pure Javaの不変オブジェクト UseCaseの出力として使用 */
+public class TodoPageResult {
+
+    private final List<TodoResult> items;
+    private final long total;
+    private final int page;
+    private final int perPage;
+    private final String nextCursor;
+
+    /**
+     * コンストラクタ
+     *
+     * @param items ページ内のTODO
+     * @param total 総件数
+     * @param page ページ番号（1始まり）
+     * @param perPage 1ページあたりの件数
+     * @param nextCursor 次のページのカーソル（最終ページの場合null）
+     */
+    public TodoPageResult(
+            List<TodoResult> items, long total, int page, int perPage, String nextCursor) {
+        this.items = List.copyOf(items);
+        this.total = total;
+        this.page = page;
+        this.perPage = perPage;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<TodoResult> getItems() {
+        return items;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public int getPerPage() {
+        return perPage;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+}
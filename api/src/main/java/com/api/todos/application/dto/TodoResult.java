@@ -0,0 +1,104 @@
+package com.api.todos.application.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.api.todos.domain.model.Todo;
+
+/** TODO結果（Application層） Pure Javaの不変オブジェクト UseCaseの出力として使用 */
+public class TodoResult {
+
+    private final UUID id;
+    private final String title;
+    private final String descriptions;
+    private final boolean completed;
+    private final UUID userId;
+    private final LocalDateTime createdAt;
+    private final String createdBy;
+    private final LocalDateTime updatedAt;
+    private final String updatedBy;
+    private final boolean deleted;
+
+    private TodoResult(
+            UUID id,
+            String title,
+            String descriptions,
+            boolean completed,
+            UUID userId,
+            LocalDateTime createdAt,
+            String createdBy,
+            LocalDateTime updatedAt,
+            String updatedBy,
+            boolean deleted) {
+        this.id = id;
+        this.title = title;
+        this.descriptions = descriptions;
+        this.completed = completed;
+        this.userId = userId;
+        this.createdAt = createdAt;
+        this.createdBy = createdBy;
+        this.updatedAt = updatedAt;
+        this.updatedBy = updatedBy;
+        this.deleted = deleted;
+    }
+
+    /**
+     * Domain Entity → Result変換
+     *
+     * @param todo TODO
+     * @return TODO結果
+     */
+    public static TodoResult from(Todo todo) {
+        return new TodoResult(
+                todo.getId(),
+                todo.getTitle(),
+                todo.getDescriptions(),
+                todo.isCompleted(),
+                todo.getUserId(),
+                todo.getCreatedAt(),
+                todo.getCreatedBy(),
+                todo.getUpdatedAt(),
+                todo.getUpdatedBy(),
+                todo.isDeleted());
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getDescriptions() {
+        return descriptions;
+    }
+
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public String getCreatedBy() {
+        return createdBy;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public String getUpdatedBy() {
+        return updatedBy;
+    }
+
+    public boolean isDeleted() {
+        return deleted;
+    }
+}
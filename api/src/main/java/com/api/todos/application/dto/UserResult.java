@@ -0,0 +1,79 @@
+package com.api.todos.application.dto;
+
+import java.util.UUID;
+
+import com.api.todos.domain.model.User;
+
+/** ユーザー結果（Application層） Pure Javaの不変オブジェクト UseCaseの出力として使用 */
+public class UserResult {
+
+    private final UUID id;
+    private final String username;
+    private final String firstName;
+    private final String firstNameRuby;
+    private final String lastName;
+    private final String lastNameRuby;
+    private final int role;
+
+    private UserResult(
+            UUID id,
+            String username,
+            String firstName,
+            String firstNameRuby,
+            String lastName,
+            String lastNameRuby,
+            int role) {
+        this.id = id;
+        this.username = username;
+        this.firstName = firstName;
+        this.firstNameRuby = firstNameRuby;
+        this.lastName = lastName;
+        this.lastNameRuby = lastNameRuby;
+        this.role = role;
+    }
+
+    /**
+     * Domain Entity → Result変換（パスワードハッシュは含めない）
+     *
+     * @param user ユーザー
+     * @return ユーザー結果
+     */
+    public static UserResult from(User user) {
+        return new UserResult(
+                user.getId(),
+                user.getUsername(),
+                user.getFirstName(),
+                user.getFirstNameRuby(),
+                user.getLastName(),
+                user.getLastNameRuby(),
+                user.getRole());
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public String getFirstNameRuby() {
+        return firstNameRuby;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public String getLastNameRuby() {
+        return lastNameRuby;
+    }
+
+    public int getRole() {
+        return role;
+    }
+}
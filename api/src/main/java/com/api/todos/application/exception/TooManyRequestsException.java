@@ -0,0 +1,27 @@
+package com.api.todos.application.exception;
+
+/**
+ * 過負荷例外（Application層） Pure Java - フレームワーク依存なし
+ *
+ * <p>処理能力の上限に達し、リクエストを受け付けられない場合に送出する。Presentation層で429 Too Many Requestsに変換される
+ */
+public class TooManyRequestsException extends RuntimeException {
+
+    /** 再試行までの推奨待機時間（秒） */
+    private final long retryAfterSeconds;
+
+    /**
+     * コンストラクタ
+     *
+     * @param message エラーメッセージ
+     * @param retryAfterSeconds 再試行までの推奨待機時間（秒）
+     */
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,18 @@
+package com.api.todos.application.exception;
+
+/**
+ * 認証エラー例外（Application層） Pure Java - フレームワーク依存なし
+ *
+ * <p>認証情報（パスワード・トークン）が無効な場合にUseCaseから送出する。Presentation層で401 Unauthorizedに変換される
+ */
+public class UnauthorizedException extends RuntimeException {
+
+    /**
+     * コンストラクタ
+     *
+     * @param message エラーメッセージ
+     */
+    public UnauthorizedException(String message) {
+        super(message);
+    }
+}
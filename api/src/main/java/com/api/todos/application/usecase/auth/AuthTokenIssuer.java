@@ -0,0 +1,70 @@
+package com.api.todos.application.usecase.auth;
+
+import java.time.Duration;
+
+import com.api.todos.application.dto.AuthResult;
+import com.api.todos.application.dto.UserResult;
+import com.api.todos.domain.model.RefreshToken;
+import com.api.todos.domain.model.User;
+import com.api.todos.domain.repository.RefreshTokenRepository;
+import com.api.todos.domain.service.JwtService;
+
+/**
+ * 認証トークン発行（Application層） Pure Java - フレームワーク依存なし
+ *
+ * <p>【責務】
+ *
+ * <ul>
+ *   <li>短命なアクセストークン（JWT）の発行
+ *   <li>リフレッシュトークン（opaque token）の発行と永続化（ハッシュのみ保存）
+ * </ul>
+ *
+ * <p>ログイン・トークン再発行の各UseCaseから共通で使用する
+ */
+public class AuthTokenIssuer {
+
+    private final JwtService jwtService;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final Duration accessTokenValidity;
+    private final Duration refreshTokenValidity;
+
+    /**
+     * コンストラクタ
+     *
+     * @param jwtService JWTサービス
+     * @param refreshTokenRepository リフレッシュトークンリポジトリ
+     * @param accessTokenValidity アクセストークンの有効期間
+     * @param refreshTokenValidity リフレッシュトークンの有効期間
+     */
+    public AuthTokenIssuer(
+            JwtService jwtService,
+            RefreshTokenRepository refreshTokenRepository,
+            Duration accessTokenValidity,
+            Duration refreshTokenValidity) {
+        this.jwtService = jwtService;
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.accessTokenValidity = accessTokenValidity;
+        this.refreshTokenValidity = refreshTokenValidity;
+    }
+
+    /**
+     * ユーザーに対してアクセストークンとリフレッシュトークンを発行する
+     *
+     * @param user ユーザー
+     * @return 認証結果
+     */
+    public AuthResult issue(User user) {
+        String accessToken =
+                jwtService.generateToken(user.getId(), user.getUsername(), user.getRole());
+
+        RefreshToken.Issued refreshToken = RefreshToken.issue(user.getId(), refreshTokenValidity);
+        refreshTokenRepository.save(refreshToken.token());
+
+        return new AuthResult(
+                accessToken,
+                accessTokenValidity.toSeconds(),
+                refreshToken.value(),
+                refreshTokenValidity.toSeconds(),
+                UserResult.from(user));
+    }
+}
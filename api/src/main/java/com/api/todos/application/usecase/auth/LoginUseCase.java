@@ -0,0 +1,103 @@
+package com.api.todos.application.usecase.auth;
+
+import java.util.UUID;
+
+import com.api.todos.application.command.auth.LoginCommand;
+import com.api.todos.application.dto.AuthResult;
+import com.api.todos.application.exception.UnauthorizedException;
+import com.api.todos.domain.model.User;
+import com.api.todos.domain.repository.UserRepository;
+import com.api.todos.domain.service.PasswordHasher;
+
+/**
+ * ログインUseCase（Application層） Pure Java - フレームワーク依存なし
+ *
+ * <p>ユーザー名・パスワードを検証し、アクセストークンとリフレッシュトークンを発行する
+ *
+ * <p>パスワードハッシュのアルゴリズム・コストが現在の設定と異なる場合は、平文パスワードを受け取ったこの時点で再計算して保存する
+ *
+ * <p>パスワードハッシュの検証・再計算は意図的に低速なため、トランザクション管理側では {@link #authenticate} を
+ * トランザクション外で実行し、短いトランザクションで {@link #issue} を実行する（検証中にコネクションを保持しない）
+ *
+ * <p>存在しないユーザー名でも、起動時に同じ {@link PasswordHasher} で作成したダミーのハッシュに対して検証を行う。
+ * 応答時間（ハッシュ計算の有無）からユーザーの存在を推測できないようにし、ハッシュ計算の負荷も揃える
+ */
+public class LoginUseCase {
+
+    private final UserRepository userRepository;
+    private final PasswordHasher passwordHasher;
+    private final AuthTokenIssuer authTokenIssuer;
+
+    /** 存在しないユーザーの検証に使うハッシュ（どのパスワードとも一致しない） */
+    private final String dummyPasswordHash;
+
+    public LoginUseCase(
+            UserRepository userRepository,
+            PasswordHasher passwordHasher,
+            AuthTokenIssuer authTokenIssuer) {
+        this.userRepository = userRepository;
+        this.passwordHasher = passwordHasher;
+        this.authTokenIssuer = authTokenIssuer;
+        this.dummyPasswordHash = passwordHasher.hash(UUID.randomUUID().toString());
+    }
+
+    /**
+     * ログイン処理
+     *
+     * @param command ログインコマンド
+     * @return 認証結果
+     * @throws UnauthorizedException ユーザーが存在しない、またはパスワードが一致しない場合
+     */
+    public AuthResult execute(LoginCommand command) {
+        return issue(authenticate(command));
+    }
+
+    /**
+     * ユーザーを読み込み、パスワードを検証する（更新は行わない）
+     *
+     * <p>パスワードハッシュの再計算が必要な場合は、新しいハッシュをユーザーに設定して返す（保存は {@link #issue} で行う）
+     *
+     * @param command ログインコマンド
+     * @return 認証済みユーザー
+     * @throws UnauthorizedException ユーザーが存在しない、またはパスワードが一致しない場合
+     */
+    public Authenticated authenticate(LoginCommand command) {
+        // ユーザーの存在有無を区別できないよう、存在しない場合も同じコストの検証を行い、同じメッセージで失敗させる
+        User user = userRepository.findByUsername(command.getUsername()).orElse(null);
+        if (user == null) {
+            passwordHasher.matches(command.getPassword(), dummyPasswordHash);
+            throw new UnauthorizedException("Invalid username or password");
+        }
+        if (!user.verifyPassword(command.getPassword(), passwordHasher)) {
+            throw new UnauthorizedException("Invalid username or password");
+        }
+
+        boolean rehashed = user.needsPasswordRehash(passwordHasher);
+        if (rehashed) {
+            user.changePassword(passwordHasher.hash(command.getPassword()), user.getUsername());
+        }
+        return new Authenticated(user, rehashed);
+    }
+
+    /**
+     * 認証済みユーザーに対してトークンを発行する（再計算したパスワードハッシュがあれば保存する）
+     *
+     * @param authenticated 認証済みユーザー
+     * @return 認証結果
+     */
+    public AuthResult issue(Authenticated authenticated) {
+        User user = authenticated.user();
+        if (authenticated.passwordRehashed()) {
+            user = userRepository.save(user);
+        }
+        return authTokenIssuer.issue(user);
+    }
+
+    /**
+     * 認証済みユーザー
+     *
+     * @param user ユーザー
+     * @param passwordRehashed パスワードハッシュを再計算した場合true（未保存）
+     */
+    public record Authenticated(User user, boolean passwordRehashed) {}
+}
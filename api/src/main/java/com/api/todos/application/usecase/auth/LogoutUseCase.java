@@ -0,0 +1,49 @@
+package com.api.todos.application.usecase.auth;
+
+import com.api.todos.application.command.auth.LogoutCommand;
+import com.api.todos.domain.model.RefreshToken;
+import com.api.todos.domain.repository.RefreshTokenRepository;
+import com.api.todos.domain.service.JwtPrincipal;
+import com.api.todos.domain.service.JwtService;
+import com.api.todos.domain.service.TokenRevocationService;
+
+/**
+ * ログアウトUseCase（Application層） Pure Java - フレームワーク依存なし
+ *
+ * <p>指定されたアクセストークンを失効リストに登録し、リフレッシュトークンを失効させる。無効なトークンは無視する（ログアウトは常に成功させる）
+ */
+public class LogoutUseCase {
+
+    private final JwtService jwtService;
+    private final TokenRevocationService tokenRevocationService;
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    public LogoutUseCase(
+            JwtService jwtService,
+            TokenRevocationService tokenRevocationService,
+            RefreshTokenRepository refreshTokenRepository) {
+        this.jwtService = jwtService;
+        this.tokenRevocationService = tokenRevocationService;
+        this.refreshTokenRepository = refreshTokenRepository;
+    }
+
+    /**
+     * ログアウト処理
+     *
+     * @param command ログアウトコマンド
+     */
+    public void execute(LogoutCommand command) {
+        if (command.getAccessToken() != null) {
+            JwtPrincipal principal = jwtService.verifyToken(command.getAccessToken());
+            if (principal != null) {
+                tokenRevocationService.revoke(principal.tokenId(), principal.expiresAt());
+            }
+        }
+
+        if (command.getRefreshToken() != null) {
+            refreshTokenRepository
+                    .findByTokenHash(RefreshToken.hash(command.getRefreshToken()))
+                    .ifPresent(refreshToken -> refreshTokenRepository.revoke(refreshToken.getId()));
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.api.todos.application.usecase.auth;
+
+import java.time.LocalDateTime;
+
+import com.api.todos.application.command.auth.RefreshTokenCommand;
+import com.api.todos.application.dto.AuthResult;
+import com.api.todos.application.exception.UnauthorizedException;
+import com.api.todos.domain.model.RefreshToken;
+import com.api.todos.domain.model.User;
+import com.api.todos.domain.repository.RefreshTokenRepository;
+import com.api.todos.domain.repository.UserRepository;
+
+/**
+ * トークン再発行UseCase（Application層） Pure Java - フレームワーク依存なし
+ *
+ * <p>【リフレッシュトークンのローテーション】
+ *
+ * <ul>
+ *   <li>使用されたリフレッシュトークンは失効させ、新しいアクセストークン・リフレッシュトークンを発行する
+ *   <li>失効済みトークンが再使用された場合は漏洩とみなし、そのユーザーのリフレッシュトークンをすべて失効させる
+ * </ul>
+ *
+ * <p>再使用検出時の一括失効は認証エラーとともにコミットする必要があるため、トランザクション管理側で {@link
+ * UnauthorizedException} をロールバック対象外とすること
+ */
+public class RefreshTokenUseCase {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserRepository userRepository;
+    private final AuthTokenIssuer authTokenIssuer;
+
+    public RefreshTokenUseCase(
+            RefreshTokenRepository refreshTokenRepository,
+            UserRepository userRepository,
+            AuthTokenIssuer authTokenIssuer) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.userRepository = userRepository;
+        this.authTokenIssuer = authTokenIssuer;
+    }
+
+    /**
+     * トークン再発行処理
+     *
+     * @param command トークン再発行コマンド
+     * @return 認証結果
+     * @throws UnauthorizedException リフレッシュトークンが無効な場合
+     */
+    public AuthResult execute(RefreshTokenCommand command) {
+        RefreshToken refreshToken =
+                refreshTokenRepository
+                        .findByTokenHash(RefreshToken.hash(command.getRefreshToken()))
+                        .orElseThrow(() -> new UnauthorizedException("Invalid refresh token"));
+
+        if (refreshToken.isExpired(LocalDateTime.now())) {
+            throw new UnauthorizedException("Refresh token expired");
+        }
+
+        // 失効済み（または並行リクエストで先に使用された）トークンの再使用
+        if (refreshToken.isRevoked() || !refreshTokenRepository.revoke(refreshToken.getId())) {
+            refreshTokenRepository.revokeAllByUserId(refreshToken.getUserId());
+            throw new UnauthorizedException("Invalid refresh token");
+        }
+
+        User user =
+                userRepository
+                        .findById(refreshToken.getUserId())
+                        .orElseThrow(() -> new UnauthorizedException("Invalid refresh token"));
+
+        return authTokenIssuer.issue(user);
+    }
+}
@@ -0,0 +1,93 @@
+package com.api.todos.application.usecase.todo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import com.api.todos.application.command.todo.BulkCreateTodosCommand;
+import com.api.todos.application.dto.BulkCreateTodosResult;
+import com.api.todos.application.exception.UnauthorizedException;
+import com.api.todos.domain.model.Todo;
+import com.api.todos.domain.model.TodoChange;
+import com.api.todos.domain.model.TodoChangeType;
+import com.api.todos.domain.model.User;
+import com.api.todos.domain.repository.TodoRepository;
+import com.api.todos.domain.repository.UserRepository;
+import com.api.todos.domain.service.TodoChangePublisher;
+
+/**
+ * TODO一括登録UseCase（Application層） Pure Java - フレームワーク依存なし
+ *
+ * <p>全件をTodoのコンストラクタで検証してから {@link TodoRepository#insertAll} で一括登録する。
+ * 1件でも不正な場合は1件も登録しない（エラーは要素の位置付きで返す）。 登録したTODOは {@link TodoChangePublisher} で通知する
+ */
+public class BulkCreateTodosUseCase {
+
+    /** エラーメッセージに含める不正な要素の上限 */
+    private static final int MAX_REPORTED_ERRORS = 10;
+
+    private final TodoRepository todoRepository;
+    private final UserRepository userRepository;
+    private final TodoChangePublisher todoChangePublisher;
+
+    /**
+     * コンストラクタ
+     *
+     * @param todoRepository TODOリポジトリ
+     * @param userRepository ユーザーリポジトリ
+     * @param todoChangePublisher TODO変更通知
+     */
+    public BulkCreateTodosUseCase(
+            TodoRepository todoRepository,
+            UserRepository userRepository,
+            TodoChangePublisher todoChangePublisher) {
+        this.todoRepository = todoRepository;
+        this.userRepository = userRepository;
+        this.todoChangePublisher = todoChangePublisher;
+    }
+
+    /**
+     * TODO一括登録処理
+     *
+     * @param command TODO一括登録コマンド
+     * @return TODO一括登録結果
+     * @throws IllegalArgumentException 不正な要素が含まれる場合
+     * @throws UnauthorizedException ユーザーが存在しない場合
+     */
+    public BulkCreateTodosResult execute(BulkCreateTodosCommand command) {
+        User user =
+                userRepository
+                        .findById(command.getUserId())
+                        .orElseThrow(() -> new UnauthorizedException("User not found"));
+
+        List<BulkCreateTodosCommand.Item> items = command.getItems();
+        List<Todo> todos = new ArrayList<>(items.size());
+        List<String> errors = new ArrayList<>();
+        int errorCount = 0;
+        for (int i = 0; i < items.size(); i++) {
+            BulkCreateTodosCommand.Item item = items.get(i);
+            try {
+                todos.add(
+                        new Todo(
+                                item.title(),
+                                item.descriptions(),
+                                user.getId(),
+                                user.getUsername()));
+            } catch (IllegalArgumentException e) {
+                if (errorCount++ < MAX_REPORTED_ERRORS) {
+                    errors.add("todos[" + i + "]: " + e.getMessage());
+                }
+            }
+        }
+        if (errorCount > 0) {
+            String more =
+                    errorCount > errors.size() ? "（ほか" + (errorCount - errors.size()) + "件）" : "";
+            throw new IllegalArgumentException(String.join(", ", errors) + more);
+        }
+
+        todoRepository.insertAll(todos);
+        List<UUID> ids = todos.stream().map(Todo::getId).toList();
+        todoChangePublisher.publish(TodoChange.of(user.getId(), TodoChangeType.CREATED, ids));
+        return new BulkCreateTodosResult(ids);
+    }
+}
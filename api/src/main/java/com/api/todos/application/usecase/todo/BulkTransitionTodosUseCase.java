@@ -0,0 +1,83 @@
+package com.api.todos.application.usecase.todo;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import com.api.todos.application.command.todo.BulkTransitionTodosCommand;
+import com.api.todos.application.dto.BulkTransitionTodosResult;
+import com.api.todos.application.exception.UnauthorizedException;
+import com.api.todos.domain.model.TodoChange;
+import com.api.todos.domain.model.TodoChangeType;
+import com.api.todos.domain.model.TodoTransitionOutcome;
+import com.api.todos.domain.model.User;
+import com.api.todos.domain.repository.TodoRepository;
+import com.api.todos.domain.repository.UserRepository;
+import com.api.todos.domain.service.TodoChangePublisher;
+
+/**
+ * TODO一括状態遷移UseCase（Application層） Pure Java - フレームワーク依存なし
+ *
+ * <p>指定したTODOの完了・未完了に戻す・論理削除を {@link TodoRepository#transitionAll} で1文で適用する。
+ * 条件を満たさないTODO（存在しない・削除済み・既に遷移後の状態）はエラーにせず、ID毎の結果として返す。 遷移を適用したTODOは
+ * {@link TodoChangePublisher} で通知する
+ */
+public class BulkTransitionTodosUseCase {
+
+    private final TodoRepository todoRepository;
+    private final UserRepository userRepository;
+    private final TodoChangePublisher todoChangePublisher;
+
+    /**
+     * コンストラクタ
+     *
+     * @param todoRepository TODOリポジトリ
+     * @param userRepository ユーザーリポジトリ
+     * @param todoChangePublisher TODO変更通知
+     */
+    public BulkTransitionTodosUseCase(
+            TodoRepository todoRepository,
+            UserRepository userRepository,
+            TodoChangePublisher todoChangePublisher) {
+        this.todoRepository = todoRepository;
+        this.userRepository = userRepository;
+        this.todoChangePublisher = todoChangePublisher;
+    }
+
+    /**
+     * TODO一括状態遷移処理
+     *
+     * @param command TODO一括状態遷移コマンド
+     * @return ID毎の結果（指定された順序、重複は除く）
+     * @throws UnauthorizedException ユーザーが存在しない場合
+     */
+    public BulkTransitionTodosResult execute(BulkTransitionTodosCommand command) {
+        User user =
+                userRepository
+                        .findById(command.getUserId())
+                        .orElseThrow(() -> new UnauthorizedException("User not found"));
+
+        List<UUID> ids = List.copyOf(new LinkedHashSet<>(command.getIds()));
+        Map<UUID, TodoTransitionOutcome> outcomes =
+                todoRepository.transitionAll(
+                        user.getId(), ids, command.getTransition(), user.getUsername());
+        todoChangePublisher.publish(
+                TodoChange.of(
+                        user.getId(),
+                        TodoChangeType.of(command.getTransition()),
+                        ids.stream()
+                                .filter(id -> outcomes.get(id) == TodoTransitionOutcome.UPDATED)
+                                .toList()));
+
+        return new BulkTransitionTodosResult(
+                ids.stream()
+                        .map(
+                                id ->
+                                        new BulkTransitionTodosResult.Item(
+                                                id,
+                                                outcomes.getOrDefault(
+                                                        id, TodoTransitionOutcome.NOT_FOUND)))
+                        .toList());
+    }
+}
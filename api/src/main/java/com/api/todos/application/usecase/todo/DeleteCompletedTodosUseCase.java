@@ -0,0 +1,76 @@
+package com.api.todos.application.usecase.todo;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.api.todos.application.command.todo.DeleteCompletedTodosCommand;
+import com.api.todos.application.dto.BulkTransitionTodosResult;
+import com.api.todos.application.exception.UnauthorizedException;
+import com.api.todos.domain.model.TodoChange;
+import com.api.todos.domain.model.TodoChangeType;
+import com.api.todos.domain.model.TodoTransitionOutcome;
+import com.api.todos.domain.model.User;
+import com.api.todos.domain.repository.TodoRepository;
+import com.api.todos.domain.repository.UserRepository;
+import com.api.todos.domain.service.TodoChangePublisher;
+
+/**
+ * 完了済みTODO一括削除UseCase（Application層） Pure Java - フレームワーク依存なし
+ *
+ * <p>ユーザーの完了済みTODOを {@link TodoRepository#deleteCompleted} で上限件数まで1文で論理削除し、削除したTODOを
+ * {@link TodoChangePublisher} で通知する。1回の処理でロック・通知・返却する件数を上限件数に抑えるため、
+ * 削除件数が上限件数と同じ場合は呼び出し側で繰り返す
+ */
+public class DeleteCompletedTodosUseCase {
+
+    private final TodoRepository todoRepository;
+    private final UserRepository userRepository;
+    private final TodoChangePublisher todoChangePublisher;
+    private final int maxItems;
+
+    /**
+     * コンストラクタ
+     *
+     * @param todoRepository TODOリポジトリ
+     * @param userRepository ユーザーリポジトリ
+     * @param todoChangePublisher TODO変更通知
+     * @param maxItems 1回に削除する上限件数
+     */
+    public DeleteCompletedTodosUseCase(
+            TodoRepository todoRepository,
+            UserRepository userRepository,
+            TodoChangePublisher todoChangePublisher,
+            int maxItems) {
+        if (maxItems < 1) {
+            throw new IllegalArgumentException("削除件数の上限は1以上で指定してください");
+        }
+        this.todoRepository = todoRepository;
+        this.userRepository = userRepository;
+        this.todoChangePublisher = todoChangePublisher;
+        this.maxItems = maxItems;
+    }
+
+    /**
+     * 完了済みTODO一括削除処理
+     *
+     * @param command 完了済みTODO一括削除コマンド
+     * @return 削除したTODO毎の結果（すべて UPDATED、上限件数まで）
+     * @throws UnauthorizedException ユーザーが存在しない場合
+     */
+    public BulkTransitionTodosResult execute(DeleteCompletedTodosCommand command) {
+        User user =
+                userRepository
+                        .findById(command.getUserId())
+                        .orElseThrow(() -> new UnauthorizedException("User not found"));
+
+        List<UUID> ids = todoRepository.deleteCompleted(user.getId(), user.getUsername(), maxItems);
+        todoChangePublisher.publish(TodoChange.of(user.getId(), TodoChangeType.DELETED, ids));
+        return new BulkTransitionTodosResult(
+                ids.stream()
+                        .map(
+                                id ->
+                                        new BulkTransitionTodosResult.Item(
+                                                id, TodoTransitionOutcome.UPDATED))
+                        .toList());
+    }
+}
@@ -0,0 +1,69 @@
+package com.api.todos.application.usecase.todo;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import com.api.todos.application.command.todo.ExportTodosCommand;
+import com.api.todos.application.dto.TodoResult;
+import com.api.todos.domain.model.Todo;
+import com.api.todos.domain.repository.TodoRepository;
+
+/**
+ * TODOエクスポートUseCase（Application層） Pure Java - フレームワーク依存なし
+ *
+ * <p>ユーザーの有効なTODOを作成日時・IDの古い順に、固定件数毎に {@link TodoRepository#findOldestFirstByUserId}
+ * で取得して出力先へ渡す。 保持するのは1バッチ分のみのため、件数に依存せず一定のメモリで出力できる
+ *
+ * <p>各バッチは直前のバッチの最後の要素（作成日時・ID）の次から取得するため、エクスポート中に作成・削除されたTODOは
+ * 作成日時の位置に応じて含まれる場合と含まれない場合がある（同じTODOが重複して出力されることはない）
+ */
+public class ExportTodosUseCase {
+
+    private final TodoRepository todoRepository;
+    private final int batchSize;
+
+    /**
+     * コンストラクタ
+     *
+     * @param todoRepository TODOリポジトリ
+     * @param batchSize 1回の取得件数
+     */
+    public ExportTodosUseCase(TodoRepository todoRepository, int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("取得件数は1以上で指定してください");
+        }
+        this.todoRepository = todoRepository;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * TODOエクスポート処理
+     *
+     * @param command TODOエクスポートコマンド
+     * @param sink 出力先（TODO毎に呼ばれる）
+     * @return 出力件数
+     */
+    public long execute(ExportTodosCommand command, Consumer<TodoResult> sink) {
+        LocalDateTime afterCreatedAt = command.getAfterCreatedAt();
+        UUID afterId = command.getAfterId();
+        long exported = 0;
+        List<Todo> batch;
+        do {
+            batch =
+                    todoRepository.findOldestFirstByUserId(
+                            command.getUserId(), afterCreatedAt, afterId, batchSize);
+            for (Todo todo : batch) {
+                sink.accept(TodoResult.from(todo));
+            }
+            exported += batch.size();
+            if (!batch.isEmpty()) {
+                Todo last = batch.get(batch.size() - 1);
+                afterCreatedAt = last.getCreatedAt();
+                afterId = last.getId();
+            }
+        } while (batch.size() == batchSize);
+        return exported;
+    }
+}
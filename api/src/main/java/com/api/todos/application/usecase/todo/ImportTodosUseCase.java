@@ -0,0 +1,120 @@
+package com.api.todos.application.usecase.todo;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.api.todos.application.command.todo.ImportTodosCommand;
+import com.api.todos.application.dto.ImportTodosResult;
+import com.api.todos.application.exception.UnauthorizedException;
+import com.api.todos.domain.model.Todo;
+import com.api.todos.domain.model.TodoChange;
+import com.api.todos.domain.model.TodoChangeType;
+import com.api.todos.domain.model.User;
+import com.api.todos.domain.repository.TodoRepository;
+import com.api.todos.domain.repository.UserRepository;
+import com.api.todos.domain.service.TodoChangePublisher;
+
+/**
+ * TODOインポートUseCase（Application層） Pure Java - フレームワーク依存なし
+ *
+ * <p>読み込み元から1件ずつ取り出してTodoのコンストラクタで検証し、有効なTODOを固定件数毎に {@link TodoRepository#insertAll}
+ * で登録する。 不正な行は登録せず、行番号毎のエラーとして返す（一括登録と異なり、有効な行は登録する）
+ *
+ * <p>保持するのは登録待ちの1バッチ分と、上限件数までのエラーのみのため、件数に依存せず一定のメモリで処理できる。
+ * 登録したTODOは件数のみを {@link TodoChangePublisher} で通知する（IDは保持しない）
+ *
+ * <p>呼び出し元がトランザクションを開始しない場合、バッチ毎に登録をコミットする（読み込み中はトランザクションを保持しない）。
+ * 途中で読み込みに失敗した場合、コミット済みのバッチは登録されたままとなり、その件数も通知する
+ */
+public class ImportTodosUseCase {
+
+    /** 結果に含めるエラーの上限 */
+    public static final int MAX_REPORTED_ERRORS = 100;
+
+    private final TodoRepository todoRepository;
+    private final UserRepository userRepository;
+    private final TodoChangePublisher todoChangePublisher;
+    private final int batchSize;
+
+    /**
+     * コンストラクタ
+     *
+     * @param todoRepository TODOリポジトリ
+     * @param userRepository ユーザーリポジトリ
+     * @param todoChangePublisher TODO変更通知
+     * @param batchSize 1回の登録件数
+     */
+    public ImportTodosUseCase(
+            TodoRepository todoRepository,
+            UserRepository userRepository,
+            TodoChangePublisher todoChangePublisher,
+            int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("登録件数は1以上で指定してください");
+        }
+        this.todoRepository = todoRepository;
+        this.userRepository = userRepository;
+        this.todoChangePublisher = todoChangePublisher;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * TODOインポート処理
+     *
+     * @param command TODOインポートコマンド
+     * @return TODOインポート結果
+     * @throws UnauthorizedException ユーザーが存在しない場合
+     */
+    public ImportTodosResult execute(ImportTodosCommand command) {
+        User user =
+                userRepository
+                        .findById(command.getUserId())
+                        .orElseThrow(() -> new UnauthorizedException("User not found"));
+
+        List<Todo> batch = new ArrayList<>(batchSize);
+        Map<Long, String> errors = new LinkedHashMap<>();
+        long imported = 0;
+        long failed = 0;
+        Iterator<ImportTodosCommand.Record> records = command.getRecords();
+        try {
+            while (records.hasNext()) {
+                ImportTodosCommand.Record record = records.next();
+                String error = record.error();
+                if (error == null) {
+                    try {
+                        batch.add(
+                                new Todo(
+                                        record.title(),
+                                        record.descriptions(),
+                                        user.getId(),
+                                        user.getUsername()));
+                    } catch (IllegalArgumentException e) {
+                        error = e.getMessage();
+                    }
+                }
+                if (error != null) {
+                    if (failed++ < MAX_REPORTED_ERRORS) {
+                        errors.put(record.line(), error);
+                    }
+                    continue;
+                }
+                if (batch.size() == batchSize) {
+                    todoRepository.insertAll(batch);
+                    imported += batch.size();
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                todoRepository.insertAll(batch);
+                imported += batch.size();
+            }
+        } finally {
+            todoChangePublisher.publish(
+                    TodoChange.ofCount(user.getId(), TodoChangeType.CREATED, imported));
+        }
+        return new ImportTodosResult(imported, failed, errors);
+    }
+}
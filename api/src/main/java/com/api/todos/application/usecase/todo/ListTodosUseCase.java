@@ -0,0 +1,73 @@
+package com.api.todos.application.usecase.todo;
+
+import java.util.List;
+
+import com.api.todos.application.command.todo.ListTodosCommand;
+import com.api.todos.application.dto.TodoPageResult;
+import com.api.todos.application.dto.TodoResult;
+import com.api.todos.domain.model.Todo;
+import com.api.todos.domain.repository.TodoRepository;
+
+/**
+ * TODO一覧取得UseCase（Application層） Pure Java - フレームワーク依存なし
+ *
+ * <p>ユーザーのTODOを作成日時・IDの新しい順にキーセットページネーションで取得する。 OFFSET方式と異なり、何ページ目でも読み飛ばしが発生しない
+ *
+ * <p>1件多く取得して次のページの有無を判定し、次のページがある場合のみカーソルを返す
+ *
+ * <p>総件数（COUNT）は先頭ページでのみ数え、カーソルに含めて以降のページに引き継ぐ（ページ毎に全件を数えない）。
+ * カーソルには数えた時の絞り込み条件も含め、異なる条件のリクエストでは使用できない
+ */
+public class ListTodosUseCase {
+
+    private final TodoRepository todoRepository;
+
+    public ListTodosUseCase(TodoRepository todoRepository) {
+        this.todoRepository = todoRepository;
+    }
+
+    /**
+     * TODO一覧取得処理
+     *
+     * @param command TODO一覧取得コマンド
+     * @return TODO一覧結果
+     * @throws IllegalArgumentException カーソルが不正な場合・カーソルの絞り込み条件がリクエストと異なる場合
+     */
+    public TodoPageResult execute(ListTodosCommand command) {
+        TodoPageCursor cursor =
+                command.getCursor() != null
+                        ? TodoPageCursor.decode(command.getCursor(), command.getCompleted())
+                        : null;
+        int page = cursor != null ? cursor.page() : 1;
+        int perPage = command.getPerPage();
+        long total =
+                cursor != null
+                        ? cursor.total()
+                        : todoRepository.countByUserId(command.getUserId(), command.getCompleted());
+
+        List<Todo> todos =
+                todoRepository.findPageByUserId(
+                        command.getUserId(),
+                        command.getCompleted(),
+                        cursor != null ? cursor.createdAt() : null,
+                        cursor != null ? cursor.id() : null,
+                        perPage + 1);
+
+        String nextCursor = null;
+        if (todos.size() > perPage) {
+            todos = todos.subList(0, perPage);
+            Todo last = todos.get(perPage - 1);
+            nextCursor =
+                    new TodoPageCursor(
+                                    page + 1,
+                                    total,
+                                    command.getCompleted(),
+                                    last.getCreatedAt(),
+                                    last.getId())
+                            .encode();
+        }
+
+        return new TodoPageResult(
+                todos.stream().map(TodoResult::from).toList(), total, page, perPage, nextCursor);
+    }
+}
@@ -0,0 +1,99 @@
+package com.api.todos.application.usecase.todo;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * TODO一覧のページカーソル（Application層） Pure Java - フレームワーク依存なし
+ *
+ * <p>直前のページの最後の要素（作成日時・ID）と次のページ番号、先頭ページで数えた総件数と絞り込み条件を、
+ * クライアントからは不透明な文字列（Base64URL）として受け渡す。 総件数・ページ番号は絞り込み条件毎に異なるため、
+ * 復元時にリクエストの絞り込み条件と一致しないカーソルは拒否する
+ *
+ * @param page 次のページ番号（1始まり）
+ * @param total 総件数（先頭ページの取得時点）
+ * @param completed 総件数を数えた完了状態の絞り込み（nullの場合は全件）
+ * @param createdAt 直前のページの最後の要素の作成日時
+ * @param id 直前のページの最後の要素のID
+ */
+public record TodoPageCursor(
+        int page, long total, Boolean completed, LocalDateTime createdAt, UUID id) {
+
+    private static final char SEPARATOR = '|';
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    /**
+     * カーソル文字列に変換する
+     *
+     * @return カーソル文字列
+     */
+    public String encode() {
+        String raw =
+                page
+                        + String.valueOf(SEPARATOR)
+                        + total
+                        + SEPARATOR
+                        + completed
+                        + SEPARATOR
+                        + createdAt
+                        + SEPARATOR
+                        + id;
+        return ENCODER.encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * カーソル文字列を復元する
+     *
+     * @param cursor カーソル文字列
+     * @param completed リクエストの完了状態の絞り込み（nullの場合は全件）
+     * @return カーソル
+     * @throws IllegalArgumentException カーソルが不正な場合、カーソルの絞り込み条件がリクエストと異なる場合
+     */
+    public static TodoPageCursor decode(String cursor, Boolean completed) {
+        TodoPageCursor decoded;
+        try {
+            String raw = new String(DECODER.decode(cursor), StandardCharsets.UTF_8);
+            int first = raw.indexOf(SEPARATOR);
+            int second = raw.indexOf(SEPARATOR, first + 1);
+            int third = raw.indexOf(SEPARATOR, second + 1);
+            int fourth = raw.indexOf(SEPARATOR, third + 1);
+            if (first < 0 || second < 0 || third < 0 || fourth < 0) {
+                throw new IllegalArgumentException("カーソルが不正です");
+            }
+            int page = Integer.parseInt(raw, 0, first, 10);
+            long total = Long.parseLong(raw, first + 1, second, 10);
+            if (page < 2 || total < 0) {
+                throw new IllegalArgumentException("カーソルが不正です");
+            }
+            decoded =
+                    new TodoPageCursor(
+                            page,
+                            total,
+                            parseCompleted(raw.substring(second + 1, third)),
+                            LocalDateTime.parse(raw.substring(third + 1, fourth)),
+                            UUID.fromString(raw.substring(fourth + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            // NumberFormatException・Base64の復号エラーもここで捕捉する
+            throw new IllegalArgumentException("カーソルが不正です", e);
+        }
+        if (!Objects.equals(decoded.completed(), completed)) {
+            // 別の絞り込み条件の総件数・ページ番号を返さない
+            throw new IllegalArgumentException("カーソルの完了状態フィルタがリクエストと一致しません");
+        }
+        return decoded;
+    }
+
+    private static Boolean parseCompleted(String value) {
+        return switch (value) {
+            case "null" -> null;
+            case "true" -> Boolean.TRUE;
+            case "false" -> Boolean.FALSE;
+            default -> throw new IllegalArgumentException("カーソルが不正です");
+        };
+    }
+}
@@ -0,0 +1,161 @@
+package com.api.todos.domain.model;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+import com.api.todos.domain.service.IdGenerators;
+
+/**
+ * リフレッシュトークンエンティティ（Domain層） Pure Javaで実装 - フレームワーク依存なし
+ *
+ * <p>リフレッシュトークンはJWTではなく推測不能なランダム値（opaque token）とし、値そのものは保存せずSHA-256ハッシュのみを保持する。
+ * 使用されたトークンは失効させ、新しいトークンを発行する（ローテーション）。失効は並行リクエストでも1回だけ成功するよう
+ * リポジトリの条件付き更新（{@code RefreshTokenRepository#revoke}）で行う
+ */
+public class RefreshToken {
+
+    /** トークン値のバイト長（256bit） */
+    private static final int TOKEN_BYTES = 32;
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final UUID id;
+    private final UUID userId;
+    private final String tokenHash;
+    private final LocalDateTime expiresAt;
+    private final boolean revoked;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+
+    /** 既存リフレッシュトークンの再構築（リポジトリから取得時） */
+    public RefreshToken(
+            UUID id,
+            UUID userId,
+            String tokenHash,
+            LocalDateTime expiresAt,
+            boolean revoked,
+            LocalDateTime createdAt,
+            LocalDateTime updatedAt) {
+        this.id = id;
+        this.userId = userId;
+        this.tokenHash = tokenHash;
+        this.expiresAt = expiresAt;
+        this.revoked = revoked;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    /**
+     * 新しいリフレッシュトークンを発行する
+     *
+     * @param userId ユーザーID
+     * @param validity 有効期間
+     * @return 発行結果（クライアントに返すトークン値と、永続化するエンティティ）
+     */
+    public static Issued issue(UUID userId, Duration validity) {
+        if (userId == null) {
+            throw new IllegalArgumentException("ユーザーIDは必須です");
+        }
+        byte[] bytes = new byte[TOKEN_BYTES];
+        RANDOM.nextBytes(bytes);
+        String value = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        LocalDateTime now = LocalDateTime.now();
+        RefreshToken token =
+                new RefreshToken(
+                        IdGenerators.next(),
+                        userId,
+                        hash(value),
+                        now.plus(validity),
+                        false,
+                        now,
+                        now);
+        return new Issued(value, token);
+    }
+
+    /**
+     * トークン値のハッシュを計算する（検索キー）
+     *
+     * @param value トークン値
+     * @return SHA-256ハッシュ（16進数）
+     */
+    public static String hash(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256が利用できません", e);
+        }
+    }
+
+    /** ビジネスルール: 有効期限切れかどうか */
+    public boolean isExpired(LocalDateTime now) {
+        return !now.isBefore(expiresAt);
+    }
+
+    /** ビジネスルール: 使用可能かどうか（未失効かつ有効期限内） */
+    public boolean isUsable(LocalDateTime now) {
+        return !revoked && !isExpired(now);
+    }
+
+    // Getters
+    public UUID getId() {
+        return id;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public String getTokenHash() {
+        return tokenHash;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    public boolean isRevoked() {
+        return revoked;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        RefreshToken that = (RefreshToken) o;
+        return id != null && id.equals(that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return id != null ? id.hashCode() : 0;
+    }
+
+    /**
+     * 発行結果
+     *
+     * @param value クライアントに返すトークン値（永続化しない）
+     * @param token 永続化するリフレッシュトークン
+     */
+    public record Issued(String value, RefreshToken token) {}
+}
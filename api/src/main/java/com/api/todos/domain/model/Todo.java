@@ -3,6 +3,8 @@ package com.api.todos.domain.model;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
+import com.api.todos.domain.service.IdGenerators;
+
 /** TODOエンティティ（Domain層） Pure Javaで実装 - フレームワーク依存なし */
 public class Todo {
     private final UUID id;
@@ -55,7 +57,7 @@ public class Todo {
             throw new IllegalArgumentException("ユーザーIDは必須です");
         }
 
-        this.id = UUID.randomUUID();
+        this.id = IdGenerators.next();
         this.title = title;
         this.descriptions = descriptions;
         this.completed = false;
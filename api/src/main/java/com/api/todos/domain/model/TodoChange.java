@@ -0,0 +1,92 @@
+package com.api.todos.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * TODOの変更（Domain層） Pure Javaで実装 - フレームワーク依存なし
+ *
+ * <p>1回の操作で同じ種類の変更を受けたユーザーのTODOをまとめて表す。 件数が多い場合（インポート等）はIDを持たず件数のみを持つ
+ */
+public class TodoChange {
+    private final UUID userId;
+    private final TodoChangeType type;
+    private final List<UUID> todoIds;
+    private final long count;
+    private final LocalDateTime occurredAt;
+
+    private TodoChange(
+            UUID userId,
+            TodoChangeType type,
+            List<UUID> todoIds,
+            long count,
+            LocalDateTime occurredAt) {
+        if (userId == null) {
+            throw new IllegalArgumentException("ユーザーIDは必須です");
+        }
+        if (type == null) {
+            throw new IllegalArgumentException("変更の種類は必須です");
+        }
+        this.userId = userId;
+        this.type = type;
+        this.todoIds = todoIds;
+        this.count = count;
+        this.occurredAt = occurredAt;
+    }
+
+    /**
+     * 変更したTODOのIDを持つ変更
+     *
+     * @param userId ユーザーID
+     * @param type 変更の種類
+     * @param todoIds 変更したTODOのID
+     * @return TODOの変更
+     */
+    public static TodoChange of(UUID userId, TodoChangeType type, List<UUID> todoIds) {
+        return new TodoChange(
+                userId, type, List.copyOf(todoIds), todoIds.size(), LocalDateTime.now());
+    }
+
+    /**
+     * 件数のみを持つ変更
+     *
+     * @param userId ユーザーID
+     * @param type 変更の種類
+     * @param count 変更したTODOの件数
+     * @return TODOの変更
+     */
+    public static TodoChange ofCount(UUID userId, TodoChangeType type, long count) {
+        return new TodoChange(userId, type, List.of(), count, LocalDateTime.now());
+    }
+
+    /**
+     * IDを除いた同じ変更（件数・発生日時は変えない）
+     *
+     * @return 件数のみを持つ変更
+     */
+    public TodoChange withoutIds() {
+        return new TodoChange(userId, type, List.of(), count, occurredAt);
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public TodoChangeType getType() {
+        return type;
+    }
+
+    /** 変更したTODOのID（件数のみの場合は空） */
+    public List<UUID> getTodoIds() {
+        return todoIds;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+}
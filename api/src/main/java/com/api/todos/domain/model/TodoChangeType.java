@@ -0,0 +1,31 @@
+package com.api.todos.domain.model;
+
+/** TODOの変更の種類（Domain層） Pure Javaで実装 - フレームワーク依存なし */
+public enum TodoChangeType {
+
+    /** 登録した（{@link Todo} の新規作成） */
+    CREATED,
+
+    /** 完了にした（{@link Todo#markAsCompleted}） */
+    COMPLETED,
+
+    /** 未完了に戻した（{@link Todo#markAsIncomplete}） */
+    REOPENED,
+
+    /** 論理削除した（{@link Todo#delete}） */
+    DELETED;
+
+    /**
+     * 状態遷移を適用した場合の変更の種類
+     *
+     * @param transition 状態遷移
+     * @return 変更の種類
+     */
+    public static TodoChangeType of(TodoStateTransition transition) {
+        return switch (transition) {
+            case COMPLETE -> COMPLETED;
+            case REOPEN -> REOPENED;
+            case DELETE -> DELETED;
+        };
+    }
+}
@@ -0,0 +1,18 @@
+package com.api.todos.domain.model;
+
+/**
+ * TODOの状態遷移（Domain層） Pure Javaで実装 - フレームワーク依存なし
+ *
+ * <p>一括操作で適用する遷移。適用条件は {@link Todo} の各ビジネスルールと同じとし、条件を満たさないTODOは変更しない
+ */
+public enum TodoStateTransition {
+
+    /** 完了にする（{@link Todo#markAsCompleted}: 削除済み・完了済みは対象外） */
+    COMPLETE,
+
+    /** 未完了に戻す（{@link Todo#markAsIncomplete}: 削除済み・未完了は対象外） */
+    REOPEN,
+
+    /** 論理削除する（{@link Todo#delete}: 削除済みは対象外） */
+    DELETE
+}
@@ -0,0 +1,17 @@
+package com.api.todos.domain.model;
+
+/** TODOの状態遷移の結果（Domain層） Pure Javaで実装 - フレームワーク依存なし */
+public enum TodoTransitionOutcome {
+
+    /** 遷移を適用した */
+    UPDATED,
+
+    /** 存在しない、または他のユーザーのTODO */
+    NOT_FOUND,
+
+    /** 削除済みのため変更しなかった */
+    DELETED,
+
+    /** 既に遷移後の状態のため変更しなかった */
+    UNCHANGED
+}
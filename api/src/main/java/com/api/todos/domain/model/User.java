@@ -3,6 +3,9 @@ package com.api.todos.domain.model;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
+import com.api.todos.domain.service.IdGenerators;
+import com.api.todos.domain.service.PasswordHasher;
+
 /** ユーザーエンティティ（Domain層） Pure Javaで実装 - フレームワーク依存なし */
 public class User {
     private final UUID id;
@@ -59,7 +62,7 @@ public class User {
             int role,
             String passwordHash,
             String createdBy) {
-        this.id = UUID.randomUUID();
+        this.id = IdGenerators.next();
         this.username = username;
         this.firstName = firstName;
         this.firstNameRuby = firstNameRuby;
@@ -125,9 +128,27 @@ public class User {
         this.updatedBy = updatedBy;
     }
 
-    /** ビジネスルール: パスワード検証 */
-    public boolean verifyPassword(String hashedPassword) {
-        return this.passwordHash.equals(hashedPassword);
+    /**
+     * ビジネスルール: パスワード検証
+     *
+     * <p>ハッシュはソルトを含み同じパスワードでも毎回異なるため、文字列比較ではなくハッシュサービスで検証する
+     *
+     * @param rawPassword 平文パスワード
+     * @param passwordHasher パスワードハッシュサービス
+     * @return 一致する場合true
+     */
+    public boolean verifyPassword(String rawPassword, PasswordHasher passwordHasher) {
+        return rawPassword != null && passwordHasher.matches(rawPassword, this.passwordHash);
+    }
+
+    /**
+     * ビジネスルール: パスワードハッシュの再計算が必要かどうか（アルゴリズム・コストが現在の設定と異なる）
+     *
+     * @param passwordHasher パスワードハッシュサービス
+     * @return 再計算が必要な場合true
+     */
+    public boolean needsPasswordRehash(PasswordHasher passwordHasher) {
+        return passwordHasher.needsRehash(this.passwordHash);
     }
 
     // Getters
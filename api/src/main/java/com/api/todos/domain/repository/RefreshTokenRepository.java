@@ -0,0 +1,55 @@
+package com.api.todos.domain.repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.api.todos.domain.model.RefreshToken;
+
+/**
+ * リフレッシュトークンリポジトリインターフェース（Domain層） Pure Javaインターフェース - フレームワーク依存なし Infrastructure層で実装される（依存性逆転の原則）
+ */
+public interface RefreshTokenRepository {
+
+    /**
+     * トークンハッシュでリフレッシュトークンを検索する
+     *
+     * @param tokenHash トークン値のSHA-256ハッシュ
+     * @return リフレッシュトークン
+     */
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    /**
+     * リフレッシュトークンを保存する
+     *
+     * @param refreshToken リフレッシュトークン
+     * @return 保存後のリフレッシュトークン
+     */
+    RefreshToken save(RefreshToken refreshToken);
+
+    /**
+     * リフレッシュトークンを失効させる（未失効の場合のみ）
+     *
+     * <p>同じトークンによる並行リクエストのうち1つだけが成功するよう、条件付き更新で行う
+     *
+     * @param id リフレッシュトークンID
+     * @return 失効させた場合true（既に失効済みの場合false）
+     */
+    boolean revoke(UUID id);
+
+    /**
+     * ユーザーの有効なリフレッシュトークンをすべて失効させる
+     *
+     * @param userId ユーザーID
+     * @return 失効させた件数
+     */
+    int revokeAllByUserId(UUID userId);
+
+    /**
+     * 有効期限切れのリフレッシュトークンを削除する
+     *
+     * @param now 基準日時
+     * @return 削除した件数
+     */
+    int deleteExpired(LocalDateTime now);
+}
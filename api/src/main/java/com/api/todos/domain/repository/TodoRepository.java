@@ -0,0 +1,105 @@
+package com.api.todos.domain.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.api.todos.domain.model.Todo;
+import com.api.todos.domain.model.TodoStateTransition;
+import com.api.todos.domain.model.TodoTransitionOutcome;
+
+/** TODOリポジトリインターフェース（Domain層） Pure Javaインターフェース - フレームワーク依存なし Infrastructure層で実装される（依存性逆転の原則） */
+public interface TodoRepository {
+
+    /**
+     * IDでTODOを検索する（削除済み除外、所有者のTODOのみ）
+     *
+     * @param id TODO ID
+     * @param userId 所有者のユーザーID
+     * @return TODO
+     */
+    Optional<Todo> findById(UUID id, UUID userId);
+
+    /**
+     * ユーザーのTODOを作成日時・IDの新しい順に取得する（削除済み除外）
+     *
+     * <p>キーセットページネーション: 直前のページの最後の要素（作成日時・ID）より後ろの要素を取得する。 読み飛ばす件数に依存せず一定のコストで取得できる
+     *
+     * @param userId 所有者のユーザーID
+     * @param completed 完了状態の絞り込み（nullの場合は絞り込まない）
+     * @param afterCreatedAt 直前のページの最後の要素の作成日時（先頭ページの場合null）
+     * @param afterId 直前のページの最後の要素のID（先頭ページの場合null）
+     * @param limit 取得件数の上限
+     * @return TODOのリスト
+     */
+    List<Todo> findPageByUserId(
+            UUID userId, Boolean completed, LocalDateTime afterCreatedAt, UUID afterId, int limit);
+
+    /**
+     * ユーザーのTODO件数を取得する（削除済み除外）
+     *
+     * @param userId 所有者のユーザーID
+     * @param completed 完了状態の絞り込み（nullの場合は絞り込まない）
+     * @return 件数
+     */
+    long countByUserId(UUID userId, Boolean completed);
+
+    /**
+     * ユーザーのTODOを作成日時・IDの古い順に取得する（削除済み除外）
+     *
+     * <p>キーセットページネーション: 取得済みの最後の要素（作成日時・ID）より後ろの要素を取得する。
+     * 繰り返し呼び出すことで、全件をメモリに保持せずに一定のメモリで全件を処理できる
+     *
+     * @param userId 所有者のユーザーID
+     * @param afterCreatedAt 取得済みの最後の要素の作成日時（先頭から取得する場合null）
+     * @param afterId 取得済みの最後の要素のID（先頭から取得する場合null）
+     * @param limit 取得件数の上限
+     * @return TODOのリスト
+     */
+    List<Todo> findOldestFirstByUserId(
+            UUID userId, LocalDateTime afterCreatedAt, UUID afterId, int limit);
+
+    /**
+     * TODOを保存する
+     *
+     * @param todo TODO
+     * @return 保存後のTODO
+     */
+    Todo save(Todo todo);
+
+    /**
+     * 新規TODOを一括登録する
+     *
+     * <p>まとめてINSERTする（全件成功または全件失敗）。呼び出し元のトランザクションがある場合はその中で、
+     * ない場合はこの呼び出しを1トランザクションとしてコミットする
+     *
+     * @param todos 新規TODOのリスト
+     */
+    void insertAll(List<Todo> todos);
+
+    /**
+     * 指定したTODOに状態遷移を一括適用する（所有者のTODOのみ）
+     *
+     * <p>TODOを読み込まずに1文で更新する。遷移の条件を満たさないTODOは変更せず、その理由を結果として返す
+     *
+     * @param userId 所有者のユーザーID
+     * @param ids TODO IDのリスト（重複は1件として扱う）
+     * @param transition 状態遷移
+     * @param updatedBy 更新者
+     * @return TODO ID毎の結果（順不同）
+     */
+    Map<UUID, TodoTransitionOutcome> transitionAll(
+            UUID userId, List<UUID> ids, TodoStateTransition transition, String updatedBy);
+
+    /**
+     * ユーザーの完了済みTODOを上限件数まで論理削除する（削除する順序は不定）
+     *
+     * @param userId 所有者のユーザーID
+     * @param updatedBy 更新者
+     * @param limit 削除する上限件数
+     * @return 削除したTODOのID（上限件数と同じ場合は完了済みTODOが残っている可能性がある）
+     */
+    List<UUID> deleteCompleted(UUID userId, String updatedBy, int limit);
+}
@@ -0,0 +1,34 @@
+package com.api.todos.domain.repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import com.api.todos.domain.model.User;
+
+/** ユーザーリポジトリインターフェース（Domain層） Pure Javaインターフェース - フレームワーク依存なし Infrastructure層で実装される（依存性逆転の原則） */
+public interface UserRepository {
+
+    /**
+     * IDでユーザーを検索する（削除済み除外）
+     *
+     * @param id ユーザーID
+     * @return ユーザー
+     */
+    Optional<User> findById(UUID id);
+
+    /**
+     * ユーザー名でユーザーを検索する（削除済み除外）
+     *
+     * @param username ユーザー名
+     * @return ユーザー
+     */
+    Optional<User> findByUsername(String username);
+
+    /**
+     * ユーザーを保存する
+     *
+     * @param user ユーザー
+     * @return 保存後のユーザー
+     */
+    User save(User user);
+}
@@ -0,0 +1,22 @@
+package com.api.todos.domain.service;
+
+import java.util.UUID;
+
+/**
+ * エンティティID採番インターフェース（Domain層） Pure Javaインターフェース - フレームワーク依存なし
+ *
+ * <p>ドメインモデルのコンストラクタは {@link IdGenerators#next()} 経由で採番する。実装はスレッドセーフであること
+ */
+@FunctionalInterface
+public interface IdGenerator {
+
+    /** ランダムなUUIDv4（時刻順序なし） */
+    IdGenerator UUID_V4 = UUID::randomUUID;
+
+    /**
+     * 新しいIDを採番する
+     *
+     * @return ID
+     */
+    UUID generate();
+}
@@ -0,0 +1,44 @@
+package com.api.todos.domain.service;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * エンティティID採番の窓口（Domain層） Pure Javaで実装 - フレームワーク依存なし
+ *
+ * <p>ドメインモデルはDIコンテナ外で生成されるため、採番器を静的に保持する。デフォルトは {@link UuidV7Generator}。
+ * 起動時（Infrastructure層の設定）やテストで {@link #use(IdGenerator)} により差し替えられる
+ */
+public final class IdGenerators {
+
+    private static volatile IdGenerator generator = new UuidV7Generator();
+
+    private IdGenerators() {}
+
+    /**
+     * 現在の採番器で新しいIDを採番する
+     *
+     * @return ID
+     */
+    public static UUID next() {
+        return generator.generate();
+    }
+
+    /**
+     * 現在の採番器を取得する
+     *
+     * @return 採番器
+     */
+    public static IdGenerator current() {
+        return generator;
+    }
+
+    /**
+     * 採番器を差し替える
+     *
+     * @param idGenerator 採番器
+     */
+    public static void use(IdGenerator idGenerator) {
+        generator = Objects.requireNonNull(idGenerator, "idGenerator");
+    }
+}
@@ -0,0 +1,18 @@
+package com.api.todos.domain.service;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 検証済みJWTのプリンシパル情報（Domain層） Pure Java - フレームワーク依存なし
+ *
+ * <p>署名・有効期限の検証が完了したトークンから一度だけ取り出したクレームを保持する
+ *
+ * @param tokenId トークンID（jtiクレーム、失効判定に使用。jtiクレーム導入前に発行されたトークンはnull）
+ * @param userId ユーザーID（subクレーム）
+ * @param username ユーザー名
+ * @param role ユーザーロール
+ * @param expiresAt 有効期限（expクレーム）
+ */
+public record JwtPrincipal(
+        String tokenId, UUID userId, String username, int role, Instant expiresAt) {}
@@ -15,6 +15,16 @@ public interface JwtService {
      */
     String generateToken(UUID userId, String username, int role);
 
+    /**
+     * JWTトークンを一度だけ検証し、プリンシパル情報を取得する
+     *
+     * <p>署名検証とクレームの解析を1回で行うため、認証フィルターなどリクエスト毎に呼ばれる処理ではこのメソッドを使用する
+     *
+     * @param token JWTトークン
+     * @return 検証済みプリンシパル（検証失敗時はnull）
+     */
+    JwtPrincipal verifyToken(String token);
+
     /**
      * JWTトークンを検証し、ユーザーIDを取得する
      *
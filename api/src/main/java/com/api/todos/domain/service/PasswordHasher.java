@@ -0,0 +1,30 @@
+package com.api.todos.domain.service;
+
+/** パスワードハッシュサービスインターフェース（Domain層） Pure Javaインターフェース - フレームワーク依存なし Infrastructure層で実装される（依存性逆転の原則） */
+public interface PasswordHasher {
+
+    /**
+     * パスワードをハッシュ化する
+     *
+     * @param rawPassword 平文パスワード
+     * @return パスワードハッシュ
+     */
+    String hash(String rawPassword);
+
+    /**
+     * パスワードがハッシュと一致するかどうかを検証する
+     *
+     * @param rawPassword 平文パスワード
+     * @param passwordHash パスワードハッシュ
+     * @return 一致する場合true
+     */
+    boolean matches(String rawPassword, String passwordHash);
+
+    /**
+     * パスワードハッシュを現在の設定（コスト等）で再計算すべきかどうか
+     *
+     * @param passwordHash パスワードハッシュ
+     * @return 再計算すべき場合true
+     */
+    boolean needsRehash(String passwordHash);
+}
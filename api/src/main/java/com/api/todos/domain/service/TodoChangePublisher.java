@@ -0,0 +1,18 @@
+package com.api.todos.domain.service;
+
+import com.api.todos.domain.model.TodoChange;
+
+/**
+ * TODO変更通知インターフェース（Domain層） Pure Javaインターフェース - フレームワーク依存なし Infrastructure層で実装される（依存性逆転の原則）
+ *
+ * <p>変更を適用したUseCaseから呼ばれる。トランザクション内で呼ばれた場合、通知はコミット後に行われる（ロールバックした変更は通知しない）
+ */
+public interface TodoChangePublisher {
+
+    /**
+     * TODOの変更を通知する（件数が0の場合は何もしない）
+     *
+     * @param change TODOの変更
+     */
+    void publish(TodoChange change);
+}
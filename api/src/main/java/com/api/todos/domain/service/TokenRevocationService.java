@@ -0,0 +1,30 @@
+package com.api.todos.domain.service;
+
+import java.time.Instant;
+
+/**
+ * アクセストークン失効サービスインターフェース（Domain層） Pure Javaインターフェース - フレームワーク依存なし Infrastructure層で実装される（依存性逆転の原則）
+ *
+ * <p>アクセストークンはトークンID（jtiクレーム）単位で失効させる。失効情報はトークンの有効期限まで保持すればよい。
+ * jtiクレームを持たない既存トークン（トークンIDがnull）は個別に失効できず、有効期限まで未失効として扱う
+ */
+public interface TokenRevocationService {
+
+    /**
+     * アクセストークンを失効させる
+     *
+     * @param tokenId トークンID（jtiクレーム。nullの場合は何もしない）
+     * @param expiresAt トークンの有効期限（失効情報の保持期限）
+     */
+    void revoke(String tokenId, Instant expiresAt);
+
+    /**
+     * アクセストークンが失効済みかどうか
+     *
+     * <p>認証フィルターからリクエスト毎に呼ばれる
+     *
+     * @param tokenId トークンID（jtiクレーム）
+     * @return 失効済みの場合true（トークンIDがnullの場合false）
+     */
+    boolean isRevoked(String tokenId);
+}
@@ -0,0 +1,85 @@
+package com.api.todos.infrastructure.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * コネクションプール（HikariCP）設定クラス
+ *
+ * <p>【責務】
+ *
+ * <ul>
+ *   <li>最大接続数をDBサーバーのコア数と同時実行数の見込みから算出し、HikariDataSourceに設定する
+ *   <li>タイムアウト・リーク検出・メトリクスのヒストグラムはapplication.properties（spring.datasource.hikari.* /
+ *       management.metrics.distribution.*）で設定する
+ * </ul>
+ *
+ * <p>【プールサイズ】
+ *
+ * <ul>
+ *   <li>基準は「DBコア数 × 2 + 1」（HikariCPの推奨式。ディスク待ちを1本分見込む）
+ *   <li>仮想スレッドではリクエスト数に上限がなく、接続数を増やしてもDB側のCPU・ロック競合で頭打ちになるため、 同時実行数の見込みが基準より多くても基準を上限とする
+ *   <li>同時実行数の見込みが基準より少ない場合は見込みに合わせる（使われない接続を保持しない）
+ *   <li>db.pool.max-size を指定した場合はその値を優先する
+ * </ul>
+ *
+ * <p>プール飽和時の待ち（hikaricp.connections.pending）と接続取得時間（hikaricp.connections.acquire）は
+ * Spring Bootの自動設定でMicrometerに登録される
+ */
+@Configuration
+public class DataSourcePoolConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(DataSourcePoolConfig.class);
+
+    /**
+     * HikariDataSourceの初期化前に最大接続数を設定する
+     *
+     * <p>application.properties の spring.datasource.hikari.* をバインドした後に適用される
+     *
+     * @param maxSize 最大接続数（0の場合は算出）
+     * @param databaseCores DBサーバーのコア数（0の場合はアプリケーションのCPUコア数）
+     * @param expectedConcurrency DBにアクセスする同時実行数の見込み（0の場合は考慮しない）
+     * @return BeanPostProcessor
+     */
+    @Bean
+    static BeanPostProcessor hikariPoolSizer(
+            @Value("${db.pool.max-size:0}") int maxSize,
+            @Value("${db.pool.database-cores:0}") int databaseCores,
+            @Value("${db.pool.expected-concurrency:0}") int expectedConcurrency) {
+        int cores = databaseCores > 0 ? databaseCores : Runtime.getRuntime().availableProcessors();
+        int poolSize = maxSize > 0 ? maxSize : poolSize(cores, expectedConcurrency);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource) {
+                    dataSource.setMaximumPoolSize(poolSize);
+                    log.info(
+                            "コネクションプール {}: 最大{}接続（DBコア数: {}, 同時実行数の見込み: {}）",
+                            beanName,
+                            poolSize,
+                            cores,
+                            expectedConcurrency > 0 ? expectedConcurrency : "-");
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * 最大接続数を算出する
+     *
+     * @param databaseCores DBサーバーのコア数
+     * @param expectedConcurrency 同時実行数の見込み（0以下の場合は考慮しない）
+     * @return 最大接続数
+     */
+    static int poolSize(int databaseCores, int expectedConcurrency) {
+        int recommended = databaseCores * 2 + 1;
+        return expectedConcurrency > 0 ? Math.min(recommended, expectedConcurrency) : recommended;
+    }
+}
@@ -1,9 +1,32 @@
 package com.api.todos.infrastructure.config;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import com.api.todos.infrastructure.persistence.datasource.ReadYourWritesTracker;
+import com.api.todos.infrastructure.persistence.datasource.ReplicaRoutingDataSource;
+import com.api.todos.infrastructure.persistence.datasource.ReplicaSelection;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
 /**
  * データベース設定クラス
  *
@@ -13,6 +36,7 @@ import org.springframework.transaction.annotation.EnableTransactionManagement;
  *   <li>Spring Data JPA Repository Scan設定
  *   <li>トランザクション管理の有効化
  *   <li>データベース接続設定（application.propertiesに委譲）
+ *   <li>読み取りレプリカへの振り分け（db.replica.urls を指定した場合のみ）
  * </ul>
  *
  * <p>【設計原則】
@@ -47,6 +71,16 @@ import org.springframework.transaction.annotation.EnableTransactionManagement;
  * spring.jpa.properties.hibernate.format_sql=true
  * spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.PostgreSQLDialect
  * </pre>
+ *
+ * <p>【読み取りレプリカ】
+ *
+ * <ul>
+ *   <li>&#64;Transactional(readOnly = true) のトランザクションをレプリカ（db.replica.urls）に振り分ける
+ *   <li>JPAはトランザクション開始時に接続を取得し、読み取り専用フラグはその後に設定されるため、
+ *       LazyConnectionDataSourceProxy で最初のSQL実行まで接続の取得を遅らせ、読み取り専用フラグを見て接続先を決める
+ *   <li>振り分け・書き込み直後のプライマリ固定・異常時のフォールバックは ReplicaRoutingDataSource が行う
+ *   <li>レプリカの接続設定（ユーザー・パスワード・プール設定）はプライマリ（spring.datasource.*）と同じものを使う
+ * </ul>
  */
 @Configuration
 @EnableTransactionManagement
@@ -54,4 +88,100 @@ import org.springframework.transaction.annotation.EnableTransactionManagement;
 public class DatabaseConfig {
     // Spring Bootの自動設定によりDataSourceが自動的に作成されます
     // application.propertiesの設定を使用
+
+    /**
+     * 読み取りレプリカ設定
+     *
+     * <p>db.replica.urls を指定した場合のみ有効。Spring Bootの自動設定の代わりにDataSourceを定義する
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "db.replica", name = "urls")
+    static class ReplicaRoutingConfig {
+
+        /**
+         * プライマリのコネクションプール
+         *
+         * @param properties spring.datasource.*
+         * @return プライマリのHikariDataSource（spring.datasource.hikari.* をバインド）
+         */
+        @Bean
+        @ConfigurationProperties("spring.datasource.hikari")
+        HikariDataSource primaryDataSource(DataSourceProperties properties) {
+            return properties
+                    .initializeDataSourceBuilder()
+                    .type(HikariDataSource.class)
+                    .build();
+        }
+
+        /**
+         * 書き込み直後の読み取りをプライマリに固定する追跡器
+         *
+         * @param windowMs 固定期間（ミリ秒、0の場合は固定しない）
+         * @return ReadYourWritesTracker（トランザクションマネージャーに自動登録される）
+         */
+        @Bean
+        ReadYourWritesTracker readYourWritesTracker(
+                @Value("${db.replica.read-your-writes-window-ms:5000}") long windowMs) {
+            return new ReadYourWritesTracker(Duration.ofMillis(windowMs));
+        }
+
+        /**
+         * レプリカへの振り分けDataSource
+         *
+         * @param primary プライマリのコネクションプール
+         * @param urls レプリカのJDBC URL
+         * @param selection レプリカの選択方式
+         * @param readYourWritesTracker 書き込み直後の読み取りをプライマリに固定する追跡器
+         * @param meterRegistry メトリクスレジストリ（レプリカのプールを hikaricp.* に登録）
+         * @return ReplicaRoutingDataSource
+         */
+        @Bean
+        ReplicaRoutingDataSource replicaRoutingDataSource(
+                HikariDataSource primaryDataSource,
+                @Value("${db.replica.urls}") String[] urls,
+                @Value("${db.replica.selection:round-robin}") String selection,
+                ReadYourWritesTracker readYourWritesTracker,
+                ObjectProvider<MeterRegistry> meterRegistry) {
+            List<HikariDataSource> replicas = new ArrayList<>(urls.length);
+            for (int i = 0; i < urls.length; i++) {
+                HikariConfig config = new HikariConfig();
+                primaryDataSource.copyStateTo(config);
+                config.setJdbcUrl(urls[i].trim());
+                config.setPoolName(primaryDataSource.getPoolName() + "-replica-" + (i + 1));
+                config.setReadOnly(true);
+                // 起動時にレプリカが停止していてもアプリケーションは起動し、プライマリにフォールバックする
+                config.setInitializationFailTimeout(-1);
+                meterRegistry.ifAvailable(
+                        registry ->
+                                config.setMetricsTrackerFactory(
+                                        new MicrometerMetricsTrackerFactory(registry)));
+                replicas.add(new HikariDataSource(config));
+            }
+            return new ReplicaRoutingDataSource(
+                    primaryDataSource,
+                    replicas,
+                    ReplicaSelection.from(selection),
+                    readYourWritesTracker);
+        }
+
+        /**
+         * アプリケーションが使用するDataSource
+         *
+         * <p>読み取り専用トランザクションはレプリカ、それ以外はプライマリに接続する
+         *
+         * @param primaryDataSource プライマリのコネクションプール
+         * @param replicaRoutingDataSource レプリカへの振り分けDataSource
+         * @return LazyConnectionDataSourceProxy
+         */
+        @Bean
+        @Primary
+        DataSource dataSource(
+                HikariDataSource primaryDataSource,
+                ReplicaRoutingDataSource replicaRoutingDataSource) {
+            LazyConnectionDataSourceProxy dataSource =
+                    new LazyConnectionDataSourceProxy(primaryDataSource);
+            dataSource.setReadOnlyDataSource(replicaRoutingDataSource);
+            return dataSource;
+        }
+    }
 }
@@ -0,0 +1,88 @@
+package com.api.todos.infrastructure.config;
+
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+
+import com.api.todos.infrastructure.persistence.entity.UserJpaEntity;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+
+/**
+ * Hibernate 2次キャッシュ設定クラス
+ *
+ * <p>【責務】
+ *
+ * <ul>
+ *   <li>2次キャッシュのリージョン（JCache / Caffeine）をサイズ上限・有効期限付きで作成する
+ *   <li>作成したCacheManagerをHibernateのリージョンファクトリ（application.properties の hibernate.cache.*）に渡す
+ *   <li>リージョン毎のヒット・ミス・追い出し件数をMicrometerに登録する（/actuator/metrics/cache.gets?tag=cache:users）
+ * </ul>
+ *
+ * <p>【設計】
+ *
+ * <ul>
+ *   <li>キャッシュはプロセス内のため、複数ノード構成では他ノードでの更新が有効期限まで反映されない。
+ *       有効期限はノード間で許容できる不整合の時間に合わせる
+ *   <li>リージョンの作成漏れは起動時に検出する（hibernate.javax.cache.missing_cache_strategy=fail）
+ * </ul>
+ */
+@Configuration
+public class HibernateCacheConfig {
+
+    /**
+     * 2次キャッシュのCacheManager
+     *
+     * @param userMaximumSize ユーザーのリージョンの最大エントリ数
+     * @param userTtlMs ユーザーのリージョンの有効期限（ミリ秒、書き込みから）
+     * @param meterRegistry メトリクスレジストリ（存在する場合のみキャッシュ統計を登録）
+     * @return CacheManager
+     */
+    @Bean(destroyMethod = "close")
+    CacheManager hibernateCacheManager(
+            @Value("${jpa.cache.users.maximum-size:10000}") long userMaximumSize,
+            @Value("${jpa.cache.users.ttl-ms:300000}") long userTtlMs,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        // Caching.getCachingProvider() はJVM内で共有されるため、アプリケーションコンテキスト毎にプロバイダーを生成する
+        CacheManager cacheManager = new CaffeineCachingProvider().getCacheManager();
+        Cache<Object, Object> users =
+                cacheManager.createCache(
+                        UserJpaEntity.CACHE_REGION, region(userMaximumSize, userTtlMs));
+        meterRegistry.ifAvailable(registry -> JCacheMetrics.monitor(registry, users));
+        return cacheManager;
+    }
+
+    /**
+     * HibernateにCacheManagerを渡す
+     *
+     * @param hibernateCacheManager 2次キャッシュのCacheManager
+     * @return HibernatePropertiesCustomizer
+     */
+    @Bean
+    HibernatePropertiesCustomizer hibernateCacheManagerCustomizer(
+            CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    private static CaffeineConfiguration<Object, Object> region(long maximumSize, long ttlMs) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maximumSize));
+        configuration.setExpireAfterWrite(
+                OptionalLong.of(TimeUnit.MILLISECONDS.toNanos(ttlMs)));
+        // JCacheMetrics はJCacheの統計（JMX）から値を取得する
+        configuration.setStatisticsEnabled(true);
+        return configuration;
+    }
+}
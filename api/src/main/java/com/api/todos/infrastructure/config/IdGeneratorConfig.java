@@ -0,0 +1,38 @@
+package com.api.todos.infrastructure.config;
+
+import java.util.Locale;
+
+import com.api.todos.domain.service.IdGenerator;
+import com.api.todos.domain.service.IdGenerators;
+import com.api.todos.domain.service.UuidV7Generator;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * エンティティID採番設定クラス
+ *
+ * <p>application.properties の id.generator で Domain層の採番器（{@link IdGenerators}）を選択する
+ *
+ * <ul>
+ *   <li>v7: 時刻順のUUIDv7（デフォルト。主キーのB-treeへの挿入が局所化される）
+ *   <li>v4: ランダムなUUIDv4（比較・切り戻し用）
+ * </ul>
+ */
+@Configuration
+public class IdGeneratorConfig {
+
+    public IdGeneratorConfig(@Value("${id.generator:v7}") String generator) {
+        IdGenerators.use(create(generator));
+    }
+
+    private static IdGenerator create(String generator) {
+        return switch (generator.toLowerCase(Locale.ROOT)) {
+            case "v7" -> new UuidV7Generator();
+            case "v4" -> IdGenerator.UUID_V4;
+            default ->
+                    throw new IllegalStateException(
+                            "id.generator には v7 または v4 を指定してください: " + generator);
+        };
+    }
+}
@@ -0,0 +1,150 @@
+package com.api.todos.infrastructure.config;
+
+import java.time.Duration;
+
+import com.api.todos.domain.service.JwtService;
+import com.api.todos.infrastructure.persistence.repository.TodoR2dbcRepository;
+import com.api.todos.infrastructure.security.ReactiveJwtAuthenticationFilter;
+import com.api.todos.infrastructure.security.RevokedTokenRegistry;
+import com.api.todos.infrastructure.security.VerifiedTokenCache;
+import com.api.todos.infrastructure.service.todo.ReactiveListTodosService;
+import com.api.todos.presentation.reactive.ReactiveTodoHandler;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+/**
+ * リアクティブ読み取りAPIサーバー（WebFlux + R2DBC）
+ *
+ * <p>【責務】
+ *
+ * <ul>
+ *   <li>TODO一覧の読み取りAPI（{@link ReactiveTodoHandler}）を、サーブレット（Tomcat）とは別のポートのReactor Nettyで公開する
+ *   <li>R2DBC（r2dbc-postgresql）の専用コネクションプールを生成し、終了時に閉じる
+ * </ul>
+ *
+ * <p>大量の同時接続からの読み取りを、リクエスト毎のスレッドを持たないイベントループで処理する。
+ * 書き込み・認証などの他のAPIはサーブレット側のみで提供し、JWTの検証済みキャッシュと失効リストはサーブレット側と共有する
+ *
+ * <p>【サーブレット側への影響】
+ *
+ * <ul>
+ *   <li>reactive.read-api.enabled=true の場合のみ起動する
+ *   <li>Spring BootのR2DBC・WebFluxの自動設定は使用しない（ConnectionFactoryをBeanにすると
+ *       JDBCのDataSourceの自動設定が無効になるため、プールはこのクラスで保持する）
+ *   <li>R2DBCの接続数はHikariCPとは別に消費するため、DBの最大接続数はその合計で見積もる
+ * </ul>
+ */
+@Component
+@ConditionalOnProperty(name = "reactive.read-api.enabled", havingValue = "true")
+public class ReactiveReadApiServer implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveReadApiServer.class);
+
+    private final ConnectionPool connectionPool;
+    private final DisposableServer server;
+
+    /**
+     * コンストラクタ
+     *
+     * @param address 待ち受けアドレス
+     * @param port 待ち受けポート（0の場合は空きポート）
+     * @param url R2DBC URL
+     * @param username DBユーザー
+     * @param password DBパスワード
+     * @param maxPoolSize 最大接続数（0の場合は DBコア数 × 2 + 1）
+     * @param databaseCores DBサーバーのコア数（0の場合はアプリケーションのCPUコア数）
+     * @param acquireTimeoutMs 接続取得の待ち時間の上限（ミリ秒）
+     * @param jwtService JWTサービス
+     * @param verifiedTokenCache JWT検証済みキャッシュ
+     * @param revokedTokenRegistry 失効済みトークンの管理
+     * @param maxTokenLength トークン長の上限
+     */
+    public ReactiveReadApiServer(
+            @Value("${server.address:0.0.0.0}") String address,
+            @Value("${reactive.read-api.port:8081}") int port,
+            @Value("${reactive.read-api.r2dbc.url}") String url,
+            @Value("${spring.datasource.username}") String username,
+            @Value("${spring.datasource.password}") String password,
+            @Value("${reactive.read-api.r2dbc.pool.max-size:0}") int maxPoolSize,
+            @Value("${db.pool.database-cores:0}") int databaseCores,
+            @Value("${reactive.read-api.r2dbc.pool.acquire-timeout-ms:5000}")
+                    long acquireTimeoutMs,
+            JwtService jwtService,
+            VerifiedTokenCache verifiedTokenCache,
+            RevokedTokenRegistry revokedTokenRegistry,
+            @Value("${jwt.max-token-length:8192}") int maxTokenLength) {
+        int cores = databaseCores > 0 ? databaseCores : Runtime.getRuntime().availableProcessors();
+        int poolSize = maxPoolSize > 0 ? maxPoolSize : DataSourcePoolConfig.poolSize(cores, 0);
+        ConnectionFactoryOptions options =
+                ConnectionFactoryOptions.parse(url)
+                        .mutate()
+                        .option(ConnectionFactoryOptions.USER, username)
+                        .option(ConnectionFactoryOptions.PASSWORD, password)
+                        .build();
+        this.connectionPool =
+                new ConnectionPool(
+                        ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                                .name("todos-r2dbc")
+                                .maxSize(poolSize)
+                                .maxAcquireTime(Duration.ofMillis(acquireTimeoutMs))
+                                .build());
+
+        ReactiveTodoHandler handler =
+                new ReactiveTodoHandler(
+                        new ReactiveListTodosService(
+                                new TodoR2dbcRepository(DatabaseClient.create(connectionPool))));
+        HttpHandler httpHandler =
+                RouterFunctions.toHttpHandler(
+                        handler.routes(
+                                new ReactiveJwtAuthenticationFilter(
+                                        jwtService,
+                                        verifiedTokenCache,
+                                        revokedTokenRegistry,
+                                        maxTokenLength)));
+
+        try {
+            this.server =
+                    HttpServer.create()
+                            .host(address)
+                            .port(port)
+                            .handle(new ReactorHttpHandlerAdapter(httpHandler))
+                            .bindNow();
+        } catch (RuntimeException e) {
+            connectionPool.dispose();
+            throw e;
+        }
+        log.info(
+                "リアクティブ読み取りAPIを開始しました（ポート: {}, R2DBC最大接続数: {}）", server.port(), poolSize);
+    }
+
+    /**
+     * 待ち受けポート
+     *
+     * @return ポート番号
+     */
+    public int port() {
+        return server.port();
+    }
+
+    @Override
+    public void destroy() {
+        server.disposeNow();
+        connectionPool.dispose();
+    }
+}
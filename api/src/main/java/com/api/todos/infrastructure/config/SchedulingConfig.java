@@ -0,0 +1,13 @@
+package com.api.todos.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * スケジューリング設定クラス
+ *
+ * <p>@Scheduled による定期処理（JWT鍵ローテーション等）を有効化する
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {}
@@ -1,15 +1,20 @@
 package com.api.todos.infrastructure.config;
 
 import java.util.Arrays;
+import java.util.Map;
 
+import com.api.todos.infrastructure.security.BCryptStrengthCalibrator;
 import com.api.todos.infrastructure.security.JwtAuthenticationFilter;
+import com.api.todos.infrastructure.security.LoginRateLimitFilter;
+import com.api.todos.infrastructure.security.PasswordEncoders;
+import com.api.todos.infrastructure.security.PublicEndpoints;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -20,16 +25,20 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 /**
  * セキュリティ設定クラス
  *
- * <p>Spring Security の設定を行います。 JWT認証とBCryptパスワードエンコーディングを使用します。
+ * <p>Spring Security の設定を行います。 JWT認証と、BCrypt / Argon2id / scrypt を切り替え可能なパスワードエンコーディングを使用します。
  */
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final LoginRateLimitFilter loginRateLimitFilter;
 
-    public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter) {
+    public SecurityConfig(
+            JwtAuthenticationFilter jwtAuthenticationFilter,
+            LoginRateLimitFilter loginRateLimitFilter) {
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
+        this.loginRateLimitFilter = loginRateLimitFilter;
     }
 
     /**
@@ -48,28 +57,62 @@ public class SecurityConfig {
                 .authorizeHttpRequests(
                         authz ->
                                 authz
-                                        // ルートと /health、認証エンドポイントをセキュリティから除外
-                                        .requestMatchers(
-                                                "/", "/health", "/actuator/health", "/api/auth/**")
+                                        // ルートと /health・/status、認証エンドポイントをセキュリティから除外
+                                        // （JwtAuthenticationFilterのスキップ判定と同じ定義を使用）
+                                        .requestMatchers(PublicEndpoints.patterns())
                                         .permitAll()
                                         // その他のリクエストは認証が必要
                                         .anyRequest()
                                         .authenticated())
                 // JWTフィルターをUsernamePasswordAuthenticationFilterの前に追加
                 .addFilterBefore(
-                        jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+                        jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                // 認証エンドポイントのIP毎レート制限をJWTフィルターの前に追加
+                .addFilterBefore(loginRateLimitFilter, JwtAuthenticationFilter.class);
 
         return http.build();
     }
 
     /**
-     * パスワードエンコーダーの設定 BCryptを使用してパスワードをハッシュ化
+     * パスワードエンコーダーの設定
      *
+     * <p>新規ハッシュは password.encoder（bcrypt / argon2 / scrypt）で計算し、既存ハッシュは保存時のアルゴリズムで検証する。
+     * アルゴリズムやコストが現在の設定と異なるハッシュは、ログイン時に再計算される
+     *
+     * <p>BCryptのコストは起動時にキャリブレーションした値を使用する。Argon2id・scryptはメモリ使用量を設定で調整する
+     * （1回のハッシュ計算でこのメモリを確保するため、ハッシュ処理用プールのスレッド数との積がピークメモリになる）
+     *
+     * @param idForEncode 新規ハッシュに使用するアルゴリズム
+     * @param strengthCalibrator BCryptコストのキャリブレーション結果
+     * @param argon2MemoryKib Argon2idの使用メモリ（KiB）
+     * @param argon2Iterations Argon2idの反復回数
+     * @param argon2Parallelism Argon2idの並列度
+     * @param scryptCpuCost scryptのCPUコスト N
+     * @param scryptBlockSize scryptのブロックサイズ r
+     * @param scryptParallelism scryptの並列度 p
      * @return PasswordEncoder
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${password.encoder:bcrypt}") String idForEncode,
+            BCryptStrengthCalibrator strengthCalibrator,
+            @Value("${password.argon2.memory-kib:19456}") int argon2MemoryKib,
+            @Value("${password.argon2.iterations:2}") int argon2Iterations,
+            @Value("${password.argon2.parallelism:1}") int argon2Parallelism,
+            @Value("${password.scrypt.cpu-cost:65536}") int scryptCpuCost,
+            @Value("${password.scrypt.block-size:8}") int scryptBlockSize,
+            @Value("${password.scrypt.parallelism:1}") int scryptParallelism) {
+        return PasswordEncoders.delegating(
+                idForEncode,
+                Map.of(
+                        PasswordEncoders.BCRYPT,
+                        PasswordEncoders.bcrypt(strengthCalibrator.strength()),
+                        PasswordEncoders.ARGON2,
+                        PasswordEncoders.argon2(
+                                argon2MemoryKib, argon2Iterations, argon2Parallelism),
+                        PasswordEncoders.SCRYPT,
+                        PasswordEncoders.scrypt(
+                                scryptCpuCost, scryptBlockSize, scryptParallelism)));
     }
 
     /**
@@ -0,0 +1,135 @@
+package com.api.todos.infrastructure.config;
+
+import java.time.Duration;
+
+import com.api.todos.application.usecase.auth.AuthTokenIssuer;
+import com.api.todos.application.usecase.auth.LoginUseCase;
+import com.api.todos.application.usecase.auth.LogoutUseCase;
+import com.api.todos.application.usecase.auth.RefreshTokenUseCase;
+import com.api.todos.application.usecase.todo.BulkCreateTodosUseCase;
+import com.api.todos.application.usecase.todo.BulkTransitionTodosUseCase;
+import com.api.todos.application.usecase.todo.DeleteCompletedTodosUseCase;
+import com.api.todos.application.usecase.todo.ExportTodosUseCase;
+import com.api.todos.application.usecase.todo.ImportTodosUseCase;
+import com.api.todos.application.usecase.todo.ListTodosUseCase;
+import com.api.todos.domain.repository.RefreshTokenRepository;
+import com.api.todos.domain.repository.TodoRepository;
+import com.api.todos.domain.repository.UserRepository;
+import com.api.todos.domain.service.JwtService;
+import com.api.todos.domain.service.PasswordHasher;
+import com.api.todos.domain.service.TodoChangePublisher;
+import com.api.todos.domain.service.TokenRevocationService;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Application層のUseCaseをDI管理する設定クラス
+ *
+ * <p>【責務】
+ *
+ * <ul>
+ *   <li>Pure JavaのUseCaseをSpring DIコンテナに登録
+ *   <li>UseCaseの依存関係を解決
+ * </ul>
+ *
+ * <p>【重要】
+ *
+ * <ul>
+ *   <li>UseCaseはPure Javaなので@Serviceアノテーションは使わない
+ *   <li>Infrastructure層でBean登録してDI管理
+ * </ul>
+ */
+@Configuration
+public class UseCaseConfig {
+
+    // ========== 認証 ==========
+
+    @Bean
+    public AuthTokenIssuer authTokenIssuer(
+            JwtService jwtService,
+            RefreshTokenRepository refreshTokenRepository,
+            @Value("${jwt.expiration-ms:900000}") long accessTokenExpirationMs,
+            @Value("${jwt.refresh-expiration-ms:1209600000}") long refreshTokenExpirationMs) {
+        return new AuthTokenIssuer(
+                jwtService,
+                refreshTokenRepository,
+                Duration.ofMillis(accessTokenExpirationMs),
+                Duration.ofMillis(refreshTokenExpirationMs));
+    }
+
+    @Bean
+    public LoginUseCase loginUseCase(
+            UserRepository userRepository,
+            PasswordHasher passwordHasher,
+            AuthTokenIssuer authTokenIssuer) {
+        return new LoginUseCase(userRepository, passwordHasher, authTokenIssuer);
+    }
+
+    @Bean
+    public RefreshTokenUseCase refreshTokenUseCase(
+            RefreshTokenRepository refreshTokenRepository,
+            UserRepository userRepository,
+            AuthTokenIssuer authTokenIssuer) {
+        return new RefreshTokenUseCase(refreshTokenRepository, userRepository, authTokenIssuer);
+    }
+
+    @Bean
+    public LogoutUseCase logoutUseCase(
+            JwtService jwtService,
+            TokenRevocationService tokenRevocationService,
+            RefreshTokenRepository refreshTokenRepository) {
+        return new LogoutUseCase(jwtService, tokenRevocationService, refreshTokenRepository);
+    }
+
+    // ========== TODO ==========
+
+    @Bean
+    public ListTodosUseCase listTodosUseCase(TodoRepository todoRepository) {
+        return new ListTodosUseCase(todoRepository);
+    }
+
+    @Bean
+    public ExportTodosUseCase exportTodosUseCase(
+            TodoRepository todoRepository,
+            @Value("${todo.export.batch-size:1000}") int batchSize) {
+        return new ExportTodosUseCase(todoRepository, batchSize);
+    }
+
+    @Bean
+    public ImportTodosUseCase importTodosUseCase(
+            TodoRepository todoRepository,
+            UserRepository userRepository,
+            TodoChangePublisher todoChangePublisher,
+            @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:500}") int batchSize) {
+        return new ImportTodosUseCase(
+                todoRepository, userRepository, todoChangePublisher, batchSize);
+    }
+
+    @Bean
+    public BulkCreateTodosUseCase bulkCreateTodosUseCase(
+            TodoRepository todoRepository,
+            UserRepository userRepository,
+            TodoChangePublisher todoChangePublisher) {
+        return new BulkCreateTodosUseCase(todoRepository, userRepository, todoChangePublisher);
+    }
+
+    @Bean
+    public BulkTransitionTodosUseCase bulkTransitionTodosUseCase(
+            TodoRepository todoRepository,
+            UserRepository userRepository,
+            TodoChangePublisher todoChangePublisher) {
+        return new BulkTransitionTodosUseCase(todoRepository, userRepository, todoChangePublisher);
+    }
+
+    @Bean
+    public DeleteCompletedTodosUseCase deleteCompletedTodosUseCase(
+            TodoRepository todoRepository,
+            UserRepository userRepository,
+            TodoChangePublisher todoChangePublisher,
+            @Value("${todo.delete-completed.max-items:1000}") int maxItems) {
+        return new DeleteCompletedTodosUseCase(
+                todoRepository, userRepository, todoChangePublisher, maxItems);
+    }
+}
@@ -0,0 +1,152 @@
+package com.api.todos.infrastructure.diagnostics;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 仮想スレッドのピン留め検出（Infrastructure層）
+ *
+ * <p>仮想スレッドが synchronized ブロック内やネイティブメソッド内でブロックすると、キャリアスレッド（プラットフォームスレッド）から外れず占有し続ける。
+ * キャリアスレッドはCPUコア数しかないため、JDBCドライバー・JJWTなどの synchronized 内のI/Oで占有が続くとスループットが頭打ちになる
+ *
+ * <p>【検出】
+ *
+ * <ul>
+ *   <li>JFRの jdk.VirtualThreadPinned イベント（占有時間がしきい値以上のもの）をアプリケーション内で購読する
+ *   <li>発生箇所（スタックの先頭から最初のJDK外のフレーム）毎に、初回はスタックトレースをWARNで出力し、以降はDEBUGで出力する
+ *   <li>発生箇所毎の回数・占有時間をMicrometer（jvm.threads.virtual.pinned）で公開する
+ * </ul>
+ *
+ * <p>仮想スレッドが有効（spring.threads.virtual.enabled=true）な場合のみ動作する。
+ * JDK 24以降は synchronized によるピン留めが解消されており、ネイティブメソッド等に起因するもののみ検出される
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@ConditionalOnProperty(
+        name = "diagnostics.virtual-threads.pinning.enabled",
+        havingValue = "true",
+        matchIfMissing = true)
+public class VirtualThreadPinningMonitor implements DisposableBean {
+
+    /** メトリクス名 */
+    static final String METRIC_NAME = "jvm.threads.virtual.pinned";
+
+    private static final String EVENT_NAME = "jdk.VirtualThreadPinned";
+
+    /** ログに出力するスタックトレースのフレーム数の上限 */
+    private static final int MAX_LOGGED_FRAMES = 20;
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    private final RecordingStream recording;
+    private final MeterRegistry meterRegistry;
+    private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+
+    /**
+     * コンストラクタ
+     *
+     * @param thresholdMs 検出する占有時間のしきい値（ミリ秒）
+     * @param meterRegistry メトリクスレジストリ（存在する場合のみ登録）
+     */
+    public VirtualThreadPinningMonitor(
+            @Value("${diagnostics.virtual-threads.pinning.threshold-ms:20}") long thresholdMs,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry.getIfAvailable();
+        this.recording = new RecordingStream();
+        recording
+                .enable(EVENT_NAME)
+                .withThreshold(Duration.ofMillis(thresholdMs))
+                .withStackTrace();
+        recording.onEvent(EVENT_NAME, this::onPinned);
+        recording.startAsync();
+        log.info("仮想スレッドのピン留め検出を開始しました（しきい値: {}ms）", thresholdMs);
+    }
+
+    private void onPinned(RecordedEvent event) {
+        List<RecordedFrame> frames = frames(event.getStackTrace());
+        String site = site(frames);
+        Duration duration = event.getDuration();
+        if (meterRegistry != null) {
+            Timer.builder(METRIC_NAME)
+                    .description("仮想スレッドがキャリアスレッドを占有した時間")
+                    .tag("site", site)
+                    .register(meterRegistry)
+                    .record(duration);
+        }
+        if (reportedSites.add(site)) {
+            log.warn(
+                    "仮想スレッドがキャリアスレッドを{}ms占有しました（{}）。以降この箇所はDEBUGで出力します\n{}",
+                    duration.toMillis(),
+                    site,
+                    format(frames));
+        } else if (log.isDebugEnabled()) {
+            log.debug("仮想スレッドがキャリアスレッドを{}ms占有しました（{}）", duration.toMillis(), site);
+        }
+    }
+
+    private static List<RecordedFrame> frames(RecordedStackTrace stackTrace) {
+        return stackTrace != null ? stackTrace.getFrames() : List.of();
+    }
+
+    /** 最初のJDK外のフレーム（ピン留めの原因となったライブラリ・アプリケーションのメソッド） */
+    private static String site(List<RecordedFrame> frames) {
+        for (RecordedFrame frame : frames) {
+            if (!frame.isJavaFrame()) {
+                continue;
+            }
+            String type = frame.getMethod().getType().getName();
+            if (!isJdk(type)) {
+                return type + "." + frame.getMethod().getName();
+            }
+        }
+        return "unknown";
+    }
+
+    private static boolean isJdk(String type) {
+        return type.startsWith("java.") || type.startsWith("jdk.") || type.startsWith("sun.");
+    }
+
+    private static String format(List<RecordedFrame> frames) {
+        StringBuilder trace = new StringBuilder();
+        int limit = Math.min(frames.size(), MAX_LOGGED_FRAMES);
+        for (int i = 0; i < limit; i++) {
+            RecordedFrame frame = frames.get(i);
+            trace.append("\tat ")
+                    .append(frame.getMethod().getType().getName())
+                    .append('.')
+                    .append(frame.getMethod().getName())
+                    .append(':')
+                    .append(frame.getLineNumber())
+                    .append('\n');
+        }
+        if (frames.size() > limit) {
+            trace.append("\t... ").append(frames.size() - limit).append(" more\n");
+        }
+        return trace.toString();
+    }
+
+    @Override
+    public void destroy() {
+        recording.close();
+    }
+}
@@ -0,0 +1,36 @@
+package com.api.todos.infrastructure.event;
+
+import com.api.todos.domain.model.TodoChange;
+
+/**
+ * 配信するTODOの変更（Infrastructure層）
+ *
+ * <p>イベントIDは「起動時刻-連番」。 再接続時にLast-Event-IDとして受け取り、再起動前のIDや保持期間外のIDは再開できないものとして扱う
+ *
+ * @param epoch 配信ハブの起動時刻（エポックミリ秒）
+ * @param sequence 配信ハブ内の連番
+ * @param change TODOの変更（リセットの場合null）
+ */
+public record TodoChangeEvent(long epoch, long sequence, TodoChange change) {
+
+    /**
+     * リセット（取りこぼした変更があるため、クライアントは一覧を取得し直す）
+     *
+     * @param epoch 配信ハブの起動時刻
+     * @param sequence 取りこぼした最後の変更の連番（以降の変更は引き続き配信する）
+     * @return リセット
+     */
+    static TodoChangeEvent reset(long epoch, long sequence) {
+        return new TodoChangeEvent(epoch, sequence, null);
+    }
+
+    /** リセットかどうか */
+    public boolean isReset() {
+        return change == null;
+    }
+
+    /** イベントID */
+    public String id() {
+        return epoch + "-" + sequence;
+    }
+}
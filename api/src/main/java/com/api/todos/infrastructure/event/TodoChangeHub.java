@@ -0,0 +1,270 @@
+package com.api.todos.infrastructure.event;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.api.todos.application.exception.TooManyRequestsException;
+import com.api.todos.domain.model.TodoChange;
+import com.api.todos.domain.service.TodoChangePublisher;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * TODO変更の配信ハブ（Infrastructure層）
+ *
+ * <p>UseCaseから通知された変更を、同じユーザーの購読（SSE接続）へプロセス内で配信する。
+ *
+ * <p>【設計】
+ *
+ * <ul>
+ *   <li>トランザクション内で通知された変更はコミット後に配信する（ロールバックした変更は配信しない）
+ *   <li>配信は各購読の固定長リングバッファへの追加のみで、接続への書き込みを待たない。 満杯の場合は todo.changes.overflow-policy
+ *       に従い、最も古い変更を破棄する（DROP_OLDEST）か接続を切断する（DISCONNECT）
+ *   <li>直近の変更（todo.changes.replay-size 件）を保持し、再接続時のLast-Event-ID以降の変更を再送する。
+ *       保持期間外・再起動前のIDの場合はリセットを送り、クライアントに一覧の取得し直しを促す。
+ *       再送する変更がバッファを超える場合は設定に関わらず古い変更を破棄してリセットを送る（切断すると同じIDでの再接続を繰り返すため）
+ *   <li>1回の変更に含めるIDは {@link #MAX_LISTED_IDS} 件まで（超える場合は件数のみ）とし、保持する変更のサイズを抑える
+ *   <li>購読数を todo.changes.max-subscribers で制限し、購読数・バッファあふれをMicrometer（todo.changes.*）で公開する
+ *   <li>停止時（{@link #stop()}）はWebサーバーのグレースフルシャットダウンより先にすべての購読を終了し、以降の購読を拒否する
+ *       （接続中のストリームがシャットダウンの完了を待たせないようにする）
+ * </ul>
+ *
+ * <p>複数インスタンスで実行する場合、変更は同じインスタンスの購読にのみ配信される
+ */
+@Component
+public class TodoChangeHub implements TodoChangePublisher, SmartLifecycle {
+
+    /** 1回の変更に含めるIDの上限 */
+    static final int MAX_LISTED_IDS = 100;
+
+    /** 購読数の上限に達した場合に返す再試行までの推奨待機時間（秒） */
+    private static final long RETRY_AFTER_SECONDS = 5;
+
+    private final long epoch = System.currentTimeMillis();
+    private final int subscriberBufferSize;
+    private final int maxSubscribers;
+    private final TodoChangeOverflowPolicy overflowPolicy;
+    private final Counter overflows;
+
+    /** 連番・保持する変更・配信先の一覧を更新するロック（配信順序と連番の順序を一致させる） */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /** 直近の変更（連番 % 件数 の位置に保持する） */
+    private final TodoChangeEvent[] history;
+
+    private long sequence;
+    private final Map<UUID, List<TodoChangeSubscription>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    /** 購読を受け付けている間true（ロック内で更新する） */
+    private volatile boolean running;
+
+    /**
+     * コンストラクタ
+     *
+     * @param subscriberBufferSize 購読毎のバッファの件数
+     * @param replaySize 再接続時に再送できる直近の変更の件数
+     * @param maxSubscribers 購読数の上限
+     * @param overflowPolicy バッファが満杯の場合の動作
+     * @param meterRegistry メトリクスレジストリ（存在する場合のみ登録）
+     */
+    public TodoChangeHub(
+            @Value("${todo.changes.subscriber-buffer-size:64}") int subscriberBufferSize,
+            @Value("${todo.changes.replay-size:1024}") int replaySize,
+            @Value("${todo.changes.max-subscribers:4096}") int maxSubscribers,
+            @Value("${todo.changes.overflow-policy:DROP_OLDEST}")
+                    TodoChangeOverflowPolicy overflowPolicy,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        this.subscriberBufferSize = subscriberBufferSize;
+        this.history = new TodoChangeEvent[replaySize];
+        this.maxSubscribers = maxSubscribers;
+        this.overflowPolicy = overflowPolicy;
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            Gauge.builder("todo.changes.subscribers", subscriberCount, AtomicInteger::get)
+                    .description("TODO変更の購読数")
+                    .register(registry);
+            this.overflows =
+                    Counter.builder("todo.changes.overflows")
+                            .description("購読のバッファが満杯になった回数")
+                            .tag("policy", overflowPolicy.name())
+                            .register(registry);
+        } else {
+            this.overflows = null;
+        }
+    }
+
+    @Override
+    public void publish(TodoChange change) {
+        if (change.getCount() == 0) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dispatch(change);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        dispatch(change);
+                    }
+                });
+    }
+
+    /**
+     * 購読を開始する
+     *
+     * @param userId ユーザーID
+     * @param lastEventId 再接続時のLast-Event-IDヘッダー（初回接続の場合null）
+     * @return 購読（Last-Event-ID以降の変更、または再開できない場合のリセットを含む）
+     * @throws TooManyRequestsException 購読数が上限に達している場合・停止中の場合
+     */
+    public TodoChangeSubscription subscribe(UUID userId, String lastEventId) {
+        if (!running) {
+            throw new TooManyRequestsException("Change feed is not running", RETRY_AFTER_SECONDS);
+        }
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new TooManyRequestsException("Too many change subscribers", RETRY_AFTER_SECONDS);
+        }
+        TodoChangeSubscription subscription =
+                new TodoChangeSubscription(this, userId, subscriberBufferSize);
+        lock.lock();
+        try {
+            if (!running) {
+                // 上限の確認後に停止した場合
+                subscriberCount.decrementAndGet();
+                throw new TooManyRequestsException(
+                        "Change feed is not running", RETRY_AFTER_SECONDS);
+            }
+            if (lastEventId != null) {
+                replay(subscription, lastEventId);
+            }
+            subscribers
+                    .computeIfAbsent(userId, id -> new CopyOnWriteArrayList<>())
+                    .add(subscription);
+        } finally {
+            lock.unlock();
+        }
+        return subscription;
+    }
+
+    /** 購読の登録を解除する（複数回呼ばれても1回のみ解除する） */
+    void unsubscribe(TodoChangeSubscription subscription) {
+        lock.lock();
+        try {
+            List<TodoChangeSubscription> list = subscribers.get(subscription.getUserId());
+            if (list != null && list.remove(subscription)) {
+                subscriberCount.decrementAndGet();
+                if (list.isEmpty()) {
+                    subscribers.remove(subscription.getUserId());
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void dispatch(TodoChange change) {
+        TodoChange listed =
+                change.getTodoIds().size() > MAX_LISTED_IDS ? change.withoutIds() : change;
+        lock.lock();
+        try {
+            TodoChangeEvent event = new TodoChangeEvent(epoch, ++sequence, listed);
+            if (history.length > 0) {
+                history[(int) (sequence % history.length)] = event;
+            }
+            List<TodoChangeSubscription> list = subscribers.get(change.getUserId());
+            if (list == null) {
+                return;
+            }
+            for (TodoChangeSubscription subscription : list) {
+                if (subscription.offer(event, overflowPolicy) && overflows != null) {
+                    overflows.increment();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Last-Event-ID以降のユーザーの変更を再送する（呼び出し元でロックを取得する）
+     *
+     * <p>バッファを超える場合は常に古い変更を破棄する（DISCONNECTで切断すると、クライアントが同じLast-Event-IDで再接続して同じ結果になるため）。
+     * 破棄した場合は残りの変更より先にリセットが配信される
+     */
+    private void replay(TodoChangeSubscription subscription, String lastEventId) {
+        long last = parseSequence(lastEventId);
+        long oldest = Math.max(1, sequence - history.length + 1);
+        if (last < 0 || last > sequence || last + 1 < oldest) {
+            // 再起動前・保持期間外のID: 現在の連番の位置から再開させる
+            subscription.offer(
+                    TodoChangeEvent.reset(epoch, sequence), TodoChangeOverflowPolicy.DROP_OLDEST);
+            return;
+        }
+        for (long seq = last + 1; seq <= sequence; seq++) {
+            TodoChangeEvent event = history[(int) (seq % history.length)];
+            if (event.change().getUserId().equals(subscription.getUserId())
+                    && subscription.offer(event, TodoChangeOverflowPolicy.DROP_OLDEST)
+                    && overflows != null) {
+                overflows.increment();
+            }
+        }
+    }
+
+    /** このハブが発行したイベントIDの連番（他の起動時刻・不正な形式の場合-1） */
+    private long parseSequence(String eventId) {
+        int separator = eventId.indexOf('-');
+        if (separator < 0 || !eventId.substring(0, separator).equals(Long.toString(epoch))) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(eventId.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    /**
+     * 購読の受け付けを停止し、すべての購読を終了する
+     *
+     * <p>フェーズ（{@link SmartLifecycle#DEFAULT_PHASE}）はWebサーバーのグレースフルシャットダウンより後に開始・先に停止するため、
+     * 接続中のストリームはシャットダウンの待機が始まる前に完了する
+     */
+    @Override
+    public void stop() {
+        lock.lock();
+        try {
+            running = false;
+        } finally {
+            lock.unlock();
+        }
+        subscribers.values().forEach(list -> list.forEach(TodoChangeSubscription::close));
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
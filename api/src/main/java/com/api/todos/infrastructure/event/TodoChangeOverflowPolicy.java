@@ -0,0 +1,15 @@
+package com.api.todos.infrastructure.event;
+
+/**
+ * 購読者のバッファが満杯の場合の動作（Infrastructure層）
+ *
+ * <p>application.properties の todo.changes.overflow-policy で選択する
+ */
+public enum TodoChangeOverflowPolicy {
+
+    /** 最も古い変更を破棄し、次にリセットを配信する（接続は維持する） */
+    DROP_OLDEST,
+
+    /** 接続を切断する（クライアントはLast-Event-IDで再接続し、保持期間内であれば取りこぼさずに再開できる） */
+    DISCONNECT
+}
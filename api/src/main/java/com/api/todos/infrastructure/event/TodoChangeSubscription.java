@@ -0,0 +1,141 @@
+package com.api.todos.infrastructure.event;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * TODO変更の購読（Infrastructure層）
+ *
+ * <p>1接続につき1つ。 配信ハブから渡された変更を固定長のリングバッファに保持し、接続のスレッドが {@link #poll} で取り出して書き込む。
+ * 書き込みが遅い接続でも配信側は待たされず、バッファが満杯の場合は {@link TodoChangeOverflowPolicy} に従う
+ *
+ * <p>待機は {@link ReentrantLock} で行う（synchronized と異なり、仮想スレッドの待機中にキャリアスレッドを占有しない）
+ */
+public final class TodoChangeSubscription implements AutoCloseable {
+
+    private final TodoChangeHub hub;
+    private final UUID userId;
+    private final TodoChangeEvent[] buffer;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+
+    private int head;
+    private int size;
+
+    /** 破棄した最後の変更（未配信のリセットがない場合null） */
+    private TodoChangeEvent pendingReset;
+
+    private boolean closed;
+
+    TodoChangeSubscription(TodoChangeHub hub, UUID userId, int bufferSize) {
+        this.hub = hub;
+        this.userId = userId;
+        this.buffer = new TodoChangeEvent[bufferSize];
+    }
+
+    UUID getUserId() {
+        return userId;
+    }
+
+    /**
+     * 変更をバッファに追加する
+     *
+     * @param event 変更
+     * @param policy バッファが満杯の場合の動作
+     * @return バッファが満杯だった場合true（終了済みの購読の場合は何もせずfalse）
+     */
+    boolean offer(TodoChangeEvent event, TodoChangeOverflowPolicy policy) {
+        lock.lock();
+        try {
+            if (closed) {
+                return false;
+            }
+            boolean overflow = size == buffer.length;
+            if (overflow) {
+                if (policy == TodoChangeOverflowPolicy.DISCONNECT) {
+                    closed = true;
+                    notEmpty.signal();
+                    return true;
+                }
+                TodoChangeEvent dropped = buffer[head];
+                buffer[head] = null;
+                head = (head + 1) % buffer.length;
+                size--;
+                pendingReset = TodoChangeEvent.reset(dropped.epoch(), dropped.sequence());
+            }
+            buffer[(head + size) % buffer.length] = event;
+            size++;
+            notEmpty.signal();
+            return overflow;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 次の変更を取り出す（変更がない場合は最大 timeout の間待つ）
+     *
+     * <p>変更を破棄していた場合は、残りの変更より先にリセットを返す
+     *
+     * @param timeout 最大待機時間
+     * @param unit 最大待機時間の単位
+     * @return 変更（待機時間内に変更がない・購読が終了した場合null）
+     * @throws InterruptedException 待機中に割り込まれた場合
+     */
+    public TodoChangeEvent poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lock();
+        try {
+            while (size == 0 && pendingReset == null && !closed) {
+                if (nanos <= 0) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            if (closed) {
+                return null;
+            }
+            if (pendingReset != null) {
+                TodoChangeEvent reset = pendingReset;
+                pendingReset = null;
+                return reset;
+            }
+            TodoChangeEvent event = buffer[head];
+            buffer[head] = null;
+            head = (head + 1) % buffer.length;
+            size--;
+            return event;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 購読が終了したかどうか（切断・アプリケーションの停止）
+     *
+     * @return 終了した場合true
+     */
+    public boolean isClosed() {
+        lock.lock();
+        try {
+            return closed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** 購読を終了する（配信ハブから登録を解除し、待機中の {@link #poll} を戻す） */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+        hub.unsubscribe(this);
+    }
+}
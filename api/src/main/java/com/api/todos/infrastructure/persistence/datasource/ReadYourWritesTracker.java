@@ -0,0 +1,84 @@
+package com.api.todos.infrastructure.persistence.datasource;
+
+import java.time.Duration;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+/**
+ * 書き込み直後の読み取りをプライマリに固定する追跡器（Infrastructure層）
+ *
+ * <p>レプリカはプライマリより遅れて更新されるため、書き込んだユーザー自身の直後の読み取りがレプリカに振り分けられると
+ * 書き込み前の状態が見える。読み取り専用でないトランザクションのコミット後、一定時間（db.replica.read-your-writes-window-ms）
+ * そのユーザーの読み取りをプライマリに振り分ける
+ *
+ * <p>【設計】
+ *
+ * <ul>
+ *   <li>トランザクションマネージャーのリスナーとして登録する（Spring Bootが TransactionExecutionListener のBeanを自動登録）
+ *   <li>ユーザーは認証済みのPrincipal（ユーザーID）で識別する。未認証のリクエストは固定しない
+ *   <li>固定期間はCaffeineの expireAfterWrite で管理し、ユーザー数の上限を設ける
+ * </ul>
+ */
+public class ReadYourWritesTracker implements TransactionExecutionListener {
+
+    private static final long MAXIMUM_USERS = 100_000;
+
+    /** 固定期間中のユーザー（値は使用しない） */
+    private final Cache<Object, Boolean> recentWriters;
+
+    /**
+     * コンストラクタ
+     *
+     * @param window 書き込み後にプライマリへ固定する期間（0の場合は固定しない）
+     */
+    public ReadYourWritesTracker(Duration window) {
+        this.recentWriters =
+                window.isZero()
+                        ? null
+                        : Caffeine.newBuilder()
+                                .maximumSize(MAXIMUM_USERS)
+                                .expireAfterWrite(window)
+                                .build();
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        if (recentWriters == null || commitFailure != null || transaction.isReadOnly()) {
+            return;
+        }
+        Object user = currentUser();
+        if (user != null) {
+            recentWriters.put(user, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * 現在のユーザーの読み取りをプライマリに固定すべきかどうか
+     *
+     * @return 書き込みから固定期間内の場合true
+     */
+    public boolean isPinnedToPrimary() {
+        if (recentWriters == null) {
+            return false;
+        }
+        Object user = currentUser();
+        return user != null && recentWriters.getIfPresent(user) != null;
+    }
+
+    private static Object currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null
+                || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getPrincipal();
+    }
+}
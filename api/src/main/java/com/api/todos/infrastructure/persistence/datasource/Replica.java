@@ -0,0 +1,49 @@
+package com.api.todos.infrastructure.persistence.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+/**
+ * 読み取りレプリカ（Infrastructure層）
+ *
+ * <p>レプリカ毎のコネクションプールと死活状態を保持する
+ */
+final class Replica {
+
+    private final HikariDataSource dataSource;
+    private volatile boolean healthy = true;
+
+    Replica(HikariDataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    String name() {
+        return dataSource.getPoolName();
+    }
+
+    HikariDataSource dataSource() {
+        return dataSource;
+    }
+
+    boolean isHealthy() {
+        return healthy;
+    }
+
+    /**
+     * 死活状態を更新する
+     *
+     * @param healthy 正常な場合true
+     * @return 状態が変わった場合true
+     */
+    boolean updateHealth(boolean healthy) {
+        boolean changed = this.healthy != healthy;
+        this.healthy = healthy;
+        return changed;
+    }
+
+    /** 使用中の接続数と接続待ちのスレッド数の合計（プール起動前は0） */
+    int load() {
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        return pool != null ? pool.getActiveConnections() + pool.getThreadsAwaitingConnection() : 0;
+    }
+}
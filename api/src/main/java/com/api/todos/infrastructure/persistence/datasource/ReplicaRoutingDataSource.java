@@ -0,0 +1,167 @@
+package com.api.todos.infrastructure.persistence.datasource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * 読み取りレプリカへの振り分けDataSource（Infrastructure層）
+ *
+ * <p>読み取り専用トランザクションの接続取得先として使う（DatabaseConfig で LazyConnectionDataSourceProxy の
+ * readOnlyDataSource に設定する）。書き込みを含むトランザクションはこのDataSourceを経由せずプライマリに接続する
+ *
+ * <p>【振り分け】
+ *
+ * <ul>
+ *   <li>書き込み直後のユーザー（ReadYourWritesTracker）はプライマリ
+ *   <li>それ以外は正常なレプリカから選択方式（ReplicaSelection）に従って選ぶ
+ *   <li>正常なレプリカがない場合、またはレプリカへの接続に失敗した場合はプライマリ（接続に失敗したレプリカは異常とする）
+ * </ul>
+ *
+ * <p>異常としたレプリカは定期的な死活監視（db.replica.health-check-interval-ms）で接続できた時点で振り分けに戻す
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    /** 死活監視で接続の有効性を確認する際のタイムアウト（秒） */
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final ReplicaSelection selection;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    /**
+     * コンストラクタ
+     *
+     * @param primary プライマリ（フォールバック先）
+     * @param replicas レプリカのコネクションプール
+     * @param selection レプリカの選択方式
+     * @param readYourWritesTracker 書き込み直後の読み取りをプライマリに固定する追跡器
+     */
+    public ReplicaRoutingDataSource(
+            DataSource primary,
+            List<HikariDataSource> replicas,
+            ReplicaSelection selection,
+            ReadYourWritesTracker readYourWritesTracker) {
+        this.primary = primary;
+        this.replicas = replicas.stream().map(Replica::new).toList();
+        this.selection = selection;
+        this.readYourWritesTracker = readYourWritesTracker;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (readYourWritesTracker.isPinnedToPrimary()) {
+            return primary.getConnection();
+        }
+        Replica replica = select();
+        while (replica != null) {
+            try {
+                return replica.dataSource().getConnection();
+            } catch (SQLException e) {
+                markUnhealthy(replica, e);
+            }
+            replica = select();
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("レプリカへの振り分けでは接続ユーザーの指定に対応していません");
+    }
+
+    /**
+     * レプリカの死活監視
+     *
+     * <p>異常なレプリカが接続できるようになった場合、振り分けに戻す
+     */
+    @Scheduled(
+            fixedDelayString = "${db.replica.health-check-interval-ms:5000}",
+            initialDelayString = "${db.replica.health-check-interval-ms:5000}")
+    public void checkHealth() {
+        for (Replica replica : replicas) {
+            boolean healthy;
+            try (Connection connection = replica.dataSource().getConnection()) {
+                healthy = connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+            } catch (SQLException e) {
+                healthy = false;
+            }
+            if (replica.updateHealth(healthy)) {
+                if (healthy) {
+                    log.info("レプリカ {} が復旧したため振り分けに戻します", replica.name());
+                } else {
+                    log.warn("レプリカ {} が応答しないためプライマリに振り分けます", replica.name());
+                }
+            }
+        }
+    }
+
+    /**
+     * 正常なレプリカの数
+     *
+     * @return 正常なレプリカの数
+     */
+    public int healthyReplicaCount() {
+        return (int) replicas.stream().filter(Replica::isHealthy).count();
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(replica -> replica.dataSource().close());
+    }
+
+    private Replica select() {
+        List<Replica> healthy = new ArrayList<>(replicas.size());
+        for (Replica replica : replicas) {
+            if (replica.isHealthy()) {
+                healthy.add(replica);
+            }
+        }
+        if (healthy.isEmpty()) {
+            return null;
+        }
+        return switch (selection) {
+            case ROUND_ROBIN ->
+                    healthy.get(Math.floorMod(cursor.getAndIncrement(), healthy.size()));
+            case LEAST_CONNECTIONS -> leastLoaded(healthy);
+        };
+    }
+
+    private static Replica leastLoaded(List<Replica> candidates) {
+        Replica selected = candidates.getFirst();
+        int minimum = selected.load();
+        for (int i = 1; i < candidates.size(); i++) {
+            int load = candidates.get(i).load();
+            if (load < minimum) {
+                selected = candidates.get(i);
+                minimum = load;
+            }
+        }
+        return selected;
+    }
+
+    private static void markUnhealthy(Replica replica, SQLException cause) {
+        if (replica.updateHealth(false)) {
+            log.warn(
+                    "レプリカ {} に接続できないためプライマリに振り分けます: {}",
+                    replica.name(),
+                    cause.getMessage());
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.api.todos.infrastructure.persistence.datasource;
+
+import java.util.Locale;
+
+/**
+ * 読み取りレプリカの選択方式（Infrastructure層）
+ *
+ * <p>application.properties の db.replica.selection で選択する
+ */
+public enum ReplicaSelection {
+
+    /** 正常なレプリカを順番に使う */
+    ROUND_ROBIN,
+
+    /** 使用中の接続数（待機中を含む）が最も少ないレプリカを使う */
+    LEAST_CONNECTIONS;
+
+    /**
+     * 設定値から選択方式を取得する
+     *
+     * @param value 設定値（round-robin / least-connections）
+     * @return 選択方式
+     * @throws IllegalStateException 不正な値の場合
+     */
+    public static ReplicaSelection from(String value) {
+        return switch (value.toLowerCase(Locale.ROOT)) {
+            case "round-robin" -> ROUND_ROBIN;
+            case "least-connections" -> LEAST_CONNECTIONS;
+            default ->
+                    throw new IllegalStateException(
+                            "db.replica.selection には round-robin または least-connections を指定してください: "
+                                    + value);
+        };
+    }
+}
@@ -0,0 +1,99 @@
+package com.api.todos.infrastructure.persistence.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+
+import org.springframework.data.domain.Persistable;
+
+/**
+ * JPA用失効済みアクセストークンエンティティ（永続化専用）
+ *
+ * <p>IDはJWTのjtiクレームのため、{@link Persistable} で新規判定を行い save() 時の事前SELECT（merge）を避ける
+ */
+@Entity
+@Table(name = "revoked_tokens", schema = "public")
+public class RevokedTokenJpaEntity implements Persistable<String> {
+
+    @Id
+    @Column(length = 64)
+    private String jti;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    /** 新規エンティティかどうか（永続化・読み込み後にfalse） */
+    @Transient private boolean isNew = true;
+
+    /** デフォルトコンストラクタ（JPA必須） */
+    public RevokedTokenJpaEntity() {}
+
+    /**
+     * コンストラクタ
+     *
+     * @param jti アクセストークンID
+     * @param expiresAt アクセストークンの有効期限
+     */
+    public RevokedTokenJpaEntity(String jti, LocalDateTime expiresAt) {
+        this.jti = jti;
+        this.expiresAt = expiresAt;
+    }
+
+    // Getters and Setters
+    @Override
+    public String getId() {
+        return jti;
+    }
+
+    public String getJti() {
+        return jti;
+    }
+
+    public void setJti(String jti) {
+        this.jti = jti;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(LocalDateTime expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+    }
+
+    @PostPersist
+    @PostLoad
+    protected void markNotNew() {
+        this.isNew = false;
+    }
+}
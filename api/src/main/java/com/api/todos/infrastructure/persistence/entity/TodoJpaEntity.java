@@ -5,21 +5,29 @@ import java.util.UUID;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 
-/** JPA用TODOエンティティ（永続化専用） Domain層のTodoエンティティとは分離 */
+import com.api.todos.domain.service.IdGenerators;
+
+import org.springframework.data.domain.Persistable;
+
+/**
+ * JPA用TODOエンティティ（永続化専用） Domain層のTodoエンティティとは分離
+ *
+ * <p>IDはDomain層で採番するため、{@link Persistable} で新規判定を行い save() 時の事前SELECT（merge）を避ける
+ * IDが未設定のまま永続化される場合も {@link IdGenerators}（デフォルトはUUIDv7）で採番する
+ */
 @Entity
 @Table(name = "todos", schema = "public")
-public class TodoJpaEntity {
+public class TodoJpaEntity implements Persistable<UUID> {
 
-    @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
-    private UUID id;
+    @Id private UUID id;
 
     @Column(nullable = false, length = 32)
     private String title;
@@ -48,6 +56,8 @@ public class TodoJpaEntity {
     @Column(nullable = false)
     private Boolean deleted;
 
+    @Transient private boolean isNew = true;
+
     /** デフォルトコンストラクタ（JPA必須） */
     public TodoJpaEntity() {}
 
@@ -76,6 +86,7 @@ public class TodoJpaEntity {
     }
 
     // Getters and Setters
+    @Override
     public UUID getId() {
         return id;
     }
@@ -158,6 +169,9 @@ public class TodoJpaEntity {
 
     @PrePersist
     protected void onCreate() {
+        if (id == null) {
+            id = IdGenerators.next();
+        }
         if (createdAt == null) {
             createdAt = LocalDateTime.now();
         }
@@ -176,4 +190,15 @@ public class TodoJpaEntity {
     protected void onUpdate() {
         updatedAt = LocalDateTime.now();
     }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostPersist
+    @PostLoad
+    protected void markNotNew() {
+        this.isNew = false;
+    }
 }
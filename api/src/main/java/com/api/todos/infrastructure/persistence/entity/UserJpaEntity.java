@@ -3,23 +3,39 @@ package com.api.todos.infrastructure.persistence.entity;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 
-/** JPA用ユーザーエンティティ（永続化専用） Domain層のUserエンティティとは分離 */
+import com.api.todos.domain.service.IdGenerators;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+/**
+ * JPA用ユーザーエンティティ（永続化専用） Domain層のUserエンティティとは分離
+ *
+ * <p>IDはDomain層で採番する（UUIDv7）。ログイン時のハッシュ再計算など既存ユーザーの更新も save() で行うため、
+ * 新規判定は Spring Data のデフォルト（merge）のままとする。IDが未設定の場合は {@link IdGenerators} で採番する
+ *
+ * <p>IDによる取得（EntityManager#find）は2次キャッシュ（リージョン {@value #CACHE_REGION}）を経由する。
+ * プロフィール・パスワード・ロールの変更と論理削除は save() で永続化され、READ_WRITE戦略により更新中のエントリはロックされ、
+ * コミット時に新しい値で置き換えられる
+ */
 @Entity
 @Table(name = "users", schema = "public")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = UserJpaEntity.CACHE_REGION)
 public class UserJpaEntity {
 
-    @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
-    private UUID id;
+    /** 2次キャッシュのリージョン名 */
+    public static final String CACHE_REGION = "users";
+
+    @Id private UUID id;
 
     @Column(nullable = false, unique = true)
     private String username;
@@ -197,6 +213,9 @@ public class UserJpaEntity {
 
     @PrePersist
     protected void onCreate() {
+        if (id == null) {
+            id = IdGenerators.next();
+        }
         if (createdAt == null) {
             createdAt = LocalDateTime.now();
         }
@@ -0,0 +1,44 @@
+package com.api.todos.infrastructure.persistence.mapper;
+
+import com.api.todos.domain.model.RefreshToken;
+import com.api.todos.infrastructure.persistence.entity.RefreshTokenJpaEntity;
+
+/** リフレッシュトークン変換（Domain Model ⇔ JPA Entity） */
+public final class RefreshTokenMapper {
+
+    private RefreshTokenMapper() {}
+
+    /**
+     * JPA Entity → Domain Model 変換
+     *
+     * @param entity JPA Entity
+     * @return Domain Model
+     */
+    public static RefreshToken toDomainModel(RefreshTokenJpaEntity entity) {
+        return new RefreshToken(
+                entity.getId(),
+                entity.getUserId(),
+                entity.getTokenHash(),
+                entity.getExpiresAt(),
+                entity.getRevoked(),
+                entity.getCreatedAt(),
+                entity.getUpdatedAt());
+    }
+
+    /**
+     * Domain Model → JPA Entity 変換
+     *
+     * @param refreshToken Domain Model
+     * @return JPA Entity
+     */
+    public static RefreshTokenJpaEntity toJpaEntity(RefreshToken refreshToken) {
+        return new RefreshTokenJpaEntity(
+                refreshToken.getId(),
+                refreshToken.getUserId(),
+                refreshToken.getTokenHash(),
+                refreshToken.getExpiresAt(),
+                refreshToken.isRevoked(),
+                refreshToken.getCreatedAt(),
+                refreshToken.getUpdatedAt());
+    }
+}
@@ -0,0 +1,50 @@
+package com.api.todos.infrastructure.persistence.mapper;
+
+import com.api.todos.domain.model.Todo;
+import com.api.todos.infrastructure.persistence.entity.TodoJpaEntity;
+
+/** TODO変換（Domain Model ⇔ JPA Entity） */
+public final class TodoMapper {
+
+    private TodoMapper() {}
+
+    /**
+     * JPA Entity → Domain Model 変換
+     *
+     * @param entity JPA Entity
+     * @return Domain Model
+     */
+    public static Todo toDomainModel(TodoJpaEntity entity) {
+        return new Todo(
+                entity.getId(),
+                entity.getTitle(),
+                entity.getDescriptions(),
+                entity.getCompleted(),
+                entity.getUserId(),
+                entity.getCreatedAt(),
+                entity.getCreatedBy(),
+                entity.getUpdatedAt(),
+                entity.getUpdatedBy(),
+                entity.getDeleted());
+    }
+
+    /**
+     * Domain Model → JPA Entity 変換
+     *
+     * @param todo Domain Model
+     * @return JPA Entity
+     */
+    public static TodoJpaEntity toJpaEntity(Todo todo) {
+        return new TodoJpaEntity(
+                todo.getId(),
+                todo.getTitle(),
+                todo.getDescriptions(),
+                todo.isCompleted(),
+                todo.getUserId(),
+                todo.getCreatedAt(),
+                todo.getCreatedBy(),
+                todo.getUpdatedAt(),
+                todo.getUpdatedBy(),
+                todo.isDeleted());
+    }
+}
@@ -0,0 +1,56 @@
+package com.api.todos.infrastructure.persistence.mapper;
+
+import com.api.todos.domain.model.User;
+import com.api.todos.infrastructure.persistence.entity.UserJpaEntity;
+
+/** ユーザー変換（Domain Model ⇔ JPA Entity） */
+public final class UserMapper {
+
+    private UserMapper() {}
+
+    /**
+     * JPA Entity → Domain Model 変換
+     *
+     * @param entity JPA Entity
+     * @return Domain Model
+     */
+    public static User toDomainModel(UserJpaEntity entity) {
+        return new User(
+                entity.getId(),
+                entity.getUsername(),
+                entity.getFirstName(),
+                entity.getFirstNameRuby(),
+                entity.getLastName(),
+                entity.getLastNameRuby(),
+                entity.getRole(),
+                entity.getPasswordHash(),
+                entity.getCreatedAt(),
+                entity.getCreatedBy(),
+                entity.getUpdatedAt(),
+                entity.getUpdatedBy(),
+                entity.getDeleted());
+    }
+
+    /**
+     * Domain Model → JPA Entity 変換
+     *
+     * @param user Domain Model
+     * @return JPA Entity
+     */
+    public static UserJpaEntity toJpaEntity(User user) {
+        return new UserJpaEntity(
+                user.getId(),
+                user.getUsername(),
+                user.getFirstName(),
+                user.getFirstNameRuby(),
+                user.getLastName(),
+                user.getLastNameRuby(),
+                user.getRole(),
+                user.getPasswordHash(),
+                user.getCreatedAt(),
+                user.getCreatedBy(),
+                user.getUpdatedAt(),
+                user.getUpdatedBy(),
+                user.isDeleted());
+    }
+}
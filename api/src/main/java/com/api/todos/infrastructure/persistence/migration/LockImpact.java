@@ -0,0 +1,47 @@
+package com.api.todos.infrastructure.persistence.migration;
+
+/**
+ * マイグレーションの1文が既存テーブルに与えるロックの影響（Infrastructure層）
+ *
+ * @param statement 対象の文（コメント除去・空白正規化済み）
+ * @param table 影響を受けるテーブル（対象がない場合null）
+ * @param lockMode 取得するテーブルロック（PostgreSQLのロックモード名）
+ * @param level 影響度
+ */
+record LockImpact(String statement, String table, String lockMode, Level level) {
+
+    /** 影響度 */
+    enum Level {
+
+        /** 既存テーブルをロックしない、または読み書きを妨げないロックのみ */
+        NONE("読み書きをブロックしない"),
+
+        /** 排他ロックを短時間のみ保持する（ロック待ちの間は後続の読み書きも待たされるため lock_timeout の設定が必要） */
+        BRIEF("短時間の排他ロック（ロック待ち中は後続の読み書きも待機）"),
+
+        /** テーブル全体の走査中、書き込みをブロックする */
+        BLOCKS_WRITES("テーブル走査の間、書き込みをブロック"),
+
+        /** テーブルの書き換え・走査中、読み書きをすべてブロックする */
+        BLOCKS_ALL("テーブル書き換え・走査の間、読み書きをブロック");
+
+        private final String description;
+
+        Level(String description) {
+            this.description = description;
+        }
+
+        String description() {
+            return description;
+        }
+
+        /**
+         * 書き込みをブロックするかどうか
+         *
+         * @return テーブルサイズに比例する時間、書き込みをブロックする場合true
+         */
+        boolean blocksWrites() {
+            return this == BLOCKS_WRITES || this == BLOCKS_ALL;
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package com.api.todos.infrastructure.persistence.migration;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.Location;
+import org.flywaydb.core.api.MigrationInfo;
+import org.hibernate.cfg.AvailableSettings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.flyway.autoconfigure.FlywayMigrationStrategy;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+/**
+ * スキーママイグレーションの実行戦略（Infrastructure層）
+ *
+ * <p>起動時に未適用のマイグレーション（src/main/resources/db/migration）を適用する。 migration.dry-run=true
+ * の場合は適用せず、未適用のマイグレーションの各文について、取得するロックと対象テーブルの推定行数・サイズをログに出力する
+ *
+ * <p>【ドライランで警告する内容】
+ *
+ * <ul>
+ *   <li>テーブルサイズに比例する時間、書き込みをブロックする文（CONCURRENTLYなしのインデックス作成、NOT VALIDなしの制約追加など）
+ *   <li>短時間の排他ロックを取得するが lock_timeout を設定していないマイグレーション
+ *   <li>CONCURRENTLY の失敗で残った INVALID なインデックス
+ * </ul>
+ *
+ * <p>ドライランではスキーマを変更しないため、スキーマ検証（ddl-auto=validate）を行わず、
+ * 起動が完了した時点で（リクエストを処理する前に）終了コード0でアプリケーションを終了する
+ */
+@Component
+public class MigrationDryRunStrategy
+        implements FlywayMigrationStrategy,
+                HibernatePropertiesCustomizer,
+                ApplicationListener<ApplicationReadyEvent> {
+
+    private static final Logger log = LoggerFactory.getLogger(MigrationDryRunStrategy.class);
+
+    private static final String TABLE_STATS_SQL =
+            "SELECT GREATEST(c.reltuples, 0)::bigint, pg_total_relation_size(c.oid)"
+                    + " FROM pg_class c WHERE c.oid = to_regclass(?)";
+
+    private static final String INVALID_INDEXES_SQL =
+            "SELECT c.relname FROM pg_index i JOIN pg_class c ON c.oid = i.indexrelid"
+                    + " WHERE NOT i.indisvalid";
+
+    private final boolean dryRun;
+    private final ResourceLoader resourceLoader;
+
+    /**
+     * コンストラクタ
+     *
+     * @param dryRun ドライランフラグ（trueの場合はマイグレーションを適用せずロック影響を出力する）
+     * @param resourceLoader マイグレーションスクリプトの読み込みに使用
+     */
+    public MigrationDryRunStrategy(
+            @Value("${migration.dry-run:false}") boolean dryRun, ResourceLoader resourceLoader) {
+        this.dryRun = dryRun;
+        this.resourceLoader = resourceLoader;
+    }
+
+    @Override
+    public void migrate(Flyway flyway) {
+        if (!dryRun) {
+            flyway.migrate();
+            return;
+        }
+        try {
+            report(flyway);
+        } catch (SQLException | IOException e) {
+            throw new IllegalStateException("マイグレーションのドライランに失敗しました", e);
+        }
+    }
+
+    /** ドライランの場合は未適用のスキーマに対する検証を行わない */
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        if (dryRun) {
+            hibernateProperties.put(AvailableSettings.HBM2DDL_AUTO, "none");
+        }
+    }
+
+    /** ドライランの場合はレポートの出力後、起動完了と同時に終了する */
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        if (dryRun) {
+            log.info("[dry-run] レポートを出力しました。アプリケーションを終了します");
+            System.exit(SpringApplication.exit(event.getApplicationContext()));
+        }
+    }
+
+    private void report(Flyway flyway) throws SQLException, IOException {
+        MigrationInfo[] pending = flyway.info().pending();
+        log.info("[dry-run] 未適用のマイグレーション: {}件（適用は行いません）", pending.length);
+
+        try (Connection connection = flyway.getConfiguration().getDataSource().getConnection()) {
+            Map<String, String> tableStats = new HashMap<>();
+            for (MigrationInfo info : pending) {
+                String script = loadScript(flyway, info);
+                if (script == null) {
+                    log.info(
+                            "[dry-run] V{} {}: スクリプトを読み込めないため解析対象外です",
+                            info.getVersion(),
+                            info.getDescription());
+                    continue;
+                }
+                reportMigration(connection, info, script, tableStats);
+            }
+            reportInvalidIndexes(connection);
+        }
+    }
+
+    private void reportMigration(
+            Connection connection,
+            MigrationInfo info,
+            String script,
+            Map<String, String> tableStats) {
+        List<String> statements = SqlStatements.split(script);
+        String upperScript = script.toUpperCase(Locale.ROOT);
+        boolean transactional = !upperScript.contains("CONCURRENTLY");
+        boolean hasLockTimeout = upperScript.contains("LOCK_TIMEOUT");
+        log.info(
+                "[dry-run] V{} {}（{}、{}文）",
+                info.getVersion(),
+                info.getDescription(),
+                transactional ? "トランザクション内で実行" : "非トランザクションで実行",
+                statements.size());
+
+        for (String statement : statements) {
+            LockImpact impact = MigrationLockAnalyzer.analyze(statement);
+            String stats =
+                    impact.table() != null
+                            ? tableStats.computeIfAbsent(
+                                    impact.table(), table -> describeTable(connection, table))
+                            : "";
+            String message =
+                    String.format(
+                            "[dry-run]   %s%n    → %s %s: %s%s",
+                            abbreviate(impact.statement()),
+                            impact.table() != null ? impact.table() : "-",
+                            impact.lockMode(),
+                            impact.level().description(),
+                            stats);
+            if (impact.level().blocksWrites()) {
+                log.warn(message);
+            } else {
+                log.info(message);
+            }
+            if (impact.level() == LockImpact.Level.BRIEF && transactional && !hasLockTimeout) {
+                log.warn(
+                        "[dry-run]     lock_timeout が設定されていません。"
+                                + "ロック待ちの間、後続の読み書きも待たされます（SET LOCAL lock_timeout を推奨）");
+            }
+        }
+    }
+
+    /** 推定行数（統計情報）と総サイズ */
+    private static String describeTable(Connection connection, String table) {
+        try (PreparedStatement statement = connection.prepareStatement(TABLE_STATS_SQL)) {
+            statement.setString(1, table);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (!resultSet.next()) {
+                    return "（テーブル未作成）";
+                }
+                return String.format(
+                        "（推定 %,d 行 / %,d KB）",
+                        resultSet.getLong(1), resultSet.getLong(2) / 1024);
+            }
+        } catch (SQLException e) {
+            return "（テーブル情報を取得できません: " + e.getMessage() + "）";
+        }
+    }
+
+    private static void reportInvalidIndexes(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(INVALID_INDEXES_SQL)) {
+            while (resultSet.next()) {
+                log.warn(
+                        "[dry-run] INVALID なインデックス {} があります（CONCURRENTLY の失敗で残ったもの）。"
+                                + "DROP INDEX CONCURRENTLY で削除してから再実行してください",
+                        resultSet.getString(1));
+            }
+        }
+    }
+
+    /** 設定されたロケーションからマイグレーションスクリプトを読み込む（Javaマイグレーションの場合null） */
+    private String loadScript(Flyway flyway, MigrationInfo info) throws IOException {
+        if (info.getScript() == null || !info.getScript().endsWith(".sql")) {
+            return null;
+        }
+        for (Location location : flyway.getConfiguration().getLocations()) {
+            String base = location.getDescriptor().replaceFirst("^filesystem:", "file:");
+            Resource resource = resourceLoader.getResource(base + "/" + info.getScript());
+            if (resource.exists()) {
+                try (InputStream in = resource.getInputStream()) {
+                    return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+                }
+            }
+        }
+        return null;
+    }
+
+    private static String abbreviate(String statement) {
+        return statement.length() <= 120 ? statement : statement.substring(0, 117) + "...";
+    }
+}
@@ -0,0 +1,146 @@
+package com.api.todos.infrastructure.persistence.migration;
+
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.api.todos.infrastructure.persistence.migration.LockImpact.Level;
+
+/**
+ * マイグレーションのロック影響の静的解析（Infrastructure層）
+ *
+ * <p>PostgreSQLのDDLが取得するテーブルロックと、その保持中にテーブル走査・書き換えが発生するかを文の形から判定する。 実行計画やデータには依存しないため、
+ * 判定は保守的（影響を大きめに見積もる）とする
+ *
+ * <p>【書き込みを止めないための書き方】
+ *
+ * <ul>
+ *   <li>インデックスの作成・削除は CONCURRENTLY（非トランザクションのマイグレーションに分ける）
+ *   <li>制約の追加は NOT VALID で追加し、別の文で VALIDATE CONSTRAINT する
+ *   <li>NOT NULL の追加は CHECK (col IS NOT NULL) NOT VALID → VALIDATE を経由する
+ *   <li>列の型変更（テーブル書き換え）は新しい列の追加・バックフィル・切り替えに分ける
+ *   <li>短時間の排他ロックも、ロック待ちの間は後続の読み書きを待たせるため SET LOCAL lock_timeout を設定する
+ * </ul>
+ */
+final class MigrationLockAnalyzer {
+
+    private static final String IDENTIFIER = "(?:IF (?:NOT )?EXISTS )?(?:ONLY )?([\\w.\"]+)";
+
+    private static final Pattern CREATE_INDEX =
+            Pattern.compile(
+                    "^CREATE (?:UNIQUE )?INDEX (CONCURRENTLY )?.*? ON (?:ONLY )?([\\w.\"]+).*");
+    private static final Pattern DROP_INDEX = Pattern.compile("^DROP INDEX (CONCURRENTLY )?.*");
+    private static final Pattern REINDEX =
+            Pattern.compile(
+                    "^REINDEX (?:\\(.*?\\) )?(?:INDEX|TABLE) (CONCURRENTLY )?([\\w.\"]+).*");
+    private static final Pattern ALTER_TABLE =
+            Pattern.compile("^ALTER TABLE " + IDENTIFIER + " (.*)");
+    private static final Pattern CREATE_TABLE =
+            Pattern.compile("^CREATE TABLE " + IDENTIFIER + ".*");
+    private static final Pattern REFERENCES = Pattern.compile(" REFERENCES ([\\w.\"]+)");
+    private static final Pattern DROP_OR_TRUNCATE =
+            Pattern.compile("^(?:DROP TABLE|TRUNCATE(?: TABLE)?) " + IDENTIFIER + ".*");
+    private static final Pattern DML =
+            Pattern.compile("^(?:UPDATE " + IDENTIFIER + "|DELETE FROM " + IDENTIFIER + ").*");
+    private static final Pattern REWRITE =
+            Pattern.compile("^(?:VACUUM (?:\\(.*?FULL.*?\\)|FULL).*|CLUSTER .*)");
+
+    /** ADD COLUMN の既定値がこれらの揮発性関数の場合、全行に値を書き込むためテーブルが書き換えられる */
+    private static final Pattern VOLATILE_DEFAULT =
+            Pattern.compile(
+                    ".* DEFAULT .*(?:RANDOM|GEN_RANDOM_UUID|UUID_GENERATE_V\\d|CLOCK_TIMESTAMP"
+                            + "|NEXTVAL)\\s*\\(.*");
+
+    private MigrationLockAnalyzer() {}
+
+    /**
+     * 文のロック影響を判定する
+     *
+     * @param statement 対象の文（コメント除去・空白正規化済み）
+     * @return ロック影響
+     */
+    static LockImpact analyze(String statement) {
+        String sql = statement.toUpperCase(Locale.ROOT);
+        Matcher m;
+
+        if ((m = CREATE_INDEX.matcher(sql)).matches()) {
+            return m.group(1) != null
+                    ? impact(statement, m.group(2), "SHARE UPDATE EXCLUSIVE", Level.NONE)
+                    : impact(statement, m.group(2), "SHARE", Level.BLOCKS_WRITES);
+        }
+        if ((m = DROP_INDEX.matcher(sql)).matches()) {
+            return m.group(1) != null
+                    ? impact(statement, null, "SHARE UPDATE EXCLUSIVE", Level.NONE)
+                    : impact(statement, null, "ACCESS EXCLUSIVE", Level.BRIEF);
+        }
+        if ((m = REINDEX.matcher(sql)).matches()) {
+            return m.group(1) != null
+                    ? impact(statement, m.group(2), "SHARE UPDATE EXCLUSIVE", Level.NONE)
+                    : impact(statement, m.group(2), "SHARE / ACCESS EXCLUSIVE", Level.BLOCKS_ALL);
+        }
+        if ((m = ALTER_TABLE.matcher(sql)).matches()) {
+            return analyzeAlterTable(statement, m.group(1), m.group(2));
+        }
+        if ((m = CREATE_TABLE.matcher(sql)).matches()) {
+            // 新規テーブル自体は他のセッションから参照されない。外部キーの参照先のみ短時間ロックされる
+            Matcher references = REFERENCES.matcher(sql);
+            return references.find()
+                    ? impact(statement, references.group(1), "SHARE ROW EXCLUSIVE", Level.BRIEF)
+                    : impact(statement, null, "-", Level.NONE);
+        }
+        if ((m = DROP_OR_TRUNCATE.matcher(sql)).matches()) {
+            return impact(statement, m.group(1), "ACCESS EXCLUSIVE", Level.BRIEF);
+        }
+        if ((m = DML.matcher(sql)).matches()) {
+            // テーブルロックは ROW EXCLUSIVE だが、対象行の行ロックをトランザクション終了まで保持する
+            String table = m.group(1) != null ? m.group(1) : m.group(2);
+            return impact(statement, table, "ROW EXCLUSIVE（対象行の行ロック）", Level.BLOCKS_WRITES);
+        }
+        if (REWRITE.matcher(sql).matches()) {
+            return impact(statement, null, "ACCESS EXCLUSIVE", Level.BLOCKS_ALL);
+        }
+        return impact(statement, null, "-", Level.NONE);
+    }
+
+    private static LockImpact analyzeAlterTable(String statement, String table, String action) {
+        if (action.contains(" TYPE ") || action.startsWith("SET TABLESPACE")) {
+            return impact(statement, table, "ACCESS EXCLUSIVE", Level.BLOCKS_ALL);
+        }
+        if (action.contains("SET NOT NULL")) {
+            return impact(statement, table, "ACCESS EXCLUSIVE", Level.BLOCKS_ALL);
+        }
+        if (action.startsWith("VALIDATE CONSTRAINT")) {
+            return impact(statement, table, "SHARE UPDATE EXCLUSIVE", Level.NONE);
+        }
+        if (action.startsWith("ADD ") && !isConstraint(action)) {
+            // ADD COLUMN（COLUMNは省略可）。PostgreSQL 11以降、非揮発性の既定値は書き換えなしで追加される
+            return VOLATILE_DEFAULT.matcher(action).matches()
+                    ? impact(statement, table, "ACCESS EXCLUSIVE", Level.BLOCKS_ALL)
+                    : impact(statement, table, "ACCESS EXCLUSIVE", Level.BRIEF);
+        }
+        if (isConstraint(action)) {
+            if (action.contains(" NOT VALID") || action.contains(" USING INDEX ")) {
+                return impact(statement, table, "SHARE ROW EXCLUSIVE", Level.BRIEF);
+            }
+            // 既存行の検証（外部キー・CHECK）またはインデックス作成（PRIMARY KEY・UNIQUE）の間ロックを保持する
+            return action.contains("FOREIGN KEY")
+                    ? impact(statement, table, "SHARE ROW EXCLUSIVE", Level.BLOCKS_WRITES)
+                    : impact(statement, table, "ACCESS EXCLUSIVE", Level.BLOCKS_ALL);
+        }
+        return impact(statement, table, "ACCESS EXCLUSIVE", Level.BRIEF);
+    }
+
+    private static boolean isConstraint(String action) {
+        return action.startsWith("ADD CONSTRAINT")
+                || action.startsWith("ADD PRIMARY KEY")
+                || action.startsWith("ADD UNIQUE")
+                || action.startsWith("ADD FOREIGN KEY")
+                || action.startsWith("ADD CHECK");
+    }
+
+    private static LockImpact impact(String statement, String table, String lockMode, Level level) {
+        String normalizedTable =
+                table != null ? table.replace("\"", "").toLowerCase(Locale.ROOT) : null;
+        return new LockImpact(statement, normalizedTable, lockMode, level);
+    }
+}
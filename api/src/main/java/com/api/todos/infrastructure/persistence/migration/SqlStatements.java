@@ -0,0 +1,91 @@
+package com.api.todos.infrastructure.persistence.migration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * SQLスクリプトの文分割（Infrastructure層）
+ *
+ * <p>マイグレーションスクリプトを「;」で文に分割し、コメントを除去して空白を1つにまとめる。 文字列リテラル・引用符付き識別子・ドル引用（$$ / $tag$）内の「;」では分割しない
+ */
+final class SqlStatements {
+
+    private SqlStatements() {}
+
+    /**
+     * スクリプトを文に分割する
+     *
+     * @param script SQLスクリプト
+     * @return コメントを除去し空白を正規化した文のリスト（空の文は含まない）
+     */
+    static List<String> split(String script) {
+        List<String> statements = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        int length = script.length();
+        int i = 0;
+        while (i < length) {
+            char c = script.charAt(i);
+            if (c == '-' && i + 1 < length && script.charAt(i + 1) == '-') {
+                // 行コメント
+                int end = script.indexOf('\n', i);
+                i = end < 0 ? length : end;
+            } else if (c == '/' && i + 1 < length && script.charAt(i + 1) == '*') {
+                // ブロックコメント
+                int end = script.indexOf("*/", i + 2);
+                i = end < 0 ? length : end + 2;
+                appendSpace(current);
+            } else if (c == '\'' || c == '"') {
+                int end = script.indexOf(c, i + 1);
+                end = end < 0 ? length : end + 1;
+                current.append(script, i, end);
+                i = end;
+            } else if (c == '$' && dollarTagEnd(script, i) > 0) {
+                // ドル引用（関数本体など）
+                String tag = script.substring(i, dollarTagEnd(script, i) + 1);
+                int end = script.indexOf(tag, i + tag.length());
+                end = end < 0 ? length : end + tag.length();
+                current.append(script, i, end);
+                i = end;
+            } else if (c == ';') {
+                addStatement(statements, current);
+                i++;
+            } else if (Character.isWhitespace(c)) {
+                appendSpace(current);
+                i++;
+            } else {
+                current.append(c);
+                i++;
+            }
+        }
+        addStatement(statements, current);
+        return statements;
+    }
+
+    /** ドル引用の開始タグ（$$ / $tag$）の終端位置。タグでない場合は-1 */
+    private static int dollarTagEnd(String script, int start) {
+        for (int i = start + 1; i < script.length(); i++) {
+            char c = script.charAt(i);
+            if (c == '$') {
+                return i;
+            }
+            if (!Character.isLetterOrDigit(c) && c != '_') {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    private static void appendSpace(StringBuilder current) {
+        if (!current.isEmpty() && current.charAt(current.length() - 1) != ' ') {
+            current.append(' ');
+        }
+    }
+
+    private static void addStatement(List<String> statements, StringBuilder current) {
+        String statement = current.toString().strip();
+        if (!statement.isEmpty()) {
+            statements.add(statement);
+        }
+        current.setLength(0);
+    }
+}
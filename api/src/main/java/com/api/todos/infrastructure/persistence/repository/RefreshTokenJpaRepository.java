@@ -0,0 +1,49 @@
+package com.api.todos.infrastructure.persistence.repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.api.todos.infrastructure.persistence.entity.RefreshTokenJpaEntity;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data JPA Repository（リフレッシュトークン）
+ *
+ * <p>【責務】
+ *
+ * <ul>
+ *   <li>JPA Entityの永続化操作
+ *   <li>失効・削除は1文の条件付きUPDATE/DELETEで行う（エンティティを読み込まない）
+ * </ul>
+ */
+@Repository
+public interface RefreshTokenJpaRepository extends JpaRepository<RefreshTokenJpaEntity, UUID> {
+
+    /** トークンハッシュで検索 */
+    Optional<RefreshTokenJpaEntity> findByTokenHash(String tokenHash);
+
+    /** 未失効のトークンを失効させる（失効済みの場合は0件） */
+    @Modifying
+    @Query(
+            "UPDATE RefreshTokenJpaEntity r SET r.revoked = true, r.updatedAt = :now"
+                    + " WHERE r.id = :id AND r.revoked = false")
+    int revokeById(@Param("id") UUID id, @Param("now") LocalDateTime now);
+
+    /** ユーザーの未失効トークンをすべて失効させる */
+    @Modifying
+    @Query(
+            "UPDATE RefreshTokenJpaEntity r SET r.revoked = true, r.updatedAt = :now"
+                    + " WHERE r.userId = :userId AND r.revoked = false")
+    int revokeAllByUserId(@Param("userId") UUID userId, @Param("now") LocalDateTime now);
+
+    /** 有効期限切れのトークンを削除 */
+    @Modifying
+    @Query("DELETE FROM RefreshTokenJpaEntity r WHERE r.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,58 @@
+package com.api.todos.infrastructure.persistence.repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.api.todos.domain.model.RefreshToken;
+import com.api.todos.domain.repository.RefreshTokenRepository;
+import com.api.todos.infrastructure.persistence.mapper.RefreshTokenMapper;
+
+import org.springframework.stereotype.Repository;
+
+/**
+ * RefreshTokenRepositoryの実装
+ *
+ * <p>【責務】
+ *
+ * <ul>
+ *   <li>Domain層のRefreshTokenRepositoryインターフェースを実装
+ *   <li>JPA Entityとの永続化操作
+ *   <li>Domain Model ⇔ JPA Entity の変換（RefreshTokenMapper）
+ * </ul>
+ */
+@Repository
+public class RefreshTokenRepositoryImpl implements RefreshTokenRepository {
+
+    private final RefreshTokenJpaRepository jpaRepository;
+
+    public RefreshTokenRepositoryImpl(RefreshTokenJpaRepository jpaRepository) {
+        this.jpaRepository = jpaRepository;
+    }
+
+    @Override
+    public Optional<RefreshToken> findByTokenHash(String tokenHash) {
+        return jpaRepository.findByTokenHash(tokenHash).map(RefreshTokenMapper::toDomainModel);
+    }
+
+    @Override
+    public RefreshToken save(RefreshToken refreshToken) {
+        return RefreshTokenMapper.toDomainModel(
+                jpaRepository.save(RefreshTokenMapper.toJpaEntity(refreshToken)));
+    }
+
+    @Override
+    public boolean revoke(UUID id) {
+        return jpaRepository.revokeById(id, LocalDateTime.now()) > 0;
+    }
+
+    @Override
+    public int revokeAllByUserId(UUID userId) {
+        return jpaRepository.revokeAllByUserId(userId, LocalDateTime.now());
+    }
+
+    @Override
+    public int deleteExpired(LocalDateTime now) {
+        return jpaRepository.deleteExpired(now);
+    }
+}
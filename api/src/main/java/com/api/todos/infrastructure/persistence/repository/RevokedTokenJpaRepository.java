@@ -0,0 +1,40 @@
+package com.api.todos.infrastructure.persistence.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.api.todos.infrastructure.persistence.entity.RevokedTokenJpaEntity;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data JPA Repository（失効済みアクセストークン）
+ *
+ * <p>【責務】
+ *
+ * <ul>
+ *   <li>失効リストの永続化（RevokedTokenRegistry のBloomフィルター再構築元）
+ * </ul>
+ */
+@Repository
+public interface RevokedTokenJpaRepository extends JpaRepository<RevokedTokenJpaEntity, String> {
+
+    /** 有効期限内の失効済みトークンIDを取得（Bloomフィルター再構築用） */
+    @Query("SELECT r.jti FROM RevokedTokenJpaEntity r WHERE r.expiresAt > :now")
+    List<String> findActiveTokenIds(@Param("now") LocalDateTime now);
+
+    /** 有効期限内の失効済みトークンかどうか */
+    @Query(
+            "SELECT COUNT(r) > 0 FROM RevokedTokenJpaEntity r"
+                    + " WHERE r.jti = :jti AND r.expiresAt > :now")
+    boolean existsActive(@Param("jti") String jti, @Param("now") LocalDateTime now);
+
+    /** 有効期限切れの行を削除 */
+    @Modifying
+    @Query("DELETE FROM RevokedTokenJpaEntity r WHERE r.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,74 @@
+package com.api.todos.infrastructure.persistence.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import com.api.todos.domain.model.Todo;
+
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * TODO全件の読み取り専用クエリ（エクスポート用、キーセット）
+ *
+ * <p>【責務】
+ *
+ * <ul>
+ *   <li>ユーザーの有効なTODOを作成日時・IDの古い順に、上限件数ずつ取得する
+ *   <li>指定した作成日時・IDより後ろから取得する（次のバッチ・中断したエクスポートの再開）
+ * </ul>
+ *
+ * <p>1回のクエリで取得するのは上限件数までのため、結果セット全体をメモリに読み込まない。 各クエリは短い読み取り専用トランザクション
+ * （読み取りレプリカに振り分けられる）で実行し、接続はクエリ毎にプールへ返却される（レスポンスの書き込み中は接続を保持しない）
+ *
+ * <p>古い順の走査は部分インデックス (user_id, created_at DESC, id DESC) WHERE deleted = false を逆向きに走査する。
+ * 一覧（{@link TodoListJdbcRepository}）と同じ列のみを取得する
+ */
+@Repository
+public class TodoExportJdbcRepository {
+
+    /** 作成日時の古い順（新しく作成されたTODOは末尾に追加される） */
+    static final String ORDER_BY = " ORDER BY created_at, id LIMIT :limit";
+
+    /** 指定した作成日時・IDより後ろ（作成日時の古い順で） */
+    static final String SEEK = " AND (created_at, id) > (:createdAt, :id)";
+
+    static final String EXPORT_SQL = TodoListJdbcRepository.ACTIVE + ORDER_BY;
+    static final String EXPORT_AFTER_SQL = TodoListJdbcRepository.ACTIVE + SEEK + ORDER_BY;
+
+    private final JdbcClient jdbcClient;
+
+    public TodoExportJdbcRepository(JdbcClient jdbcClient) {
+        this.jdbcClient = jdbcClient;
+    }
+
+    /**
+     * ユーザーのTODOを作成日時・IDの古い順に取得する（削除済み除外）
+     *
+     * @param userId 所有者のユーザーID
+     * @param afterCreatedAt 取得済みの最後の要素の作成日時（先頭から取得する場合null）
+     * @param afterId 取得済みの最後の要素のID（先頭から取得する場合null）
+     * @param limit 取得件数の上限
+     * @return TODOのリスト
+     */
+    @Transactional(readOnly = true)
+    public List<Todo> findBatch(
+            UUID userId, LocalDateTime afterCreatedAt, UUID afterId, int limit) {
+        boolean fromStart = afterCreatedAt == null || afterId == null;
+        JdbcClient.StatementSpec statement =
+                jdbcClient
+                        .sql(fromStart ? EXPORT_SQL : EXPORT_AFTER_SQL)
+                        .param("userId", userId)
+                        .param("limit", limit);
+        if (!fromStart) {
+            statement = statement.param("createdAt", afterCreatedAt).param("id", afterId);
+        }
+        return statement
+                .query(
+                        (resultSet, rowNum) ->
+                                TodoListJdbcRepository.toDomainModel(resultSet, userId))
+                .list();
+    }
+}
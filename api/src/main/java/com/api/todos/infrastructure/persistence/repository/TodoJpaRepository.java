@@ -0,0 +1,154 @@
+package com.api.todos.infrastructure.persistence.repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.api.todos.infrastructure.persistence.entity.TodoJpaEntity;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data JPA Repository（TODO）
+ *
+ * <p>【責務】
+ *
+ * <ul>
+ *   <li>JPA Entityの永続化操作
+ *   <li>件数は部分インデックス（idx_todos_user_active / idx_todos_user_incomplete）で取得する
+ *   <li>一括の状態遷移はエンティティを読み込まず、1文の UPDATE ... WHERE id = ANY(:ids) で行う
+ * </ul>
+ *
+ * <p>一覧はエンティティを生成せずに必要な列のみ取得するため {@link TodoListJdbcRepository} で行う
+ *
+ * <p>部分インデックスはプランナーがクエリの条件から述語（deleted = false / completed = false）を証明できる場合のみ使われる。
+ * バインド変数では汎用プランで証明できないため、完了状態の絞り込みは条件をリテラルで記述したクエリに分けている。 SQLはEXPLAINによるインデックス使用の検証テストと共有するため定数で定義する
+ */
+@Repository
+public interface TodoJpaRepository extends JpaRepository<TodoJpaEntity, UUID> {
+
+    String COUNT_SQL = "SELECT COUNT(*) FROM todos WHERE user_id = :userId AND deleted = false";
+    String COUNT_INCOMPLETE_SQL = COUNT_SQL + " AND completed = false";
+    String COUNT_COMPLETED_SQL = COUNT_SQL + " AND completed = true";
+
+    /** 一括遷移の対象ID（重複除去） */
+    String REQUESTED =
+            "WITH requested AS (SELECT DISTINCT unnest(CAST(:ids AS uuid[])) AS id)";
+
+    /** 一括遷移のUPDATE（SET句・条件を後続に連結し、RETURNING で更新したIDを返す） */
+    String UPDATE_REQUESTED =
+            ", updated AS (UPDATE todos"
+                    + " SET updated_at = CURRENT_TIMESTAMP, updated_by = :updatedBy,";
+
+    /** 所有者のTODOのうち対象IDのもの */
+    String WHERE_REQUESTED = " WHERE id = ANY(CAST(:ids AS uuid[])) AND user_id = :userId";
+
+    /**
+     * 対象ID毎の結果
+     *
+     * <p>データ変更を含むCTEと同じ文の todos は更新前のスナップショットを参照するため、更新されなかった理由を判定できる
+     */
+    String TRANSITION_OUTCOME =
+            " RETURNING id)"
+                    + " SELECT r.id AS id, CASE WHEN u.id IS NOT NULL THEN 'UPDATED'"
+                    + " WHEN t.id IS NULL THEN 'NOT_FOUND' WHEN t.deleted THEN 'DELETED'"
+                    + " ELSE 'UNCHANGED' END AS outcome"
+                    + " FROM requested r LEFT JOIN updated u ON u.id = r.id"
+                    + " LEFT JOIN todos t ON t.id = r.id AND t.user_id = :userId";
+
+    String COMPLETE_ALL_SQL =
+            REQUESTED
+                    + UPDATE_REQUESTED
+                    + " completed = true"
+                    + WHERE_REQUESTED
+                    + " AND deleted = false AND completed = false"
+                    + TRANSITION_OUTCOME;
+
+    String REOPEN_ALL_SQL =
+            REQUESTED
+                    + UPDATE_REQUESTED
+                    + " completed = false"
+                    + WHERE_REQUESTED
+                    + " AND deleted = false AND completed = true"
+                    + TRANSITION_OUTCOME;
+
+    String DELETE_ALL_SQL =
+            REQUESTED
+                    + UPDATE_REQUESTED
+                    + " deleted = true"
+                    + WHERE_REQUESTED
+                    + " AND deleted = false"
+                    + TRANSITION_OUTCOME;
+
+    /**
+     * 完了済みTODOの論理削除（idx_todos_user_active）
+     *
+     * <p>1回に更新する行数を上限件数までとし、ロックする行数・WALの量・返すID数を抑える。 対象行は FOR UPDATE で
+     * ロックした後に条件を再評価するため、並行して変更された行は削除しない
+     */
+    String DELETE_COMPLETED_SQL =
+            "WITH target AS (SELECT id FROM todos"
+                    + " WHERE user_id = :userId AND deleted = false AND completed = true"
+                    + " LIMIT :limit FOR UPDATE),"
+                    + " updated AS (UPDATE todos SET deleted = true,"
+                    + " updated_at = CURRENT_TIMESTAMP, updated_by = :updatedBy"
+                    + " WHERE id IN (SELECT id FROM target)"
+                    + " AND deleted = false AND completed = true"
+                    + " RETURNING id) SELECT id FROM updated";
+
+    /** 一括遷移の結果行 */
+    interface TransitionOutcomeRow {
+        UUID getId();
+
+        String getOutcome();
+    }
+
+    /** IDでTODOを検索（削除済み除外、所有者のTODOのみ） */
+    @Query(
+            "SELECT t FROM TodoJpaEntity t"
+                    + " WHERE t.id = :id AND t.userId = :userId AND t.deleted = false")
+    Optional<TodoJpaEntity> findActiveById(@Param("id") UUID id, @Param("userId") UUID userId);
+
+    /** ユーザーのTODO件数（削除済み除外） */
+    @Query(value = COUNT_SQL, nativeQuery = true)
+    long countActiveByUserId(@Param("userId") UUID userId);
+
+    /** ユーザーの未完了TODO件数（削除済み除外） */
+    @Query(value = COUNT_INCOMPLETE_SQL, nativeQuery = true)
+    long countIncompleteByUserId(@Param("userId") UUID userId);
+
+    /** ユーザーの完了済みTODO件数（削除済み除外） */
+    @Query(value = COUNT_COMPLETED_SQL, nativeQuery = true)
+    long countCompletedByUserId(@Param("userId") UUID userId);
+
+    /** 指定したTODOを完了にする（削除済み・完了済みは変更しない） */
+    @Query(value = COMPLETE_ALL_SQL, nativeQuery = true)
+    List<TransitionOutcomeRow> completeAll(
+            @Param("userId") UUID userId,
+            @Param("ids") UUID[] ids,
+            @Param("updatedBy") String updatedBy);
+
+    /** 指定したTODOを未完了に戻す（削除済み・未完了は変更しない） */
+    @Query(value = REOPEN_ALL_SQL, nativeQuery = true)
+    List<TransitionOutcomeRow> reopenAll(
+            @Param("userId") UUID userId,
+            @Param("ids") UUID[] ids,
+            @Param("updatedBy") String updatedBy);
+
+    /** 指定したTODOを論理削除する（削除済みは変更しない） */
+    @Query(value = DELETE_ALL_SQL, nativeQuery = true)
+    List<TransitionOutcomeRow> softDeleteAll(
+            @Param("userId") UUID userId,
+            @Param("ids") UUID[] ids,
+            @Param("updatedBy") String updatedBy);
+
+    /** ユーザーの完了済みTODOを上限件数まで論理削除する */
+    @Query(value = DELETE_COMPLETED_SQL, nativeQuery = true)
+    List<UUID> softDeleteCompleted(
+            @Param("userId") UUID userId,
+            @Param("updatedBy") String updatedBy,
+            @Param("limit") int limit);
+}
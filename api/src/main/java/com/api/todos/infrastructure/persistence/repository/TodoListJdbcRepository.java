@@ -0,0 +1,120 @@
+package com.api.todos.infrastructure.persistence.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import com.api.todos.domain.model.Todo;
+
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+/**
+ * TODO一覧の読み取り専用クエリ（JdbcClient）
+ *
+ * <p>【責務】
+ *
+ * <ul>
+ *   <li>一覧に必要な列のみを取得し、行から直接Domain Modelを生成する
+ *   <li>一覧はキーセットページネーション（部分インデックス (user_id, created_at DESC, id DESC) WHERE deleted =
+ *       false を範囲走査）で取得する
+ * </ul>
+ *
+ * <p>JPA Entityを経由しないため、永続化コンテキストへの登録・ダーティチェック用のスナップショット（読み込み時の全列の値の複製）が発生しない。
+ * ユーザーID（検索条件）と削除フラグ（常にfalse）は取得しない
+ *
+ * <p>ページ取得は行値比較 {@code (created_at, id) < (?, ?)} を使う。 「created_at < ? OR (created_at = ? AND id
+ * < ?)」に展開するとPostgreSQLはインデックスの範囲条件として扱えず、 ユーザーの先頭から読み飛ばすOFFSETと同じコストになる
+ *
+ * <p>部分インデックスはプランナーがクエリの条件から述語（deleted = false / completed = false）を証明できる場合のみ使われる。
+ * バインド変数では汎用プランで証明できないため、完了状態の絞り込みは条件をリテラルで記述したクエリに分けている。 SQLはEXPLAINによるインデックス使用の検証テストと共有するため定数で定義する
+ */
+@Repository
+public class TodoListJdbcRepository {
+
+    /** 一覧に必要な列 */
+    static final String LIST_COLUMNS =
+            "SELECT id, title, descriptions, completed,"
+                    + " created_at, created_by, updated_at, updated_by FROM todos";
+
+    /** 作成日時の新しい順 */
+    static final String ORDER_BY = " ORDER BY created_at DESC, id DESC LIMIT :limit";
+
+    /** 指定した作成日時・IDより後ろ（作成日時の新しい順で） */
+    static final String SEEK = " AND (created_at, id) < (:createdAt, :id)";
+
+    /** 有効なTODO（idx_todos_user_active） */
+    static final String ACTIVE = LIST_COLUMNS + " WHERE user_id = :userId AND deleted = false";
+
+    /** 有効かつ未完了のTODO（idx_todos_user_incomplete） */
+    static final String INCOMPLETE = ACTIVE + " AND completed = false";
+
+    /** 有効かつ完了済みのTODO（idx_todos_user_active） */
+    static final String COMPLETED = ACTIVE + " AND completed = true";
+
+    static final String FIRST_PAGE_SQL = ACTIVE + ORDER_BY;
+    static final String PAGE_AFTER_SQL = ACTIVE + SEEK + ORDER_BY;
+    static final String INCOMPLETE_FIRST_PAGE_SQL = INCOMPLETE + ORDER_BY;
+    static final String INCOMPLETE_PAGE_AFTER_SQL = INCOMPLETE + SEEK + ORDER_BY;
+    static final String COMPLETED_FIRST_PAGE_SQL = COMPLETED + ORDER_BY;
+    static final String COMPLETED_PAGE_AFTER_SQL = COMPLETED + SEEK + ORDER_BY;
+
+    private final JdbcClient jdbcClient;
+
+    public TodoListJdbcRepository(JdbcClient jdbcClient) {
+        this.jdbcClient = jdbcClient;
+    }
+
+    /**
+     * ユーザーのTODOを作成日時・IDの新しい順に取得する（削除済み除外）
+     *
+     * <p>呼び出し元のトランザクション（JpaTransactionManager）の接続で実行する
+     *
+     * @param userId 所有者のユーザーID
+     * @param completed 完了状態の絞り込み（nullの場合は絞り込まない）
+     * @param afterCreatedAt 直前のページの最後の要素の作成日時（先頭ページの場合null）
+     * @param afterId 直前のページの最後の要素のID（先頭ページの場合null）
+     * @param limit 取得件数の上限
+     * @return TODOのリスト
+     */
+    public List<Todo> findPage(
+            UUID userId, Boolean completed, LocalDateTime afterCreatedAt, UUID afterId, int limit) {
+        boolean firstPage = afterCreatedAt == null || afterId == null;
+        JdbcClient.StatementSpec statement =
+                jdbcClient
+                        .sql(pageSql(completed, firstPage))
+                        .param("userId", userId)
+                        .param("limit", limit);
+        if (!firstPage) {
+            statement = statement.param("createdAt", afterCreatedAt).param("id", afterId);
+        }
+        return statement.query((resultSet, rowNum) -> toDomainModel(resultSet, userId)).list();
+    }
+
+    /** 部分インデックスを使えるよう、完了状態毎に条件をリテラルで記述したクエリを使い分ける */
+    static String pageSql(Boolean completed, boolean firstPage) {
+        if (completed == null) {
+            return firstPage ? FIRST_PAGE_SQL : PAGE_AFTER_SQL;
+        }
+        if (completed) {
+            return firstPage ? COMPLETED_FIRST_PAGE_SQL : COMPLETED_PAGE_AFTER_SQL;
+        }
+        return firstPage ? INCOMPLETE_FIRST_PAGE_SQL : INCOMPLETE_PAGE_AFTER_SQL;
+    }
+
+    static Todo toDomainModel(ResultSet resultSet, UUID userId) throws SQLException {
+        return new Todo(
+                resultSet.getObject(1, UUID.class),
+                resultSet.getString(2),
+                resultSet.getString(3),
+                resultSet.getBoolean(4),
+                userId,
+                resultSet.getTimestamp(5).toLocalDateTime(),
+                resultSet.getString(6),
+                resultSet.getTimestamp(7).toLocalDateTime(),
+                resultSet.getString(8),
+                false);
+    }
+}
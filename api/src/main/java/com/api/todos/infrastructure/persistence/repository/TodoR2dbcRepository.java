@@ -0,0 +1,111 @@
+package com.api.todos.infrastructure.persistence.repository;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.UUID;
+
+import com.api.todos.domain.model.Todo;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import io.r2dbc.spi.Readable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * TODO一覧の読み取り専用クエリ（R2DBC）
+ *
+ * <p>【責務】
+ *
+ * <ul>
+ *   <li>リアクティブ読み取りAPI用に、{@link TodoListJdbcRepository} と同じSQL（一覧に必要な列のみ・キーセットページネーション）を
+ *       ノンブロッキングで実行する
+ *   <li>行から直接Domain Modelを生成する
+ * </ul>
+ *
+ * <p>SQLは部分インデックスの使用を検証済みのものを共有し、完了状態毎のクエリの使い分けも同じとする。
+ * 日時（TIMESTAMPTZ）はJDBCの java.sql.Timestamp と同じくJVMのタイムゾーンで LocalDateTime と相互に変換する。
+ * ReactiveReadApiServer が専用のコネクションプールとともに生成するため、Beanとしては登録しない
+ */
+public class TodoR2dbcRepository {
+
+    private final DatabaseClient databaseClient;
+
+    public TodoR2dbcRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    /**
+     * ユーザーのTODOを作成日時・IDの新しい順に取得する（削除済み除外）
+     *
+     * @param userId 所有者のユーザーID
+     * @param completed 完了状態の絞り込み（nullの場合は絞り込まない）
+     * @param afterCreatedAt 直前のページの最後の要素の作成日時（先頭ページの場合null）
+     * @param afterId 直前のページの最後の要素のID（先頭ページの場合null）
+     * @param limit 取得件数の上限
+     * @return TODO（購読時にクエリを実行する）
+     */
+    public Flux<Todo> findPage(
+            UUID userId, Boolean completed, LocalDateTime afterCreatedAt, UUID afterId, int limit) {
+        boolean firstPage = afterCreatedAt == null || afterId == null;
+        DatabaseClient.GenericExecuteSpec statement =
+                databaseClient
+                        .sql(TodoListJdbcRepository.pageSql(completed, firstPage))
+                        .bind("userId", userId)
+                        .bind("limit", limit);
+        if (!firstPage) {
+            statement =
+                    statement
+                            .bind("createdAt", toOffsetDateTime(afterCreatedAt))
+                            .bind("id", afterId);
+        }
+        return statement.map(row -> toDomainModel(row, userId)).all();
+    }
+
+    /**
+     * ユーザーのTODO件数を取得する（削除済み除外）
+     *
+     * @param userId 所有者のユーザーID
+     * @param completed 完了状態の絞り込み（nullの場合は絞り込まない）
+     * @return 件数（購読時にクエリを実行する）
+     */
+    public Mono<Long> count(UUID userId, Boolean completed) {
+        return databaseClient
+                .sql(countSql(completed))
+                .bind("userId", userId)
+                .map(row -> row.get(0, Long.class))
+                .one();
+    }
+
+    private static String countSql(Boolean completed) {
+        if (completed == null) {
+            return TodoJpaRepository.COUNT_SQL;
+        }
+        return completed
+                ? TodoJpaRepository.COUNT_COMPLETED_SQL
+                : TodoJpaRepository.COUNT_INCOMPLETE_SQL;
+    }
+
+    private static Todo toDomainModel(Readable row, UUID userId) {
+        return new Todo(
+                row.get(0, UUID.class),
+                row.get(1, String.class),
+                row.get(2, String.class),
+                row.get(3, Boolean.class),
+                userId,
+                toLocalDateTime(row.get(4, OffsetDateTime.class)),
+                row.get(5, String.class),
+                toLocalDateTime(row.get(6, OffsetDateTime.class)),
+                row.get(7, String.class),
+                false);
+    }
+
+    private static OffsetDateTime toOffsetDateTime(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toOffsetDateTime();
+    }
+
+    private static LocalDateTime toLocalDateTime(OffsetDateTime dateTime) {
+        return dateTime.atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+    }
+}
@@ -0,0 +1,129 @@
+package com.api.todos.infrastructure.persistence.repository;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import jakarta.persistence.EntityManager;
+
+import com.api.todos.domain.model.Todo;
+import com.api.todos.domain.model.TodoStateTransition;
+import com.api.todos.domain.model.TodoTransitionOutcome;
+import com.api.todos.domain.repository.TodoRepository;
+import com.api.todos.infrastructure.persistence.mapper.TodoMapper;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * TodoRepositoryの実装
+ *
+ * <p>【責務】
+ *
+ * <ul>
+ *   <li>Domain層のTodoRepositoryインターフェースを実装
+ *   <li>JPA Entityとの永続化操作
+ *   <li>Domain Model ⇔ JPA Entity の変換（TodoMapper）
+ * </ul>
+ *
+ * <p>一括登録は EntityManager#persist で行い、Hibernate のJDBCバッチ（hibernate.jdbc.batch_size）でまとめて送信する
+ *
+ * <p>一覧は JPA Entity を経由せず、必要な列のみを取得する TodoListJdbcRepository で行う。
+ * 全件の読み込み（エクスポート）はキーセットで古い順に上限件数ずつ読む TodoExportJdbcRepository で行う
+ */
+@Repository
+public class TodoRepositoryImpl implements TodoRepository {
+
+    private final TodoJpaRepository jpaRepository;
+    private final TodoListJdbcRepository listRepository;
+    private final TodoExportJdbcRepository exportRepository;
+    private final EntityManager entityManager;
+    private final int batchSize;
+
+    public TodoRepositoryImpl(
+            TodoJpaRepository jpaRepository,
+            TodoListJdbcRepository listRepository,
+            TodoExportJdbcRepository exportRepository,
+            EntityManager entityManager,
+            @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:500}") int batchSize) {
+        this.jpaRepository = jpaRepository;
+        this.listRepository = listRepository;
+        this.exportRepository = exportRepository;
+        this.entityManager = entityManager;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public Optional<Todo> findById(UUID id, UUID userId) {
+        return jpaRepository.findActiveById(id, userId).map(TodoMapper::toDomainModel);
+    }
+
+    @Override
+    public List<Todo> findPageByUserId(
+            UUID userId, Boolean completed, LocalDateTime afterCreatedAt, UUID afterId, int limit) {
+        return listRepository.findPage(userId, completed, afterCreatedAt, afterId, limit);
+    }
+
+    @Override
+    public long countByUserId(UUID userId, Boolean completed) {
+        if (completed == null) {
+            return jpaRepository.countActiveByUserId(userId);
+        }
+        return completed
+                ? jpaRepository.countCompletedByUserId(userId)
+                : jpaRepository.countIncompleteByUserId(userId);
+    }
+
+    @Override
+    public List<Todo> findOldestFirstByUserId(
+            UUID userId, LocalDateTime afterCreatedAt, UUID afterId, int limit) {
+        return exportRepository.findBatch(userId, afterCreatedAt, afterId, limit);
+    }
+
+    @Override
+    public Todo save(Todo todo) {
+        return TodoMapper.toDomainModel(jpaRepository.save(TodoMapper.toJpaEntity(todo)));
+    }
+
+    @Override
+    @Transactional
+    public void insertAll(List<Todo> todos) {
+        for (int i = 0; i < todos.size(); i++) {
+            // IDはDomain層で採番済みのため persist しても即時INSERTされず、flush時にバッチで送信される
+            entityManager.persist(TodoMapper.toJpaEntity(todos.get(i)));
+            if ((i + 1) % batchSize == 0) {
+                // 永続化コンテキストに全件を保持しないよう、バッチ毎に送信して切り離す
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Override
+    public Map<UUID, TodoTransitionOutcome> transitionAll(
+            UUID userId, List<UUID> ids, TodoStateTransition transition, String updatedBy) {
+        UUID[] idArray = ids.toArray(UUID[]::new);
+        List<TodoJpaRepository.TransitionOutcomeRow> rows =
+                switch (transition) {
+                    case COMPLETE -> jpaRepository.completeAll(userId, idArray, updatedBy);
+                    case REOPEN -> jpaRepository.reopenAll(userId, idArray, updatedBy);
+                    case DELETE -> jpaRepository.softDeleteAll(userId, idArray, updatedBy);
+                };
+        Map<UUID, TodoTransitionOutcome> outcomes = HashMap.newHashMap(rows.size());
+        for (TodoJpaRepository.TransitionOutcomeRow row : rows) {
+            outcomes.put(row.getId(), TodoTransitionOutcome.valueOf(row.getOutcome()));
+        }
+        return outcomes;
+    }
+
+    @Override
+    public List<UUID> deleteCompleted(UUID userId, String updatedBy, int limit) {
+        return jpaRepository.softDeleteCompleted(userId, updatedBy, limit);
+    }
+}
@@ -0,0 +1,31 @@
+package com.api.todos.infrastructure.persistence.repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import com.api.todos.infrastructure.persistence.entity.UserJpaEntity;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data JPA Repository（ユーザー）
+ *
+ * <p>【責務】
+ *
+ * <ul>
+ *   <li>JPA Entityの永続化操作
+ *   <li>Spring Data JPAの機能を活用したクエリ定義
+ * </ul>
+ *
+ * <p>IDによる検索は2次キャッシュを経由させるため、JPQLではなく findById を使う
+ */
+@Repository
+public interface UserJpaRepository extends JpaRepository<UserJpaEntity, UUID> {
+
+    /** ユーザー名でユーザーを検索（削除済み除外） */
+    @Query("SELECT u FROM UserJpaEntity u WHERE u.username = :username AND u.deleted = false")
+    Optional<UserJpaEntity> findActiveByUsername(@Param("username") String username);
+}
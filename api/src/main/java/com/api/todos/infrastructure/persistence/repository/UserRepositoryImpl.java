@@ -0,0 +1,52 @@
+package com.api.todos.infrastructure.persistence.repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import com.api.todos.domain.model.User;
+import com.api.todos.domain.repository.UserRepository;
+import com.api.todos.infrastructure.persistence.mapper.UserMapper;
+
+import org.springframework.stereotype.Repository;
+
+/**
+ * UserRepositoryの実装
+ *
+ * <p>【責務】
+ *
+ * <ul>
+ *   <li>Domain層のUserRepositoryインターフェースを実装
+ *   <li>JPA Entityとの永続化操作
+ *   <li>Domain Model ⇔ JPA Entity の変換（UserMapper）
+ * </ul>
+ *
+ * <p>IDによる検索はJPQLではなく findById（EntityManager#find）で取得し、2次キャッシュにヒットした場合はSQLを発行しない。
+ * 削除済みの除外はキャッシュから取得したエンティティに対して行う
+ */
+@Repository
+public class UserRepositoryImpl implements UserRepository {
+
+    private final UserJpaRepository jpaRepository;
+
+    public UserRepositoryImpl(UserJpaRepository jpaRepository) {
+        this.jpaRepository = jpaRepository;
+    }
+
+    @Override
+    public Optional<User> findById(UUID id) {
+        return jpaRepository
+                .findById(id)
+                .filter(entity -> !entity.getDeleted())
+                .map(UserMapper::toDomainModel);
+    }
+
+    @Override
+    public Optional<User> findByUsername(String username) {
+        return jpaRepository.findActiveByUsername(username).map(UserMapper::toDomainModel);
+    }
+
+    @Override
+    public User save(User user) {
+        return UserMapper.toDomainModel(jpaRepository.save(UserMapper.toJpaEntity(user)));
+    }
+}
@@ -0,0 +1,116 @@
+package com.api.todos.infrastructure.security;
+
+import java.util.Arrays;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+/**
+ * BCryptコスト（strength）の起動時キャリブレーション（Infrastructure層）
+ *
+ * <p>実行環境のCPU性能に合わせ、1回のハッシュ計算が目標レイテンシ（password.bcrypt.target-latency-ms）に収まる最大のコストを選ぶ。
+ * コストを1上げると計算時間は2倍になるため、最小コストでの計測値から倍々で求める
+ *
+ * <ul>
+ *   <li>password.bcrypt.strength を指定した場合はキャリブレーションせずにその値を使用する（複数ノードでコストを揃える場合など）
+ *   <li>結果は password.bcrypt.min-strength 〜 password.bcrypt.max-strength の範囲に丸める
+ * </ul>
+ */
+@Component
+public class BCryptStrengthCalibrator {
+
+    private static final Logger log = LoggerFactory.getLogger(BCryptStrengthCalibrator.class);
+
+    /** BCryptが受け付けるコストの範囲 */
+    private static final int BCRYPT_MIN_STRENGTH = 4;
+
+    private static final int BCRYPT_MAX_STRENGTH = 31;
+
+    /** 計測回数（中央値を採用） */
+    private static final int SAMPLES = 3;
+
+    private static final String CALIBRATION_PASSWORD = "calibration-password";
+
+    private final int strength;
+
+    /**
+     * コンストラクタ
+     *
+     * @param fixedStrength 固定コスト（0以下の場合はキャリブレーション）
+     * @param targetLatencyMs ハッシュ計算1回あたりの目標レイテンシ（ミリ秒）
+     * @param minStrength 最小コスト
+     * @param maxStrength 最大コスト
+     */
+    public BCryptStrengthCalibrator(
+            @Value("${password.bcrypt.strength:0}") int fixedStrength,
+            @Value("${password.bcrypt.target-latency-ms:250}") long targetLatencyMs,
+            @Value("${password.bcrypt.min-strength:10}") int minStrength,
+            @Value("${password.bcrypt.max-strength:14}") int maxStrength) {
+        if (fixedStrength > 0) {
+            this.strength = validate(fixedStrength);
+            log.info("BCryptコストを設定値で使用します: strength={}", strength);
+            return;
+        }
+        if (validate(minStrength) > validate(maxStrength)) {
+            throw new IllegalStateException(
+                    "password.bcrypt.min-strength は max-strength 以下で指定してください");
+        }
+        this.strength = calibrate(targetLatencyMs * 1_000_000L, minStrength, maxStrength);
+    }
+
+    /**
+     * キャリブレーション済みのコストを取得する
+     *
+     * @return BCryptコスト
+     */
+    public int strength() {
+        return strength;
+    }
+
+    private static int calibrate(long targetNanos, int minStrength, int maxStrength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(minStrength);
+        // JITコンパイル前の初回計測を除外
+        encoder.encode(CALIBRATION_PASSWORD);
+
+        long[] samples = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.encode(CALIBRATION_PASSWORD);
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        long measuredNanos = samples[SAMPLES / 2];
+
+        int calibrated = minStrength;
+        long estimatedNanos = measuredNanos;
+        while (calibrated < maxStrength && estimatedNanos * 2 <= targetNanos) {
+            calibrated++;
+            estimatedNanos *= 2;
+        }
+
+        log.info(
+                "BCryptコストをキャリブレーションしました: strength={}, 推定レイテンシ={}ms（strength={}の実測={}ms、目標={}ms）",
+                calibrated,
+                estimatedNanos / 1_000_000,
+                minStrength,
+                measuredNanos / 1_000_000,
+                targetNanos / 1_000_000);
+        return calibrated;
+    }
+
+    private static int validate(int strength) {
+        if (strength < BCRYPT_MIN_STRENGTH || strength > BCRYPT_MAX_STRENGTH) {
+            throw new IllegalStateException(
+                    "BCryptコストは"
+                            + BCRYPT_MIN_STRENGTH
+                            + "〜"
+                            + BCRYPT_MAX_STRENGTH
+                            + "で指定してください: "
+                            + strength);
+        }
+        return strength;
+    }
+}
@@ -0,0 +1,119 @@
+package com.api.todos.infrastructure.security;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 文字列用Bloomフィルター（Infrastructure層）
+ *
+ * <p>「含まれない」という判定は確実で、「含まれる可能性がある」という判定のみ偽陽性を持つ。 失効済みトークンの判定で、大半を占める未失効トークンをメモリ上だけで判定するために使用する
+ *
+ * <p>【設計】
+ *
+ * <ul>
+ *   <li>ビット配列はAtomicLongArrayで保持し、追加と判定をロックなしで並行に行える
+ *   <li>ハッシュは文字を直接走査して計算する（判定時にバイト配列・文字列を生成しない）
+ *   <li>k個のハッシュは2つの64bitハッシュから double hashing（h1 + i * h2）で導出する
+ * </ul>
+ */
+final class BloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+
+    private BloomFilter(long bitCount, int hashCount) {
+        int wordCount = (int) ((bitCount + Long.SIZE - 1) / Long.SIZE);
+        this.words = new AtomicLongArray(wordCount);
+        this.bitCount = (long) wordCount * Long.SIZE;
+        this.hashCount = hashCount;
+    }
+
+    /**
+     * 想定件数と偽陽性率からBloomフィルターを生成する
+     *
+     * @param expectedInsertions 想定件数
+     * @param falsePositiveRate 偽陽性率（0より大きく1未満）
+     * @return Bloomフィルター
+     */
+    static BloomFilter create(long expectedInsertions, double falsePositiveRate) {
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("偽陽性率は0より大きく1未満で指定してください");
+        }
+        long n = Math.max(1, expectedInsertions);
+        // 最適なビット数 m = -n ln(p) / (ln 2)^2、ハッシュ数 k = (m / n) ln 2
+        long bits = Math.max(Long.SIZE, (long) (-n * Math.log(falsePositiveRate) / (LN2 * LN2)));
+        int hashes = Math.max(1, (int) Math.round((double) bits / n * LN2));
+        return new BloomFilter(bits, hashes);
+    }
+
+    /**
+     * 値を追加する
+     *
+     * @param value 値
+     */
+    void put(CharSequence value) {
+        long hash1 = hash(value, 0L);
+        long hash2 = hash(value, hash1) | 1L;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = index(hash1 + i * hash2);
+            int wordIndex = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long word;
+            do {
+                word = words.get(wordIndex);
+                if ((word & mask) != 0) {
+                    break;
+                }
+            } while (!words.compareAndSet(wordIndex, word, word | mask));
+        }
+    }
+
+    /**
+     * 値が含まれる可能性があるかどうか
+     *
+     * @param value 値
+     * @return 含まれる可能性がある場合true（falseの場合は確実に含まれない）
+     */
+    boolean mightContain(CharSequence value) {
+        long hash1 = hash(value, 0L);
+        long hash2 = hash(value, hash1) | 1L;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = index(hash1 + i * hash2);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** ビット数 */
+    long bitCount() {
+        return bitCount;
+    }
+
+    /** ハッシュ関数の数 */
+    int hashCount() {
+        return hashCount;
+    }
+
+    private long index(long combinedHash) {
+        return (combinedHash & Long.MAX_VALUE) % bitCount;
+    }
+
+    /** FNV-1a（64bit）で文字を畳み込み、MurmurHash3のfmix64で拡散する */
+    private static long hash(CharSequence value, long seed) {
+        long h = 0xcbf29ce484222325L ^ seed;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
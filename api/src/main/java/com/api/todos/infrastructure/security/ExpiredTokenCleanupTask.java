@@ -0,0 +1,46 @@
+package com.api.todos.infrastructure.security;
+
+import java.time.LocalDateTime;
+
+import com.api.todos.domain.repository.RefreshTokenRepository;
+import com.api.todos.infrastructure.persistence.repository.RevokedTokenJpaRepository;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 期限切れトークンの定期削除（Infrastructure層）
+ *
+ * <p>有効期限を過ぎたリフレッシュトークンと失効リストの行は不要なため、jwt.cleanup-interval-ms 毎に削除する
+ */
+@Component
+public class ExpiredTokenCleanupTask {
+
+    private static final Logger log = LoggerFactory.getLogger(ExpiredTokenCleanupTask.class);
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final RevokedTokenJpaRepository revokedTokenRepository;
+
+    public ExpiredTokenCleanupTask(
+            RefreshTokenRepository refreshTokenRepository,
+            RevokedTokenJpaRepository revokedTokenRepository) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.revokedTokenRepository = revokedTokenRepository;
+    }
+
+    /** 期限切れのリフレッシュトークン・失効リストを削除する */
+    @Scheduled(
+            fixedDelayString = "${jwt.cleanup-interval-ms:3600000}",
+            initialDelayString = "${jwt.cleanup-interval-ms:3600000}")
+    @Transactional
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int refreshTokens = refreshTokenRepository.deleteExpired(now);
+        int revokedTokens = revokedTokenRepository.deleteExpired(now);
+        log.info(
+                "期限切れトークンを削除しました: リフレッシュトークン={}, 失効リスト={}", refreshTokens, revokedTokens);
+    }
+}
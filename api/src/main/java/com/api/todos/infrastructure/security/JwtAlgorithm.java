@@ -0,0 +1,77 @@
+package com.api.todos.infrastructure.security;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+
+/**
+ * JWT署名アルゴリズム（Infrastructure層）
+ *
+ * <p>application.properties の jwt.algorithm で選択する。JJWTは鍵の種類・長さから署名アルゴリズムを決定するため、
+ * ここでは鍵の生成・復元方法のみを定義する
+ */
+public enum JwtAlgorithm {
+
+    /** HMAC SHA-256（共有シークレット） */
+    HS256(null),
+
+    /** RSA PKCS#1 v1.5 SHA-256（2048bit） */
+    RS256("RSA"),
+
+    /** ECDSA P-256 SHA-256 */
+    ES256("EC"),
+
+    /** EdDSA Ed25519 */
+    EdDSA("Ed25519");
+
+    /** KeyFactory / KeyPairGenerator のアルゴリズム名（HMACの場合はnull） */
+    private final String keyAlgorithm;
+
+    JwtAlgorithm(String keyAlgorithm) {
+        this.keyAlgorithm = keyAlgorithm;
+    }
+
+    /**
+     * 非対称鍵アルゴリズムかどうか
+     *
+     * @return 非対称鍵の場合true
+     */
+    public boolean isAsymmetric() {
+        return keyAlgorithm != null;
+    }
+
+    /**
+     * KeyFactoryのアルゴリズム名を取得する
+     *
+     * @return アルゴリズム名（HMACの場合はnull）
+     */
+    public String keyAlgorithm() {
+        return keyAlgorithm;
+    }
+
+    /**
+     * 新しい鍵ペアを生成する
+     *
+     * @return 鍵ペア
+     * @throws IllegalStateException HMACの場合、または鍵生成に失敗した場合
+     */
+    public KeyPair generateKeyPair() {
+        if (!isAsymmetric()) {
+            throw new IllegalStateException(name() + "は鍵ペアを使用しません");
+        }
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance(keyAlgorithm);
+            switch (this) {
+                case RS256 -> generator.initialize(2048);
+                case ES256 -> generator.initialize(new ECGenParameterSpec("secp256r1"));
+                default -> {
+                    // Ed25519は鍵長固定
+                }
+            }
+            return generator.generateKeyPair();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(name() + "の鍵ペア生成に失敗しました", e);
+        }
+    }
+}
@@ -1,20 +1,21 @@
 package com.api.todos.infrastructure.security;
 
 import java.io.IOException;
-import java.util.Collections;
-import java.util.UUID;
+import java.util.List;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
+import com.api.todos.domain.service.JwtPrincipal;
 import com.api.todos.domain.service.JwtService;
+import com.api.todos.domain.service.TokenRevocationService;
 
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -22,6 +23,20 @@ import org.springframework.web.filter.OncePerRequestFilter;
  * JWT認証フィルター（Infrastructure層）
  *
  * <p>リクエストヘッダー「Authorization: Bearer {token}」からJWTトークンを取得し、 検証してSecurityContextに認証情報を設定する
+ *
+ * <p>検証済みキャッシュにヒットした場合、トークン文字列の切り出し・権限オブジェクト・リクエスト詳細の生成を行わない
+ *
+ * <p>【早期リジェクト】
+ *
+ * <ul>
+ *   <li>認証不要エンドポイント（{@link PublicEndpoints}）ではフィルター処理自体を行わない
+ *   <li>形式不正なトークン（セグメント数・base64url文字・長さ上限）は署名検証の前に除外する
+ * </ul>
+ *
+ * <p>【失効判定】
+ *
+ * <p>ログアウト等で失効させたトークンは、キャッシュヒット時も含めて {@link TokenRevocationService} で判定する。
+ * 未失効トークンはBloomフィルターのみで判定されるため、データベースにはアクセスしない
  */
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
@@ -29,10 +44,37 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String BEARER_PREFIX = "Bearer ";
 
-    private final JwtService jwtService;
+    /** ロール毎の権限リスト（共有シングルトン） */
+    private static final List<GrantedAuthority> ADMIN_AUTHORITIES = authoritiesOf(0);
+    private static final List<GrantedAuthority> MANAGER_AUTHORITIES = authoritiesOf(4);
+    private static final List<GrantedAuthority> USER_AUTHORITIES = authoritiesOf(8);
 
-    public JwtAuthenticationFilter(JwtService jwtService) {
+    private final JwtService jwtService;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationService tokenRevocationService;
+    private final int maxTokenLength;
+
+    public JwtAuthenticationFilter(
+            JwtService jwtService,
+            VerifiedTokenCache verifiedTokenCache,
+            TokenRevocationService tokenRevocationService,
+            @Value("${jwt.max-token-length:8192}") int maxTokenLength) {
         this.jwtService = jwtService;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.tokenRevocationService = tokenRevocationService;
+        this.maxTokenLength = maxTokenLength;
+    }
+
+    /**
+     * 認証不要エンドポイントはフィルター処理を行わない
+     *
+     * @param request HTTPリクエスト
+     * @return 認証不要エンドポイントの場合true
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return PublicEndpoints.matches(
+                request.getRequestURI(), request.getContextPath().length());
     }
 
     @Override
@@ -41,38 +83,37 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             throws ServletException, IOException {
 
         try {
-            // Authorization ヘッダーからJWTトークンを取得
-            String token = extractTokenFromRequest(request);
-
-            if (token != null && jwtService.isTokenValid(token)) {
-                // トークンが有効な場合、認証情報をSecurityContextに設定
-                UUID userId = jwtService.validateTokenAndGetUserId(token);
-                String username = jwtService.getUsernameFromToken(token);
-                Integer role = jwtService.getRoleFromToken(token);
-
-                if (userId != null && username != null && role != null) {
-                    // ロールを権限として設定
-                    SimpleGrantedAuthority authority =
-                            new SimpleGrantedAuthority("ROLE_" + mapRoleToString(role));
-
-                    // 認証トークンを作成
-                    UsernamePasswordAuthenticationToken authentication =
-                            new UsernamePasswordAuthenticationToken(
-                                    userId, // Principal（主体）としてUserIdを設定
-                                    null, // Credentials（資格情報）はnull
-                                    Collections.singletonList(authority));
-
-                    // リクエスト詳細を設定
-                    authentication.setDetails(
-                            new WebAuthenticationDetailsSource().buildDetails(request));
+            // Authorization ヘッダーを取得（トークン部分は必要になるまで切り出さない）
+            String authorization = request.getHeader(AUTHORIZATION_HEADER);
+
+            if (hasBearerToken(authorization)) {
+                // 形式不正なトークンは暗号処理を行わずに除外
+                JwtPrincipal principal =
+                        JwtTokenFormat.isWellFormed(
+                                        authorization, BEARER_PREFIX.length(), maxTokenLength)
+                                ? resolvePrincipal(authorization)
+                                : null;
+
+                if (principal != null && tokenRevocationService.isRevoked(principal.tokenId())) {
+                    principal = null;
+                }
+
+                if (principal != null) {
+                    // 認証トークンを作成（Principal（主体）としてUserIdを設定）
+                    JwtAuthenticationToken authentication =
+                            new JwtAuthenticationToken(
+                                    principal, authoritiesFor(principal.role()), request);
 
                     // SecurityContextに認証情報を設定
                     SecurityContextHolder.getContext().setAuthentication(authentication);
+                } else if (logger.isDebugEnabled()) {
+                    // 不正トークンは想定内のため、DEBUG有効時のみ出力
+                    logger.debug("JWT認証失敗: " + request.getRequestURI());
                 }
             }
         } catch (Exception e) {
-            // トークン検証エラーの場合、ログ出力（本番環境ではロギングフレームワークを使用）
-            logger.error("JWT認証エラー: " + e.getMessage());
+            // verifyTokenは検証失敗時にnullを返すため、ここに来るのは想定外のエラーのみ
+            logger.warn("JWT認証処理で予期しないエラーが発生しました", e);
         }
 
         // 次のフィルターへ
@@ -80,19 +121,56 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     }
 
     /**
-     * リクエストからJWTトークンを抽出する
+     * Authorizationヘッダーからプリンシパルを解決する
      *
-     * @param request HTTPリクエスト
-     * @return JWTトークン（存在しない場合はnull）
+     * <p>検証済みキャッシュにヒットした場合は署名検証を省略する
+     *
+     * @param authorization Authorizationヘッダー値（Bearerスキーム）
+     * @return 検証済みプリンシパル（検証失敗時はnull）
      */
-    private String extractTokenFromRequest(HttpServletRequest request) {
-        String bearerToken = request.getHeader(AUTHORIZATION_HEADER);
+    private JwtPrincipal resolvePrincipal(String authorization) {
+        JwtPrincipal principal = verifiedTokenCache.get(authorization, BEARER_PREFIX.length());
+        if (principal != null) {
+            return principal;
+        }
 
-        if (bearerToken != null && bearerToken.startsWith(BEARER_PREFIX)) {
-            return bearerToken.substring(BEARER_PREFIX.length());
+        // キャッシュミス時のみトークンを切り出し、署名検証とクレーム解析を1回で実施
+        String token = authorization.substring(BEARER_PREFIX.length());
+        principal = jwtService.verifyToken(token);
+        if (principal != null) {
+            verifiedTokenCache.put(token, principal);
         }
+        return principal;
+    }
+
+    /**
+     * Bearerトークンを含むAuthorizationヘッダーかどうか（文字列を生成せずに判定）
+     *
+     * @param authorization Authorizationヘッダー値
+     * @return Bearerトークンを含む場合true
+     */
+    private static boolean hasBearerToken(String authorization) {
+        return authorization != null
+                && authorization.length() > BEARER_PREFIX.length()
+                && authorization.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length());
+    }
+
+    /**
+     * ロール番号に対応する権限リストを取得する
+     *
+     * @param role ロール番号
+     * @return 権限リスト（共有シングルトン）
+     */
+    private static List<GrantedAuthority> authoritiesFor(int role) {
+        return switch (role) {
+            case 0 -> ADMIN_AUTHORITIES;
+            case 4 -> MANAGER_AUTHORITIES;
+            default -> USER_AUTHORITIES;
+        };
+    }
 
-        return null;
+    private static List<GrantedAuthority> authoritiesOf(int role) {
+        return List.of(new SimpleGrantedAuthority("ROLE_" + mapRoleToString(role)));
     }
 
     /**
@@ -101,7 +179,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
      * @param role ロール番号
      * @return ロール文字列
      */
-    private String mapRoleToString(int role) {
+    private static String mapRoleToString(int role) {
         return switch (role) {
             case 0 -> "ADMIN"; // 管理者
             case 4 -> "MANAGER"; // マネージャー
@@ -0,0 +1,95 @@
+package com.api.todos.infrastructure.security;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import com.api.todos.domain.service.JwtPrincipal;
+
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
+
+/**
+ * JWT認証トークン（Infrastructure層）
+ *
+ * <p>JwtAuthenticationFilter がリクエスト毎に生成する認証情報。アロケーションを抑えるため以下の設計としている
+ *
+ * <ul>
+ *   <li>権限リストはロール毎の共有シングルトンをそのまま保持（親クラスによるコピーを行わない）
+ * </ul>
+ *
+ * <p>リクエスト詳細（WebAuthenticationDetails）はコンストラクタで生成する。
+ * HttpServletRequestはコンテナが再利用するため、トークンには保持しない
+ *
+ * <p>検証済みのプリンシパル情報を保持し、長時間の接続（変更通知）で有効期限・失効を確認できるようにする
+ */
+public class JwtAuthenticationToken extends AbstractAuthenticationToken {
+
+    private final JwtPrincipal jwtPrincipal;
+    private final List<GrantedAuthority> authorities;
+
+    /**
+     * コンストラクタ
+     *
+     * @param jwtPrincipal 検証済みのプリンシパル情報（ユーザーIDをPrincipalとする）
+     * @param authorities 権限リスト（イミュータブルな共有インスタンス）
+     * @param request リクエスト（リモートアドレス・セッションIDの取得に使用）
+     */
+    public JwtAuthenticationToken(
+            JwtPrincipal jwtPrincipal,
+            List<GrantedAuthority> authorities,
+            HttpServletRequest request) {
+        // 親クラスに権限を渡すとリストがコピーされるため、空の共有リストを渡して getAuthorities() で返す
+        super(AuthorityUtils.NO_AUTHORITIES);
+        this.jwtPrincipal = jwtPrincipal;
+        this.authorities = authorities;
+        setDetails(new WebAuthenticationDetails(request));
+        super.setAuthenticated(true);
+    }
+
+    @Override
+    public Object getPrincipal() {
+        return jwtPrincipal.userId();
+    }
+
+    /**
+     * トークンID（jtiクレーム）
+     *
+     * @return トークンID（jtiクレームのないトークンの場合null）
+     */
+    public String getTokenId() {
+        return jwtPrincipal.tokenId();
+    }
+
+    /**
+     * トークンの有効期限（expクレーム）
+     *
+     * @return 有効期限
+     */
+    public Instant getExpiresAt() {
+        return jwtPrincipal.expiresAt();
+    }
+
+    @Override
+    public Object getCredentials() {
+        return null;
+    }
+
+    @Override
+    public Collection<GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public void setAuthenticated(boolean authenticated) {
+        if (authenticated) {
+            throw new IllegalArgumentException("認証済み状態はコンストラクタでのみ設定できます");
+        }
+        super.setAuthenticated(false);
+    }
+}
@@ -0,0 +1,342 @@
+package com.api.todos.infrastructure.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.crypto.KeyGenerator;
+import javax.crypto.SecretKey;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.jsonwebtoken.Header;
+import io.jsonwebtoken.Locator;
+import io.jsonwebtoken.ProtectedHeader;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * JWT鍵リング（Infrastructure層）
+ *
+ * <p>署名鍵1つと、kid（Key ID）で索引付けした複数の検証鍵をメモリ上に保持する（インメモリJWKS）
+ *
+ * <p>【設計】
+ *
+ * <ul>
+ *   <li>鍵セットはイミュータブルなスナップショットとしてvolatileフィールドに保持し、検証時はロックなしでkid検索のみ行う
+ *   <li>ローテーション時は新しいスナップショットを構築して差し替える（更新は synchronized で直列化）
+ *   <li>ローテーションで退役した鍵は、発行済みトークンが失効するまで（jwt.expiration-ms）検証鍵として残す。
+ *       保持期間を過ぎた鍵は検証時に無効として扱い、定期処理（jwt.key-prune-interval-ms）で鍵セットから除外する
+ *   <li>検証鍵を除外・削除した場合は登録されたリスナー（検証済みJWTキャッシュの全削除）に通知する
+ *   <li>kidヘッダーを持たない既存トークンは初期鍵（jwt.key-id）で検証する
+ * </ul>
+ *
+ * <p>非対称アルゴリズムで jwt.private-key / jwt.public-key が未設定の場合は起動時に鍵ペアを生成する（単一ノード向け）
+ */
+@Component
+public class JwtKeyRing implements Locator<Key> {
+
+    private static final Logger log = LoggerFactory.getLogger(JwtKeyRing.class);
+
+    private final JwtAlgorithm algorithm;
+    private final String defaultKeyId;
+    private final long retentionMs;
+
+    /** 現在の鍵セット（検証時はロックなしで参照） */
+    private volatile KeySet keySet;
+
+    /** 検証鍵を除外・削除した場合に呼び出すリスナー */
+    private final List<Runnable> removalListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * コンストラクタ
+     *
+     * @param algorithm 署名アルゴリズム
+     * @param secret HS256用シークレットキー
+     * @param keyId 初期鍵のkid
+     * @param privateKey 非対称鍵の秘密鍵（PKCS#8、PEMまたはBase64 DER。空の場合は生成）
+     * @param publicKey 非対称鍵の公開鍵（X.509、PEMまたはBase64 DER。空の場合は生成）
+     * @param jwtExpirationMs JWT有効期限（ミリ秒）。退役鍵の保持期間に使用
+     */
+    public JwtKeyRing(
+            @Value("${jwt.algorithm:HS256}") JwtAlgorithm algorithm,
+            @Value("${jwt.secret:default-secret-key-change-this-in-production-minimum-256-bits}")
+                    String secret,
+            @Value("${jwt.key-id:default}") String keyId,
+            @Value("${jwt.private-key:}") String privateKey,
+            @Value("${jwt.public-key:}") String publicKey,
+            @Value("${jwt.expiration-ms:900000}") long jwtExpirationMs) {
+        this.algorithm = algorithm;
+        this.defaultKeyId = keyId;
+        this.retentionMs = jwtExpirationMs;
+
+        Key signingKey;
+        Key verificationKey;
+        if (!algorithm.isAsymmetric()) {
+            SecretKey secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+            signingKey = secretKey;
+            verificationKey = secretKey;
+        } else if (isBlank(privateKey) || isBlank(publicKey)) {
+            log.warn("jwt.private-key / jwt.public-key が未設定のため{}の鍵ペアを生成します", algorithm);
+            KeyPair keyPair = algorithm.generateKeyPair();
+            signingKey = keyPair.getPrivate();
+            verificationKey = keyPair.getPublic();
+        } else {
+            signingKey = decodePrivateKey(algorithm, privateKey);
+            verificationKey = decodePublicKey(algorithm, publicKey);
+        }
+        this.keySet =
+                new KeySet(
+                        new SigningKey(keyId, signingKey),
+                        Map.of(keyId, verificationKey),
+                        Map.of());
+    }
+
+    /**
+     * 署名鍵を取得する（kidと鍵は同一スナップショットから取得される）
+     *
+     * @return 署名鍵
+     */
+    public SigningKey signingKey() {
+        return keySet.signingKey();
+    }
+
+    /**
+     * kidに対応する検証鍵を取得する（ロックなし）
+     *
+     * <p>保持期間を過ぎた退役鍵は、鍵セットから除外される前でも無効として扱う
+     *
+     * @param keyId kid（nullの場合は初期鍵）
+     * @return 検証鍵（存在しない・保持期間を過ぎた場合はnull）
+     */
+    public Key verificationKey(String keyId) {
+        KeySet current = keySet;
+        String id = keyId != null ? keyId : defaultKeyId;
+        Instant retireAt = current.retireAt().get(id);
+        if (retireAt != null && retireAt.toEpochMilli() <= System.currentTimeMillis()) {
+            return null;
+        }
+        return current.verificationKeys().get(id);
+    }
+
+    /**
+     * 検証鍵を除外・削除した場合に呼び出すリスナーを登録する
+     *
+     * @param listener リスナー
+     */
+    public void addRemovalListener(Runnable listener) {
+        removalListeners.add(listener);
+    }
+
+    /**
+     * 現在有効な検証鍵の一覧を取得する
+     *
+     * @return kid → 検証鍵（イミュータブル）
+     */
+    public Map<String, Key> verificationKeys() {
+        return keySet.verificationKeys();
+    }
+
+    /**
+     * JJWTパーサーからの鍵検索（JWSヘッダーのkidで検証鍵を特定する）
+     *
+     * @param header JWTヘッダー
+     * @return 検証鍵（見つからない場合はnull。JJWTが検証失敗として扱う）
+     */
+    @Override
+    public Key locate(Header header) {
+        String keyId = header instanceof ProtectedHeader protectedHeader
+                ? protectedHeader.getKeyId()
+                : null;
+        return verificationKey(keyId);
+    }
+
+    /**
+     * 鍵をローテーションする
+     *
+     * <p>新しい鍵を生成して署名鍵に切り替える。旧署名鍵は jwt.expiration-ms 経過まで検証鍵として保持する
+     *
+     * @return 新しい署名鍵のkid
+     */
+    public synchronized String rotate() {
+        String newKeyId = UUID.randomUUID().toString();
+        Key signingKey;
+        Key verificationKey;
+        if (algorithm.isAsymmetric()) {
+            KeyPair keyPair = algorithm.generateKeyPair();
+            signingKey = keyPair.getPrivate();
+            verificationKey = keyPair.getPublic();
+        } else {
+            SecretKey secretKey = generateHmacKey();
+            signingKey = secretKey;
+            verificationKey = secretKey;
+        }
+
+        KeySet current = keySet;
+        Map<String, Instant> retireAt = new HashMap<>(current.retireAt());
+        retireAt.put(current.signingKey().keyId(), Instant.now().plusMillis(retentionMs));
+        Map<String, Key> verificationKeys = new HashMap<>(current.verificationKeys());
+        verificationKeys.put(newKeyId, verificationKey);
+        replace(
+                pruned(
+                        new KeySet(
+                                new SigningKey(newKeyId, signingKey),
+                                verificationKeys,
+                                retireAt)));
+
+        log.info("JWT署名鍵をローテーションしました: kid={}", newKeyId);
+        return newKeyId;
+    }
+
+    /**
+     * 定期ローテーション（jwt.key-rotation-cron、デフォルトは無効 "-"）
+     *
+     * <p>生成鍵はノード毎に異なるため、複数ノード構成では使用しないこと
+     */
+    @Scheduled(cron = "${jwt.key-rotation-cron:-}")
+    public void scheduledRotate() {
+        rotate();
+    }
+
+    /** 保持期間を過ぎた退役鍵を鍵セットから除外する（jwt.key-prune-interval-ms 間隔） */
+    @Scheduled(fixedDelayString = "${jwt.key-prune-interval-ms:60000}")
+    public synchronized void pruneRetiredKeys() {
+        replace(pruned(keySet));
+    }
+
+    /**
+     * 外部で発行された検証鍵を追加する（他ノード・外部IdPの公開鍵など）
+     *
+     * @param keyId kid
+     * @param key 検証鍵
+     */
+    public synchronized void addVerificationKey(String keyId, Key key) {
+        KeySet current = keySet;
+        Map<String, Key> verificationKeys = new HashMap<>(current.verificationKeys());
+        verificationKeys.put(keyId, key);
+        replace(pruned(new KeySet(current.signingKey(), verificationKeys, current.retireAt())));
+    }
+
+    /**
+     * 検証鍵を即時に削除する（署名中の鍵は削除できない）
+     *
+     * @param keyId kid
+     */
+    public synchronized void removeVerificationKey(String keyId) {
+        KeySet current = keySet;
+        if (current.signingKey().keyId().equals(keyId)) {
+            throw new IllegalArgumentException("署名中の鍵は削除できません: " + keyId);
+        }
+        Map<String, Key> verificationKeys = new HashMap<>(current.verificationKeys());
+        verificationKeys.remove(keyId);
+        Map<String, Instant> retireAt = new HashMap<>(current.retireAt());
+        retireAt.remove(keyId);
+        replace(
+                new KeySet(
+                        current.signingKey(),
+                        Map.copyOf(verificationKeys),
+                        Map.copyOf(retireAt)));
+    }
+
+    /** 鍵セットを差し替え、検証鍵が減った場合はリスナーに通知する（呼び出し元で同期する） */
+    private void replace(KeySet next) {
+        KeySet current = keySet;
+        keySet = next;
+        if (!next.verificationKeys().keySet().containsAll(current.verificationKeys().keySet())) {
+            log.info("JWT検証鍵を除外しました: kid={}", next.verificationKeys().keySet());
+            removalListeners.forEach(Runnable::run);
+        }
+    }
+
+    /** 保持期間を過ぎた退役鍵を除外したイミュータブルな鍵セットを構築する */
+    private static KeySet pruned(KeySet keySet) {
+        Instant now = Instant.now();
+        Map<String, Key> verificationKeys = new HashMap<>(keySet.verificationKeys());
+        Map<String, Instant> retireAt = new HashMap<>();
+        keySet.retireAt()
+                .forEach(
+                        (keyId, at) -> {
+                            if (at.isBefore(now)) {
+                                verificationKeys.remove(keyId);
+                            } else {
+                                retireAt.put(keyId, at);
+                            }
+                        });
+        return new KeySet(
+                keySet.signingKey(), Map.copyOf(verificationKeys), Map.copyOf(retireAt));
+    }
+
+    private static SecretKey generateHmacKey() {
+        try {
+            KeyGenerator generator = KeyGenerator.getInstance("HmacSHA256");
+            generator.init(256);
+            return generator.generateKey();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC鍵の生成に失敗しました", e);
+        }
+    }
+
+    private static PrivateKey decodePrivateKey(JwtAlgorithm algorithm, String encoded) {
+        try {
+            return KeyFactory.getInstance(algorithm.keyAlgorithm())
+                    .generatePrivate(new PKCS8EncodedKeySpec(decodePem(encoded)));
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalStateException("jwt.private-key を読み込めません", e);
+        }
+    }
+
+    private static PublicKey decodePublicKey(JwtAlgorithm algorithm, String encoded) {
+        try {
+            return KeyFactory.getInstance(algorithm.keyAlgorithm())
+                    .generatePublic(new X509EncodedKeySpec(decodePem(encoded)));
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalStateException("jwt.public-key を読み込めません", e);
+        }
+    }
+
+    /** PEM（-----BEGIN ...-----）またはBase64 DERをバイト列に変換する */
+    private static byte[] decodePem(String encoded) {
+        String base64 = encoded.replaceAll("-----[A-Z ]+-----", "").replaceAll("\\s", "");
+        return Base64.getDecoder().decode(base64);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    /**
+     * 署名鍵
+     *
+     * @param keyId kid
+     * @param key 署名鍵（HS256の場合はSecretKey、それ以外はPrivateKey）
+     */
+    public record SigningKey(String keyId, Key key) {}
+
+    /**
+     * 鍵セットのスナップショット
+     *
+     * @param signingKey 署名鍵
+     * @param verificationKeys kid → 検証鍵
+     * @param retireAt 退役鍵のkid → 検証鍵の削除予定時刻
+     */
+    private record KeySet(
+            SigningKey signingKey,
+            Map<String, Key> verificationKeys,
+            Map<String, Instant> retireAt) {}
+}
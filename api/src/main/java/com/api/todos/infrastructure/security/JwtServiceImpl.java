@@ -1,11 +1,9 @@
 package com.api.todos.infrastructure.security;
 
-import java.nio.charset.StandardCharsets;
 import java.util.Date;
 import java.util.UUID;
 
-import javax.crypto.SecretKey;
-
+import com.api.todos.domain.service.JwtPrincipal;
 import com.api.todos.domain.service.JwtService;
 
 import org.springframework.beans.factory.annotation.Value;
@@ -13,28 +11,37 @@ import org.springframework.stereotype.Service;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
 
-/** JWT サービス実装（Infrastructure層） Domain層のJwtServiceインターフェースを実装 JJWTライブラリを使用したJWT生成・検証処理 */
+/**
+ * JWT サービス実装（Infrastructure層） Domain層のJwtServiceインターフェースを実装 JJWTライブラリを使用したJWT生成・検証処理
+ *
+ * <p>署名鍵・検証鍵は {@link JwtKeyRing} が管理する。発行するトークンにはkidヘッダーを付与し、 検証時はkidで鍵を特定して1回だけ署名検証する
+ *
+ * <p>アクセストークンは短命（デフォルト15分）とし、個別に失効できるようトークンID（jtiクレーム）を付与する。
+ * jtiクレーム導入前に発行されたトークンも有効期限までは受け付ける（個別の失効はできない）
+ */
 @Service
 public class JwtServiceImpl implements JwtService {
 
-    private final SecretKey secretKey;
+    private final JwtKeyRing keyRing;
     private final long jwtExpirationMs;
 
+    /** 検証用パーサー（イミュータブル・スレッドセーフなため起動時に1度だけ構築して再利用） */
+    private final JwtParser jwtParser;
+
     /**
      * コンストラクタ
      *
-     * @param secret JWT署名用シークレットキー（application.propertiesから注入）
+     * @param keyRing JWT鍵リング
      * @param jwtExpirationMs JWT有効期限（ミリ秒）
      */
     public JwtServiceImpl(
-            @Value("${jwt.secret:default-secret-key-change-this-in-production-minimum-256-bits}")
-                    String secret,
-            @Value("${jwt.expiration-ms:86400000}") long jwtExpirationMs) {
-        this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+            JwtKeyRing keyRing, @Value("${jwt.expiration-ms:900000}") long jwtExpirationMs) {
+        this.keyRing = keyRing;
         this.jwtExpirationMs = jwtExpirationMs;
+        this.jwtParser = Jwts.parser().keyLocator(keyRing).build();
     }
 
     @Override
@@ -42,16 +49,46 @@ public class JwtServiceImpl implements JwtService {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtExpirationMs);
 
+        JwtKeyRing.SigningKey signingKey = keyRing.signingKey();
+
         return Jwts.builder()
+                .header()
+                .keyId(signingKey.keyId())
+                .and()
+                .id(UUID.randomUUID().toString())
                 .subject(userId.toString())
                 .claim("username", username)
                 .claim("role", role)
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(secretKey)
+                .signWith(signingKey.key())
                 .compact();
     }
 
+    @Override
+    public JwtPrincipal verifyToken(String token) {
+        try {
+            Claims claims = extractClaims(token);
+            String tokenId = claims.getId();
+            String username = claims.get("username", String.class);
+            Integer role = claims.get("role", Integer.class);
+            Date expiration = claims.getExpiration();
+            // jtiクレームのない既存トークンは tokenId=null として受け付ける
+            String subject = claims.getSubject();
+            if (subject == null || username == null || role == null || expiration == null) {
+                return null;
+            }
+            return new JwtPrincipal(
+                    tokenId,
+                    UUID.fromString(subject),
+                    username,
+                    role,
+                    expiration.toInstant());
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
     @Override
     public UUID validateTokenAndGetUserId(String token) {
         try {
@@ -94,13 +131,13 @@ public class JwtServiceImpl implements JwtService {
     }
 
     /**
-     * JWTトークンからClaimsを抽出する（内部メソッド）
+     * JWTトークンからClaimsを抽出する（内部メソッド、ベンチマークから直接呼べるようパッケージプライベート）
      *
      * @param token JWTトークン
      * @return Claims
      * @throws JwtException トークンが無効な場合
      */
-    private Claims extractClaims(String token) throws JwtException {
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload();
+    Claims extractClaims(String token) throws JwtException {
+        return jwtParser.parseSignedClaims(token).getPayload();
     }
 }
@@ -0,0 +1,59 @@
+package com.api.todos.infrastructure.security;
+
+/**
+ * JWT（JWS Compact Serialization）の形式チェック（Infrastructure層）
+ *
+ * <p>署名検証・Base64デコード・JSON解析の前に、明らかに不正なトークンを文字列走査のみで除外する
+ *
+ * <ul>
+ *   <li>長さが上限以内であること
+ *   <li>「.」で区切られた3セグメント（ヘッダー・ペイロード・署名）で、いずれも空でないこと
+ *   <li>各セグメントがbase64url文字（A-Z a-z 0-9 - _）のみで構成されること
+ * </ul>
+ */
+public final class JwtTokenFormat {
+
+    private static final int SEGMENT_COUNT = 3;
+
+    private JwtTokenFormat() {}
+
+    /**
+     * トークンが形式上正しいかどうか（部分文字列を生成せずに判定）
+     *
+     * @param source トークンを含む文字列
+     * @param offset トークンの開始位置
+     * @param maxLength トークンの最大長
+     * @return 形式上正しい場合true
+     */
+    public static boolean isWellFormed(String source, int offset, int maxLength) {
+        int length = source.length() - offset;
+        if (length <= 0 || length > maxLength) {
+            return false;
+        }
+
+        int segments = 1;
+        int segmentLength = 0;
+        for (int i = offset; i < source.length(); i++) {
+            char c = source.charAt(i);
+            if (c == '.') {
+                if (segmentLength == 0 || ++segments > SEGMENT_COUNT) {
+                    return false;
+                }
+                segmentLength = 0;
+            } else if (isBase64Url(c)) {
+                segmentLength++;
+            } else {
+                return false;
+            }
+        }
+        return segments == SEGMENT_COUNT && segmentLength > 0;
+    }
+
+    private static boolean isBase64Url(char c) {
+        return (c >= 'A' && c <= 'Z')
+                || (c >= 'a' && c <= 'z')
+                || (c >= '0' && c <= '9')
+                || c == '-'
+                || c == '_';
+    }
+}
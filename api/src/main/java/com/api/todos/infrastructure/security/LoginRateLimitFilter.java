@@ -0,0 +1,68 @@
+package com.api.todos.infrastructure.security;
+
+import java.io.IOException;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 認証エンドポイントのIP毎レート制限フィルター（Infrastructure層）
+ *
+ * <p>/api/auth/** へのリクエストをクライアントIP毎に制限し、超過時はリクエストボディの解析・パスワードハッシュ処理の前に 429 Too Many
+ * Requests（Retry-Afterヘッダー付き）を返す
+ *
+ * <p>クライアントIPは {@link HttpServletRequest#getRemoteAddr()} を使用する。リバースプロキシ配下では
+ * server.forward-headers-strategy を設定してX-Forwarded-Forを反映すること
+ */
+@Component
+public class LoginRateLimitFilter extends OncePerRequestFilter {
+
+    private static final String AUTH_PATH = "/api/auth";
+
+    private static final String TOO_MANY_REQUESTS_BODY =
+            "{\"success\":false,\"message\":\"Too many requests\"}";
+
+    private final LoginRateLimiter rateLimiter;
+
+    public LoginRateLimitFilter(LoginRateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    /**
+     * /api/auth/** 以外はフィルター処理を行わない
+     *
+     * @param request HTTPリクエスト
+     * @return /api/auth/** 以外の場合true
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        int offset = request.getContextPath().length();
+        return !(uri.startsWith(AUTH_PATH, offset)
+                && (uri.length() == offset + AUTH_PATH.length()
+                        || uri.charAt(offset + AUTH_PATH.length()) == '/'));
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long retryAfterSeconds = rateLimiter.tryAcquireForIp(request.getRemoteAddr());
+        if (retryAfterSeconds > 0) {
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getWriter().write(TOO_MANY_REQUESTS_BODY);
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+}
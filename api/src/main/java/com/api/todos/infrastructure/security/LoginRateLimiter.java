@@ -0,0 +1,164 @@
+package com.api.todos.infrastructure.security;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import com.api.todos.application.exception.TooManyRequestsException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 認証エンドポイントのレート制限（Infrastructure層）
+ *
+ * <p>クレデンシャルスタッフィング等の大量リクエストでパスワードハッシュ処理（CPU）が占有されないよう、 クライアントIP毎・ユーザー名毎に
+ * {@link TokenBucket} で試行回数を制限する
+ *
+ * <p>【設計】
+ *
+ * <ul>
+ *   <li>バケットの取得はCAS 1回（ロックなし）。許可されるリクエストへの追加コストはCaffeineの参照とCAS程度（1マイクロ秒未満）
+ *   <li>バケットはキー数の上限（auth.rate-limit.maximum-keys）までCaffeineで保持し、一定時間アクセスのないものは破棄する
+ *   <li>アイドル時間は満杯まで補充される時間以上とする（部分的に消費したバケットを破棄して制限が緩まないようにする）
+ * </ul>
+ *
+ * <p>IP毎の制限は {@link LoginRateLimitFilter} で /api/auth/** の全リクエストに、ユーザー名毎の制限はログイン時に適用する
+ */
+@Component
+public class LoginRateLimiter {
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final boolean enabled;
+    private final Limit ipLimit;
+    private final Limit usernameLimit;
+
+    /**
+     * コンストラクタ
+     *
+     * @param enabled レート制限有効フラグ
+     * @param ipCapacity IP毎の容量（連続試行回数）
+     * @param ipRefillIntervalMs IP毎の補充間隔（ミリ秒）
+     * @param usernameCapacity ユーザー名毎の容量（連続試行回数）
+     * @param usernameRefillIntervalMs ユーザー名毎の補充間隔（ミリ秒）
+     * @param maximumKeys 保持するバケット数の上限（IP・ユーザー名それぞれ）
+     * @param idleTimeoutMs バケットを破棄するまでのアイドル時間（ミリ秒）
+     */
+    @Autowired
+    public LoginRateLimiter(
+            @Value("${auth.rate-limit.enabled:true}") boolean enabled,
+            @Value("${auth.rate-limit.ip.capacity:30}") int ipCapacity,
+            @Value("${auth.rate-limit.ip.refill-interval-ms:2000}") long ipRefillIntervalMs,
+            @Value("${auth.rate-limit.username.capacity:5}") int usernameCapacity,
+            @Value("${auth.rate-limit.username.refill-interval-ms:12000}")
+                    long usernameRefillIntervalMs,
+            @Value("${auth.rate-limit.maximum-keys:100000}") long maximumKeys,
+            @Value("${auth.rate-limit.idle-timeout-ms:600000}") long idleTimeoutMs) {
+        this(
+                enabled,
+                ipCapacity,
+                ipRefillIntervalMs,
+                usernameCapacity,
+                usernameRefillIntervalMs,
+                maximumKeys,
+                idleTimeoutMs,
+                Ticker.systemTicker());
+    }
+
+    /**
+     * コンストラクタ（時刻の取得元を指定）
+     *
+     * @param ticker 現在時刻（ナノ秒。バケットの補充とアイドル時間の判定に使用）
+     */
+    LoginRateLimiter(
+            boolean enabled,
+            int ipCapacity,
+            long ipRefillIntervalMs,
+            int usernameCapacity,
+            long usernameRefillIntervalMs,
+            long maximumKeys,
+            long idleTimeoutMs,
+            Ticker ticker) {
+        this.enabled = enabled;
+        this.ipLimit =
+                new Limit(ipCapacity, ipRefillIntervalMs, maximumKeys, idleTimeoutMs, ticker);
+        this.usernameLimit =
+                new Limit(
+                        usernameCapacity,
+                        usernameRefillIntervalMs,
+                        maximumKeys,
+                        idleTimeoutMs,
+                        ticker);
+    }
+
+    /**
+     * クライアントIPの試行を1回消費する
+     *
+     * @param clientIp クライアントIP
+     * @return 許可された場合0、拒否された場合は再試行までの推奨待機時間（秒）
+     */
+    public long tryAcquireForIp(String clientIp) {
+        return enabled ? ipLimit.tryAcquire(clientIp) : 0;
+    }
+
+    /**
+     * ユーザー名の試行を1回消費する
+     *
+     * @param username ユーザー名
+     * @throws TooManyRequestsException 制限を超えた場合
+     */
+    public void acquireForUsername(String username) {
+        long retryAfterSeconds = enabled ? usernameLimit.tryAcquire(username) : 0;
+        if (retryAfterSeconds > 0) {
+            throw new TooManyRequestsException("Too many login attempts", retryAfterSeconds);
+        }
+    }
+
+    /** キー毎のトークンバケット群 */
+    private static final class Limit {
+
+        private final int capacity;
+        private final long intervalNanos;
+        private final Cache<String, TokenBucket> buckets;
+        private final Ticker ticker;
+
+        Limit(
+                int capacity,
+                long refillIntervalMs,
+                long maximumKeys,
+                long idleTimeoutMs,
+                Ticker ticker) {
+            if (capacity < 1 || refillIntervalMs < 1) {
+                throw new IllegalStateException("レート制限の容量・補充間隔は1以上で指定してください");
+            }
+            this.capacity = capacity;
+            this.intervalNanos = TimeUnit.MILLISECONDS.toNanos(refillIntervalMs);
+            long idleMs = Math.max(idleTimeoutMs, refillIntervalMs * capacity);
+            this.buckets =
+                    Caffeine.newBuilder()
+                            .maximumSize(maximumKeys)
+                            .expireAfterAccess(Duration.ofMillis(idleMs))
+                            .ticker(ticker)
+                            .build();
+            this.ticker = ticker;
+        }
+
+        long tryAcquire(String key) {
+            long now = ticker.read();
+            TokenBucket bucket = buckets.getIfPresent(key);
+            if (bucket == null) {
+                bucket = buckets.get(key, k -> new TokenBucket(capacity, intervalNanos, now));
+            }
+            long waitNanos = bucket.tryAcquire(now);
+            return waitNanos == 0 ? 0 : Math.max(1, ceilDiv(waitNanos, NANOS_PER_SECOND));
+        }
+
+        private static long ceilDiv(long dividend, long divisor) {
+            return -Math.floorDiv(-dividend, divisor);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.api.todos.infrastructure.security;
+
+import java.util.Map;
+
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.scrypt.SCryptPasswordEncoder;
+
+/**
+ * パスワードエンコーダーの生成（Infrastructure層）
+ *
+ * <p>新規ハッシュは「{id}ハッシュ」形式で保存し、検証時はidで対応するエンコーダーに委譲する（{@link DelegatingPasswordEncoder}）。
+ * id接頭辞を持たない既存のハッシュ（BCrypt）もそのまま検証でき、ログイン時に現在のidで再計算される
+ *
+ * <p>ソルト長16バイト・ハッシュ長32バイトは各アルゴリズムで共通とし、CPU・メモリのコストのみ設定で調整する
+ */
+public final class PasswordEncoders {
+
+    /** BCryptのid */
+    public static final String BCRYPT = "bcrypt";
+
+    /** Argon2idのid */
+    public static final String ARGON2 = "argon2";
+
+    /** scryptのid */
+    public static final String SCRYPT = "scrypt";
+
+    private static final int SALT_LENGTH = 16;
+    private static final int HASH_LENGTH = 32;
+
+    private PasswordEncoders() {}
+
+    /**
+     * BCryptエンコーダーを生成する
+     *
+     * @param strength コスト（4〜31）
+     * @return エンコーダー
+     */
+    public static PasswordEncoder bcrypt(int strength) {
+        return new BCryptPasswordEncoder(strength);
+    }
+
+    /**
+     * Argon2idエンコーダーを生成する
+     *
+     * @param memoryKib 使用メモリ（KiB）
+     * @param iterations 反復回数
+     * @param parallelism 並列度（レーン数）
+     * @return エンコーダー
+     */
+    public static PasswordEncoder argon2(int memoryKib, int iterations, int parallelism) {
+        return new Argon2PasswordEncoder(
+                SALT_LENGTH, HASH_LENGTH, parallelism, memoryKib, iterations);
+    }
+
+    /**
+     * scryptエンコーダーを生成する
+     *
+     * <p>使用メモリは 128 × cpuCost × blockSize バイト
+     *
+     * @param cpuCost CPUコスト N（2の累乗）
+     * @param blockSize ブロックサイズ r
+     * @param parallelism 並列度 p
+     * @return エンコーダー
+     */
+    public static PasswordEncoder scrypt(int cpuCost, int blockSize, int parallelism) {
+        return new SCryptPasswordEncoder(
+                cpuCost, blockSize, parallelism, HASH_LENGTH, SALT_LENGTH);
+    }
+
+    /**
+     * id接頭辞で委譲するエンコーダーを生成する
+     *
+     * @param idForEncode 新規ハッシュに使用するid
+     * @param encoders idとエンコーダーの対応（BCRYPTを含むこと）
+     * @return エンコーダー
+     * @throws IllegalStateException idForEncodeに対応するエンコーダーがない場合
+     */
+    public static PasswordEncoder delegating(
+            String idForEncode, Map<String, PasswordEncoder> encoders) {
+        if (!encoders.containsKey(idForEncode)) {
+            throw new IllegalStateException(
+                    "password.encoder は" + encoders.keySet() + "のいずれかを指定してください: " + idForEncode);
+        }
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(idForEncode, encoders);
+        // id接頭辞のない既存ハッシュはBCryptとして検証する
+        delegating.setDefaultPasswordEncoderForMatches(encoders.get(BCRYPT));
+        return delegating;
+    }
+}
@@ -0,0 +1,32 @@
+package com.api.todos.infrastructure.security;
+
+import com.api.todos.domain.service.PasswordHasher;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+/** パスワードハッシュサービス実装（Infrastructure層） Domain層のPasswordHasherインターフェースを実装 Spring SecurityのPasswordEncoderに委譲する */
+@Service
+public class PasswordHasherImpl implements PasswordHasher {
+
+    private final PasswordEncoder passwordEncoder;
+
+    public PasswordHasherImpl(PasswordEncoder passwordEncoder) {
+        this.passwordEncoder = passwordEncoder;
+    }
+
+    @Override
+    public String hash(String rawPassword) {
+        return passwordEncoder.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(String rawPassword, String passwordHash) {
+        return passwordEncoder.matches(rawPassword, passwordHash);
+    }
+
+    @Override
+    public boolean needsRehash(String passwordHash) {
+        return passwordEncoder.upgradeEncoding(passwordHash);
+    }
+}
@@ -0,0 +1,93 @@
+package com.api.todos.infrastructure.security;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import com.api.todos.application.exception.TooManyRequestsException;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+
+/**
+ * パスワードハッシュ処理専用の実行プール（Infrastructure層）
+ *
+ * <p>BCrypt等のハッシュ計算は1回あたり数百ミリ秒のCPU処理のため、Tomcatのリクエストスレッドでは実行せず専用プールで実行する
+ *
+ * <p>【バックプレッシャー】
+ *
+ * <ul>
+ *   <li>スレッド数（password.hashing.pool-size、デフォルトはCPUコア数）と待ち行列（password.hashing.queue-capacity）は有限
+ *   <li>待ち行列が満杯の場合は待たずに {@link TooManyRequestsException}（429）で即座に拒否する
+ *   <li>実行中・待機中のタスク数はMicrometer（password.hashing）で公開する
+ * </ul>
+ */
+@Component
+public class PasswordHashingExecutor implements DisposableBean {
+
+    /** メトリクス名 */
+    static final String EXECUTOR_NAME = "password.hashing";
+
+    /** 拒否時に返す再試行までの推奨待機時間（秒） */
+    private static final long RETRY_AFTER_SECONDS = 1;
+
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * コンストラクタ
+     *
+     * @param poolSize スレッド数（0以下の場合はCPUコア数）
+     * @param queueCapacity 待ち行列の上限
+     * @param meterRegistry メトリクスレジストリ（存在する場合のみ登録）
+     */
+    public PasswordHashingExecutor(
+            @Value("${password.hashing.pool-size:0}") int poolSize,
+            @Value("${password.hashing.queue-capacity:64}") int queueCapacity,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        this.executor =
+                new ThreadPoolExecutor(
+                        threads,
+                        threads,
+                        0L,
+                        TimeUnit.MILLISECONDS,
+                        new ArrayBlockingQueue<>(queueCapacity),
+                        Thread.ofPlatform().name("password-hashing-", 0).daemon(true).factory(),
+                        new ThreadPoolExecutor.AbortPolicy());
+        meterRegistry.ifAvailable(
+                registry ->
+                        new ExecutorServiceMetrics(executor, EXECUTOR_NAME, Tags.empty())
+                                .bindTo(registry));
+    }
+
+    /**
+     * ハッシュ計算を含む処理をプールで実行する
+     *
+     * @param <T> 処理結果の型
+     * @param task 処理
+     * @return 処理結果
+     * @throws TooManyRequestsException プールが飽和している場合
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            throw new TooManyRequestsException(
+                    "Too many authentication requests", RETRY_AFTER_SECONDS);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,66 @@
+package com.api.todos.infrastructure.security;
+
+import java.util.List;
+
+/**
+ * 認証不要エンドポイント定義（Infrastructure層）
+ *
+ * <p>SecurityConfig の permitAll と JwtAuthenticationFilter のスキップ判定で同じ定義を共有する
+ *
+ * <p>判定はリクエスト毎に実行されるため、パターンマッチャーを使わず文字列比較のみで行う（「/**」で終わるパターンは前方一致）
+ */
+public final class PublicEndpoints {
+
+    /** 認証不要エンドポイントのパターン */
+    public static final List<String> PATTERNS =
+            List.of("/", "/health", "/status", "/actuator/health", "/api/auth/**");
+
+    private static final String WILDCARD_SUFFIX = "/**";
+
+    /** 完全一致で判定するパス */
+    private static final String[] EXACT_PATHS =
+            PATTERNS.stream().filter(p -> !p.endsWith(WILDCARD_SUFFIX)).toArray(String[]::new);
+
+    /** 前方一致で判定するパス（「/**」を除いた部分） */
+    private static final String[] PREFIX_PATHS =
+            PATTERNS.stream()
+                    .filter(p -> p.endsWith(WILDCARD_SUFFIX))
+                    .map(p -> p.substring(0, p.length() - WILDCARD_SUFFIX.length()))
+                    .toArray(String[]::new);
+
+    private PublicEndpoints() {}
+
+    /**
+     * Spring Securityのマッチャー用にパターンを配列で取得する
+     *
+     * @return パターン配列
+     */
+    public static String[] patterns() {
+        return PATTERNS.toArray(String[]::new);
+    }
+
+    /**
+     * パスが認証不要エンドポイントに一致するかどうか（部分文字列を生成せずに判定）
+     *
+     * @param uri リクエストURI
+     * @param offset コンテキストパスの長さ（パスの開始位置）
+     * @return 一致する場合true
+     */
+    public static boolean matches(String uri, int offset) {
+        int pathLength = uri.length() - offset;
+        for (String path : EXACT_PATHS) {
+            if (pathLength == path.length() && uri.startsWith(path, offset)) {
+                return true;
+            }
+        }
+        // 「/api/auth/**」は「/api/auth」と「/api/auth/...」に一致
+        for (String prefix : PREFIX_PATHS) {
+            if (uri.startsWith(prefix, offset)
+                    && (pathLength == prefix.length()
+                            || uri.charAt(offset + prefix.length()) == '/')) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
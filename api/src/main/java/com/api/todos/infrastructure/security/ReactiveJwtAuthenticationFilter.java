@@ -0,0 +1,118 @@
+package com.api.todos.infrastructure.security;
+
+import java.util.UUID;
+
+import com.api.todos.domain.service.JwtPrincipal;
+import com.api.todos.domain.service.JwtService;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.server.HandlerFilterFunction;
+import org.springframework.web.reactive.function.server.HandlerFunction;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * JWT認証フィルター（リアクティブ読み取りAPI用）
+ *
+ * <p>{@link JwtAuthenticationFilter} と同じ手順（形式チェック → 検証済みキャッシュ → 署名検証 → 失効判定）で
+ * 「Authorization: Bearer {token}」を検証し、認証ユーザーIDをリクエスト属性 {@link #USER_ID_ATTRIBUTE} に設定する。
+ * 認証できない場合は 401 Unauthorized を返す
+ *
+ * <p>【ブロッキング処理の分離】
+ *
+ * <p>失効判定はBloomフィルター（メモリ）で未失効と確定できる場合はイベントループ上で完了する。
+ * 失効済みの可能性がある場合のみ、データベース（JPA）での確認をブロッキング用のスケジューラーで行う
+ */
+public class ReactiveJwtAuthenticationFilter
+        implements HandlerFilterFunction<ServerResponse, ServerResponse> {
+
+    /** 認証ユーザーID（UUID）のリクエスト属性名 */
+    public static final String USER_ID_ATTRIBUTE =
+            ReactiveJwtAuthenticationFilter.class.getName() + ".userId";
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private static final Logger log =
+            LoggerFactory.getLogger(ReactiveJwtAuthenticationFilter.class);
+
+    private final JwtService jwtService;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final RevokedTokenRegistry revokedTokenRegistry;
+    private final int maxTokenLength;
+
+    public ReactiveJwtAuthenticationFilter(
+            JwtService jwtService,
+            VerifiedTokenCache verifiedTokenCache,
+            RevokedTokenRegistry revokedTokenRegistry,
+            int maxTokenLength) {
+        this.jwtService = jwtService;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.revokedTokenRegistry = revokedTokenRegistry;
+        this.maxTokenLength = maxTokenLength;
+    }
+
+    @Override
+    public Mono<ServerResponse> filter(
+            ServerRequest request, HandlerFunction<ServerResponse> next) {
+        String authorization = request.headers().firstHeader(HttpHeaders.AUTHORIZATION);
+        JwtPrincipal principal = resolvePrincipal(authorization);
+        if (principal == null) {
+            if (log.isDebugEnabled()) {
+                log.debug("JWT認証失敗: {}", request.path());
+            }
+            return unauthorized();
+        }
+        if (!revokedTokenRegistry.mightBeRevoked(principal.tokenId())) {
+            return next.handle(authenticated(request, principal.userId()));
+        }
+        return Mono.fromCallable(() -> revokedTokenRegistry.isRevoked(principal.tokenId()))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(
+                        revoked ->
+                                revoked
+                                        ? unauthorized()
+                                        : next.handle(authenticated(request, principal.userId())));
+    }
+
+    /**
+     * Authorizationヘッダーからプリンシパルを解決する（失効判定は含まない）
+     *
+     * @param authorization Authorizationヘッダー値
+     * @return 検証済みプリンシパル（Bearerトークンがない・形式不正・検証失敗の場合はnull）
+     */
+    private JwtPrincipal resolvePrincipal(String authorization) {
+        if (authorization == null
+                || authorization.length() <= BEARER_PREFIX.length()
+                || !authorization.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())
+                || !JwtTokenFormat.isWellFormed(
+                        authorization, BEARER_PREFIX.length(), maxTokenLength)) {
+            return null;
+        }
+        JwtPrincipal principal = verifiedTokenCache.get(authorization, BEARER_PREFIX.length());
+        if (principal != null) {
+            return principal;
+        }
+
+        String token = authorization.substring(BEARER_PREFIX.length());
+        principal = jwtService.verifyToken(token);
+        if (principal != null) {
+            verifiedTokenCache.put(token, principal);
+        }
+        return principal;
+    }
+
+    private static ServerRequest authenticated(ServerRequest request, UUID userId) {
+        request.attributes().put(USER_ID_ATTRIBUTE, userId);
+        return request;
+    }
+
+    private static Mono<ServerResponse> unauthorized() {
+        return ServerResponse.status(HttpStatus.UNAUTHORIZED).build();
+    }
+}
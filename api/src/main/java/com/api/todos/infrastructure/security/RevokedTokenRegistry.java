@@ -0,0 +1,153 @@
+package com.api.todos.infrastructure.security;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.api.todos.domain.service.TokenRevocationService;
+import com.api.todos.infrastructure.persistence.entity.RevokedTokenJpaEntity;
+import com.api.todos.infrastructure.persistence.repository.RevokedTokenJpaRepository;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 失効済みアクセストークンの管理（Infrastructure層） Domain層のTokenRevocationServiceインターフェースを実装
+ *
+ * <p>失効リストはrevoked_tokensテーブルに永続化し、判定はメモリ上の {@link BloomFilter} で行う。
+ * 未失効トークン（リクエストの大半）はBloomフィルターが「含まれない」と判定するため、データベースにアクセスしない
+ *
+ * <p>【判定】
+ *
+ * <ol>
+ *   <li>Bloomフィルターに含まれない → 未失効（確定）
+ *   <li>このノードで直近に失効させたトークン → 失効済み
+ *   <li>それ以外（偽陽性の可能性あり） → データベースで確認
+ * </ol>
+ *
+ * <p>【再構築】
+ *
+ * <ul>
+ *   <li>jwt.revocation.rebuild-interval-ms 毎にデータベースから有効期限内の失効リストを読み込み、新しいフィルターに差し替える
+ *   <li>有効期限切れのトークンは読み込まないため、フィルターは無制限に大きくならない
+ *   <li>他ノードで失効させたトークンは次の再構築で反映される
+ *   <li>起動後の初回再構築が完了するまでは、すべての判定をデータベースで行う
+ * </ul>
+ */
+@Component
+public class RevokedTokenRegistry implements TokenRevocationService {
+
+    private static final Logger log = LoggerFactory.getLogger(RevokedTokenRegistry.class);
+
+    private final RevokedTokenJpaRepository repository;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+
+    /** 現在のBloomフィルター（初回再構築前はnull） */
+    private volatile BloomFilter filter;
+
+    /**
+     * このノードで直近に失効させたトークン（jti → 失効時刻）
+     *
+     * <p>再構築中の失効や、コミット前でデータベースから読めない失効を取りこぼさないため、次の再構築が完了するまで保持する
+     */
+    private final Map<String, Instant> recentRevocations = new ConcurrentHashMap<>();
+
+    /** 前回の再構築開始時刻 */
+    private Instant lastRebuildStartedAt = Instant.EPOCH;
+
+    /**
+     * コンストラクタ
+     *
+     * @param repository 失効済みトークンリポジトリ
+     * @param expectedInsertions Bloomフィルターの想定件数（実件数の2倍がこれを超える場合は実件数に合わせて拡張）
+     * @param falsePositiveRate Bloomフィルターの偽陽性率
+     */
+    public RevokedTokenRegistry(
+            RevokedTokenJpaRepository repository,
+            @Value("${jwt.revocation.expected-insertions:100000}") long expectedInsertions,
+            @Value("${jwt.revocation.false-positive-rate:0.001}") double falsePositiveRate) {
+        this.repository = repository;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    @Override
+    public void revoke(String tokenId, Instant expiresAt) {
+        if (tokenId == null) {
+            return;
+        }
+        repository.save(
+                new RevokedTokenJpaEntity(
+                        tokenId, LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault())));
+
+        // 再構築との競合に備え、直近の失効に記録してから現在のフィルターに追加する
+        recentRevocations.put(tokenId, Instant.now());
+        BloomFilter current = filter;
+        if (current != null) {
+            current.put(tokenId);
+        }
+    }
+
+    @Override
+    public boolean isRevoked(String tokenId) {
+        if (!mightBeRevoked(tokenId)) {
+            return false;
+        }
+        if (recentRevocations.containsKey(tokenId)) {
+            return true;
+        }
+        return repository.existsActive(tokenId, LocalDateTime.now());
+    }
+
+    /**
+     * 失効済みの可能性があるかどうか（メモリ上のBloomフィルターのみで判定し、データベースにはアクセスしない）
+     *
+     * <p>falseの場合は未失効で確定する。trueの場合は {@link #isRevoked(String)} で確認する必要がある
+     *
+     * @param tokenId トークンID（jtiクレーム）
+     * @return 失効済みの可能性がある場合true（初回再構築前は常にtrue。トークンIDがnullの場合false）
+     */
+    public boolean mightBeRevoked(String tokenId) {
+        if (tokenId == null) {
+            return false;
+        }
+        BloomFilter current = filter;
+        return current == null || current.mightContain(tokenId);
+    }
+
+    /** データベースの失効リストからBloomフィルターを再構築する */
+    @Scheduled(fixedDelayString = "${jwt.revocation.rebuild-interval-ms:60000}")
+    public synchronized void rebuild() {
+        Instant startedAt = Instant.now();
+        List<String> tokenIds = repository.findActiveTokenIds(LocalDateTime.now());
+
+        BloomFilter rebuilt =
+                BloomFilter.create(
+                        Math.max(expectedInsertions, tokenIds.size() * 2L), falsePositiveRate);
+        tokenIds.forEach(rebuilt::put);
+        recentRevocations.keySet().forEach(rebuilt::put);
+        filter = rebuilt;
+        // 差し替え前に旧フィルターへ追加された失効を反映
+        recentRevocations.keySet().forEach(rebuilt::put);
+
+        // 前回の再構築開始前に失効させたものは、今回の読み込みに含まれているため破棄
+        Instant cutoff = lastRebuildStartedAt;
+        recentRevocations.values().removeIf(revokedAt -> revokedAt.isBefore(cutoff));
+        lastRebuildStartedAt = startedAt;
+
+        if (log.isDebugEnabled()) {
+            log.debug(
+                    "失効トークンのBloomフィルターを再構築しました: 件数={}, ビット数={}, ハッシュ数={}",
+                    tokenIds.size(),
+                    rebuilt.bitCount(),
+                    rebuilt.hashCount());
+        }
+    }
+}
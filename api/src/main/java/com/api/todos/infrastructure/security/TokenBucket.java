@@ -0,0 +1,59 @@
+package com.api.todos.infrastructure.security;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ロックフリーなトークンバケット（Infrastructure層）
+ *
+ * <p>GCRA（Generic Cell Rate Algorithm）で実装する。トークン数と最終補充時刻の代わりに「次のトークンが理論上到着する時刻（TAT）」1つだけを
+ * AtomicLongで保持するため、取得はCAS 1回で完了し、補充のためのタイマーも不要
+ *
+ * <ul>
+ *   <li>容量 capacity：連続して許可できる最大回数（バースト）
+ *   <li>補充間隔 interval：1トークンが補充されるまでの時間
+ * </ul>
+ */
+final class TokenBucket {
+
+    private final long intervalNanos;
+
+    /** バースト許容量（TATが現在時刻よりこの分だけ先行していても許可する） */
+    private final long burstToleranceNanos;
+
+    /** 理論到着時刻（System.nanoTime基準） */
+    private final AtomicLong theoreticalArrival;
+
+    /**
+     * コンストラクタ（満杯の状態で生成）
+     *
+     * @param capacity 容量
+     * @param intervalNanos 補充間隔（ナノ秒）
+     * @param nowNanos 現在時刻（System.nanoTime）
+     */
+    TokenBucket(int capacity, long intervalNanos, long nowNanos) {
+        this.intervalNanos = intervalNanos;
+        this.burstToleranceNanos = intervalNanos * (capacity - 1);
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * トークンを1つ取得する
+     *
+     * @param nowNanos 現在時刻（System.nanoTime）
+     * @return 取得できた場合0、できなかった場合は次のトークンが補充されるまでの時間（ナノ秒）
+     */
+    long tryAcquire(long nowNanos) {
+        while (true) {
+            long stored = theoreticalArrival.get();
+            // TATが過去の場合は現在時刻から数える（満杯を超えて貯まらない）
+            long arrival = stored - nowNanos > 0 ? stored : nowNanos;
+            long waitNanos = arrival - nowNanos - burstToleranceNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (theoreticalArrival.compareAndSet(stored, arrival + intervalNanos)) {
+                return 0;
+            }
+        }
+    }
+}
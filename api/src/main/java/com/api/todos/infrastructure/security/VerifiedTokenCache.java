@@ -0,0 +1,244 @@
+package com.api.todos.infrastructure.security;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+
+import com.api.todos.domain.service.JwtPrincipal;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 検証済みJWTキャッシュ（Infrastructure層）
+ *
+ * <p>同一のBearerトークンが有効期限内に繰り返し送信されるため、署名検証済みのプリンシパルをキャッシュし、 ヒット時は署名検証を省略する
+ *
+ * <p>【設計】
+ *
+ * <ul>
+ *   <li>キーはトークン文字列そのものではなくSHA-256ダイジェスト（メモリ上にトークンを保持しない）
+ *   <li>エントリはトークンのexpクレーム到達時に失効
+ *   <li>鍵リングから検証鍵が除外・削除された場合は全エントリを削除する（除外した鍵で署名されたトークンをヒットさせない）
+ *   <li>最大件数を超えた場合はサイズベースで追い出し
+ *   <li>ヒット・ミス・追い出し件数をMicrometer（jwt.verified-token）で公開
+ * </ul>
+ *
+ * <p>application.properties の jwt.cache.enabled=false で無効化できる（常にミス扱い）
+ */
+@Component
+public class VerifiedTokenCache {
+
+    /** メトリクス名 */
+    static final String CACHE_NAME = "jwt.verified-token";
+
+    private static final VarHandle LONG_VIEW =
+            MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+    /** ダイジェスト計算用のスレッド毎バッファ（ヒット時にトークン長の配列を確保しない） */
+    private static final ThreadLocal<DigestBuffer> DIGEST_BUFFER =
+            ThreadLocal.withInitial(DigestBuffer::new);
+
+    /** キャッシュ（無効時はnull） */
+    private final Cache<TokenDigest, JwtPrincipal> cache;
+
+    /**
+     * コンストラクタ
+     *
+     * @param enabled キャッシュ有効フラグ
+     * @param maximumSize 最大エントリ数
+     * @param keyRing JWT鍵リング（検証鍵の除外を購読する）
+     * @param meterRegistry メトリクスレジストリ（存在する場合のみ登録）
+     */
+    public VerifiedTokenCache(
+            @Value("${jwt.cache.enabled:true}") boolean enabled,
+            @Value("${jwt.cache.maximum-size:100000}") long maximumSize,
+            JwtKeyRing keyRing,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        if (!enabled) {
+            this.cache = null;
+            return;
+        }
+        this.cache =
+                Caffeine.newBuilder()
+                        .maximumSize(maximumSize)
+                        .expireAfter(new TokenExpiry())
+                        .recordStats()
+                        .build();
+        meterRegistry.ifAvailable(
+                registry -> CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME));
+        keyRing.addRemovalListener(this::invalidateAll);
+    }
+
+    /**
+     * キャッシュが有効かどうか
+     *
+     * @return 有効な場合true
+     */
+    public boolean isEnabled() {
+        return cache != null;
+    }
+
+    /**
+     * 検証済みプリンシパルを取得する
+     *
+     * @param token JWTトークン
+     * @return 検証済みプリンシパル（未登録・失効済み・キャッシュ無効時はnull）
+     */
+    public JwtPrincipal get(String token) {
+        return get(token, 0);
+    }
+
+    /**
+     * 検証済みプリンシパルを取得する（部分文字列を切り出さずに検索）
+     *
+     * <p>Authorizationヘッダー値と「Bearer 」の長さを渡すことで、ヒット時はトークン文字列を生成せずに検索できる
+     *
+     * @param source トークンを含む文字列
+     * @param offset トークンの開始位置
+     * @return 検証済みプリンシパル（未登録・失効済み・キャッシュ無効時はnull）
+     */
+    public JwtPrincipal get(String source, int offset) {
+        if (cache == null) {
+            return null;
+        }
+        TokenDigest key = digest(source, offset);
+        return key != null ? cache.getIfPresent(key) : null;
+    }
+
+    /**
+     * 検証済みプリンシパルを登録する
+     *
+     * @param token JWTトークン
+     * @param principal 署名検証済みのプリンシパル
+     */
+    public void put(String token, JwtPrincipal principal) {
+        if (cache == null) {
+            return;
+        }
+        TokenDigest key = digest(token, 0);
+        if (key != null) {
+            cache.put(key, principal);
+        }
+    }
+
+    /**
+     * トークンをキャッシュから削除する
+     *
+     * @param token JWTトークン
+     */
+    public void invalidate(String token) {
+        if (cache == null) {
+            return;
+        }
+        TokenDigest key = digest(token, 0);
+        if (key != null) {
+            cache.invalidate(key);
+        }
+    }
+
+    /** 全エントリを削除する（検証鍵の除外時） */
+    public void invalidateAll() {
+        if (cache != null) {
+            cache.invalidateAll();
+        }
+    }
+
+    /**
+     * キャッシュ統計（ヒット・ミス・追い出し件数）を取得する
+     *
+     * @return キャッシュ統計（キャッシュ無効時は空の統計）
+     */
+    public CacheStats stats() {
+        return cache != null ? cache.stats() : CacheStats.empty();
+    }
+
+    /** ダイジェストを計算する（非ASCII文字を含む場合はnull） */
+    private static TokenDigest digest(String source, int offset) {
+        return DIGEST_BUFFER.get().digest(source, offset);
+    }
+
+    /** トークンのSHA-256ダイジェスト（256bit） */
+    private record TokenDigest(long h0, long h1, long h2, long h3) {}
+
+    /** スレッド毎に再利用するMessageDigestと入出力バッファ */
+    private static final class DigestBuffer {
+
+        private final MessageDigest sha256;
+        private final byte[] hash = new byte[32];
+        private byte[] input = new byte[1024];
+
+        DigestBuffer() {
+            try {
+                this.sha256 = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256が利用できません", e);
+            }
+        }
+
+        TokenDigest digest(String source, int offset) {
+            int length = source.length() - offset;
+            if (input.length < length) {
+                input = new byte[Math.max(length, input.length * 2)];
+            }
+            // JWTはbase64url + '.' のASCII文字列のため、1文字1バイトで詰める
+            for (int i = 0; i < length; i++) {
+                char c = source.charAt(offset + i);
+                if (c > 0x7F) {
+                    // 非ASCII文字を含む値はJWTではないためキャッシュ対象外
+                    return null;
+                }
+                input[i] = (byte) c;
+            }
+            sha256.update(input, 0, length);
+            try {
+                sha256.digest(hash, 0, hash.length);
+            } catch (DigestException e) {
+                throw new IllegalStateException("ダイジェスト計算に失敗しました", e);
+            }
+            return new TokenDigest(
+                    (long) LONG_VIEW.get(hash, 0),
+                    (long) LONG_VIEW.get(hash, 8),
+                    (long) LONG_VIEW.get(hash, 16),
+                    (long) LONG_VIEW.get(hash, 24));
+        }
+    }
+
+    /** トークンのexpクレームでエントリを失効させるExpiry */
+    private static final class TokenExpiry implements Expiry<TokenDigest, JwtPrincipal> {
+
+        @Override
+        public long expireAfterCreate(TokenDigest key, JwtPrincipal value, long currentTime) {
+            return nanosUntil(value.expiresAt());
+        }
+
+        @Override
+        public long expireAfterUpdate(
+                TokenDigest key, JwtPrincipal value, long currentTime, long currentDuration) {
+            return nanosUntil(value.expiresAt());
+        }
+
+        @Override
+        public long expireAfterRead(
+                TokenDigest key, JwtPrincipal value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        private static long nanosUntil(Instant expiresAt) {
+            long millis = expiresAt.toEpochMilli() - System.currentTimeMillis();
+            return millis > 0 ? millis * 1_000_000L : 0L;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.api.todos.infrastructure.service.auth;
+
+import com.api.todos.application.command.auth.LoginCommand;
+import com.api.todos.application.dto.AuthResult;
+import com.api.todos.application.usecase.auth.LoginUseCase;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * ログインサービス（Infrastructure層のトランザクション管理ラッパー）
+ *
+ * <p>パスワードの検証（低速なハッシュ計算）はトランザクション外で行い、ユーザーの読み込みはリポジトリの読み取りトランザクションのみとする。
+ * 検証に成功した場合のみ、短いトランザクションでパスワードハッシュの保存とトークンの発行を行う
+ */
+@Service
+public class LoginService {
+
+    private final LoginUseCase useCase;
+    private final TransactionTemplate transactionTemplate;
+
+    public LoginService(LoginUseCase useCase, TransactionTemplate transactionTemplate) {
+        this.useCase = useCase;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * ログイン処理（トークン発行のみトランザクション管理あり）
+     *
+     * @param command Application層のCommand
+     * @return Application層のResult
+     */
+    public AuthResult execute(LoginCommand command) {
+        LoginUseCase.Authenticated authenticated = useCase.authenticate(command);
+        return transactionTemplate.execute(status -> useCase.issue(authenticated));
+    }
+}
@@ -0,0 +1,28 @@
+package com.api.todos.infrastructure.service.auth;
+
+import com.api.todos.application.command.auth.LogoutCommand;
+import com.api.todos.application.usecase.auth.LogoutUseCase;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/** ログアウトサービス（Infrastructure層のトランザクション管理ラッパー） */
+@Service
+public class LogoutService {
+
+    private final LogoutUseCase useCase;
+
+    public LogoutService(LogoutUseCase useCase) {
+        this.useCase = useCase;
+    }
+
+    /**
+     * ログアウト処理（トランザクション管理あり）
+     *
+     * @param command Application層のCommand
+     */
+    @Transactional
+    public void execute(LogoutCommand command) {
+        useCase.execute(command);
+    }
+}
@@ -0,0 +1,35 @@
+package com.api.todos.infrastructure.service.auth;
+
+import com.api.todos.application.command.auth.RefreshTokenCommand;
+import com.api.todos.application.dto.AuthResult;
+import com.api.todos.application.exception.UnauthorizedException;
+import com.api.todos.application.usecase.auth.RefreshTokenUseCase;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * トークン再発行サービス（Infrastructure層のトランザクション管理ラッパー）
+ *
+ * <p>リフレッシュトークンの再使用を検出した場合の一括失効を認証エラーとともにコミットするため、UnauthorizedExceptionではロールバックしない
+ */
+@Service
+public class RefreshTokenService {
+
+    private final RefreshTokenUseCase useCase;
+
+    public RefreshTokenService(RefreshTokenUseCase useCase) {
+        this.useCase = useCase;
+    }
+
+    /**
+     * トークン再発行処理（トランザクション管理あり）
+     *
+     * @param command Application層のCommand
+     * @return Application層のResult
+     */
+    @Transactional(noRollbackFor = UnauthorizedException.class)
+    public AuthResult execute(RefreshTokenCommand command) {
+        return useCase.execute(command);
+    }
+}
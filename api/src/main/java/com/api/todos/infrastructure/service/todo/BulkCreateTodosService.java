@@ -0,0 +1,30 @@
+package com.api.todos.infrastructure.service.todo;
+
+import com.api.todos.application.command.todo.BulkCreateTodosCommand;
+import com.api.todos.application.dto.BulkCreateTodosResult;
+import com.api.todos.application.usecase.todo.BulkCreateTodosUseCase;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/** TODO一括登録サービス（Infrastructure層のトランザクション管理ラッパー） */
+@Service
+public class BulkCreateTodosService {
+
+    private final BulkCreateTodosUseCase useCase;
+
+    public BulkCreateTodosService(BulkCreateTodosUseCase useCase) {
+        this.useCase = useCase;
+    }
+
+    /**
+     * TODO一括登録処理（全件を1トランザクションで登録）
+     *
+     * @param command Application層のCommand
+     * @return Application層のResult
+     */
+    @Transactional
+    public BulkCreateTodosResult execute(BulkCreateTodosCommand command) {
+        return useCase.execute(command);
+    }
+}
@@ -0,0 +1,30 @@
+package com.api.todos.infrastructure.service.todo;
+
+import com.api.todos.application.command.todo.BulkTransitionTodosCommand;
+import com.api.todos.application.dto.BulkTransitionTodosResult;
+import com.api.todos.application.usecase.todo.BulkTransitionTodosUseCase;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/** TODO一括状態遷移サービス（Infrastructure層のトランザクション管理ラッパー） */
+@Service
+public class BulkTransitionTodosService {
+
+    private final BulkTransitionTodosUseCase useCase;
+
+    public BulkTransitionTodosService(BulkTransitionTodosUseCase useCase) {
+        this.useCase = useCase;
+    }
+
+    /**
+     * TODO一括状態遷移処理
+     *
+     * @param command Application層のCommand
+     * @return Application層のResult
+     */
+    @Transactional
+    public BulkTransitionTodosResult execute(BulkTransitionTodosCommand command) {
+        return useCase.execute(command);
+    }
+}
@@ -0,0 +1,30 @@
+package com.api.todos.infrastructure.service.todo;
+
+import com.api.todos.application.command.todo.DeleteCompletedTodosCommand;
+import com.api.todos.application.dto.BulkTransitionTodosResult;
+import com.api.todos.application.usecase.todo.DeleteCompletedTodosUseCase;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/** 完了済みTODO一括削除サービス（Infrastructure層のトランザクション管理ラッパー） */
+@Service
+public class DeleteCompletedTodosService {
+
+    private final DeleteCompletedTodosUseCase useCase;
+
+    public DeleteCompletedTodosService(DeleteCompletedTodosUseCase useCase) {
+        this.useCase = useCase;
+    }
+
+    /**
+     * 完了済みTODO一括削除処理
+     *
+     * @param command Application層のCommand
+     * @return Application層のResult
+     */
+    @Transactional
+    public BulkTransitionTodosResult execute(DeleteCompletedTodosCommand command) {
+        return useCase.execute(command);
+    }
+}
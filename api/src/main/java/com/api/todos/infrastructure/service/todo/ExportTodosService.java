@@ -0,0 +1,37 @@
+package com.api.todos.infrastructure.service.todo;
+
+import java.util.function.Consumer;
+
+import com.api.todos.application.command.todo.ExportTodosCommand;
+import com.api.todos.application.dto.TodoResult;
+import com.api.todos.application.usecase.todo.ExportTodosUseCase;
+
+import org.springframework.stereotype.Service;
+
+/**
+ * TODOエクスポートサービス（Infrastructure層）
+ *
+ * <p>出力全体をトランザクションで囲まない（バッチ毎のクエリがそれぞれ短い読み取り専用トランザクションで実行される）。
+ * 接続はバッチ毎にプールへ返却されるため、クライアントの受信が遅い場合も出力の完了まで接続を保持しない。
+ * 出力先への書き込みに失敗した場合（クライアントの切断等）は次のバッチを取得しない
+ */
+@Service
+public class ExportTodosService {
+
+    private final ExportTodosUseCase useCase;
+
+    public ExportTodosService(ExportTodosUseCase useCase) {
+        this.useCase = useCase;
+    }
+
+    /**
+     * TODOエクスポート処理
+     *
+     * @param command Application層のCommand
+     * @param sink 出力先（TODO毎に呼ばれる）
+     * @return 出力件数
+     */
+    public long execute(ExportTodosCommand command, Consumer<TodoResult> sink) {
+        return useCase.execute(command, sink);
+    }
+}
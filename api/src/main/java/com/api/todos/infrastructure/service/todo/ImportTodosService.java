@@ -0,0 +1,36 @@
+package com.api.todos.infrastructure.service.todo;
+
+import com.api.todos.application.command.todo.ImportTodosCommand;
+import com.api.todos.application.dto.ImportTodosResult;
+import com.api.todos.application.usecase.todo.ImportTodosUseCase;
+
+import org.springframework.stereotype.Service;
+
+/**
+ * TODOインポートサービス（Infrastructure層）
+ *
+ * <p>読み込み全体をトランザクションで囲まない（バッチ毎の登録 TodoRepository#insertAll がそれぞれ短いトランザクションでコミットされる）。
+ * 読み込みはアップロードの受信に合わせて進むため、受信が遅い場合もその間コネクションを借りたままにしない
+ *
+ * <p>読み込みに失敗した場合（クライアントの切断等）は、コミット済みのバッチは登録されたままとなる。
+ * 再送する場合は重複を避けるため、登録済みの行を除いてアップロードする
+ */
+@Service
+public class ImportTodosService {
+
+    private final ImportTodosUseCase useCase;
+
+    public ImportTodosService(ImportTodosUseCase useCase) {
+        this.useCase = useCase;
+    }
+
+    /**
+     * TODOインポート処理（バッチ毎にコミット）
+     *
+     * @param command Application層のCommand
+     * @return Application層のResult
+     */
+    public ImportTodosResult execute(ImportTodosCommand command) {
+        return useCase.execute(command);
+    }
+}
@@ -0,0 +1,30 @@
+package com.api.todos.infrastructure.service.todo;
+
+import com.api.todos.application.command.todo.ListTodosCommand;
+import com.api.todos.application.dto.TodoPageResult;
+import com.api.todos.application.usecase.todo.ListTodosUseCase;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/** TODO一覧取得サービス（Infrastructure層のトランザクション管理ラッパー） */
+@Service
+public class ListTodosService {
+
+    private final ListTodosUseCase useCase;
+
+    public ListTodosService(ListTodosUseCase useCase) {
+        this.useCase = useCase;
+    }
+
+    /**
+     * TODO一覧取得処理（読み取り専用トランザクション）
+     *
+     * @param command Application層のCommand
+     * @return Application層のResult
+     */
+    @Transactional(readOnly = true)
+    public TodoPageResult execute(ListTodosCommand command) {
+        return useCase.execute(command);
+    }
+}
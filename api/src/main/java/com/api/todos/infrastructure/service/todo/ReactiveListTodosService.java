@@ -0,0 +1,128 @@
+package com.api.todos.infrastructure.service.todo;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.api.todos.application.command.todo.ListTodosCommand;
+import com.api.todos.application.dto.TodoPageResult;
+import com.api.todos.application.dto.TodoResult;
+import com.api.todos.application.usecase.todo.TodoPageCursor;
+import com.api.todos.domain.model.Todo;
+import com.api.todos.infrastructure.persistence.repository.TodoR2dbcRepository;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * TODO一覧取得サービス（リアクティブ読み取りAPI用）
+ *
+ * <p>ListTodosUseCase と同じ規則（1件多く取得して次のページの有無を判定、次のページがある場合のみカーソルを返す）で、
+ * {@link TodoR2dbcRepository} からノンブロッキングにページを取得する
+ *
+ * <p>【ストリーミング】
+ *
+ * <p>{@link #stream(ListTodosCommand)} はカーソルを辿ってページを順に返す。次のページのクエリは下流が要求した時点で実行するため、
+ * クライアントの受信が遅い場合はデータベースからの読み出しも止まる（バックプレッシャー）
+ *
+ * <p>総件数はカーソルを指定しない場合のみ数え、以降のページにはカーソルで引き継ぐ
+ *
+ * <p>トランザクションは使用しない（各クエリは自動コミット）
+ */
+public class ReactiveListTodosService {
+
+    private final TodoR2dbcRepository todoRepository;
+
+    public ReactiveListTodosService(TodoR2dbcRepository todoRepository) {
+        this.todoRepository = todoRepository;
+    }
+
+    /**
+     * TODO一覧取得処理（1ページ）
+     *
+     * @param command TODO一覧取得コマンド
+     * @return TODO一覧結果
+     * @throws IllegalArgumentException カーソルが不正な場合・カーソルの絞り込み条件がリクエストと異なる場合
+     */
+    public Mono<TodoPageResult> execute(ListTodosCommand command) {
+        TodoPageCursor cursor = decode(command);
+        return page(command, cursor, total(command, cursor)).map(Page::result);
+    }
+
+    /**
+     * TODO一覧取得処理（指定したページから最終ページまで）
+     *
+     * @param command TODO一覧取得コマンド（カーソルを指定した場合はそのページから）
+     * @return 各ページのTODO一覧結果（下流の要求に応じて次のページを取得する）
+     * @throws IllegalArgumentException カーソルが不正な場合・カーソルの絞り込み条件がリクエストと異なる場合
+     */
+    public Flux<TodoPageResult> stream(ListTodosCommand command) {
+        TodoPageCursor cursor = decode(command);
+        return page(command, cursor, total(command, cursor))
+                .expand(
+                        previous -> {
+                            TodoPageCursor next = previous.next();
+                            return next != null
+                                    ? page(command, next, total(command, next))
+                                    : Mono.empty();
+                        })
+                .map(Page::result);
+    }
+
+    private Mono<Page> page(ListTodosCommand command, TodoPageCursor cursor, Mono<Long> total) {
+        UUID userId = command.getUserId();
+        int page = cursor != null ? cursor.page() : 1;
+        int perPage = command.getPerPage();
+
+        Mono<List<Todo>> todos =
+                todoRepository
+                        .findPage(
+                                userId,
+                                command.getCompleted(),
+                                cursor != null ? cursor.createdAt() : null,
+                                cursor != null ? cursor.id() : null,
+                                perPage + 1)
+                        .collectList();
+
+        return Mono.zip(todos, total)
+                .map(
+                        tuple -> {
+                            List<Todo> items = tuple.getT1();
+                            TodoPageCursor next = null;
+                            if (items.size() > perPage) {
+                                items = items.subList(0, perPage);
+                                Todo last = items.get(perPage - 1);
+                                next =
+                                        new TodoPageCursor(
+                                                page + 1,
+                                                tuple.getT2(),
+                                                command.getCompleted(),
+                                                last.getCreatedAt(),
+                                                last.getId());
+                            }
+                            return new Page(
+                                    new TodoPageResult(
+                                            items.stream().map(TodoResult::from).toList(),
+                                            tuple.getT2(),
+                                            page,
+                                            perPage,
+                                            next != null ? next.encode() : null),
+                                    next);
+                        });
+    }
+
+    /** 総件数（先頭ページの場合のみ数え、以降はカーソルの値を使う） */
+    private Mono<Long> total(ListTodosCommand command, TodoPageCursor cursor) {
+        return cursor != null
+                ? Mono.just(cursor.total())
+                : todoRepository.count(command.getUserId(), command.getCompleted());
+    }
+
+    private static TodoPageCursor decode(ListTodosCommand command) {
+        return command.getCursor() != null
+                ? TodoPageCursor.decode(command.getCursor(), command.getCompleted())
+                : null;
+    }
+
+    /** ページの結果と、次のページのカーソル（復号済み） */
+    private record Page(TodoPageResult result, TodoPageCursor next) {}
+}
@@ -0,0 +1,45 @@
+package com.api.todos.presentation.dto.auth;
+
+import com.api.todos.application.dto.AuthResult;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 認証レスポンスDTO（Presentation層専用）
+ *
+ * <p>ログイン・トークン再発行のレスポンス。token（アクセストークン）は短命のため、期限切れ前に refreshToken で再発行する
+ */
+@Getter
+@AllArgsConstructor
+public class AuthResponse {
+
+    /** アクセストークン（JWT） */
+    private String token;
+
+    /** アクセストークンの有効期間（秒） */
+    private long expiresIn;
+
+    /** リフレッシュトークン（1回限り有効。再発行時に新しい値に置き換わる） */
+    private String refreshToken;
+
+    /** リフレッシュトークンの有効期間（秒） */
+    private long refreshExpiresIn;
+
+    private UserResponse user;
+
+    /**
+     * Application層のResult → レスポンスDTO変換
+     *
+     * @param result 認証結果
+     * @return レスポンスDTO
+     */
+    public static AuthResponse from(AuthResult result) {
+        return new AuthResponse(
+                result.getAccessToken(),
+                result.getAccessTokenExpiresIn(),
+                result.getRefreshToken(),
+                result.getRefreshTokenExpiresIn(),
+                UserResponse.from(result.getUser()));
+    }
+}
@@ -0,0 +1,15 @@
+package com.api.todos.presentation.dto.auth;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/** ログアウトリクエストDTO（Presentation層専用） リクエストボディは任意 */
+@Getter
+@Setter
+@NoArgsConstructor
+public class LogoutRequest {
+
+    /** 失効させるリフレッシュトークン（任意） */
+    private String refreshToken;
+}
@@ -0,0 +1,17 @@
+package com.api.todos.presentation.dto.auth;
+
+import jakarta.validation.constraints.NotBlank;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/** トークン再発行リクエストDTO（Presentation層専用） */
+@Getter
+@Setter
+@NoArgsConstructor
+public class RefreshTokenRequest {
+
+    @NotBlank(message = "Refresh token is required")
+    private String refreshToken;
+}
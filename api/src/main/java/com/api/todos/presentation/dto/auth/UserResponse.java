@@ -0,0 +1,38 @@
+package com.api.todos.presentation.dto.auth;
+
+import java.util.UUID;
+
+import com.api.todos.application.dto.UserResult;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/** ユーザーレスポンスDTO（Presentation層専用） */
+@Getter
+@AllArgsConstructor
+public class UserResponse {
+    private UUID id;
+    private String username;
+    private String firstName;
+    private String firstNameRuby;
+    private String lastName;
+    private String lastNameRuby;
+    private int role;
+
+    /**
+     * Application層のResult → レスポンスDTO変換
+     *
+     * @param result ユーザー結果
+     * @return レスポンスDTO
+     */
+    public static UserResponse from(UserResult result) {
+        return new UserResponse(
+                result.getId(),
+                result.getUsername(),
+                result.getFirstName(),
+                result.getFirstNameRuby(),
+                result.getLastName(),
+                result.getLastNameRuby(),
+                result.getRole());
+    }
+}
@@ -18,7 +18,8 @@ import java.util.List;
  *     "total": 50,
  *     "page": 1,
  *     "perPage": 20,
- *     "totalPages": 3
+ *     "totalPages": 3,
+ *     "nextCursor": "..."
  *   }
  * }
  * }</pre>
@@ -69,4 +70,21 @@ public class PagedApiResponse<T> extends ApiResponse<PagedData<T>> {
         PagedData<T> pagedData = PagedData.of(data, total, page, perPage);
         return new PagedApiResponse<>(true, message, pagedData);
     }
+
+    /**
+     * 成功レスポンスを生成（キーセットページネーション）
+     *
+     * @param <T> データアイテムの型
+     * @param data データアイテムのリスト
+     * @param total 総件数
+     * @param page 現在のページ番号
+     * @param perPage 1ページあたりの件数
+     * @param nextCursor 次のページのカーソル（最終ページの場合null）
+     * @return ページネーション付き成功レスポンス
+     */
+    public static <T> PagedApiResponse<T> success(
+            List<T> data, long total, int page, int perPage, String nextCursor) {
+        PagedData<T> pagedData = PagedData.of(data, total, page, perPage, nextCursor);
+        return new PagedApiResponse<>(true, "Request successful", pagedData);
+    }
 }
@@ -2,6 +2,8 @@ package com.api.todos.presentation.dto.common;
 
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 /**
  * ページネーションデータDTO（Presentation層）
  *
@@ -15,10 +17,13 @@ import java.util.List;
  *   "total": 50,
  *   "page": 1,
  *   "perPage": 20,
- *   "totalPages": 3
+ *   "totalPages": 3,
+ *   "nextCursor": "MnwyMDI1LTA3LTI0VDEwOjAwfDU1MGU4NDAw..."
  * }
  * }</pre>
  *
+ * <p>nextCursor はキーセットページネーションに対応したエンドポイントのみ設定される（次のページがない場合はnull）
+ *
  * @param <T> データアイテムの型
  */
 public class PagedData<T> {
@@ -38,6 +43,10 @@ public class PagedData<T> {
     /** 総ページ数 */
     private final int totalPages;
 
+    /** 次のページのカーソル（キーセットページネーション、最終ページの場合null） */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final String nextCursor;
+
     /**
      * コンストラクタ
      *
@@ -47,11 +56,25 @@ public class PagedData<T> {
      * @param perPage 1ページあたりの件数
      */
     public PagedData(List<T> data, long total, int page, int perPage) {
+        this(data, total, page, perPage, null);
+    }
+
+    /**
+     * コンストラクタ（キーセットページネーション）
+     *
+     * @param data データアイテムのリスト
+     * @param total 総件数
+     * @param page 現在のページ番号
+     * @param perPage 1ページあたりの件数
+     * @param nextCursor 次のページのカーソル（最終ページの場合null）
+     */
+    public PagedData(List<T> data, long total, int page, int perPage, String nextCursor) {
         this.data = data;
         this.total = total;
         this.page = page;
         this.perPage = perPage;
         this.totalPages = (int) Math.ceil((double) total / perPage);
+        this.nextCursor = nextCursor;
     }
 
     /**
@@ -68,6 +91,22 @@ public class PagedData<T> {
         return new PagedData<>(data, total, page, perPage);
     }
 
+    /**
+     * ページネーションデータを生成（キーセットページネーション）
+     *
+     * @param <T> データアイテムの型
+     * @param data データアイテムのリスト
+     * @param total 総件数
+     * @param page 現在のページ番号
+     * @param perPage 1ページあたりの件数
+     * @param nextCursor 次のページのカーソル（最終ページの場合null）
+     * @return ページネーションデータ
+     */
+    public static <T> PagedData<T> of(
+            List<T> data, long total, int page, int perPage, String nextCursor) {
+        return new PagedData<>(data, total, page, perPage, nextCursor);
+    }
+
     // Getters
     public List<T> getData() {
         return data;
@@ -88,4 +127,8 @@ public class PagedData<T> {
     public int getTotalPages() {
         return totalPages;
     }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
 }
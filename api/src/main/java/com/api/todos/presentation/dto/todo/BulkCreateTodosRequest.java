@@ -0,0 +1,29 @@
+package com.api.todos.presentation.dto.todo;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/** TODO一括登録リクエストDTO（Presentation層専用） */
+@Getter
+@Setter
+@NoArgsConstructor
+public class BulkCreateTodosRequest {
+
+    @NotEmpty(message = "Todos are required")
+    private List<@NotNull(message = "Todo item must not be null") Item> todos;
+
+    /** 登録するTODO（タイトル・説明の検証はDomain層で行う） */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class Item {
+        private String title;
+        private String descriptions;
+    }
+}
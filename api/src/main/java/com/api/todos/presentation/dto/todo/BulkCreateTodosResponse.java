@@ -0,0 +1,27 @@
+package com.api.todos.presentation.dto.todo;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.api.todos.application.dto.BulkCreateTodosResult;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/** TODO一括登録レスポンスDTO（Presentation層専用） */
+@Getter
+@AllArgsConstructor
+public class BulkCreateTodosResponse {
+    private int created;
+    private List<UUID> ids;
+
+    /**
+     * Application層のResult → レスポンスDTO変換
+     *
+     * @param result TODO一括登録結果
+     * @return レスポンスDTO
+     */
+    public static BulkCreateTodosResponse from(BulkCreateTodosResult result) {
+        return new BulkCreateTodosResponse(result.getCreated(), result.getIds());
+    }
+}
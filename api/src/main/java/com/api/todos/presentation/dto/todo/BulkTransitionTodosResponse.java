@@ -0,0 +1,39 @@
+package com.api.todos.presentation.dto.todo;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.api.todos.application.dto.BulkTransitionTodosResult;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/** TODO一括状態遷移レスポンスDTO（Presentation層専用） */
+@Getter
+@AllArgsConstructor
+public class BulkTransitionTodosResponse {
+    private int updated;
+    private List<Item> results;
+
+    /** TODO毎の結果（UPDATED / NOT_FOUND / DELETED / UNCHANGED） */
+    @Getter
+    @AllArgsConstructor
+    public static class Item {
+        private UUID id;
+        private String outcome;
+    }
+
+    /**
+     * Application層のResult → レスポンスDTO変換
+     *
+     * @param result TODO一括状態遷移結果
+     * @return レスポンスDTO
+     */
+    public static BulkTransitionTodosResponse from(BulkTransitionTodosResult result) {
+        return new BulkTransitionTodosResponse(
+                result.getUpdated(),
+                result.getItems().stream()
+                        .map(item -> new Item(item.id(), item.outcome().name()))
+                        .toList());
+    }
+}
@@ -0,0 +1,38 @@
+package com.api.todos.presentation.dto.todo;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.api.todos.application.dto.ImportTodosResult;
+import com.api.todos.presentation.dto.common.ErrorDetails;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/** TODOインポートレスポンスDTO（Presentation層専用） */
+@Getter
+@AllArgsConstructor
+public class ImportTodosResponse {
+    private long imported;
+    private long failed;
+
+    /** 行毎のエラー（"line 行番号" → エラーメッセージ、先頭から上限件数まで）。エラーがない場合null */
+    private ErrorDetails errors;
+
+    /**
+     * Application層のResult → レスポンスDTO変換
+     *
+     * @param path リクエストパス
+     * @param result TODOインポート結果
+     * @return レスポンスDTO
+     */
+    public static ImportTodosResponse from(String path, ImportTodosResult result) {
+        if (result.getErrors().isEmpty()) {
+            return new ImportTodosResponse(result.getImported(), result.getFailed(), null);
+        }
+        Map<String, String> errors = new LinkedHashMap<>();
+        result.getErrors().forEach((line, error) -> errors.put("line " + line, error));
+        return new ImportTodosResponse(
+                result.getImported(), result.getFailed(), ErrorDetails.of(path, errors));
+    }
+}
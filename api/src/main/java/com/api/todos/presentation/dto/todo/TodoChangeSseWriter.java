@@ -0,0 +1,107 @@
+package com.api.todos.presentation.dto.todo;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+import com.api.todos.domain.model.TodoChange;
+import com.api.todos.infrastructure.event.TodoChangeEvent;
+
+/**
+ * TODO変更のServer-Sent Events出力（Presentation層専用）
+ *
+ * <p>【出力形式】
+ *
+ * <pre>{@code
+ * id: 1735689600000-42
+ * event: completed
+ * data: {"type":"completed","count":2,"ids":["...","..."],"occurredAt":"2025-01-01T09:00:00.123456"}
+ * }</pre>
+ *
+ * <p>event は created / completed / reopened / deleted / reset。 ids は件数が多い場合は空（件数のみ）。
+ * reset は取りこぼした変更があることを示し、クライアントは一覧を取得し直す
+ */
+public final class TodoChangeSseWriter {
+
+    private final Writer writer;
+
+    /**
+     * コンストラクタ
+     *
+     * @param writer 出力先
+     */
+    public TodoChangeSseWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    /**
+     * 切断時の再接続までの待機時間を書き込む
+     *
+     * @param millis 待機時間（ミリ秒）
+     * @throws IOException 書き込みに失敗した場合
+     */
+    public void writeRetry(long millis) throws IOException {
+        writer.write("retry: ");
+        writer.write(Long.toString(millis));
+        writer.write("\n\n");
+    }
+
+    /**
+     * 変更を書き込む
+     *
+     * @param event 変更
+     * @throws IOException 書き込みに失敗した場合
+     */
+    public void writeEvent(TodoChangeEvent event) throws IOException {
+        String type =
+                event.isReset()
+                        ? "reset"
+                        : event.change().getType().name().toLowerCase(Locale.ROOT);
+        writer.write("id: ");
+        writer.write(event.id());
+        writer.write("\nevent: ");
+        writer.write(type);
+        writer.write("\ndata: {\"type\":\"");
+        writer.write(type);
+        writer.write('"');
+        if (!event.isReset()) {
+            TodoChange change = event.change();
+            writer.write(",\"count\":");
+            writer.write(Long.toString(change.getCount()));
+            writer.write(",\"ids\":[");
+            List<UUID> ids = change.getTodoIds();
+            for (int i = 0; i < ids.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write('"');
+                writer.write(ids.get(i).toString());
+                writer.write('"');
+            }
+            writer.write("],\"occurredAt\":\"");
+            writer.write(change.getOccurredAt().toString());
+            writer.write('"');
+        }
+        writer.write("}\n\n");
+    }
+
+    /**
+     * 接続維持のコメントを書き込む（切断の検出・プロキシのタイムアウト防止）
+     *
+     * @throws IOException 書き込みに失敗した場合
+     */
+    public void writeHeartbeat() throws IOException {
+        writer.write(":\n\n");
+    }
+
+    /**
+     * 書き込んだ内容を送信する
+     *
+     * @throws IOException 送信に失敗した場合
+     */
+    public void flush() throws IOException {
+        writer.flush();
+    }
+}
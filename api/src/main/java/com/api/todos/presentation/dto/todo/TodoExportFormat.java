@@ -0,0 +1,177 @@
+package com.api.todos.presentation.dto.todo;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDateTime;
+
+import com.api.todos.application.dto.TodoResult;
+
+/**
+ * TODOエクスポートの出力形式（Presentation層専用）
+ *
+ * <p>1件毎に出力先へ直接書き込み、行の文字列やレスポンスDTOを生成しない
+ *
+ * <p>【出力項目】
+ *
+ * <p>id, title, descriptions, completed, createdAt, createdBy, updatedAt, updatedBy
+ * （ユーザーIDは認証ユーザー、削除フラグは常にfalseのため出力しない）。 日時はISO-8601（LocalDateTime#toString）で出力し、
+ * 最後に受信した行の createdAt・id をそのまま再開位置に指定できる
+ */
+public enum TodoExportFormat {
+
+    /** 1行1件のJSON（application/x-ndjson） */
+    NDJSON("application/x-ndjson", "ndjson") {
+        @Override
+        public void writeHeader(Writer writer) {}
+
+        @Override
+        public void writeRow(Writer writer, TodoResult todo) throws IOException {
+            writer.write("{\"id\":\"");
+            writer.write(todo.getId().toString());
+            writer.write("\",\"title\":");
+            writeJsonString(writer, todo.getTitle());
+            writer.write(",\"descriptions\":");
+            writeJsonString(writer, todo.getDescriptions());
+            writer.write(",\"completed\":");
+            writer.write(todo.isCompleted() ? "true" : "false");
+            writer.write(",\"createdAt\":");
+            writeJsonDateTime(writer, todo.getCreatedAt());
+            writer.write(",\"createdBy\":");
+            writeJsonString(writer, todo.getCreatedBy());
+            writer.write(",\"updatedAt\":");
+            writeJsonDateTime(writer, todo.getUpdatedAt());
+            writer.write(",\"updatedBy\":");
+            writeJsonString(writer, todo.getUpdatedBy());
+            writer.write("}\n");
+        }
+    },
+
+    /** ヘッダー行付きのCSV（RFC 4180、改行はCRLF） */
+    CSV("text/csv", "csv") {
+        @Override
+        public void writeHeader(Writer writer) throws IOException {
+            writer.write(
+                    "id,title,descriptions,completed,createdAt,createdBy,updatedAt,updatedBy\r\n");
+        }
+
+        @Override
+        public void writeRow(Writer writer, TodoResult todo) throws IOException {
+            writer.write(todo.getId().toString());
+            writer.write(',');
+            writeCsvField(writer, todo.getTitle());
+            writer.write(',');
+            writeCsvField(writer, todo.getDescriptions());
+            writer.write(',');
+            writer.write(todo.isCompleted() ? "true" : "false");
+            writer.write(',');
+            writer.write(todo.getCreatedAt().toString());
+            writer.write(',');
+            writeCsvField(writer, todo.getCreatedBy());
+            writer.write(',');
+            writer.write(todo.getUpdatedAt().toString());
+            writer.write(',');
+            writeCsvField(writer, todo.getUpdatedBy());
+            writer.write("\r\n");
+        }
+    };
+
+    private final String contentType;
+    private final String fileExtension;
+
+    TodoExportFormat(String contentType, String fileExtension) {
+        this.contentType = contentType;
+        this.fileExtension = fileExtension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    /**
+     * 先頭に1回だけ出力する内容を書き込む
+     *
+     * @param writer 出力先
+     * @throws IOException 書き込みに失敗した場合
+     */
+    public abstract void writeHeader(Writer writer) throws IOException;
+
+    /**
+     * TODO1件を書き込む
+     *
+     * @param writer 出力先
+     * @param todo TODO
+     * @throws IOException 書き込みに失敗した場合
+     */
+    public abstract void writeRow(Writer writer, TodoResult todo) throws IOException;
+
+    /**
+     * 出力形式を変換する
+     *
+     * @param format 出力形式（ndjson / csv）
+     * @return 出力形式
+     * @throws IllegalArgumentException 不正な値の場合
+     */
+    public static TodoExportFormat parse(String format) {
+        return switch (format) {
+            case "ndjson" -> NDJSON;
+            case "csv" -> CSV;
+            default -> throw new IllegalArgumentException("formatは ndjson / csv で指定してください");
+        };
+    }
+
+    private static void writeJsonDateTime(Writer writer, LocalDateTime dateTime)
+            throws IOException {
+        writer.write('"');
+        writer.write(dateTime.toString());
+        writer.write('"');
+    }
+
+    private static void writeJsonString(Writer writer, String value) throws IOException {
+        if (value == null) {
+            writer.write("null");
+            return;
+        }
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> writer.write("\\\"");
+                case '\\' -> writer.write("\\\\");
+                case '\n' -> writer.write("\\n");
+                case '\r' -> writer.write("\\r");
+                case '\t' -> writer.write("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        writer.write(String.format("\\u%04x", (int) c));
+                    } else {
+                        writer.write(c);
+                    }
+                }
+            }
+        }
+        writer.write('"');
+    }
+
+    /** 区切り文字・引用符・改行を含む場合のみ引用符で囲む（nullは空欄） */
+    private static void writeCsvField(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
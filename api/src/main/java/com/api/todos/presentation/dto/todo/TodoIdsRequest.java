@@ -0,0 +1,21 @@
+package com.api.todos.presentation.dto.todo;
+
+import java.util.List;
+import java.util.UUID;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/** TODO ID一覧リクエストDTO（Presentation層専用） 一括操作の対象指定に使用 */
+@Getter
+@Setter
+@NoArgsConstructor
+public class TodoIdsRequest {
+
+    @NotEmpty(message = "Ids are required")
+    private List<@NotNull(message = "Id must not be null") UUID> ids;
+}
@@ -0,0 +1,353 @@
+package com.api.todos.presentation.dto.todo;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import com.api.todos.application.command.todo.ImportTodosCommand;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * TODOインポートの読み込み（Presentation層専用）
+ *
+ * <p>アップロードを先頭から1件ずつ解析し、{@link ImportTodosCommand.Record} として返す。 リクエストボディ全体をバインドせず、
+ * 保持するのは読み込みバッファと1件分（上限文字数まで）のみのため、ファイルサイズに依存せず一定のメモリで読み込める
+ *
+ * <p>【形式】
+ *
+ * <ul>
+ *   <li>NDJSON: 1行1件のJSONオブジェクト（title, descriptions 以外の項目は無視）。空行は読み飛ばす
+ *   <li>CSV: ヘッダー行付きのCSV（RFC 4180）。title 列は必須、descriptions 列の空欄はnull（他の列は無視）
+ * </ul>
+ *
+ * <p>上限文字数を超える行・解析できない行は読み飛ばし、行番号付きのエラーとして返す（エクスポートの出力はそのまま読み込める）。
+ * 読み込みに失敗した場合は {@link UncheckedIOException} をスローする
+ */
+public abstract class TodoImportReader implements Iterator<ImportTodosCommand.Record> {
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final int EOF = -1;
+
+    private final Reader in;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private int position;
+    private int limit;
+
+    /** 1件の上限文字数 */
+    protected final int maxRecordLength;
+
+    /** 読み込み済みの行数 */
+    protected long line;
+
+    private ImportTodosCommand.Record next;
+
+    private TodoImportReader(Reader in, int maxRecordLength) {
+        this.in = in;
+        this.maxRecordLength = maxRecordLength;
+    }
+
+    /**
+     * NDJSONの読み込み
+     *
+     * @param in 読み込み元
+     * @param maxRecordLength 1行の上限文字数
+     * @return 読み込み
+     */
+    public static TodoImportReader ndjson(Reader in, int maxRecordLength) {
+        return new NdjsonReader(in, maxRecordLength);
+    }
+
+    /**
+     * CSVの読み込み（ヘッダー行はこの時点で読み込む）
+     *
+     * @param in 読み込み元
+     * @param maxRecordLength 1行の上限文字数
+     * @return 読み込み
+     * @throws IOException 読み込みに失敗した場合
+     * @throws IllegalArgumentException ヘッダー行に title 列がない場合
+     */
+    public static TodoImportReader csv(Reader in, int maxRecordLength) throws IOException {
+        CsvReader reader = new CsvReader(in, maxRecordLength);
+        reader.readHeader();
+        return reader;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            try {
+                next = readRecord();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return next != null;
+    }
+
+    @Override
+    public ImportTodosCommand.Record next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        ImportTodosCommand.Record record = next;
+        next = null;
+        return record;
+    }
+
+    /**
+     * 次の1件を読み込む
+     *
+     * @return 読み込んだ1件（終端の場合null）
+     * @throws IOException 読み込みに失敗した場合
+     */
+    protected abstract ImportTodosCommand.Record readRecord() throws IOException;
+
+    /** 上限文字数を超えた場合のエラー */
+    protected ImportTodosCommand.Record tooLong(long recordLine) {
+        return ImportTodosCommand.Record.invalid(
+                recordLine, "1件は" + maxRecordLength + "文字以内で入力してください");
+    }
+
+    /** 1文字読み込む（先頭のBOMは読み飛ばす） */
+    protected int read() throws IOException {
+        int c = peek();
+        if (c != EOF) {
+            position++;
+        }
+        return c;
+    }
+
+    /** 次の1文字を読み込まずに返す */
+    protected int peek() throws IOException {
+        if (position == limit) {
+            boolean first = limit == 0 && line == 0;
+            limit = in.read(buffer, 0, BUFFER_SIZE);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return EOF;
+            }
+            if (first && buffer[0] == '\uFEFF') {
+                position++;
+                return peek();
+            }
+        }
+        return buffer[position];
+    }
+
+    /** NDJSON（1行を上限文字数までバッファに読み込み、JSONのストリーミングパーサーで解析する） */
+    private static final class NdjsonReader extends TodoImportReader {
+
+        private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+        private final char[] record;
+
+        NdjsonReader(Reader in, int maxRecordLength) {
+            super(in, maxRecordLength);
+            this.record = new char[maxRecordLength];
+        }
+
+        @Override
+        protected ImportTodosCommand.Record readRecord() throws IOException {
+            while (true) {
+                int c = read();
+                if (c == EOF) {
+                    return null;
+                }
+                line++;
+                int length = 0;
+                boolean overflow = false;
+                while (c != EOF && c != '\n') {
+                    if (c == '\r' && peek() == '\n') {
+                        c = read();
+                        continue;
+                    }
+                    if (length < record.length) {
+                        record[length++] = (char) c;
+                    } else {
+                        overflow = true;
+                    }
+                    c = read();
+                }
+                if (overflow) {
+                    return tooLong(line);
+                }
+                if (!isBlank(length)) {
+                    return parse(length);
+                }
+            }
+        }
+
+        private boolean isBlank(int length) {
+            for (int i = 0; i < length; i++) {
+                if (!Character.isWhitespace(record[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private ImportTodosCommand.Record parse(int length) throws IOException {
+            try (JsonParser parser = JSON_FACTORY.createParser(record, 0, length)) {
+                if (parser.nextToken() != JsonToken.START_OBJECT) {
+                    return ImportTodosCommand.Record.invalid(line, "JSONオブジェクトで入力してください");
+                }
+                String title = null;
+                String descriptions = null;
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String name = parser.currentName();
+                    JsonToken value = parser.nextToken();
+                    if (!name.equals("title") && !name.equals("descriptions")) {
+                        parser.skipChildren();
+                        continue;
+                    }
+                    if (value != JsonToken.VALUE_STRING && value != JsonToken.VALUE_NULL) {
+                        return ImportTodosCommand.Record.invalid(
+                                line, name + "は文字列で入力してください");
+                    }
+                    String text = value == JsonToken.VALUE_NULL ? null : parser.getText();
+                    if (name.equals("title")) {
+                        title = text;
+                    } else {
+                        descriptions = text;
+                    }
+                }
+                if (parser.nextToken() != null) {
+                    return ImportTodosCommand.Record.invalid(
+                            line, "1行に1件のJSONオブジェクトで入力してください");
+                }
+                return ImportTodosCommand.Record.of(line, title, descriptions);
+            } catch (JsonProcessingException e) {
+                return ImportTodosCommand.Record.invalid(line, "JSONの形式が不正です");
+            }
+        }
+    }
+
+    /** CSV（RFC 4180。引用符内の改行を含め、1件を1文字ずつ解析する） */
+    private static final class CsvReader extends TodoImportReader {
+
+        private static final int NONE = -1;
+
+        private final StringBuilder field = new StringBuilder();
+        private int columns;
+        private int titleColumn = NONE;
+        private int descriptionsColumn = NONE;
+
+        CsvReader(Reader in, int maxRecordLength) {
+            super(in, maxRecordLength);
+        }
+
+        void readHeader() throws IOException {
+            int column = 0;
+            int c = read();
+            line++;
+            while (c != EOF && c != '\n') {
+                if (c == ',') {
+                    headerField(column++);
+                } else if (c != '\r' && field.length() < maxRecordLength) {
+                    field.append((char) c);
+                }
+                c = read();
+            }
+            headerField(column);
+            columns = column + 1;
+            if (titleColumn == NONE) {
+                throw new IllegalArgumentException("CSVのヘッダー行にtitle列がありません");
+            }
+        }
+
+        private void headerField(int column) {
+            String name = field.toString().strip();
+            field.setLength(0);
+            if (name.equals("title")) {
+                titleColumn = column;
+            } else if (name.equals("descriptions")) {
+                descriptionsColumn = column;
+            }
+        }
+
+        @Override
+        protected ImportTodosCommand.Record readRecord() throws IOException {
+            int c;
+            // 空行は読み飛ばす
+            while ((c = read()) == '\r' || c == '\n') {
+                if (c == '\n') {
+                    line++;
+                }
+            }
+            if (c == EOF) {
+                return null;
+            }
+            long recordLine = ++line;
+            String title = null;
+            String descriptions = null;
+            int column = 0;
+            int length = 0;
+            int fieldStart = 0;
+            boolean quoted = false;
+            field.setLength(0);
+            while (true) {
+                if (quoted) {
+                    if (c == EOF) {
+                        return ImportTodosCommand.Record.invalid(recordLine, "引用符が閉じられていません");
+                    }
+                    if (c == '"') {
+                        if (peek() == '"') {
+                            read();
+                            length = append(c, length);
+                        } else {
+                            quoted = false;
+                        }
+                    } else {
+                        if (c == '\n') {
+                            line++;
+                        }
+                        length = append(c, length);
+                    }
+                } else if (c == ',' || c == '\n' || c == '\r' || c == EOF) {
+                    String value = field.isEmpty() ? null : field.toString();
+                    if (column == titleColumn) {
+                        // 空欄のタイトルはTodoの検証で必須エラーとする
+                        title = value == null ? "" : value;
+                    } else if (column == descriptionsColumn) {
+                        descriptions = value;
+                    }
+                    field.setLength(0);
+                    if (c != ',') {
+                        if (c == '\r' && peek() == '\n') {
+                            read();
+                        }
+                        break;
+                    }
+                    column++;
+                    fieldStart = length;
+                } else if (c == '"' && length == fieldStart) {
+                    quoted = true;
+                } else {
+                    length = append(c, length);
+                }
+                c = read();
+            }
+            if (length > maxRecordLength) {
+                return tooLong(recordLine);
+            }
+            if (column + 1 != columns) {
+                return ImportTodosCommand.Record.invalid(recordLine, "列数がヘッダー行と一致しません");
+            }
+            return ImportTodosCommand.Record.of(recordLine, title, descriptions);
+        }
+
+        /** 上限文字数までのみ保持する（超えた場合も1件の終端までは読み進める） */
+        private int append(int c, int length) {
+            if (length < maxRecordLength) {
+                field.append((char) c);
+            }
+            return length + 1;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.api.todos.presentation.dto.todo;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.api.todos.application.dto.TodoResult;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/** TODOレスポンスDTO（Presentation層専用） */
+@Getter
+@AllArgsConstructor
+public class TodoResponse {
+    private UUID id;
+    private String title;
+    private String descriptions;
+    private boolean completed;
+    private UUID userId;
+    private LocalDateTime createdAt;
+    private String createdBy;
+    private LocalDateTime updatedAt;
+    private String updatedBy;
+    private boolean deleted;
+
+    /**
+     * Application層のResult → レスポンスDTO変換
+     *
+     * @param result TODO結果
+     * @return レスポンスDTO
+     */
+    public static TodoResponse from(TodoResult result) {
+        return new TodoResponse(
+                result.getId(),
+                result.getTitle(),
+                result.getDescriptions(),
+                result.isCompleted(),
+                result.getUserId(),
+                result.getCreatedAt(),
+                result.getCreatedBy(),
+                result.getUpdatedAt(),
+                result.getUpdatedBy(),
+                result.isDeleted());
+    }
+}
@@ -0,0 +1,143 @@
+package com.api.todos.presentation.reactive;
+
+import java.util.UUID;
+
+import com.api.todos.application.command.todo.ListTodosCommand;
+import com.api.todos.application.dto.TodoPageResult;
+import com.api.todos.infrastructure.security.ReactiveJwtAuthenticationFilter;
+import com.api.todos.infrastructure.service.todo.ReactiveListTodosService;
+import com.api.todos.presentation.dto.common.ApiResponse;
+import com.api.todos.presentation.dto.common.PagedApiResponse;
+import com.api.todos.presentation.dto.todo.TodoResponse;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.HandlerFilterFunction;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * TODO読み取りAPIハンドラー（WebFlux・関数型エンドポイント）
+ *
+ * <p>【エンドポイント】
+ *
+ * <ul>
+ *   <li>GET /api/todos: TodoController#list と同じパラメータ・レスポンス（{@link PagedApiResponse}）で1ページを返す
+ *   <li>GET /api/todos/stream: 指定したページから最終ページまでを、1行1ページのNDJSON（application/x-ndjson）で返す。
+ *       次のページはクライアントが受信した分だけ取得する
+ * </ul>
+ *
+ * <p>パラメータ不正（completedFilter・perPage・cursor）は GlobalExceptionHandler と同じ 400 Bad Request を返す。
+ * ストリームの検証はレスポンス開始前に行う
+ */
+public class ReactiveTodoHandler {
+
+    private final ReactiveListTodosService listTodosService;
+
+    public ReactiveTodoHandler(ReactiveListTodosService listTodosService) {
+        this.listTodosService = listTodosService;
+    }
+
+    /**
+     * ルーティングを生成する
+     *
+     * @param authentication 認証フィルター
+     * @return ルーティング
+     */
+    public RouterFunction<ServerResponse> routes(
+            HandlerFilterFunction<ServerResponse, ServerResponse> authentication) {
+        return RouterFunctions.route()
+                .GET("/api/todos/stream", this::stream)
+                .GET("/api/todos", this::list)
+                .filter(authentication)
+                .build();
+    }
+
+    /**
+     * TODO一覧取得（1ページ）
+     *
+     * @param request リクエスト
+     * @return TODO一覧
+     */
+    Mono<ServerResponse> list(ServerRequest request) {
+        return Mono.fromSupplier(() -> command(request))
+                .flatMap(listTodosService::execute)
+                .flatMap(
+                        result ->
+                                ServerResponse.ok()
+                                        .contentType(MediaType.APPLICATION_JSON)
+                                        .bodyValue(toResponse(result)))
+                .onErrorResume(IllegalArgumentException.class, ReactiveTodoHandler::badRequest);
+    }
+
+    /**
+     * TODO一覧取得（最終ページまでのストリーム）
+     *
+     * @param request リクエスト
+     * @return 1行1ページのNDJSON
+     */
+    Mono<ServerResponse> stream(ServerRequest request) {
+        return Mono.fromSupplier(() -> listTodosService.stream(command(request)))
+                .flatMap(
+                        pages ->
+                                ServerResponse.ok()
+                                        .contentType(MediaType.APPLICATION_NDJSON)
+                                        .body(
+                                                pages.map(ReactiveTodoHandler::toResponse),
+                                                PagedApiResponse.class))
+                .onErrorResume(IllegalArgumentException.class, ReactiveTodoHandler::badRequest);
+    }
+
+    /**
+     * クエリパラメータからコマンドを生成する
+     *
+     * @throws IllegalArgumentException パラメータが不正な場合
+     */
+    private static ListTodosCommand command(ServerRequest request) {
+        UUID userId =
+                (UUID)
+                        request.attribute(ReactiveJwtAuthenticationFilter.USER_ID_ATTRIBUTE)
+                                .orElseThrow();
+        return new ListTodosCommand(
+                userId,
+                parseCompletedFilter(request.queryParam("completedFilter").orElse("all")),
+                request.queryParam("cursor").orElse(null),
+                Integer.parseInt(request.queryParam("perPage").orElse("20")));
+    }
+
+    private static PagedApiResponse<TodoResponse> toResponse(TodoPageResult result) {
+        return PagedApiResponse.success(
+                result.getItems().stream().map(TodoResponse::from).toList(),
+                result.getTotal(),
+                result.getPage(),
+                result.getPerPage(),
+                result.getNextCursor());
+    }
+
+    private static Mono<ServerResponse> badRequest(IllegalArgumentException ex) {
+        return ServerResponse.badRequest()
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(ApiResponse.error("Invalid input: " + ex.getMessage()));
+    }
+
+    /**
+     * 完了状態フィルタを変換する
+     *
+     * @param completedFilter 完了状態フィルタ
+     * @return 完了状態（allの場合null）
+     * @throws IllegalArgumentException 不正な値の場合
+     */
+    private static Boolean parseCompletedFilter(String completedFilter) {
+        return switch (completedFilter) {
+            case "all" -> null;
+            case "completed" -> Boolean.TRUE;
+            case "incomplete" -> Boolean.FALSE;
+            default ->
+                    throw new IllegalArgumentException(
+                            "completedFilterは all / completed / incomplete で指定してください");
+        };
+    }
+}
@@ -0,0 +1,123 @@
+package com.api.todos.presentation.rest;
+
+import java.util.concurrent.CompletableFuture;
+
+import jakarta.validation.Valid;
+
+import com.api.todos.application.command.auth.LoginCommand;
+import com.api.todos.application.command.auth.LogoutCommand;
+import com.api.todos.application.command.auth.RefreshTokenCommand;
+import com.api.todos.infrastructure.security.LoginRateLimiter;
+import com.api.todos.infrastructure.security.PasswordHashingExecutor;
+import com.api.todos.infrastructure.service.auth.LoginService;
+import com.api.todos.infrastructure.service.auth.LogoutService;
+import com.api.todos.infrastructure.service.auth.RefreshTokenService;
+import com.api.todos.presentation.dto.auth.AuthResponse;
+import com.api.todos.presentation.dto.auth.LoginRequest;
+import com.api.todos.presentation.dto.auth.LogoutRequest;
+import com.api.todos.presentation.dto.auth.RefreshTokenRequest;
+import com.api.todos.presentation.dto.common.ApiResponse;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 認証コントローラー
+ *
+ * <p>ログイン・トークン再発行・ログアウトのエンドポイントを提供します。 アクセストークンは短命のため、クライアントはリフレッシュトークンで再発行します。
+ *
+ * <p>パスワード検証（BCrypt）を伴うログインは {@link PasswordHashingExecutor} で非同期に実行し、リクエストスレッドを占有しません。
+ */
+@RestController
+@RequestMapping("/api/auth")
+public class AuthController {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final LoginService loginService;
+    private final RefreshTokenService refreshTokenService;
+    private final LogoutService logoutService;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final LoginRateLimiter loginRateLimiter;
+
+    public AuthController(
+            LoginService loginService,
+            RefreshTokenService refreshTokenService,
+            LogoutService logoutService,
+            PasswordHashingExecutor passwordHashingExecutor,
+            LoginRateLimiter loginRateLimiter) {
+        this.loginService = loginService;
+        this.refreshTokenService = refreshTokenService;
+        this.logoutService = logoutService;
+        this.passwordHashingExecutor = passwordHashingExecutor;
+        this.loginRateLimiter = loginRateLimiter;
+    }
+
+    /**
+     * ログイン
+     *
+     * <p>同一ユーザー名への試行回数が上限を超えた場合、またはハッシュ処理用プールが飽和している場合は 429 Too Many Requests を返す
+     *
+     * @param request ログインリクエスト
+     * @return アクセストークン・リフレッシュトークン
+     */
+    @PostMapping("/login")
+    public CompletableFuture<ResponseEntity<ApiResponse<AuthResponse>>> login(
+            @Valid @RequestBody LoginRequest request) {
+        LoginCommand command = new LoginCommand(request.getUsername(), request.getPassword());
+        // パスワード検証の前にユーザー名毎の試行回数を消費する（IP毎の制限はLoginRateLimitFilterで適用済み）
+        loginRateLimiter.acquireForUsername(command.getUsername());
+        return passwordHashingExecutor
+                .submit(() -> loginService.execute(command))
+                .thenApply(
+                        result ->
+                                ResponseEntity.ok(
+                                        ApiResponse.success(
+                                                "Login successful", AuthResponse.from(result))));
+    }
+
+    /**
+     * トークン再発行
+     *
+     * @param request トークン再発行リクエスト
+     * @return 新しいアクセストークン・リフレッシュトークン
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<ApiResponse<AuthResponse>> refresh(
+            @Valid @RequestBody RefreshTokenRequest request) {
+        RefreshTokenCommand command = new RefreshTokenCommand(request.getRefreshToken());
+        AuthResponse response = AuthResponse.from(refreshTokenService.execute(command));
+        return ResponseEntity.ok(ApiResponse.success("Token refreshed", response));
+    }
+
+    /**
+     * ログアウト
+     *
+     * <p>/api/auth/** は認証フィルターの対象外のため、Authorizationヘッダーのアクセストークンはここで取得する
+     *
+     * @param authorization Authorizationヘッダー（任意）
+     * @param request ログアウトリクエスト（任意）
+     * @return ログアウト結果
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<ApiResponse<Void>> logout(
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false)
+                    String authorization,
+            @RequestBody(required = false) LogoutRequest request) {
+        String accessToken =
+                authorization != null
+                                && authorization.regionMatches(
+                                        true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())
+                        ? authorization.substring(BEARER_PREFIX.length())
+                        : null;
+        String refreshToken = request != null ? request.getRefreshToken() : null;
+
+        logoutService.execute(new LogoutCommand(accessToken, refreshToken));
+        return ResponseEntity.ok(ApiResponse.success("Logout successful"));
+    }
+}
@@ -0,0 +1,531 @@
+package com.api.todos.presentation.rest;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+
+import com.api.todos.application.command.todo.BulkCreateTodosCommand;
+import com.api.todos.application.command.todo.BulkTransitionTodosCommand;
+import com.api.todos.application.command.todo.DeleteCompletedTodosCommand;
+import com.api.todos.application.command.todo.ExportTodosCommand;
+import com.api.todos.application.command.todo.ImportTodosCommand;
+import com.api.todos.application.command.todo.ListTodosCommand;
+import com.api.todos.application.dto.TodoPageResult;
+import com.api.todos.domain.model.TodoStateTransition;
+import com.api.todos.domain.service.TokenRevocationService;
+import com.api.todos.infrastructure.event.TodoChangeEvent;
+import com.api.todos.infrastructure.event.TodoChangeHub;
+import com.api.todos.infrastructure.event.TodoChangeSubscription;
+import com.api.todos.infrastructure.security.JwtAuthenticationToken;
+import com.api.todos.infrastructure.service.todo.BulkCreateTodosService;
+import com.api.todos.infrastructure.service.todo.BulkTransitionTodosService;
+import com.api.todos.infrastructure.service.todo.DeleteCompletedTodosService;
+import com.api.todos.infrastructure.service.todo.ExportTodosService;
+import com.api.todos.infrastructure.service.todo.ImportTodosService;
+import com.api.todos.infrastructure.service.todo.ListTodosService;
+import com.api.todos.presentation.dto.common.ApiResponse;
+import com.api.todos.presentation.dto.common.PagedApiResponse;
+import com.api.todos.presentation.dto.todo.BulkCreateTodosRequest;
+import com.api.todos.presentation.dto.todo.BulkCreateTodosResponse;
+import com.api.todos.presentation.dto.todo.BulkTransitionTodosResponse;
+import com.api.todos.presentation.dto.todo.ImportTodosResponse;
+import com.api.todos.presentation.dto.todo.TodoChangeSseWriter;
+import com.api.todos.presentation.dto.todo.TodoExportFormat;
+import com.api.todos.presentation.dto.todo.TodoIdsRequest;
+import com.api.todos.presentation.dto.todo.TodoImportReader;
+import com.api.todos.presentation.dto.todo.TodoResponse;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+/**
+ * TODOコントローラー
+ *
+ * <p>認証されたユーザーが所有するTODOを操作するエンドポイントを提供します。 ユーザーIDはJWT認証で設定されたPrincipalから取得します。
+ */
+@RestController
+@RequestMapping("/api/todos")
+public class TodoController {
+
+    /** エクスポートの書き込みバッファ（文字・gzip圧縮それぞれ） */
+    private static final int EXPORT_BUFFER_SIZE = 8192;
+
+    /** 変更通知の切断時にクライアントが再接続するまでの待機時間（ミリ秒） */
+    private static final long CHANGES_RETRY_MS = 3000;
+
+    /** 変更通知の1イベント分の送信形式（SSEの書式はTodoChangeSseWriterで組み立て済みのため、文字列として書き込む） */
+    private static final MediaType CHANGES_FRAME_TYPE =
+            new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8);
+
+    /** 変更通知の接続毎の書き込みスレッド（仮想スレッド） */
+    private static final ThreadFactory CHANGES_STREAM_THREADS =
+            Thread.ofVirtual().name("todo-changes-", 0).factory();
+
+    private final ListTodosService listTodosService;
+    private final BulkCreateTodosService bulkCreateTodosService;
+    private final BulkTransitionTodosService bulkTransitionTodosService;
+    private final DeleteCompletedTodosService deleteCompletedTodosService;
+    private final ExportTodosService exportTodosService;
+    private final ImportTodosService importTodosService;
+    private final TodoChangeHub todoChangeHub;
+    private final TokenRevocationService tokenRevocationService;
+
+    /** インポートの1件の上限文字数 */
+    private final int importMaxRecordLength;
+
+    /** 変更通知の接続維持コメントの送信間隔（ミリ秒） */
+    private final long changesHeartbeatMs;
+
+    public TodoController(
+            ListTodosService listTodosService,
+            BulkCreateTodosService bulkCreateTodosService,
+            BulkTransitionTodosService bulkTransitionTodosService,
+            DeleteCompletedTodosService deleteCompletedTodosService,
+            ExportTodosService exportTodosService,
+            ImportTodosService importTodosService,
+            TodoChangeHub todoChangeHub,
+            TokenRevocationService tokenRevocationService,
+            @Value("${todo.import.max-record-length:4096}") int importMaxRecordLength,
+            @Value("${todo.changes.heartbeat-ms:15000}") long changesHeartbeatMs) {
+        this.listTodosService = listTodosService;
+        this.bulkCreateTodosService = bulkCreateTodosService;
+        this.bulkTransitionTodosService = bulkTransitionTodosService;
+        this.deleteCompletedTodosService = deleteCompletedTodosService;
+        this.exportTodosService = exportTodosService;
+        this.importTodosService = importTodosService;
+        this.todoChangeHub = todoChangeHub;
+        this.tokenRevocationService = tokenRevocationService;
+        this.importMaxRecordLength = importMaxRecordLength;
+        this.changesHeartbeatMs = changesHeartbeatMs;
+    }
+
+    /**
+     * TODO一覧取得（キーセットページネーション）
+     *
+     * <p>作成日時・IDの新しい順で返す。次のページはレスポンスの nextCursor を cursor に指定して取得する
+     *
+     * @param userId 認証ユーザーID
+     * @param completedFilter 完了状態フィルタ（all / completed / incomplete）
+     * @param cursor 前のページのレスポンスで返されたカーソル（先頭ページの場合は省略）
+     * @param perPage 1ページあたりの件数（1〜100）
+     * @return TODO一覧
+     */
+    @GetMapping
+    public ResponseEntity<PagedApiResponse<TodoResponse>> list(
+            @AuthenticationPrincipal UUID userId,
+            @RequestParam(defaultValue = "all") String completedFilter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int perPage) {
+        TodoPageResult result =
+                listTodosService.execute(
+                        new ListTodosCommand(
+                                userId, parseCompletedFilter(completedFilter), cursor, perPage));
+        return ResponseEntity.ok(
+                PagedApiResponse.success(
+                        result.getItems().stream().map(TodoResponse::from).toList(),
+                        result.getTotal(),
+                        result.getPage(),
+                        result.getPerPage(),
+                        result.getNextCursor()));
+    }
+
+    /**
+     * TODOエクスポート（全件のストリーミング出力）
+     *
+     * <p>有効なTODOを作成日時・IDの古い順に、NDJSONまたはCSVでレスポンスへ1件ずつ直接書き込む。
+     * 全件をメモリに保持しないため、件数に依存せず一定のメモリで出力する
+     *
+     * <p>Accept-Encoding に gzip を含む場合は圧縮しながら出力する。 出力の途中で失敗した場合は終端を書き込まずに接続を切断する。
+     * 中断した場合は、受信済みの最後の行の createdAt・id を afterCreatedAt・afterId に指定すると、その次の行から再開する
+     *
+     * @param userId 認証ユーザーID
+     * @param format 出力形式（ndjson / csv）
+     * @param afterCreatedAt 再開位置の作成日時（ISO-8601。先頭から出力する場合は省略）
+     * @param afterId 再開位置のID（先頭から出力する場合は省略）
+     * @param acceptEncoding Accept-Encodingヘッダー
+     * @param response HTTPレスポンス
+     * @throws IOException 書き込みに失敗した場合
+     */
+    @GetMapping("/export")
+    public void export(
+            @AuthenticationPrincipal UUID userId,
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) String afterCreatedAt,
+            @RequestParam(required = false) UUID afterId,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false)
+                    String acceptEncoding,
+            HttpServletResponse response)
+            throws IOException {
+        TodoExportFormat exportFormat = TodoExportFormat.parse(format);
+        ExportTodosCommand command =
+                new ExportTodosCommand(userId, parseDateTime(afterCreatedAt), afterId);
+        boolean gzip = acceptsGzip(acceptEncoding);
+
+        response.setContentType(exportFormat.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(
+                HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment()
+                        .filename("todos." + exportFormat.getFileExtension())
+                        .build()
+                        .toString());
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+
+        OutputStream body = response.getOutputStream();
+        if (gzip) {
+            body = new GZIPOutputStream(body, EXPORT_BUFFER_SIZE);
+        }
+        Writer writer =
+                new BufferedWriter(
+                        new OutputStreamWriter(body, StandardCharsets.UTF_8), EXPORT_BUFFER_SIZE);
+        try {
+            exportFormat.writeHeader(writer);
+            // 書き込みに失敗した場合（クライアントの切断等）は次のバッチを取得しない
+            exportTodosService.execute(
+                    command,
+                    todo -> {
+                        try {
+                            exportFormat.writeRow(writer, todo);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+        } catch (IOException | RuntimeException e) {
+            // 途中で失敗した場合は閉じない（gzipのトレーラー・チャンクの終端を書き込むと、不完全なファイルが正常に終わったように見える）。
+            // 出力開始前はエクスポート用のヘッダーを破棄してエラーレスポンスを返し、出力開始後は例外をコンテナまで伝播させて接続を切断する
+            if (!response.isCommitted()) {
+                response.reset();
+            }
+            throw e;
+        }
+        writer.close();
+    }
+
+    /**
+     * TODO変更通知（Server-Sent Events）
+     *
+     * <p>認証ユーザーのTODOの登録・完了・未完了に戻す・削除をコミット後に配信する。 切断後は Last-Event-ID
+     * ヘッダー付きで再接続すると、その次の変更から再開できる（再開できない場合は reset イベントを送る）
+     *
+     * <p>リクエストスレッドは購読の開始後に解放し、待機・書き込みは接続毎の仮想スレッドで行う（spring.threads.virtual.enabled
+     * の設定に関わらず、接続中にTomcatのワーカースレッドを占有しない）。
+     * アクセストークンの有効期限に達した場合、接続維持のコメントの送信時にトークンが失効していた場合はストリームを終了する
+     *
+     * @param userId 認証ユーザーID
+     * @param authentication 認証情報（トークンの有効期限・トークンIDの取得に使用）
+     * @param lastEventId 最後に受信したイベントID（初回接続の場合は省略）
+     * @return イベントストリーム
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<ResponseBodyEmitter> changes(
+            @AuthenticationPrincipal UUID userId,
+            JwtAuthenticationToken authentication,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        TodoChangeSubscription subscription = todoChangeHub.subscribe(userId, lastEventId);
+        // 非同期リクエストのタイムアウトもトークンの有効期限とする（ストリームの終了と同時に切れる）
+        ResponseBodyEmitter emitter =
+                new ResponseBodyEmitter(
+                        Math.max(1, millisUntil(authentication.getExpiresAt())));
+        emitter.onTimeout(emitter::complete);
+        emitter.onCompletion(subscription::close);
+        emitter.onError(error -> subscription.close());
+        CHANGES_STREAM_THREADS
+                .newThread(() -> streamChanges(subscription, emitter, authentication))
+                .start();
+        return ResponseEntity.ok()
+                .contentType(MediaType.TEXT_EVENT_STREAM)
+                .cacheControl(CacheControl.noCache())
+                // リバースプロキシ（nginx）のバッファリングを無効化する
+                .header("X-Accel-Buffering", "no")
+                .body(emitter);
+    }
+
+    /**
+     * 変更通知を書き込む（接続毎の仮想スレッドで実行する）
+     *
+     * <p>切断・アプリケーションの停止・トークンの有効期限切れ・失効のいずれかで購読を終了してレスポンスを完了する
+     */
+    private void streamChanges(
+            TodoChangeSubscription subscription,
+            ResponseBodyEmitter emitter,
+            JwtAuthenticationToken authentication) {
+        StringWriter frame = new StringWriter();
+        TodoChangeSseWriter writer = new TodoChangeSseWriter(frame);
+        try (subscription) {
+            writer.writeRetry(CHANGES_RETRY_MS);
+            sendChanges(emitter, frame);
+            while (true) {
+                long untilExpiry = millisUntil(authentication.getExpiresAt());
+                TodoChangeEvent event =
+                        untilExpiry > 0
+                                ? subscription.poll(
+                                        Math.min(changesHeartbeatMs, untilExpiry),
+                                        TimeUnit.MILLISECONDS)
+                                : null;
+                if (event != null) {
+                    writer.writeEvent(event);
+                } else if (subscription.isClosed()
+                        || millisUntil(authentication.getExpiresAt()) <= 0
+                        || tokenRevocationService.isRevoked(authentication.getTokenId())) {
+                    break;
+                } else {
+                    writer.writeHeartbeat();
+                }
+                sendChanges(emitter, frame);
+            }
+            emitter.complete();
+        } catch (IOException | IllegalStateException e) {
+            // クライアントの切断（エラーはコンテナから通知される）・タイムアウト等で完了済みの場合
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            emitter.complete();
+        }
+    }
+
+    /** 書き込んだイベントを送信してバッファを空にする */
+    private static void sendChanges(ResponseBodyEmitter emitter, StringWriter frame)
+            throws IOException {
+        emitter.send(frame.toString(), CHANGES_FRAME_TYPE);
+        frame.getBuffer().setLength(0);
+    }
+
+    private static long millisUntil(Instant instant) {
+        return Duration.between(Instant.now(), instant).toMillis();
+    }
+
+    /**
+     * TODO一括登録
+     *
+     * <p>全件を検証してから1トランザクションで登録する。1件でも不正な場合は1件も登録せず 400 Bad Request を返す
+     *
+     * @param userId 認証ユーザーID
+     * @param request 登録するTODO（1〜10,000件）
+     * @return 登録件数・登録したTODOのID（リクエストの順序）
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<ApiResponse<BulkCreateTodosResponse>> bulkCreate(
+            @AuthenticationPrincipal UUID userId,
+            @Valid @RequestBody BulkCreateTodosRequest request) {
+        List<BulkCreateTodosCommand.Item> items =
+                request.getTodos().stream()
+                        .map(
+                                item ->
+                                        new BulkCreateTodosCommand.Item(
+                                                item.getTitle(), item.getDescriptions()))
+                        .toList();
+        BulkCreateTodosResponse response =
+                BulkCreateTodosResponse.from(
+                        bulkCreateTodosService.execute(new BulkCreateTodosCommand(userId, items)));
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success("Todos created", response));
+    }
+
+    /**
+     * TODOインポート（NDJSON / CSV）
+     *
+     * <p>リクエストボディをバインドせず、受信に合わせて1件ずつ解析・検証し、有効なTODOを固定件数毎にバッチで登録する
+     * （不正な行は登録せず、行番号毎のエラーとして返す）。 バッチ毎にコミットするため、読み込みに失敗した場合もコミット済みのバッチは登録されたままとなる。
+     * クライアントはファイル全体を再送せず、未登録の行のみを再送する（全体を再送すると登録済みの行が重複する）
+     *
+     * <p>形式はContent-Typeで指定する（application/x-ndjson: 1行1件のJSON、text/csv: ヘッダー行付きのCSV）。
+     * エクスポートの出力はそのまま読み込める
+     *
+     * @param userId 認証ユーザーID
+     * @param request HTTPリクエスト
+     * @return 登録件数・エラー件数・行毎のエラー
+     * @throws IOException 読み込みに失敗した場合
+     */
+    @PostMapping(
+            value = "/import",
+            consumes = {"application/x-ndjson", "text/csv"})
+    public ResponseEntity<ApiResponse<ImportTodosResponse>> importTodos(
+            @AuthenticationPrincipal UUID userId, HttpServletRequest request) throws IOException {
+        MediaType contentType = MediaType.parseMediaType(request.getContentType());
+        Charset charset =
+                contentType.getCharset() != null
+                        ? contentType.getCharset()
+                        : StandardCharsets.UTF_8;
+        try (Reader body = new InputStreamReader(request.getInputStream(), charset)) {
+            TodoImportReader records =
+                    MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType)
+                            ? TodoImportReader.ndjson(body, importMaxRecordLength)
+                            : TodoImportReader.csv(body, importMaxRecordLength);
+            ImportTodosResponse response =
+                    ImportTodosResponse.from(
+                            request.getRequestURI(),
+                            importTodosService.execute(new ImportTodosCommand(userId, records)));
+            return ResponseEntity.ok(ApiResponse.success("Todos imported", response));
+        }
+    }
+
+    /**
+     * TODO一括状態遷移（完了・未完了に戻す・削除）
+     *
+     * <p>1文のUPDATEで適用する。存在しない・削除済み・既に遷移後の状態のTODOはエラーにせず、ID毎の結果として返す
+     *
+     * @param userId 認証ユーザーID
+     * @param action 操作（complete / reopen / delete）
+     * @param request 対象のTODO ID（1〜1,000件）
+     * @return 更新件数・ID毎の結果
+     */
+    @PostMapping("/bulk/{action}")
+    public ResponseEntity<ApiResponse<BulkTransitionTodosResponse>> bulkTransition(
+            @AuthenticationPrincipal UUID userId,
+            @PathVariable String action,
+            @Valid @RequestBody TodoIdsRequest request) {
+        BulkTransitionTodosCommand command =
+                new BulkTransitionTodosCommand(userId, parseAction(action), request.getIds());
+        BulkTransitionTodosResponse response =
+                BulkTransitionTodosResponse.from(bulkTransitionTodosService.execute(command));
+        return ResponseEntity.ok(ApiResponse.success("Todos updated", response));
+    }
+
+    /**
+     * 完了済みTODO一括削除（論理削除）
+     *
+     * @param userId 認証ユーザーID
+     * @return 削除件数・削除したTODOのID
+     */
+    @DeleteMapping("/completed")
+    public ResponseEntity<ApiResponse<BulkTransitionTodosResponse>> deleteCompleted(
+            @AuthenticationPrincipal UUID userId) {
+        BulkTransitionTodosResponse response =
+                BulkTransitionTodosResponse.from(
+                        deleteCompletedTodosService.execute(
+                                new DeleteCompletedTodosCommand(userId)));
+        return ResponseEntity.ok(ApiResponse.success("Completed todos deleted", response));
+    }
+
+    /**
+     * 一括操作を状態遷移に変換する
+     *
+     * @param action 操作
+     * @return 状態遷移
+     * @throws IllegalArgumentException 不正な値の場合
+     */
+    private static TodoStateTransition parseAction(String action) {
+        return switch (action) {
+            case "complete" -> TodoStateTransition.COMPLETE;
+            case "reopen" -> TodoStateTransition.REOPEN;
+            case "delete" -> TodoStateTransition.DELETE;
+            default ->
+                    throw new IllegalArgumentException(
+                            "操作は complete / reopen / delete で指定してください");
+        };
+    }
+
+    /**
+     * 再開位置の作成日時を変換する
+     *
+     * @param value 作成日時（ISO-8601）
+     * @return 作成日時（未指定の場合null）
+     * @throws IllegalArgumentException 不正な値の場合
+     */
+    private static LocalDateTime parseDateTime(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(
+                    "afterCreatedAtはISO-8601形式（例: 2025-01-01T09:00:00.123456）で指定してください", e);
+        }
+    }
+
+    /**
+     * gzipで応答できるかどうか
+     *
+     * <p>gzip（x-gzip）が指定されていればその品質値、なければ * の品質値で判定する（q=0 は拒否）
+     *
+     * @param acceptEncoding Accept-Encodingヘッダー
+     * @return gzipを受け付ける場合true
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        boolean wildcard = false;
+        for (String coding : acceptEncoding.toLowerCase(Locale.ROOT).split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim();
+            if (name.equals("gzip") || name.equals("x-gzip")) {
+                return isAcceptable(parts);
+            }
+            if (name.equals("*")) {
+                wildcard = isAcceptable(parts);
+            }
+        }
+        return wildcard;
+    }
+
+    /** 品質値（q）が0でないかどうか（省略した場合は1） */
+    private static boolean isAcceptable(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].replace(" ", "");
+            if (parameter.startsWith("q=")) {
+                return !parameter.matches("q=0(\\.0{0,3})?");
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 完了状態フィルタを変換する
+     *
+     * @param completedFilter 完了状態フィルタ
+     * @return 完了状態（allの場合null）
+     * @throws IllegalArgumentException 不正な値の場合
+     */
+    private static Boolean parseCompletedFilter(String completedFilter) {
+        return switch (completedFilter) {
+            case "all" -> null;
+            case "completed" -> Boolean.TRUE;
+            case "incomplete" -> Boolean.FALSE;
+            default ->
+                    throw new IllegalArgumentException(
+                            "completedFilterは all / completed / incomplete で指定してください");
+        };
+    }
+}
@@ -1,3 +1,8 @@
+-- 初期スキーマ（users・todos）
+--
+-- Flyway導入前に db/ddl.sql を手動適用した既存DBは、このバージョンをベースラインとして扱い実行しない
+-- （spring.flyway.baseline-on-migrate / baseline-version=1）
+
 -- UUIDの拡張を有効化
 CREATE EXTENSION IF NOT EXISTS "uuid-ossp";
 
@@ -0,0 +1,36 @@
+-- 認証トークン管理テーブル（リフレッシュトークン・失効済みアクセストークン）
+--
+-- Flyway導入前に db/ddl.sql で作成済みの場合があるため IF NOT EXISTS とする。
+-- いずれも新規テーブルのため、既存テーブルへのロックは外部キー追加時の users への短時間の SHARE ROW EXCLUSIVE のみ
+SET LOCAL lock_timeout = '5s';
+
+-- refresh_tokensテーブルの作成（トークン値は保存せずSHA-256ハッシュのみ保持）
+CREATE TABLE IF NOT EXISTS refresh_tokens (
+	id		UUID		NOT NULL DEFAULT uuid_generate_v4() PRIMARY KEY
+
+	,token_hash	CHAR(64)	NOT NULL UNIQUE
+	,expires_at	TIMESTAMPTZ	NOT NULL
+	,revoked	BOOLEAN		NOT NULL DEFAULT FALSE
+
+	,created_at	TIMESTAMPTZ	NOT NULL DEFAULT CURRENT_TIMESTAMP
+	,updated_at	TIMESTAMPTZ	NOT NULL DEFAULT CURRENT_TIMESTAMP
+
+	,user_id	UUID		NOT NULL REFERENCES users(id) ON DELETE CASCADE
+);
+
+-- インデックスの作成
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_user_id ON refresh_tokens(user_id);
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_expires_at ON refresh_tokens(expires_at);
+
+
+-- revoked_tokensテーブルの作成（失効済みアクセストークンのjti。トークンの有効期限を過ぎたら削除してよい）
+CREATE TABLE IF NOT EXISTS revoked_tokens (
+	jti		VARCHAR(64)	NOT NULL PRIMARY KEY
+
+	,expires_at	TIMESTAMPTZ	NOT NULL
+
+	,created_at	TIMESTAMPTZ	NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- インデックスの作成
+CREATE INDEX IF NOT EXISTS idx_revoked_tokens_expires_at ON revoked_tokens(expires_at);
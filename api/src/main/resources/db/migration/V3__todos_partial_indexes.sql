@@ -0,0 +1,22 @@
+-- todosの一覧取得用インデックスを部分インデックスに置き換える
+--
+-- 一覧・件数取得は削除済みを除外して作成日時の新しい順に取得するため、有効な行のみを対象とした
+-- (user_id, created_at DESC, id DESC) の部分インデックスで範囲走査する。
+-- deleted 単独のインデックスは選択性がなく使われないため削除する。
+--
+-- 大きなtodosテーブルでも書き込みを止めないよう、すべて CONCURRENTLY で実行する
+-- （SHARE UPDATE EXCLUSIVE ロックのみ。CONCURRENTLY はトランザクション外で実行されるため、Flywayはこのマイグレーションを非トランザクションで実行する）。
+-- 新しいインデックスを作成してから古いインデックスを削除し、インデックスのない期間を作らない。
+--
+-- 作成が途中で失敗すると INVALID なインデックスが残り、IF NOT EXISTS では再作成されない。
+-- その場合は DROP INDEX CONCURRENTLY で削除してから flyway repair を実行すること（ドライランで検出できる）
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_todos_user_active
+	ON todos(user_id, created_at DESC, id DESC) WHERE deleted = FALSE;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_todos_user_incomplete
+	ON todos(user_id, created_at DESC, id DESC) WHERE deleted = FALSE AND completed = FALSE;
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_todos_user_id_created_at_id;
+DROP INDEX CONCURRENTLY IF EXISTS idx_todos_user_id;
+DROP INDEX CONCURRENTLY IF EXISTS idx_todos_deleted;
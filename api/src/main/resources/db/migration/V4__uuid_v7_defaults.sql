@@ -0,0 +1,31 @@
+-- 主キーのデフォルト値をUUIDv4から時刻順のUUIDv7に変更する
+--
+-- アプリケーションはDomain層（IdGenerators）でUUIDv7を採番するため、デフォルト値はSQLで直接INSERTする場合のみ使われる。
+-- ランダムなUUIDv4が混在すると主キーインデックスの挿入位置が分散するため、手動投入分もUUIDv7に揃える。
+-- 既存行のIDは変更しない（参照先の更新が必要になるため）
+--
+-- ALTER COLUMN SET DEFAULT はカタログ更新のみだが ACCESS EXCLUSIVE を取るため、lock_timeout で待ち行列の発生を防ぐ
+SET LOCAL lock_timeout = '5s';
+
+-- RFC 9562 のUUIDv7（先頭48bitがUnixエポックミリ秒）。PostgreSQL 18未満には uuidv7() がないため関数で定義する。
+-- gen_random_uuid()（UUIDv4）の先頭48bitをミリ秒時刻で置き換え、バージョンを4から7に変更する（bit 52, 53 を立てる）
+CREATE OR REPLACE FUNCTION uuid_generate_v7() RETURNS UUID AS $$
+	SELECT encode(
+		set_bit(
+			set_bit(
+				overlay(
+					uuid_send(gen_random_uuid())
+					PLACING substring(int8send(floor(extract(epoch FROM clock_timestamp()) * 1000)::BIGINT) FROM 3)
+					FROM 1 FOR 6
+				),
+				52, 1
+			),
+			53, 1
+		),
+		'hex'
+	)::UUID;
+$$ LANGUAGE sql VOLATILE;
+
+ALTER TABLE users ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE todos ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE refresh_tokens ALTER COLUMN id SET DEFAULT uuid_generate_v7();
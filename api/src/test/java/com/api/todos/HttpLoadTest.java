@@ -0,0 +1,163 @@
+package com.api.todos;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+/**
+ * 同時クライアントからHTTPリクエストを送る負荷テストの基底クラス
+ *
+ * <p>コンテナ（max_connections=200）は負荷テストのクラス間で1つを共有し、最初に使用するテストクラスのコンテキスト作成時に起動する。
+ * 大きなコネクションプールを持つコンテキストが同時に残らないよう、テストクラスの終了時にコンテキストを破棄する。
+ * リアクティブ読み取りAPIのR2DBC URLも同じコンテナを指す。 Dockerが利用できない環境ではスキップされる
+ *
+ * <p>サブクラスには {@code @SpringBootTest(webEnvironment = RANDOM_PORT)} と、-Dloadtest.enabled=true
+ * を指定した場合のみ実行する条件（{@code @EnabledIfSystemProperty}）を付与する
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DirtiesContext
+public abstract class HttpLoadTest {
+
+    /** 1クライアントあたりのリクエスト数 */
+    protected static final int REQUESTS_PER_CLIENT = 5;
+
+    protected static final Duration REQUEST_TIMEOUT = Duration.ofMinutes(2);
+
+    private static final PostgreSQLContainer POSTGRES =
+            new PostgreSQLContainer("postgres:16-alpine")
+                    .withCommand("postgres", "-c", "max_connections=200");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        POSTGRES.start();
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add(
+                "reactive.read-api.r2dbc.url",
+                () ->
+                        "r2dbc:postgresql://"
+                                + POSTGRES.getHost()
+                                + ":"
+                                + POSTGRES.getMappedPort(5432)
+                                + "/"
+                                + POSTGRES.getDatabaseName());
+    }
+
+    /** HTTP/1.1のクライアント（リクエスト毎に接続を張らない） */
+    protected static HttpClient newClient() {
+        return HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    }
+
+    /**
+     * 同時クライアントから {@link #REQUESTS_PER_CLIENT} 件ずつリクエストを送信し、全クライアントの完了を待つ
+     *
+     * <p>各クライアントは仮想スレッドで実行し、全クライアントの準備ができてから同時に送信を始める。 200以外の応答・送信の失敗はエラーとして数える
+     *
+     * @param clients 同時クライアント数
+     * @param requests クライアントの番号（0始まり）毎のリクエスト
+     * @return 計測結果
+     */
+    protected static LoadResult run(int clients, IntFunction<HttpRequest> requests) {
+        long[] latencies = new long[clients * REQUESTS_PER_CLIENT];
+        AtomicInteger recorded = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        long begin;
+        // 終了時に全クライアントの完了を待つ（close() の順序: clientThreads → client）
+        try (HttpClient client = newClient();
+                ExecutorService clientThreads = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clients; i++) {
+                HttpRequest request = requests.apply(i);
+                clientThreads.submit(
+                        () -> {
+                            start.await();
+                            runClient(client, request, latencies, recorded, errors);
+                            return null;
+                        });
+            }
+            begin = System.nanoTime();
+            start.countDown();
+        }
+        long elapsedNanos = System.nanoTime() - begin;
+
+        int succeeded = recorded.get();
+        long[] sorted = Arrays.copyOf(latencies, succeeded);
+        Arrays.sort(sorted);
+        return new LoadResult(
+                succeeded,
+                errors.get(),
+                elapsedNanos,
+                percentileMillis(sorted, 0.50),
+                percentileMillis(sorted, 0.99));
+    }
+
+    /** 1クライアント分のリクエストを順に送信し、成功したリクエストのレイテンシを記録する */
+    private static void runClient(
+            HttpClient client,
+            HttpRequest request,
+            long[] latencies,
+            AtomicInteger recorded,
+            AtomicInteger errors) {
+        for (int i = 0; i < REQUESTS_PER_CLIENT; i++) {
+            long sent = System.nanoTime();
+            try {
+                HttpResponse<Void> response =
+                        client.send(request, HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() != 200) {
+                    errors.incrementAndGet();
+                    continue;
+                }
+            } catch (Exception e) {
+                errors.incrementAndGet();
+                continue;
+            }
+            latencies[recorded.getAndIncrement()] = System.nanoTime() - sent;
+        }
+    }
+
+    private static long percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000;
+    }
+
+    /**
+     * 負荷テストの計測結果
+     *
+     * @param succeeded 成功したリクエスト数
+     * @param errors 失敗したリクエスト数
+     * @param elapsedNanos 送信開始から全クライアントの完了までの時間（ナノ秒）
+     * @param p50Millis 成功したリクエストのp50レイテンシ（ミリ秒）
+     * @param p99Millis 成功したリクエストのp99レイテンシ（ミリ秒）
+     */
+    protected record LoadResult(
+            int succeeded, int errors, long elapsedNanos, long p50Millis, long p99Millis) {
+
+        /** 送信開始から全クライアントの完了までの時間（ミリ秒） */
+        public long elapsedMillis() {
+            return elapsedNanos / 1_000_000;
+        }
+
+        /** 1秒あたりの成功したリクエスト数 */
+        public long requestsPerSecond() {
+            return Math.round(succeeded / (elapsedNanos / 1_000_000_000.0));
+        }
+    }
+}
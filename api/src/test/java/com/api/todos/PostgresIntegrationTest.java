@@ -0,0 +1,64 @@
+package com.api.todos;
+
+import java.util.UUID;
+
+import com.api.todos.domain.service.IdGenerators;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+/**
+ * PostgreSQL（Testcontainers）を使う統合テストの基底クラス
+ *
+ * <p>コンテナはテストクラス間で1つを共有し、最初に使用するテストクラスのコンテキスト作成時に起動する（JVM終了時に破棄される）。
+ * スキーマは起動時のマイグレーションで作成される。各テストは {@link #insertUser(String)} で作成したユーザーのデータのみを参照すること。
+ * リアクティブ読み取りAPIのR2DBC URLも同じコンテナを指す（reactive.read-api.enabled=true の場合のみ使用される）。
+ * Dockerが利用できない環境ではスキップされる
+ *
+ * <p>サブクラスには {@code @SpringBootTest} を付与する
+ */
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class PostgresIntegrationTest {
+
+    private static final PostgreSQLContainer POSTGRES =
+            new PostgreSQLContainer("postgres:16-alpine");
+
+    @Autowired protected JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        POSTGRES.start();
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add(
+                "reactive.read-api.r2dbc.url",
+                () ->
+                        "r2dbc:postgresql://"
+                                + POSTGRES.getHost()
+                                + ":"
+                                + POSTGRES.getMappedPort(5432)
+                                + "/"
+                                + POSTGRES.getDatabaseName());
+    }
+
+    /**
+     * テスト用のユーザーを作成する（パスワードハッシュはログインできない値）
+     *
+     * @param usernamePrefix ユーザー名の接頭辞（ユーザーIDを連結して一意にする）
+     * @return ユーザーID
+     */
+    protected UUID insertUser(String usernamePrefix) {
+        UUID userId = IdGenerators.next();
+        jdbcTemplate.update(
+                "INSERT INTO users (id, username, password_hash) VALUES (?, ?, ?)",
+                userId,
+                usernamePrefix + userId,
+                "-");
+        return userId;
+    }
+}
@@ -0,0 +1,63 @@
+package com.api.todos.application.usecase.auth;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import com.api.todos.application.command.auth.LoginCommand;
+import com.api.todos.application.exception.UnauthorizedException;
+import com.api.todos.domain.model.User;
+import com.api.todos.domain.repository.UserRepository;
+import com.api.todos.domain.service.PasswordHasher;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * LoginUseCase のテスト
+ *
+ * <p>存在しないユーザー名・パスワードの不一致のどちらもパスワードハッシュの検証を行ってから同じ例外で失敗すること
+ * （応答時間からユーザーの存在を推測できないこと）を確認する
+ */
+class LoginUseCaseTest {
+
+    private static final String DUMMY_HASH = "dummy-hash";
+    private static final String USER_HASH = "user-hash";
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final PasswordHasher passwordHasher = mock(PasswordHasher.class);
+    private final User user = new User("user", "太郎", "タロウ", "山田", "ヤマダ", 1, USER_HASH, "test");
+
+    private LoginUseCase loginUseCase;
+
+    @BeforeEach
+    void setUp() {
+        when(passwordHasher.hash(anyString())).thenReturn(DUMMY_HASH);
+        when(userRepository.findByUsername("user")).thenReturn(Optional.of(user));
+        when(userRepository.findByUsername("unknown")).thenReturn(Optional.empty());
+        loginUseCase =
+                new LoginUseCase(userRepository, passwordHasher, mock(AuthTokenIssuer.class));
+    }
+
+    @Test
+    void verifiesADummyHashForAnUnknownUser() {
+        assertThatThrownBy(() -> loginUseCase.authenticate(new LoginCommand("unknown", "secret")))
+                .isInstanceOf(UnauthorizedException.class)
+                .hasMessage("Invalid username or password");
+
+        verify(passwordHasher).matches("secret", DUMMY_HASH);
+    }
+
+    @Test
+    void verifiesTheUsersHashForAWrongPassword() {
+        assertThatThrownBy(() -> loginUseCase.authenticate(new LoginCommand("user", "wrong")))
+                .isInstanceOf(UnauthorizedException.class)
+                .hasMessage("Invalid username or password");
+
+        verify(passwordHasher).matches("wrong", USER_HASH);
+    }
+}
@@ -0,0 +1,160 @@
+package com.api.todos.application.usecase.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.api.todos.application.command.auth.RefreshTokenCommand;
+import com.api.todos.application.dto.AuthResult;
+import com.api.todos.application.exception.UnauthorizedException;
+import com.api.todos.domain.model.RefreshToken;
+import com.api.todos.domain.model.User;
+import com.api.todos.domain.repository.RefreshTokenRepository;
+import com.api.todos.domain.repository.UserRepository;
+import com.api.todos.domain.service.JwtService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * RefreshTokenUseCase のテスト
+ *
+ * <p>再発行で新しいリフレッシュトークンが発行され使用したトークンが失効すること、失効済みトークンの再使用でそのユーザーの
+ * リフレッシュトークンがすべて失効することを確認する（リポジトリはメモリ上の実装）
+ */
+class RefreshTokenUseCaseTest {
+
+    private final InMemoryRefreshTokenRepository refreshTokenRepository =
+            new InMemoryRefreshTokenRepository();
+    private final User user = new User("user", "太郎", "タロウ", "山田", "ヤマダ", 1, "-", "test");
+
+    private AuthTokenIssuer authTokenIssuer;
+    private RefreshTokenUseCase refreshTokenUseCase;
+
+    @BeforeEach
+    void setUp() {
+        JwtService jwtService = mock(JwtService.class);
+        when(jwtService.generateToken(any(UUID.class), anyString(), anyInt()))
+                .thenAnswer(invocation -> "access-" + UUID.randomUUID());
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+
+        authTokenIssuer =
+                new AuthTokenIssuer(
+                        jwtService,
+                        refreshTokenRepository,
+                        Duration.ofMinutes(15),
+                        Duration.ofDays(14));
+        refreshTokenUseCase =
+                new RefreshTokenUseCase(refreshTokenRepository, userRepository, authTokenIssuer);
+    }
+
+    @Test
+    void rotationIssuesANewTokenAndInvalidatesTheUsedOne() {
+        String issued = authTokenIssuer.issue(user).getRefreshToken();
+
+        AuthResult rotated = refreshTokenUseCase.execute(new RefreshTokenCommand(issued));
+
+        assertThat(rotated.getRefreshToken()).isNotEqualTo(issued);
+        assertThat(refreshTokenRepository.find(issued).isRevoked()).isTrue();
+        assertThat(refreshTokenRepository.find(rotated.getRefreshToken()).isRevoked()).isFalse();
+        assertThat(
+                        refreshTokenUseCase
+                                .execute(new RefreshTokenCommand(rotated.getRefreshToken()))
+                                .getRefreshToken())
+                .isNotEqualTo(rotated.getRefreshToken());
+    }
+
+    @Test
+    void replayingARotatedTokenRevokesTheWholeFamily() {
+        String issued = authTokenIssuer.issue(user).getRefreshToken();
+        String rotated =
+                refreshTokenUseCase.execute(new RefreshTokenCommand(issued)).getRefreshToken();
+
+        assertThatThrownBy(() -> refreshTokenUseCase.execute(new RefreshTokenCommand(issued)))
+                .isInstanceOf(UnauthorizedException.class);
+
+        assertThat(refreshTokenRepository.find(rotated).isRevoked()).isTrue();
+        assertThatThrownBy(() -> refreshTokenUseCase.execute(new RefreshTokenCommand(rotated)))
+                .isInstanceOf(UnauthorizedException.class);
+    }
+
+    @Test
+    void rejectsAnUnknownToken() {
+        assertThatThrownBy(() -> refreshTokenUseCase.execute(new RefreshTokenCommand("unknown")))
+                .isInstanceOf(UnauthorizedException.class);
+    }
+
+    /** メモリ上のリフレッシュトークンリポジトリ（条件付き更新を含め、JPA実装と同じ動作） */
+    private static final class InMemoryRefreshTokenRepository implements RefreshTokenRepository {
+
+        private final Map<String, RefreshToken> tokens = new ConcurrentHashMap<>();
+
+        RefreshToken find(String value) {
+            return tokens.get(RefreshToken.hash(value));
+        }
+
+        @Override
+        public Optional<RefreshToken> findByTokenHash(String tokenHash) {
+            return Optional.ofNullable(tokens.get(tokenHash));
+        }
+
+        @Override
+        public RefreshToken save(RefreshToken refreshToken) {
+            tokens.put(refreshToken.getTokenHash(), refreshToken);
+            return refreshToken;
+        }
+
+        @Override
+        public boolean revoke(UUID id) {
+            for (RefreshToken token : tokens.values()) {
+                if (token.getId().equals(id) && !token.isRevoked()) {
+                    save(revoked(token));
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public int revokeAllByUserId(UUID userId) {
+            int count = 0;
+            for (RefreshToken token : tokens.values()) {
+                if (token.getUserId().equals(userId) && !token.isRevoked()) {
+                    save(revoked(token));
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        @Override
+        public int deleteExpired(LocalDateTime now) {
+            int before = tokens.size();
+            tokens.values().removeIf(token -> token.isExpired(now));
+            return before - tokens.size();
+        }
+
+        private static RefreshToken revoked(RefreshToken token) {
+            return new RefreshToken(
+                    token.getId(),
+                    token.getUserId(),
+                    token.getTokenHash(),
+                    token.getExpiresAt(),
+                    true,
+                    token.getCreatedAt(),
+                    LocalDateTime.now());
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.api.todos.application.usecase.todo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * TodoPageCursor のテスト
+ *
+ * <p>絞り込み条件（全件・完了・未完了）毎に復元できること、取得時と異なる絞り込み条件のリクエストでは拒否されることを確認する
+ */
+class TodoPageCursorTest {
+
+    private static final LocalDateTime CREATED_AT =
+            LocalDateTime.of(2025, 1, 1, 9, 0, 0, 123_456_000);
+    private static final UUID ID = UUID.fromString("0198a3c2-5f10-7000-8b1e-6a1f0c2d3e4f");
+
+    @ParameterizedTest(name = "{0} -> {1}")
+    @CsvSource(
+            nullValues = "all",
+            value = {
+                "all, all, true",
+                "true, true, true",
+                "false, false, true",
+                "all, true, false",
+                "true, false, false",
+                "false, all, false"
+            })
+    void decodesOnlyForTheSameCompletedFilter(
+            Boolean encodedFilter, Boolean requestFilter, boolean accepted) {
+        String encoded = new TodoPageCursor(2, 50, encodedFilter, CREATED_AT, ID).encode();
+
+        if (accepted) {
+            assertThat(TodoPageCursor.decode(encoded, requestFilter))
+                    .isEqualTo(new TodoPageCursor(2, 50, encodedFilter, CREATED_AT, ID));
+        } else {
+            assertThatThrownBy(() -> TodoPageCursor.decode(encoded, requestFilter))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("カーソルの完了状態フィルタがリクエストと一致しません");
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.api.todos.domain.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * UuidV7Generator のテスト
+ *
+ * <p>時刻を注入し、同一ミリ秒内の単調増加（カウンタ）、カウンタの桁あふれによるタイムスタンプの繰り上げ、
+ * システム時刻の巻き戻り時も直前のIDより大きいことを確認する
+ */
+class UuidV7GeneratorTest {
+
+    private static final long NOW = 1_721_800_000_000L;
+    private static final int COUNTER_LIMIT = 1 << 12;
+
+    private final AtomicLong clock = new AtomicLong(NOW);
+    private final UuidV7Generator generator = new UuidV7Generator(clock::get);
+
+    @Test
+    void encodesVersionVariantAndTimestamp() {
+        UUID id = generator.generate();
+
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+        assertThat(timestamp(id)).isEqualTo(NOW);
+        assertThat(counter(id)).isZero();
+    }
+
+    @Test
+    void incrementsTheCounterWithinTheSameMillisecond() {
+        UUID previous = generator.generate();
+        for (int i = 1; i < 100; i++) {
+            UUID id = generator.generate();
+            assertThat(timestamp(id)).isEqualTo(NOW);
+            assertThat(counter(id)).isEqualTo(i);
+            assertThat(isAfter(id, previous)).isTrue();
+            previous = id;
+        }
+    }
+
+    @Test
+    void resetsTheCounterInANewMillisecond() {
+        generator.generate();
+        generator.generate();
+
+        clock.incrementAndGet();
+        UUID id = generator.generate();
+
+        assertThat(timestamp(id)).isEqualTo(NOW + 1);
+        assertThat(counter(id)).isZero();
+    }
+
+    @Test
+    void carriesCounterOverflowIntoTheTimestamp() {
+        UUID last = null;
+        for (int i = 0; i < COUNTER_LIMIT; i++) {
+            last = generator.generate();
+        }
+        assertThat(timestamp(last)).isEqualTo(NOW);
+        assertThat(counter(last)).isEqualTo(COUNTER_LIMIT - 1);
+
+        UUID overflowed = generator.generate();
+        assertThat(timestamp(overflowed)).isEqualTo(NOW + 1);
+        assertThat(counter(overflowed)).isZero();
+        assertThat(isAfter(overflowed, last)).isTrue();
+
+        // 実際の時刻が繰り上げ後のミリ秒に追いついた場合も、直前のIDより大きい
+        clock.incrementAndGet();
+        UUID caughtUp = generator.generate();
+        assertThat(timestamp(caughtUp)).isEqualTo(NOW + 1);
+        assertThat(counter(caughtUp)).isEqualTo(1);
+    }
+
+    @Test
+    void staysMonotonicWhenTheClockMovesBackwards() {
+        UUID before = generator.generate();
+
+        clock.set(NOW - 1000);
+        UUID after = generator.generate();
+
+        assertThat(timestamp(after)).isEqualTo(NOW);
+        assertThat(counter(after)).isEqualTo(1);
+        assertThat(isAfter(after, before)).isTrue();
+
+        clock.set(NOW + 1);
+        assertThat(timestamp(generator.generate())).isEqualTo(NOW + 1);
+    }
+
+    private static long timestamp(UUID id) {
+        return id.getMostSignificantBits() >>> 16;
+    }
+
+    private static long counter(UUID id) {
+        return id.getMostSignificantBits() & (COUNTER_LIMIT - 1);
+    }
+
+    /** 上位64bit（タイムスタンプ・カウンタ）を符号なしで比較する */
+    private static boolean isAfter(UUID id, UUID other) {
+        return Long.compareUnsigned(id.getMostSignificantBits(), other.getMostSignificantBits())
+                > 0;
+    }
+}
@@ -0,0 +1,233 @@
+package com.api.todos.infrastructure.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.api.todos.HttpLoadTest;
+import com.api.todos.domain.service.JwtService;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * TODO一覧の読み取り経路（サーブレット + JPA / WebFlux + R2DBC）別の負荷テスト
+ *
+ * <p>同じデータセット（1,000ユーザー × 200件）に対して、サーブレット側の GET /api/todos と
+ * リアクティブ読み取りAPI（{@link ReactiveReadApiServer}）の GET /api/todos に、1,000 / 5,000 / 10,000
+ * の同時クライアントから各ユーザーのトークンでリクエストし、スループットとp50・p99レイテンシ・エラー件数をログに出力する。
+ * コネクションプールの最大接続数は両経路で同じにする
+ *
+ * <p>全ページの取得（サーブレット側はカーソルを辿ってページ毎にリクエスト、リアクティブ側は /api/todos/stream の1リクエスト）の所要時間も比較する
+ *
+ * <p>同時接続数が多いため、-Dloadtest.enabled=true を指定した場合のみ実行する（Dockerが利用できない環境ではスキップされる）。
+ * クライアントとサーバーが同じJVMで接続を持つため、ファイルディスクリプタの上限（ulimit -n）を同時クライアント数の2倍以上にすること
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+            "reactive.read-api.enabled=true",
+            "reactive.read-api.port=0",
+            // 同時クライアント数分の接続を受け付ける
+            "server.tomcat.max-connections=20000",
+            "server.tomcat.accept-count=10000",
+            // 両経路の最大接続数を揃え、プールの待ちで失敗させずに待ち時間もレイテンシとして計測する
+            "db.pool.max-size=32",
+            "reactive.read-api.r2dbc.pool.max-size=32",
+            "spring.datasource.hikari.connection-timeout=60000",
+            "reactive.read-api.r2dbc.pool.acquire-timeout-ms=60000"
+        })
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfSystemProperty(named = "loadtest.enabled", matches = "true")
+class ReactiveReadApiLoadTest extends HttpLoadTest {
+
+    private static final int USERS = 1_000;
+    private static final int TODOS_PER_USER = 200;
+    private static final int PER_PAGE = 20;
+
+    /** 全ページ取得の対象ユーザー数 */
+    private static final int STREAMED_USERS = 100;
+
+    private static final Pattern ID = Pattern.compile("\"id\":\"([0-9a-f-]{36})\"");
+    private static final Pattern NEXT_CURSOR = Pattern.compile("\"nextCursor\":\"([^\"]+)\"");
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveReadApiLoadTest.class);
+
+    @Value("${local.server.port}")
+    private int servletPort;
+
+    @Autowired private ReactiveReadApiServer reactiveReadApiServer;
+    @Autowired private JwtService jwtService;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    /** ユーザー毎のAuthorizationヘッダー */
+    private final List<String> authorizations = new ArrayList<>();
+
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.update(
+                "INSERT INTO users (username, password_hash)"
+                        + " SELECT 'load_' || g, '-' FROM generate_series(1, ?) g",
+                USERS);
+        // 作成日時をずらし、一部を完了済みにする
+        jdbcTemplate.update(
+                "INSERT INTO todos (title, user_id, completed, created_at, updated_at)"
+                        + " SELECT 'todo ' || g, u.id, g % 3 = 0,"
+                        + " now() - g * interval '1 minute', now()"
+                        + " FROM users u CROSS JOIN generate_series(1, ?) g"
+                        + " WHERE u.username LIKE 'load\\_%'",
+                TODOS_PER_USER);
+        jdbcTemplate.execute("ANALYZE");
+        jdbcTemplate
+                .queryForList(
+                        "SELECT id FROM users WHERE username LIKE 'load\\_%' ORDER BY username",
+                        UUID.class)
+                .forEach(
+                        userId ->
+                                authorizations.add(
+                                        "Bearer "
+                                                + jwtService.generateToken(
+                                                        userId, "load_" + userId, 8)));
+    }
+
+    @ParameterizedTest(name = "{0} clients")
+    @ValueSource(ints = {1_000, 5_000, 10_000})
+    void firstPage(int clients) {
+        String query = "/api/todos?perPage=" + PER_PAGE;
+
+        // 同じユーザーに対して両経路が同じページを返すことを確認してから計測する
+        try (HttpClient client = newClient()) {
+            String authorization = authorizations.get(0);
+            assertThat(ids(get(client, servletPort, query, authorization)))
+                    .hasSize(PER_PAGE)
+                    .isEqualTo(ids(get(client, reactivePort(), query, authorization)));
+        }
+
+        run("servlet+jpa", servletPort, query, clients);
+        run("webflux+r2dbc", reactivePort(), query, clients);
+    }
+
+    @Test
+    void allPages() {
+        try (HttpClient client = newClient()) {
+            long begin = System.nanoTime();
+            int servletPages = 0;
+            for (int i = 0; i < STREAMED_USERS; i++) {
+                String cursor = null;
+                do {
+                    String body =
+                            get(
+                                    client,
+                                    servletPort,
+                                    "/api/todos?perPage="
+                                            + PER_PAGE
+                                            + (cursor != null ? "&cursor=" + cursor : ""),
+                                    authorizations.get(i));
+                    servletPages++;
+                    Matcher next = NEXT_CURSOR.matcher(body);
+                    cursor = next.find() ? next.group(1) : null;
+                } while (cursor != null);
+            }
+            long servletNanos = System.nanoTime() - begin;
+
+            begin = System.nanoTime();
+            int reactivePages = 0;
+            for (int i = 0; i < STREAMED_USERS; i++) {
+                String body =
+                        get(
+                                client,
+                                reactivePort(),
+                                "/api/todos/stream?perPage=" + PER_PAGE,
+                                authorizations.get(i));
+                reactivePages += (int) body.lines().count();
+            }
+            long reactiveNanos = System.nanoTime() - begin;
+
+            log.info(
+                    "[all pages] {} users: servlet+jpa {} pages in {} ms,"
+                            + " webflux+r2dbc {} pages in {} ms",
+                    STREAMED_USERS,
+                    servletPages,
+                    servletNanos / 1_000_000,
+                    reactivePages,
+                    reactiveNanos / 1_000_000);
+
+            int expectedPages = STREAMED_USERS * (TODOS_PER_USER / PER_PAGE);
+            assertThat(servletPages).isEqualTo(expectedPages);
+            assertThat(reactivePages).isEqualTo(expectedPages);
+        }
+    }
+
+    private void run(String path, int port, String query, int clients) {
+        URI uri = URI.create("http://localhost:" + port + query);
+        LoadResult result =
+                run(
+                        clients,
+                        client ->
+                                HttpRequest.newBuilder(uri)
+                                        .header("Authorization", authorizations.get(client % USERS))
+                                        .timeout(REQUEST_TIMEOUT)
+                                        .GET()
+                                        .build());
+        log.info(
+                "[{}] {} clients: {} requests in {} ms ({} req/s), p50 {} ms, p99 {} ms, errors {}",
+                path,
+                clients,
+                result.succeeded(),
+                result.elapsedMillis(),
+                result.requestsPerSecond(),
+                result.p50Millis(),
+                result.p99Millis(),
+                result.errors());
+
+        assertThat(result.succeeded()).isPositive();
+    }
+
+    private int reactivePort() {
+        return reactiveReadApiServer.port();
+    }
+
+    private static String get(HttpClient client, int port, String query, String authorization) {
+        HttpRequest request =
+                HttpRequest.newBuilder(URI.create("http://localhost:" + port + query))
+                        .header("Authorization", authorization)
+                        .timeout(REQUEST_TIMEOUT)
+                        .GET()
+                        .build();
+        try {
+            HttpResponse<String> response =
+                    client.send(request, HttpResponse.BodyHandlers.ofString());
+            assertThat(response.statusCode()).as(query).isEqualTo(200);
+            return response.body();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static List<String> ids(String body) {
+        List<String> ids = new ArrayList<>();
+        Matcher matcher = ID.matcher(body);
+        while (matcher.find()) {
+            ids.add(matcher.group(1));
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,224 @@
+package com.api.todos.infrastructure.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.api.todos.PostgresIntegrationTest;
+import com.api.todos.domain.service.JwtPrincipal;
+import com.api.todos.domain.service.JwtService;
+import com.api.todos.infrastructure.security.RevokedTokenRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.json.JsonCompareMode;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+/**
+ * リアクティブ読み取りAPI（{@link ReactiveReadApiServer}）の機能テスト
+ *
+ * <p>Reactor Nettyのポートに WebTestClient で接続し、トークンなし・失効済みトークンが 401、不正なカーソル・件数が
+ * 400 となること、レスポンス（エラーを含む）がサーブレット側の GET /api/todos と一致すること、
+ * /api/todos/stream がサーブレット側でカーソルを辿った場合と同じ行を同じ順序で返すことを確認する。
+ * Dockerが利用できない環境ではスキップされる
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"reactive.read-api.enabled=true", "reactive.read-api.port=0"})
+class ReactiveReadApiServerTest extends PostgresIntegrationTest {
+
+    private static final int TODO_COUNT = 45;
+    private static final int PER_PAGE = 20;
+
+    private static final Pattern ID = Pattern.compile("\"id\":\"([0-9a-f-]{36})\"");
+    private static final Pattern NEXT_CURSOR = Pattern.compile("\"nextCursor\":\"([^\"]+)\"");
+
+    @Value("${local.server.port}")
+    private int servletPort;
+
+    @Autowired private ReactiveReadApiServer reactiveReadApiServer;
+    @Autowired private JwtService jwtService;
+    @Autowired private RevokedTokenRegistry revokedTokenRegistry;
+
+    private WebTestClient servlet;
+    private WebTestClient reactive;
+    private String authorization;
+
+    @BeforeEach
+    void setUp() {
+        servlet = WebTestClient.bindToServer().baseUrl("http://localhost:" + servletPort).build();
+        reactive =
+                WebTestClient.bindToServer()
+                        .baseUrl("http://localhost:" + reactiveReadApiServer.port())
+                        .build();
+
+        UUID userId = insertUser("reactive_");
+        // 作成日時をずらし、一部を完了済みにする
+        jdbcTemplate.update(
+                "INSERT INTO todos (title, user_id, completed, created_at)"
+                        + " SELECT 'todo ' || g, ?, g % 3 = 0, now() - g * interval '1 minute'"
+                        + " FROM generate_series(1, ?) g",
+                userId,
+                TODO_COUNT);
+        authorization = "Bearer " + jwtService.generateToken(userId, "reactive_" + userId, 1);
+    }
+
+    @Test
+    void rejectsARequestWithoutAToken() {
+        reactive.get().uri("/api/todos").exchange().expectStatus().isUnauthorized();
+        reactive.get().uri("/api/todos/stream").exchange().expectStatus().isUnauthorized();
+    }
+
+    @Test
+    void rejectsARevokedToken() {
+        String token = authorization.substring("Bearer ".length());
+        reactive.get()
+                .uri("/api/todos")
+                .header(HttpHeaders.AUTHORIZATION, authorization)
+                .exchange()
+                .expectStatus()
+                .isOk();
+
+        JwtPrincipal principal = jwtService.verifyToken(token);
+        revokedTokenRegistry.revoke(principal.tokenId(), principal.expiresAt());
+
+        // 検証済みキャッシュに残っていても失効判定で拒否される
+        reactive.get()
+                .uri("/api/todos")
+                .header(HttpHeaders.AUTHORIZATION, authorization)
+                .exchange()
+                .expectStatus()
+                .isUnauthorized();
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+            strings = {
+                "/api/todos?cursor=not-a-cursor",
+                "/api/todos?perPage=0",
+                "/api/todos?perPage=101",
+                "/api/todos?completedFilter=unknown",
+                "/api/todos/stream?cursor=not-a-cursor",
+                "/api/todos/stream?perPage=0"
+            })
+    void rejectsInvalidParametersWithTheServletErrorResponse(String query) {
+        String expected = body(servlet, query.replace("/stream", ""), 400);
+
+        reactive.get()
+                .uri(query)
+                .header(HttpHeaders.AUTHORIZATION, authorization)
+                .exchange()
+                .expectStatus()
+                .isBadRequest()
+                .expectBody()
+                .json(expected, JsonCompareMode.STRICT);
+    }
+
+    @Test
+    void returnsTheSameResponseAsTheServletEndpoint() {
+        String query = "/api/todos?perPage=" + PER_PAGE;
+        String firstPage = body(servlet, query, 200);
+        assertThat(ids(firstPage)).hasSize(PER_PAGE);
+        reactive.get()
+                .uri(query)
+                .header(HttpHeaders.AUTHORIZATION, authorization)
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .expectBody()
+                .json(firstPage, JsonCompareMode.STRICT);
+
+        // カーソルを指定したページ・完了状態で絞り込んだページ
+        List<String> queries =
+                List.of(
+                        query + "&cursor=" + nextCursor(firstPage).orElseThrow(),
+                        query + "&completedFilter=completed",
+                        query + "&completedFilter=incomplete");
+        for (String next : queries) {
+            reactive.get()
+                    .uri(next)
+                    .header(HttpHeaders.AUTHORIZATION, authorization)
+                    .exchange()
+                    .expectStatus()
+                    .isOk()
+                    .expectBody()
+                    .json(body(servlet, next, 200), JsonCompareMode.STRICT);
+        }
+    }
+
+    @Test
+    void streamReturnsTheSameRowsAsFollowingTheServletCursor() {
+        List<String> servletPages = new ArrayList<>();
+        Optional<String> cursor = Optional.empty();
+        do {
+            String page =
+                    body(
+                            servlet,
+                            "/api/todos?perPage="
+                                    + PER_PAGE
+                                    + cursor.map(value -> "&cursor=" + value).orElse(""),
+                            200);
+            servletPages.add(page);
+            cursor = nextCursor(page);
+        } while (cursor.isPresent());
+
+        String stream =
+                reactive.get()
+                        .uri("/api/todos/stream?perPage=" + PER_PAGE)
+                        .header(HttpHeaders.AUTHORIZATION, authorization)
+                        .exchange()
+                        .expectStatus()
+                        .isOk()
+                        .expectHeader()
+                        .contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                        .expectBody(String.class)
+                        .returnResult()
+                        .getResponseBody();
+
+        List<String> streamedPages = stream.lines().toList();
+        assertThat(servletPages).hasSize((TODO_COUNT + PER_PAGE - 1) / PER_PAGE);
+        assertThat(streamedPages).hasSameSizeAs(servletPages);
+        assertThat(streamedPages.stream().flatMap(page -> ids(page).stream()).toList())
+                .hasSize(TODO_COUNT)
+                .doesNotHaveDuplicates()
+                .isEqualTo(servletPages.stream().flatMap(page -> ids(page).stream()).toList());
+    }
+
+    private String body(WebTestClient client, String query, int status) {
+        return client.get()
+                .uri(query)
+                .header(HttpHeaders.AUTHORIZATION, authorization)
+                .exchange()
+                .expectStatus()
+                .isEqualTo(status)
+                .expectBody(String.class)
+                .returnResult()
+                .getResponseBody();
+    }
+
+    private static Optional<String> nextCursor(String body) {
+        Matcher next = NEXT_CURSOR.matcher(body);
+        return next.find() ? Optional.of(next.group(1)) : Optional.empty();
+    }
+
+    private static List<String> ids(String body) {
+        List<String> ids = new ArrayList<>();
+        Matcher matcher = ID.matcher(body);
+        while (matcher.find()) {
+            ids.add(matcher.group(1));
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,144 @@
+package com.api.todos.infrastructure.diagnostics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.UUID;
+
+import com.api.todos.HttpLoadTest;
+import com.api.todos.domain.service.JwtService;
+
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * リクエスト実行方式（プラットフォームスレッド / 仮想スレッド）別の負荷テスト
+ *
+ * <p>認証済みリクエスト（JWT検証を含む）でDBのブロッキング処理（pg_sleep）を実行するエンドポイントに、1,000 / 5,000 / 10,000
+ * の同時クライアントからリクエストし、スループットとp99レイテンシ・エラー件数・ピン留めの検出件数をログに出力する。
+ * 同じ条件を PlatformThreads と VirtualThreads（spring.threads.virtual.enabled）で実行して比較する
+ *
+ * <p>同時接続数が多いため、-Dloadtest.enabled=true を指定した場合のみ実行する（Dockerが利用できない環境ではスキップされる）。
+ * クライアントとサーバーが同じJVMで接続を持つため、ファイルディスクリプタの上限（ulimit -n）を同時クライアント数の2倍以上にすること
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+            // 同時クライアント数分の接続を受け付ける
+            "server.tomcat.max-connections=20000",
+            "server.tomcat.accept-count=10000",
+            // コネクションプールの待ちで失敗させず、待ち時間もレイテンシとして計測する
+            "db.pool.max-size=64",
+            "spring.datasource.hikari.connection-timeout=60000"
+        })
+@Import(RequestExecutionLoadTest.BlockingEndpoint.class)
+abstract class RequestExecutionLoadTest extends HttpLoadTest {
+
+    /** 1リクエストあたりのDBでのブロッキング時間（秒） */
+    private static final double DATABASE_SLEEP_SECONDS = 0.02;
+
+    private static final Logger log = LoggerFactory.getLogger(RequestExecutionLoadTest.class);
+
+    @Value("${local.server.port}")
+    private int port;
+
+    @Autowired private JwtService jwtService;
+    @Autowired private ObjectProvider<MeterRegistry> meterRegistry;
+    @Autowired private Environment environment;
+
+    /** プラットフォームスレッド（Tomcatのスレッドプール） */
+    @EnabledIfSystemProperty(named = "loadtest.enabled", matches = "true")
+    @TestPropertySource(properties = "spring.threads.virtual.enabled=false")
+    static class PlatformThreads extends RequestExecutionLoadTest {}
+
+    /** 仮想スレッド */
+    @EnabledIfSystemProperty(named = "loadtest.enabled", matches = "true")
+    @TestPropertySource(properties = "spring.threads.virtual.enabled=true")
+    static class VirtualThreads extends RequestExecutionLoadTest {}
+
+    @ParameterizedTest(name = "{0} clients")
+    @ValueSource(ints = {1_000, 5_000, 10_000})
+    void blockingDatabaseWorkload(int clients) {
+        URI uri = URI.create("http://localhost:" + port + BlockingEndpoint.PATH);
+        String authorization =
+                "Bearer " + jwtService.generateToken(UUID.randomUUID(), "load_test", 8);
+        HttpRequest request =
+                HttpRequest.newBuilder(uri)
+                        .header("Authorization", authorization)
+                        .timeout(REQUEST_TIMEOUT)
+                        .GET()
+                        .build();
+        long pinnedBefore = pinnedCount();
+
+        LoadResult result = run(clients, client -> request);
+        log.info(
+                "[{}] {} clients: {} requests in {} ms ({} req/s), p50 {} ms, p99 {} ms,"
+                        + " errors {}, pinned {}",
+                mode(),
+                clients,
+                result.succeeded(),
+                result.elapsedMillis(),
+                result.requestsPerSecond(),
+                result.p50Millis(),
+                result.p99Millis(),
+                result.errors(),
+                pinnedCount() - pinnedBefore);
+
+        assertThat(result.succeeded()).isPositive();
+    }
+
+    private String mode() {
+        return environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false)
+                ? "virtual"
+                : "platform";
+    }
+
+    private long pinnedCount() {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry == null) {
+            return 0;
+        }
+        return registry.find(VirtualThreadPinningMonitor.METRIC_NAME).timers().stream()
+                .mapToLong(Timer::count)
+                .sum();
+    }
+
+    /** DBでブロックする認証済みエンドポイント（JPAの処理と同じくコネクションプールから接続を借りる） */
+    @TestConfiguration
+    @RestController
+    static class BlockingEndpoint {
+
+        static final String PATH = "/api/load-test/blocking";
+
+        private final JdbcTemplate jdbcTemplate;
+
+        BlockingEndpoint(JdbcTemplate jdbcTemplate) {
+            this.jdbcTemplate = jdbcTemplate;
+        }
+
+        @GetMapping(PATH)
+        String blocking() {
+            jdbcTemplate.queryForObject(
+                    "SELECT 1 FROM pg_sleep(?)", Integer.class, DATABASE_SLEEP_SECONDS);
+            return "ok";
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.api.todos.infrastructure.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import com.api.todos.application.exception.TooManyRequestsException;
+import com.api.todos.domain.model.TodoChange;
+import com.api.todos.domain.model.TodoChangeType;
+import com.api.todos.domain.service.IdGenerators;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * TodoChangeHub のテスト
+ *
+ * <p>同じユーザーの購読にのみ配信されること、バッファが満杯の場合の動作（DROP_OLDEST: リセットの後に残りを配信、DISCONNECT: 切断）、
+ * Last-Event-IDからの再開（保持期間外・不正なIDの場合、再送がバッファを超える場合はリセット）、
+ * トランザクション内の変更がコミット後に1回だけ配信されること（ロールバックした変更は配信しない）、停止時に購読が終了することを確認する
+ */
+class TodoChangeHubTest {
+
+    private static final int BUFFER_SIZE = 4;
+    private static final int REPLAY_SIZE = 8;
+
+    private final UUID userId = IdGenerators.next();
+    private final UUID otherUserId = IdGenerators.next();
+
+    @Test
+    void deliversOnlyTheSubscribersOwnChanges() throws InterruptedException {
+        TodoChangeHub hub = hub(TodoChangeOverflowPolicy.DROP_OLDEST);
+        try (TodoChangeSubscription subscription = hub.subscribe(userId, null)) {
+            hub.publish(change(otherUserId));
+            hub.publish(change(userId));
+
+            TodoChangeEvent event = subscription.poll(1, TimeUnit.SECONDS);
+            assertThat(event.isReset()).isFalse();
+            assertThat(event.change().getUserId()).isEqualTo(userId);
+            assertThat(subscription.poll(0, TimeUnit.SECONDS)).isNull();
+        }
+    }
+
+    @Test
+    void dropsTheOldestChangeAndSendsResetFirst() throws InterruptedException {
+        TodoChangeHub hub = hub(TodoChangeOverflowPolicy.DROP_OLDEST);
+        try (TodoChangeSubscription subscription = hub.subscribe(userId, null)) {
+            for (int i = 0; i < BUFFER_SIZE + 1; i++) {
+                hub.publish(change(userId));
+            }
+
+            TodoChangeEvent reset = subscription.poll(0, TimeUnit.SECONDS);
+            assertThat(reset.isReset()).isTrue();
+            assertThat(reset.sequence()).isEqualTo(1);
+            for (long sequence = 2; sequence <= BUFFER_SIZE + 1; sequence++) {
+                assertThat(subscription.poll(0, TimeUnit.SECONDS).sequence()).isEqualTo(sequence);
+            }
+            assertThat(subscription.isClosed()).isFalse();
+        }
+    }
+
+    @Test
+    void disconnectsWhenTheBufferIsFull() throws InterruptedException {
+        TodoChangeHub hub = hub(TodoChangeOverflowPolicy.DISCONNECT);
+        try (TodoChangeSubscription subscription = hub.subscribe(userId, null)) {
+            for (int i = 0; i < BUFFER_SIZE + 1; i++) {
+                hub.publish(change(userId));
+            }
+
+            assertThat(subscription.poll(0, TimeUnit.SECONDS)).isNull();
+            assertThat(subscription.isClosed()).isTrue();
+        }
+    }
+
+    @Test
+    void resumesAfterTheLastEventId() throws InterruptedException {
+        TodoChangeHub hub = hub(TodoChangeOverflowPolicy.DISCONNECT);
+        String lastEventId;
+        try (TodoChangeSubscription subscription = hub.subscribe(userId, null)) {
+            hub.publish(change(userId));
+            lastEventId = subscription.poll(0, TimeUnit.SECONDS).id();
+        }
+        hub.publish(change(otherUserId));
+        hub.publish(change(userId));
+
+        try (TodoChangeSubscription resumed = hub.subscribe(userId, lastEventId)) {
+            TodoChangeEvent event = resumed.poll(0, TimeUnit.SECONDS);
+            assertThat(event.isReset()).isFalse();
+            assertThat(event.sequence()).isEqualTo(3);
+            assertThat(resumed.poll(0, TimeUnit.SECONDS)).isNull();
+        }
+    }
+
+    @Test
+    void sendsResetWhenTheLastEventIdCannotBeResumed() throws InterruptedException {
+        TodoChangeHub hub = hub(TodoChangeOverflowPolicy.DROP_OLDEST);
+        try (TodoChangeSubscription subscription = hub.subscribe(userId, null)) {
+            hub.publish(change(userId));
+            String expired = subscription.poll(0, TimeUnit.SECONDS).id();
+            for (int i = 0; i < REPLAY_SIZE + 1; i++) {
+                hub.publish(change(otherUserId));
+            }
+
+            for (String lastEventId : List.of(expired, "0-1", "invalid")) {
+                try (TodoChangeSubscription resumed = hub.subscribe(userId, lastEventId)) {
+                    TodoChangeEvent reset = resumed.poll(0, TimeUnit.SECONDS);
+                    assertThat(reset.isReset()).isTrue();
+                    assertThat(reset.sequence()).isEqualTo(REPLAY_SIZE + 2);
+                }
+            }
+        }
+    }
+
+    @Test
+    void sendsResetWhenTheReplayExceedsTheBuffer() throws InterruptedException {
+        TodoChangeHub hub = hub(TodoChangeOverflowPolicy.DISCONNECT);
+        String lastEventId;
+        try (TodoChangeSubscription subscription = hub.subscribe(userId, null)) {
+            hub.publish(change(userId));
+            lastEventId = subscription.poll(0, TimeUnit.SECONDS).id();
+        }
+        for (int i = 0; i < BUFFER_SIZE + 2; i++) {
+            hub.publish(change(userId));
+        }
+
+        // DISCONNECTでも切断せず（同じIDでの再接続を繰り返さない）、リセットの後に新しい変更を配信する
+        try (TodoChangeSubscription resumed = hub.subscribe(userId, lastEventId)) {
+            TodoChangeEvent reset = resumed.poll(0, TimeUnit.SECONDS);
+            assertThat(reset.isReset()).isTrue();
+            assertThat(reset.sequence()).isEqualTo(3);
+            for (long sequence = 4; sequence <= BUFFER_SIZE + 3; sequence++) {
+                assertThat(resumed.poll(0, TimeUnit.SECONDS).sequence()).isEqualTo(sequence);
+            }
+            assertThat(resumed.isClosed()).isFalse();
+        }
+    }
+
+    @Test
+    void deliversCommittedChangesExactlyOnceAndRolledBackChangesNever() {
+        TodoChangeHub hub = hub(TodoChangeOverflowPolicy.DROP_OLDEST);
+        TransactionTemplate transactionTemplate =
+                new TransactionTemplate(new NoOpTransactionManager());
+        try (TodoChangeSubscription subscription = hub.subscribe(userId, null)) {
+            transactionTemplate.executeWithoutResult(
+                    status -> {
+                        hub.publish(change(userId));
+                        status.setRollbackOnly();
+                    });
+            assertThat(pollNow(subscription)).isNull();
+
+            TodoChange committed = change(userId);
+            transactionTemplate.executeWithoutResult(
+                    status -> {
+                        hub.publish(committed);
+                        // コミット前は配信しない
+                        assertThat(pollNow(subscription)).isNull();
+                    });
+            assertThat(pollNow(subscription).change()).isSameAs(committed);
+            assertThat(pollNow(subscription)).isNull();
+        }
+    }
+
+    @Test
+    void stopClosesSubscriptionsAndRejectsNewOnes() {
+        TodoChangeHub hub = hub(TodoChangeOverflowPolicy.DROP_OLDEST);
+        TodoChangeSubscription subscription = hub.subscribe(userId, null);
+
+        hub.stop();
+
+        assertThat(subscription.isClosed()).isTrue();
+        assertThat(hub.isRunning()).isFalse();
+        assertThatThrownBy(() -> hub.subscribe(userId, null))
+                .isInstanceOf(TooManyRequestsException.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static TodoChangeHub hub(TodoChangeOverflowPolicy policy) {
+        TodoChangeHub hub =
+                new TodoChangeHub(
+                        BUFFER_SIZE, REPLAY_SIZE, 100, policy, mock(ObjectProvider.class));
+        hub.start();
+        return hub;
+    }
+
+    /** 待機せずに次の変更を取り出す */
+    private static TodoChangeEvent pollNow(TodoChangeSubscription subscription) {
+        try {
+            return subscription.poll(0, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static TodoChange change(UUID userId) {
+        return TodoChange.of(userId, TodoChangeType.COMPLETED, List.of(IdGenerators.next()));
+    }
+
+    /** トランザクション同期のみを行うトランザクションマネージャー（リソースを持たない） */
+    private static final class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {}
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {}
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {}
+    }
+}
@@ -0,0 +1,136 @@
+package com.api.todos.infrastructure.persistence.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+/**
+ * ReplicaRoutingDataSource のテスト
+ *
+ * <p>データベース名の異なる2つのPostgreSQL（Testcontainers）をプライマリ・レプリカに見立て、 接続先を current_database()
+ * で判定する。DatabaseConfig と同じく LazyConnectionDataSourceProxy 経由で使う。 Dockerが利用できない環境ではスキップされる
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ReplicaRoutingDataSourceTest {
+
+    private static final String PRIMARY = "primary_db";
+    private static final String REPLICA = "replica_db";
+
+    @Container
+    private static final PostgreSQLContainer PRIMARY_DB =
+            new PostgreSQLContainer("postgres:16-alpine").withDatabaseName(PRIMARY);
+
+    @Container
+    private static final PostgreSQLContainer REPLICA_DB =
+            new PostgreSQLContainer("postgres:16-alpine").withDatabaseName(REPLICA);
+
+    private HikariDataSource primary;
+    private ReplicaRoutingDataSource routing;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        primary = pool(PRIMARY_DB, PRIMARY_DB.getJdbcUrl());
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        routing.close();
+        primary.close();
+    }
+
+    @Test
+    void routesReadOnlyTransactionsToReplica() {
+        configure(ReplicaSelection.ROUND_ROBIN, Duration.ZERO, REPLICA_DB.getJdbcUrl());
+
+        assertThat(readWrite.execute(status -> currentDatabase())).isEqualTo(PRIMARY);
+        assertThat(readOnly.execute(status -> currentDatabase())).isEqualTo(REPLICA);
+    }
+
+    @Test
+    void pinsReadsToPrimaryAfterWriteForSameUserOnly() {
+        configure(
+                ReplicaSelection.LEAST_CONNECTIONS, Duration.ofMinutes(1), REPLICA_DB.getJdbcUrl());
+
+        authenticate(UUID.randomUUID());
+        readWrite.executeWithoutResult(status -> currentDatabase());
+        assertThat(readOnly.execute(status -> currentDatabase())).isEqualTo(PRIMARY);
+
+        authenticate(UUID.randomUUID());
+        assertThat(readOnly.execute(status -> currentDatabase())).isEqualTo(REPLICA);
+    }
+
+    @Test
+    void fallsBackToPrimaryWhenReplicaIsUnavailable() {
+        String unreachable = "jdbc:postgresql://127.0.0.1:1/" + REPLICA;
+        configure(ReplicaSelection.ROUND_ROBIN, Duration.ZERO, unreachable);
+
+        assertThat(readOnly.execute(status -> currentDatabase())).isEqualTo(PRIMARY);
+        assertThat(routing.healthyReplicaCount()).isZero();
+
+        routing.checkHealth();
+        assertThat(routing.healthyReplicaCount()).isZero();
+        assertThat(readOnly.execute(status -> currentDatabase())).isEqualTo(PRIMARY);
+    }
+
+    private void configure(ReplicaSelection selection, Duration window, String replicaUrl) {
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(window);
+        routing =
+                new ReplicaRoutingDataSource(
+                        primary, List.of(pool(REPLICA_DB, replicaUrl)), selection, tracker);
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+        dataSource.setReadOnlyDataSource(routing);
+
+        DataSourceTransactionManager transactionManager =
+                new DataSourceTransactionManager(dataSource);
+        transactionManager.addListener(tracker);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    private String currentDatabase() {
+        return jdbcTemplate.queryForObject("SELECT current_database()", String.class);
+    }
+
+    private static HikariDataSource pool(PostgreSQLContainer container, String jdbcUrl) {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(jdbcUrl);
+        config.setUsername(container.getUsername());
+        config.setPassword(container.getPassword());
+        config.setMaximumPoolSize(2);
+        config.setConnectionTimeout(1000);
+        config.setInitializationFailTimeout(-1);
+        return new HikariDataSource(config);
+    }
+
+    private static void authenticate(UUID userId) {
+        SecurityContextHolder.getContext()
+                .setAuthentication(
+                        new UsernamePasswordAuthenticationToken(
+                                userId, null, AuthorityUtils.createAuthorityList("ROLE_USER")));
+    }
+}
@@ -0,0 +1,82 @@
+package com.api.todos.infrastructure.persistence.migration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.api.todos.infrastructure.persistence.migration.LockImpact.Level;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * MigrationLockAnalyzer のテスト
+ *
+ * <p>DDLの書き方毎に、取得するロックモード・影響度・対象テーブルの判定を確認する（文はSqlStatementsで正規化済みの形で与える）
+ */
+class MigrationLockAnalyzerTest {
+
+    @ParameterizedTest
+    @CsvSource(
+            delimiter = '|',
+            quoteCharacter = '`',
+            nullValues = "(none)",
+            value = {
+                // インデックス
+                "CREATE INDEX idx_todos_user ON todos (user_id)"
+                        + " | todos | SHARE | BLOCKS_WRITES",
+                "CREATE UNIQUE INDEX IF NOT EXISTS idx ON public.todos USING btree (id)"
+                        + " | public.todos | SHARE | BLOCKS_WRITES",
+                "CREATE INDEX CONCURRENTLY idx ON todos (user_id)"
+                        + " | todos | SHARE UPDATE EXCLUSIVE | NONE",
+                "DROP INDEX idx_todos_user | (none) | ACCESS EXCLUSIVE | BRIEF",
+                "DROP INDEX CONCURRENTLY IF EXISTS idx_todos_user"
+                        + " | (none) | SHARE UPDATE EXCLUSIVE | NONE",
+                "REINDEX TABLE todos | todos | SHARE / ACCESS EXCLUSIVE | BLOCKS_ALL",
+                "REINDEX INDEX CONCURRENTLY idx | idx | SHARE UPDATE EXCLUSIVE | NONE",
+                // 列
+                "ALTER TABLE todos ADD COLUMN priority INT | todos | ACCESS EXCLUSIVE | BRIEF",
+                "ALTER TABLE todos ADD priority INT NOT NULL DEFAULT 0"
+                        + " | todos | ACCESS EXCLUSIVE | BRIEF",
+                "ALTER TABLE todos ADD COLUMN token UUID DEFAULT gen_random_uuid()"
+                        + " | todos | ACCESS EXCLUSIVE | BLOCKS_ALL",
+                "ALTER TABLE todos ALTER COLUMN title TYPE TEXT"
+                        + " | todos | ACCESS EXCLUSIVE | BLOCKS_ALL",
+                "ALTER TABLE todos ALTER COLUMN title SET NOT NULL"
+                        + " | todos | ACCESS EXCLUSIVE | BLOCKS_ALL",
+                "ALTER TABLE ONLY todos DROP COLUMN priority | todos | ACCESS EXCLUSIVE | BRIEF",
+                "ALTER TABLE \"Todos\" RENAME COLUMN a TO b | todos | ACCESS EXCLUSIVE | BRIEF",
+                // 制約
+                "ALTER TABLE todos ADD CONSTRAINT fk_user FOREIGN KEY (user_id)"
+                        + " REFERENCES users (id) | todos | SHARE ROW EXCLUSIVE | BLOCKS_WRITES",
+                "ALTER TABLE todos ADD CONSTRAINT fk_user FOREIGN KEY (user_id)"
+                        + " REFERENCES users (id) NOT VALID | todos | SHARE ROW EXCLUSIVE | BRIEF",
+                "ALTER TABLE todos ADD CONSTRAINT chk CHECK (title <> '')"
+                        + " | todos | ACCESS EXCLUSIVE | BLOCKS_ALL",
+                "ALTER TABLE todos ADD CONSTRAINT chk CHECK (title IS NOT NULL) NOT VALID"
+                        + " | todos | SHARE ROW EXCLUSIVE | BRIEF",
+                "ALTER TABLE todos VALIDATE CONSTRAINT chk"
+                        + " | todos | SHARE UPDATE EXCLUSIVE | NONE",
+                "ALTER TABLE todos ADD PRIMARY KEY (id) | todos | ACCESS EXCLUSIVE | BLOCKS_ALL",
+                "ALTER TABLE todos ADD CONSTRAINT pk PRIMARY KEY USING INDEX idx"
+                        + " | todos | SHARE ROW EXCLUSIVE | BRIEF",
+                // テーブル
+                "CREATE TABLE tags (id UUID PRIMARY KEY) | (none) | - | NONE",
+                "CREATE TABLE IF NOT EXISTS tags (user_id UUID REFERENCES users (id))"
+                        + " | users | SHARE ROW EXCLUSIVE | BRIEF",
+                "DROP TABLE IF EXISTS tags | tags | ACCESS EXCLUSIVE | BRIEF",
+                "TRUNCATE todos | todos | ACCESS EXCLUSIVE | BRIEF",
+                // データ・メンテナンス
+                "UPDATE todos SET priority = 0 | todos | ROW EXCLUSIVE（対象行の行ロック） | BLOCKS_WRITES",
+                "DELETE FROM todos WHERE deleted | todos | ROW EXCLUSIVE（対象行の行ロック） | BLOCKS_WRITES",
+                "VACUUM FULL todos | (none) | ACCESS EXCLUSIVE | BLOCKS_ALL",
+                "CLUSTER todos USING idx | (none) | ACCESS EXCLUSIVE | BLOCKS_ALL",
+                "SET LOCAL lock_timeout = '5s' | (none) | - | NONE",
+            })
+    void classifiesEachStatementForm(String statement, String table, String lockMode, Level level) {
+        LockImpact impact = MigrationLockAnalyzer.analyze(statement);
+
+        assertThat(impact.statement()).isEqualTo(statement);
+        assertThat(impact.table()).isEqualTo(table);
+        assertThat(impact.lockMode()).isEqualTo(lockMode);
+        assertThat(impact.level()).isEqualTo(level);
+    }
+}
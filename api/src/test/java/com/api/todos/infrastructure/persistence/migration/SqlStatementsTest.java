@@ -0,0 +1,83 @@
+package com.api.todos.infrastructure.persistence.migration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * SqlStatements のテスト
+ *
+ * <p>「;」での分割、コメントの除去と空白の正規化、文字列リテラル・引用符付き識別子・ドル引用内の「;」で分割しないことを確認する
+ */
+class SqlStatementsTest {
+
+    @Test
+    void splitsOnSemicolonsAndNormalizesWhitespace() {
+        assertThat(
+                        SqlStatements.split(
+                                "CREATE TABLE a (\n    id INT\n);\n\nINSERT INTO a VALUES (1);\n"))
+                .containsExactly("CREATE TABLE a ( id INT )", "INSERT INTO a VALUES (1)");
+    }
+
+    @Test
+    void ignoresEmptyStatementsAndKeepsATrailingOne() {
+        assertThat(SqlStatements.split("SELECT 1;\n  \n")).containsExactly("SELECT 1");
+        assertThat(SqlStatements.split("SELECT 1; SELECT 2"))
+                .containsExactly("SELECT 1", "SELECT 2");
+    }
+
+    @Test
+    void removesLineAndBlockComments() {
+        assertThat(
+                        SqlStatements.split(
+                                "-- 先頭のコメント; 分割しない\n"
+                                        + "SELECT 1; -- 行末のコメント;\n"
+                                        + "SELECT/* ブロック; コメント */2;"))
+                .containsExactly("SELECT 1", "SELECT 2");
+    }
+
+    @Test
+    void keepsSemicolonsInsideStringsAndQuotedIdentifiers() {
+        assertThat(
+                        SqlStatements.split(
+                                "INSERT INTO t VALUES ('a;b', 'it''s; -- not a comment');"
+                                        + " SELECT \"col;umn\" FROM t;"))
+                .containsExactly(
+                        "INSERT INTO t VALUES ('a;b', 'it''s; -- not a comment')",
+                        "SELECT \"col;umn\" FROM t");
+    }
+
+    @Test
+    void keepsDollarQuotedBodiesIntact() {
+        String function =
+                "CREATE FUNCTION touch() RETURNS trigger AS $$\n"
+                        + "BEGIN\n"
+                        + "    NEW.updated_at := now(); -- 本体内のコメント\n"
+                        + "    RETURN NEW;\n"
+                        + "END;\n"
+                        + "$$ LANGUAGE plpgsql";
+
+        assertThat(SqlStatements.split(function + ";\nSELECT 1;"))
+                .containsExactly(
+                        "CREATE FUNCTION touch() RETURNS trigger AS $$\n"
+                                + "BEGIN\n"
+                                + "    NEW.updated_at := now(); -- 本体内のコメント\n"
+                                + "    RETURN NEW;\n"
+                                + "END;\n"
+                                + "$$ LANGUAGE plpgsql",
+                        "SELECT 1");
+    }
+
+    @Test
+    void matchesTaggedDollarQuotesByTag() {
+        assertThat(SqlStatements.split("DO $body$ BEGIN RAISE NOTICE '$$;'; END $body$; SELECT 1;"))
+                .containsExactly(
+                        "DO $body$ BEGIN RAISE NOTICE '$$;'; END $body$", "SELECT 1");
+    }
+
+    @Test
+    void doesNotTreatPositionalParametersAsDollarQuotes() {
+        assertThat(SqlStatements.split("PREPARE p AS SELECT $1; SELECT 2;"))
+                .containsExactly("PREPARE p AS SELECT $1", "SELECT 2");
+    }
+}
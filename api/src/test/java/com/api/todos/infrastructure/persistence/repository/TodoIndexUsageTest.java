@@ -0,0 +1,172 @@
+package com.api.todos.infrastructure.persistence.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.stream.Stream;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+/**
+ * TODO一覧・件数クエリのインデックス使用テスト
+ *
+ * <p>マイグレーション（db/migration）を適用したPostgreSQL（Testcontainers）に複数ユーザー分のTODOを投入し、
+ * TodoListJdbcRepository・TodoExportJdbcRepository・TodoJpaRepository のSQLをEXPLAINして、逐次走査（Seq Scan）ではなく部分インデックスを使うことを確認する。 Dockerが利用できない環境ではスキップされる
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class TodoIndexUsageTest {
+
+    private static final int USER_COUNT = 50;
+    private static final int TODOS_PER_USER = 400;
+    private static final int LIMIT = 21;
+
+    @Container
+    private static final PostgreSQLContainer POSTGRES =
+            new PostgreSQLContainer("postgres:16-alpine");
+
+    private static Connection connection;
+    private static String userId;
+    private static String cursorCreatedAt;
+    private static String cursorId;
+
+    @BeforeAll
+    static void setUp() throws SQLException {
+        Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+        connection =
+                DriverManager.getConnection(
+                        POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(
+                    "INSERT INTO users (id, username, password_hash)"
+                            + " SELECT gen_random_uuid(), 'user_' || g, '-'"
+                            + " FROM generate_series(1, "
+                            + USER_COUNT
+                            + ") g");
+            // 1/3を完了済み、1/10を削除済みにする
+            statement.execute(
+                    "INSERT INTO todos (id, title, user_id, created_at, completed, deleted)"
+                            + " SELECT gen_random_uuid(), 'todo ' || g, u.id,"
+                            + " now() - g * interval '1 second', g % 3 = 0, g % 10 = 0"
+                            + " FROM users u CROSS JOIN generate_series(1, "
+                            + TODOS_PER_USER
+                            + ") g");
+            // Index Only Scan の判定に使う可視性マップと統計情報を更新する
+            statement.execute("VACUUM ANALYZE todos");
+
+            try (ResultSet user = statement.executeQuery("SELECT id FROM users LIMIT 1")) {
+                user.next();
+                userId = user.getString(1);
+            }
+            try (ResultSet cursor =
+                    statement.executeQuery(
+                            "SELECT created_at::timestamp, id FROM todos"
+                                    + " WHERE user_id = '"
+                                    + userId
+                                    + "' AND deleted = false"
+                                    + " ORDER BY created_at DESC, id DESC OFFSET 99 LIMIT 1")) {
+                cursor.next();
+                cursorCreatedAt = cursor.getString(1);
+                cursorId = cursor.getString(2);
+            }
+        }
+    }
+
+    @AfterAll
+    static void tearDown() throws SQLException {
+        if (connection != null) {
+            connection.close();
+        }
+    }
+
+    static Stream<Arguments> queries() {
+        return Stream.of(
+                Arguments.of(
+                        "先頭ページ",
+                        TodoListJdbcRepository.FIRST_PAGE_SQL,
+                        "idx_todos_user_active"),
+                Arguments.of(
+                        "次のページ",
+                        TodoListJdbcRepository.PAGE_AFTER_SQL,
+                        "idx_todos_user_active"),
+                Arguments.of(
+                        "未完了・先頭ページ",
+                        TodoListJdbcRepository.INCOMPLETE_FIRST_PAGE_SQL,
+                        "idx_todos_user_incomplete"),
+                Arguments.of(
+                        "未完了・次のページ",
+                        TodoListJdbcRepository.INCOMPLETE_PAGE_AFTER_SQL,
+                        "idx_todos_user_incomplete"),
+                Arguments.of(
+                        "完了済み・先頭ページ",
+                        TodoListJdbcRepository.COMPLETED_FIRST_PAGE_SQL,
+                        "idx_todos_user_active"),
+                Arguments.of(
+                        "完了済み・次のページ",
+                        TodoListJdbcRepository.COMPLETED_PAGE_AFTER_SQL,
+                        "idx_todos_user_active"),
+                Arguments.of(
+                        "エクスポート",
+                        TodoExportJdbcRepository.EXPORT_SQL,
+                        "idx_todos_user_active"),
+                Arguments.of(
+                        "エクスポート（再開）",
+                        TodoExportJdbcRepository.EXPORT_AFTER_SQL,
+                        "idx_todos_user_active"),
+                Arguments.of("件数", TodoJpaRepository.COUNT_SQL, "idx_todos_user_active"),
+                Arguments.of(
+                        "未完了件数",
+                        TodoJpaRepository.COUNT_INCOMPLETE_SQL,
+                        "idx_todos_user_incomplete"),
+                Arguments.of(
+                        "完了済み件数",
+                        TodoJpaRepository.COUNT_COMPLETED_SQL,
+                        "idx_todos_user_active"),
+                Arguments.of(
+                        "完了済み一括削除",
+                        TodoJpaRepository.DELETE_COMPLETED_SQL,
+                        "idx_todos_user_active"));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("queries")
+    void queryUsesPartialIndex(String name, String sql, String expectedIndex)
+            throws SQLException {
+        String plan = explain(sql);
+
+        assertThat(plan).as(name).doesNotContain("Seq Scan").contains(expectedIndex);
+    }
+
+    /** 名前付きパラメータをアプリケーションのバインド時と同じ型のリテラルに置き換えてEXPLAINする */
+    private static String explain(String sql) throws SQLException {
+        String bound =
+                sql.replace(":userId", "'" + userId + "'::uuid")
+                        .replace(":updatedBy", "'explain'")
+                        .replace(":createdAt", "'" + cursorCreatedAt + "'::timestamp")
+                        .replace(":id", "'" + cursorId + "'::uuid")
+                        .replace(":limit", String.valueOf(LIMIT));
+        StringBuilder plan = new StringBuilder();
+        try (Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery("EXPLAIN " + bound)) {
+            while (resultSet.next()) {
+                plan.append(resultSet.getString(1)).append('\n');
+            }
+        }
+        return plan.toString();
+    }
+}
@@ -0,0 +1,126 @@
+package com.api.todos.infrastructure.persistence.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import com.api.todos.PostgresIntegrationTest;
+import com.api.todos.domain.model.User;
+import com.api.todos.domain.repository.UserRepository;
+import com.api.todos.infrastructure.persistence.entity.UserJpaEntity;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * ユーザーの2次キャッシュのテスト
+ *
+ * <p>IDによるユーザー取得（認証済みリクエストのユーザー取得経路）を繰り返し、2次キャッシュの有無によるSQL発行回数（DBとのラウンドトリップ）を確認し、
+ * 所要時間をログに出力する。あわせて、プロフィール・パスワード・ロールの変更と論理削除の後に古い値が返らないことを確認する。
+ * Dockerが利用できない環境ではスキップされる
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class UserSecondLevelCacheTest extends PostgresIntegrationTest {
+
+    private static final int LOOKUPS = 1_000;
+
+    private static final Logger log = LoggerFactory.getLogger(UserSecondLevelCacheTest.class);
+
+    @Autowired private UserRepository userRepository;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        userId = insertUser("cache_");
+    }
+
+    @Test
+    void cachedLookupsSkipDatabaseRoundTrips() {
+        // キャッシュなし: 取得の度にリージョンから追い出す
+        long uncachedStart = System.nanoTime();
+        long uncached =
+                statements(
+                        () -> {
+                            for (int i = 0; i < LOOKUPS; i++) {
+                                entityManagerFactory.getCache().evict(UserJpaEntity.class, userId);
+                                userRepository.findById(userId).orElseThrow();
+                            }
+                        });
+        long uncachedNanos = System.nanoTime() - uncachedStart;
+
+        long cachedStart = System.nanoTime();
+        long cached =
+                statements(
+                        () -> {
+                            for (int i = 0; i < LOOKUPS; i++) {
+                                userRepository.findById(userId).orElseThrow();
+                            }
+                        });
+        long cachedNanos = System.nanoTime() - cachedStart;
+
+        log.info(
+                "user lookups: {} without cache -> {} statements in {} ms;"
+                        + " with cache -> {} statements in {} ms",
+                LOOKUPS,
+                uncached,
+                uncachedNanos / 1_000_000,
+                cached,
+                cachedNanos / 1_000_000);
+
+        assertThat(uncached).isEqualTo(LOOKUPS);
+        // 直前の追い出しにより最初の1回のみDBから取得する
+        assertThat(cached).isLessThanOrEqualTo(1);
+    }
+
+    @Test
+    void updatesReplaceCachedEntry() {
+        userRepository.findById(userId).orElseThrow();
+
+        User user = userRepository.findById(userId).orElseThrow();
+        user.updateProfile("Taro", "タロウ", "Yamada", "ヤマダ", "cache_test");
+        userRepository.save(user);
+        assertThat(cachedUser().getFirstName()).isEqualTo("Taro");
+
+        user = userRepository.findById(userId).orElseThrow();
+        user.changePassword("new-hash", "cache_test");
+        userRepository.save(user);
+        assertThat(cachedUser().getPasswordHash()).isEqualTo("new-hash");
+
+        user = userRepository.findById(userId).orElseThrow();
+        user.changeRole(1, "cache_test");
+        userRepository.save(user);
+        assertThat(cachedUser().getRole()).isEqualTo(1);
+
+        user = userRepository.findById(userId).orElseThrow();
+        user.delete("cache_test");
+        userRepository.save(user);
+        assertThat(statements(() -> assertThat(userRepository.findById(userId)).isEmpty()))
+                .isZero();
+    }
+
+    /** 更新後の取得がDBにアクセスせず（キャッシュが新しい値で置き換えられている）に返ることを確認して返す */
+    private User cachedUser() {
+        User[] user = new User[1];
+        assertThat(statements(() -> user[0] = userRepository.findById(userId).orElseThrow()))
+                .isZero();
+        return user[0];
+    }
+
+    private long statements(Runnable action) {
+        long before = statistics.getPrepareStatementCount();
+        action.run();
+        return statistics.getPrepareStatementCount() - before;
+    }
+}
@@ -0,0 +1,111 @@
+package com.api.todos.infrastructure.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.Mockito.mock;
+
+import java.lang.management.ManagementFactory;
+import java.util.UUID;
+
+import jakarta.servlet.FilterChain;
+
+import com.api.todos.infrastructure.persistence.repository.RevokedTokenJpaRepository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * JwtAuthenticationFilter のアロケーション計測テスト
+ *
+ * <p>検証済みキャッシュにヒットする認証済みリクエスト1件あたりの確保バイト数が上限以内であることを確認する。
+ * JJWTによる署名検証・クレーム解析（数十KB/リクエスト）が発生すると上限を大きく超えるため、ホットパスへの退行を検出できる。
+ * 失効判定（Bloomフィルター）もこの経路に含まれる
+ */
+class JwtAuthenticationFilterAllocationTest {
+
+    private static final String SECRET =
+            "test-secret-key-must-be-at-least-256-bits-long-for-hs256-algorithm";
+    private static final long EXPIRATION_MS = 86400000L;
+
+    /** キャッシュヒット時の1リクエストあたりの確保バイト数上限 */
+    private static final long MAX_BYTES_PER_REQUEST = 2048;
+
+    private static final int WARMUP_ITERATIONS = 20_000;
+    private static final int MEASURED_ITERATIONS = 10_000;
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {};
+
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private UUID userId;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        JwtKeyRing keyRing =
+                new JwtKeyRing(JwtAlgorithm.HS256, SECRET, "default", "", "", EXPIRATION_MS);
+        JwtServiceImpl jwtService = new JwtServiceImpl(keyRing, EXPIRATION_MS);
+        VerifiedTokenCache cache =
+                new VerifiedTokenCache(true, 1000, keyRing, mock(ObjectProvider.class));
+        RevokedTokenRegistry revokedTokenRegistry =
+                new RevokedTokenRegistry(mock(RevokedTokenJpaRepository.class), 1000, 0.001);
+        revokedTokenRegistry.rebuild();
+        filter = new JwtAuthenticationFilter(jwtService, cache, revokedTokenRegistry, 8192);
+
+        userId = UUID.randomUUID();
+        String token = jwtService.generateToken(userId, "alloc_user", 8);
+        request = new MockHttpServletRequest("GET", "/api/todos");
+        request.addHeader("Authorization", "Bearer " + token);
+        response = new MockHttpServletResponse();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void cachedTokenAuthenticatesWithBoundedAllocation() throws Exception {
+        com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadMXBean.isThreadAllocatedMemorySupported());
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+
+        // 初回でキャッシュに登録し、JITコンパイルが安定するまでウォームアップ
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            filterOnce();
+        }
+
+        long threadId = Thread.currentThread().threadId();
+        long before = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            filterOnce();
+        }
+        long after = threadMXBean.getThreadAllocatedBytes(threadId);
+        long bytesPerRequest = (after - before) / MEASURED_ITERATIONS;
+
+        filterOnce();
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(authentication).isNotNull();
+        assertThat(authentication.getPrincipal()).isEqualTo(userId);
+        assertThat(authentication.getAuthorities())
+                .extracting(Object::toString)
+                .containsExactly("ROLE_USER");
+
+        assertThat(bytesPerRequest)
+                .as("キャッシュヒット時の1リクエストあたりの確保バイト数")
+                .isLessThanOrEqualTo(MAX_BYTES_PER_REQUEST);
+    }
+
+    private void filterOnce() throws Exception {
+        SecurityContextHolder.clearContext();
+        filter.doFilter(request, response, NO_OP_CHAIN);
+    }
+}
@@ -0,0 +1,112 @@
+package com.api.todos.infrastructure.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.api.todos.application.exception.TooManyRequestsException;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * LoginRateLimiter のテスト
+ *
+ * <p>時刻を注入し、キー毎のバースト・補充・Retry-After（秒、切り上げ）、キー同士が独立していること、
+ * アイドル時間による破棄で制限が緩まないことを確認する
+ */
+class LoginRateLimiterTest {
+
+    private static final int IP_CAPACITY = 3;
+    private static final long IP_INTERVAL_MS = 2500;
+    private static final int USERNAME_CAPACITY = 2;
+    private static final long USERNAME_INTERVAL_MS = 10_000;
+    private static final long IDLE_TIMEOUT_MS = 1000;
+
+    private final AtomicLong now = new AtomicLong(1_000_000_000L);
+    private final LoginRateLimiter limiter =
+            new LoginRateLimiter(
+                    true,
+                    IP_CAPACITY,
+                    IP_INTERVAL_MS,
+                    USERNAME_CAPACITY,
+                    USERNAME_INTERVAL_MS,
+                    1000,
+                    IDLE_TIMEOUT_MS,
+                    now::get);
+
+    @Test
+    void refusesAfterTheBurstWithARoundedUpRetryAfter() {
+        for (int i = 0; i < IP_CAPACITY; i++) {
+            assertThat(limiter.tryAcquireForIp("192.0.2.1")).isZero();
+        }
+        assertThat(limiter.tryAcquireForIp("192.0.2.1")).isEqualTo(3);
+
+        advance(1000);
+        assertThat(limiter.tryAcquireForIp("192.0.2.1")).isEqualTo(2);
+
+        advance(1500);
+        assertThat(limiter.tryAcquireForIp("192.0.2.1")).isZero();
+        assertThat(limiter.tryAcquireForIp("192.0.2.1")).isEqualTo(3);
+    }
+
+    @Test
+    void keysAreLimitedIndependently() {
+        for (int i = 0; i < IP_CAPACITY; i++) {
+            limiter.tryAcquireForIp("192.0.2.1");
+        }
+
+        assertThat(limiter.tryAcquireForIp("192.0.2.1")).isPositive();
+        assertThat(limiter.tryAcquireForIp("192.0.2.2")).isZero();
+    }
+
+    @Test
+    void throwsWithRetryAfterWhenAUsernameIsLimited() {
+        for (int i = 0; i < USERNAME_CAPACITY; i++) {
+            limiter.acquireForUsername("user");
+        }
+
+        assertThatThrownBy(() -> limiter.acquireForUsername("user"))
+                .isInstanceOfSatisfying(
+                        TooManyRequestsException.class,
+                        e -> assertThat(e.getRetryAfterSeconds()).isEqualTo(10));
+        assertThatNoException().isThrownBy(() -> limiter.acquireForUsername("other"));
+    }
+
+    @Test
+    void idleEvictionDoesNotResetAPartiallyConsumedBucket() {
+        for (int i = 0; i < USERNAME_CAPACITY; i++) {
+            limiter.acquireForUsername("user");
+        }
+
+        // アイドル時間（1秒）は過ぎたが、満杯まで補充される時間（20秒）には達していない
+        advance(5000);
+        assertThatThrownBy(() -> limiter.acquireForUsername("user"))
+                .isInstanceOf(TooManyRequestsException.class);
+
+        // 満杯まで補充される時間を過ぎれば、破棄されていても元の容量で再び許可される
+        advance(USERNAME_INTERVAL_MS * USERNAME_CAPACITY + 1);
+        for (int i = 0; i < USERNAME_CAPACITY; i++) {
+            limiter.acquireForUsername("user");
+        }
+        assertThatThrownBy(() -> limiter.acquireForUsername("user"))
+                .isInstanceOf(TooManyRequestsException.class);
+    }
+
+    @Test
+    void allowsEverythingWhenDisabled() {
+        LoginRateLimiter disabled =
+                new LoginRateLimiter(false, 1, 1000, 1, 1000, 1000, 1000, now::get);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(disabled.tryAcquireForIp("192.0.2.1")).isZero();
+            disabled.acquireForUsername("user");
+        }
+    }
+
+    private void advance(long millis) {
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+}
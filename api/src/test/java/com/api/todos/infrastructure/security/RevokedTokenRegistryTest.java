@@ -0,0 +1,89 @@
+package com.api.todos.infrastructure.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.api.todos.infrastructure.persistence.repository.RevokedTokenJpaRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * RevokedTokenRegistry のテスト
+ *
+ * <p>失効させたjtiが拒否されること、データベースから読めない直近の失効がBloomフィルターの再構築後も保持されること、
+ * 未失効・jtiなしのトークンはデータベースにアクセスせず判定されることを確認する
+ */
+class RevokedTokenRegistryTest {
+
+    private final RevokedTokenJpaRepository repository = mock(RevokedTokenJpaRepository.class);
+    private final RevokedTokenRegistry registry = new RevokedTokenRegistry(repository, 1000, 0.001);
+
+    @BeforeEach
+    void setUp() {
+        when(repository.findActiveTokenIds(any(LocalDateTime.class))).thenReturn(List.of());
+    }
+
+    @Test
+    void consultsTheDatabaseBeforeTheFirstRebuild() {
+        when(repository.existsActive(eq("revoked"), any(LocalDateTime.class))).thenReturn(true);
+
+        assertThat(registry.isRevoked("revoked")).isTrue();
+        assertThat(registry.isRevoked("active")).isFalse();
+    }
+
+    @Test
+    void rejectsARevokedTokenId() {
+        registry.rebuild();
+
+        registry.revoke("revoked", Instant.now().plusSeconds(60));
+
+        assertThat(registry.isRevoked("revoked")).isTrue();
+        assertThat(registry.isRevoked("active")).isFalse();
+        verify(repository, never()).existsActive(anyString(), any(LocalDateTime.class));
+    }
+
+    @Test
+    void rebuildKeepsRecentRevocationsNotYetVisibleInTheDatabase() {
+        registry.rebuild();
+        registry.revoke("revoked", Instant.now().plusSeconds(60));
+
+        // コミット前などでデータベースの失効リストにまだ含まれない状態で再構築
+        registry.rebuild();
+
+        assertThat(registry.mightBeRevoked("revoked")).isTrue();
+        assertThat(registry.isRevoked("revoked")).isTrue();
+        verify(repository, never()).existsActive(anyString(), any(LocalDateTime.class));
+    }
+
+    @Test
+    void rebuildLoadsRevocationsFromOtherNodes() {
+        when(repository.findActiveTokenIds(any(LocalDateTime.class)))
+                .thenReturn(List.of("revoked"));
+        when(repository.existsActive(eq("revoked"), any(LocalDateTime.class))).thenReturn(true);
+
+        registry.rebuild();
+
+        assertThat(registry.mightBeRevoked("revoked")).isTrue();
+        assertThat(registry.isRevoked("revoked")).isTrue();
+    }
+
+    @Test
+    void tokensWithoutJtiAreNeverRevoked() {
+        registry.revoke(null, Instant.now().plusSeconds(60));
+
+        assertThat(registry.mightBeRevoked(null)).isFalse();
+        assertThat(registry.isRevoked(null)).isFalse();
+        verify(repository, never()).save(any());
+    }
+}
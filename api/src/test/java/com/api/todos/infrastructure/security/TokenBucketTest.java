@@ -0,0 +1,65 @@
+package com.api.todos.infrastructure.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * TokenBucket のテスト
+ *
+ * <p>容量分のバーストを許可した後は拒否すること、補充間隔毎に1回ずつ許可されること、拒否時に次のトークンまでの時間を返すこと、
+ * 長時間のアイドル後も容量を超えて貯まらないことを確認する（時刻は引数で与える）
+ */
+class TokenBucketTest {
+
+    private static final int CAPACITY = 3;
+    private static final long INTERVAL = TimeUnit.SECONDS.toNanos(2);
+    private static final long START = 1_000_000_000L;
+
+    @Test
+    void allowsABurstUpToCapacityThenRefuses() {
+        TokenBucket bucket = new TokenBucket(CAPACITY, INTERVAL, START);
+
+        for (int i = 0; i < CAPACITY; i++) {
+            assertThat(bucket.tryAcquire(START)).isZero();
+        }
+        assertThat(bucket.tryAcquire(START)).isEqualTo(INTERVAL);
+    }
+
+    @Test
+    void refillsOneTokenPerInterval() {
+        TokenBucket bucket = new TokenBucket(CAPACITY, INTERVAL, START);
+        for (int i = 0; i < CAPACITY; i++) {
+            bucket.tryAcquire(START);
+        }
+
+        long halfway = START + INTERVAL / 2;
+        assertThat(bucket.tryAcquire(halfway)).isEqualTo(INTERVAL / 2);
+        assertThat(bucket.tryAcquire(START + INTERVAL)).isZero();
+        assertThat(bucket.tryAcquire(START + INTERVAL)).isEqualTo(INTERVAL);
+        assertThat(bucket.tryAcquire(START + 2 * INTERVAL)).isZero();
+    }
+
+    @Test
+    void doesNotAccumulateBeyondCapacityWhileIdle() {
+        TokenBucket bucket = new TokenBucket(CAPACITY, INTERVAL, START);
+
+        long later = START + 100 * INTERVAL;
+        for (int i = 0; i < CAPACITY; i++) {
+            assertThat(bucket.tryAcquire(later)).isZero();
+        }
+        assertThat(bucket.tryAcquire(later)).isEqualTo(INTERVAL);
+    }
+
+    @Test
+    void handlesNanoTimeOverflow() {
+        long start = Long.MAX_VALUE - INTERVAL / 2;
+        TokenBucket bucket = new TokenBucket(1, INTERVAL, start);
+
+        assertThat(bucket.tryAcquire(start)).isZero();
+        assertThat(bucket.tryAcquire(start + INTERVAL / 2)).isEqualTo(INTERVAL / 2);
+        assertThat(bucket.tryAcquire(start + INTERVAL)).isZero();
+    }
+}
@@ -0,0 +1,85 @@
+package com.api.todos.infrastructure.service.todo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import com.api.todos.PostgresIntegrationTest;
+import com.api.todos.application.command.todo.BulkCreateTodosCommand;
+import com.api.todos.application.dto.BulkCreateTodosResult;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * TODO一括登録の負荷テスト
+ *
+ * <p>マイグレーションを適用したPostgreSQL（Testcontainers）に対して10,000件の一括登録を実行し、 1秒あたりの登録件数をログに出力する。
+ * JDBCバッチ（hibernate.jdbc.batch_size・reWriteBatchedInserts）の設定変更による退行の確認に使う。
+ * -Dloadtest.bulk-create.min-rows-per-second を指定した場合は、登録件数がそれを下回ると失敗する。 Dockerが利用できない環境ではスキップされる
+ */
+@SpringBootTest
+class BulkCreateTodosLoadTest extends PostgresIntegrationTest {
+
+    private static final int TODO_COUNT = BulkCreateTodosCommand.MAX_ITEMS;
+    private static final int WARMUP_ROUNDS = 2;
+
+    /** 1秒あたりの登録件数の下限（0の場合は検証しない） */
+    private static final long MIN_ROWS_PER_SECOND =
+            Long.getLong("loadtest.bulk-create.min-rows-per-second", 0);
+
+    private static final Logger log = LoggerFactory.getLogger(BulkCreateTodosLoadTest.class);
+
+    @Autowired private BulkCreateTodosService service;
+
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = insertUser("load_");
+    }
+
+    @Test
+    void importsTenThousandTodos() {
+        // JITコンパイル・コネクション確立・Hibernateのメタデータ初期化を計測から除外する
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            service.execute(command());
+        }
+        long before = countTodos();
+
+        long start = System.nanoTime();
+        BulkCreateTodosResult result = service.execute(command());
+        long elapsedNanos = System.nanoTime() - start;
+
+        double rowsPerSecond = TODO_COUNT / (elapsedNanos / 1_000_000_000.0);
+        log.info(
+                "bulk create: {} rows in {} ms ({} rows/s)",
+                TODO_COUNT,
+                elapsedNanos / 1_000_000,
+                Math.round(rowsPerSecond));
+
+        assertThat(result.getCreated()).isEqualTo(TODO_COUNT);
+        assertThat(result.getIds()).doesNotHaveDuplicates();
+        assertThat(countTodos() - before).isEqualTo(TODO_COUNT);
+        assertThat(rowsPerSecond).isGreaterThanOrEqualTo(MIN_ROWS_PER_SECOND);
+    }
+
+    private BulkCreateTodosCommand command() {
+        List<BulkCreateTodosCommand.Item> items =
+                IntStream.range(0, TODO_COUNT)
+                        .mapToObj(i -> new BulkCreateTodosCommand.Item("todo " + i, "load test"))
+                        .toList();
+        return new BulkCreateTodosCommand(userId, items);
+    }
+
+    private long countTodos() {
+        return jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM todos WHERE user_id = ?", Long.class, userId);
+    }
+}
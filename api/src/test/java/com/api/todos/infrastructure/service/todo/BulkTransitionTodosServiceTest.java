@@ -0,0 +1,153 @@
+package com.api.todos.infrastructure.service.todo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.api.todos.PostgresIntegrationTest;
+import com.api.todos.application.command.todo.BulkTransitionTodosCommand;
+import com.api.todos.application.command.todo.DeleteCompletedTodosCommand;
+import com.api.todos.application.dto.BulkTransitionTodosResult;
+import com.api.todos.domain.model.TodoStateTransition;
+import com.api.todos.domain.model.TodoTransitionOutcome;
+import com.api.todos.domain.service.IdGenerators;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * TODO一括状態遷移・完了済みTODO一括削除のテスト
+ *
+ * <p>更新前の状態（未完了・完了済み・削除済み・他ユーザーのTODO）毎に、完了・未完了に戻す・削除の結果が
+ * UPDATED / UNCHANGED / DELETED / NOT_FOUND となること、完了済みTODO一括削除が上限件数ずつ削除することを確認する。
+ * Dockerが利用できない環境ではスキップされる
+ */
+@SpringBootTest(properties = "todo.delete-completed.max-items=2")
+class BulkTransitionTodosServiceTest extends PostgresIntegrationTest {
+
+    @Autowired private BulkTransitionTodosService bulkTransitionTodosService;
+    @Autowired private DeleteCompletedTodosService deleteCompletedTodosService;
+
+    private UUID userId;
+    private UUID open;
+    private UUID completed;
+    private UUID deleted;
+    private UUID otherUsers;
+
+    @BeforeEach
+    void setUp() {
+        userId = insertUser("bulk_");
+        open = insertTodo(userId, false, false);
+        completed = insertTodo(userId, true, false);
+        deleted = insertTodo(userId, true, true);
+        otherUsers = insertTodo(insertUser("bulk_other_"), false, false);
+    }
+
+    @Test
+    void completeReportsTheOutcomeOfEachId() {
+        assertThat(transition(TodoStateTransition.COMPLETE))
+                .containsExactlyInAnyOrderEntriesOf(
+                        Map.of(
+                                open, TodoTransitionOutcome.UPDATED,
+                                completed, TodoTransitionOutcome.UNCHANGED,
+                                deleted, TodoTransitionOutcome.DELETED,
+                                otherUsers, TodoTransitionOutcome.NOT_FOUND));
+        assertThat(isCompleted(open)).isTrue();
+        assertThat(isCompleted(otherUsers)).isFalse();
+    }
+
+    @Test
+    void reopenReportsTheOutcomeOfEachId() {
+        assertThat(transition(TodoStateTransition.REOPEN))
+                .containsExactlyInAnyOrderEntriesOf(
+                        Map.of(
+                                open, TodoTransitionOutcome.UNCHANGED,
+                                completed, TodoTransitionOutcome.UPDATED,
+                                deleted, TodoTransitionOutcome.DELETED,
+                                otherUsers, TodoTransitionOutcome.NOT_FOUND));
+        assertThat(isCompleted(completed)).isFalse();
+        assertThat(isCompleted(deleted)).isTrue();
+    }
+
+    @Test
+    void deleteReportsTheOutcomeOfEachId() {
+        assertThat(transition(TodoStateTransition.DELETE))
+                .containsExactlyInAnyOrderEntriesOf(
+                        Map.of(
+                                open, TodoTransitionOutcome.UPDATED,
+                                completed, TodoTransitionOutcome.UPDATED,
+                                deleted, TodoTransitionOutcome.DELETED,
+                                otherUsers, TodoTransitionOutcome.NOT_FOUND));
+        assertThat(isDeleted(otherUsers)).isFalse();
+    }
+
+    @Test
+    void deleteCompletedDeletesUpToTheLimitPerCall() {
+        UUID completed2 = insertTodo(userId, true, false);
+        UUID completed3 = insertTodo(userId, true, false);
+
+        List<UUID> first = deleteCompleted();
+        List<UUID> second = deleteCompleted();
+
+        assertThat(first).hasSize(2);
+        assertThat(second).hasSize(1);
+        assertThat(deleteCompleted()).isEmpty();
+        assertThat(first).doesNotContainAnyElementsOf(second);
+        assertThat(List.of(completed, completed2, completed3))
+                .containsExactlyInAnyOrderElementsOf(
+                        Stream.concat(first.stream(), second.stream()).toList());
+        assertThat(isDeleted(open)).isFalse();
+    }
+
+    private Map<UUID, TodoTransitionOutcome> transition(TodoStateTransition transition) {
+        BulkTransitionTodosResult result =
+                bulkTransitionTodosService.execute(
+                        new BulkTransitionTodosCommand(
+                                userId,
+                                transition,
+                                // 重複したIDは1件として扱われる
+                                List.of(open, completed, deleted, otherUsers, open)));
+        assertThat(result.getItems()).hasSize(4);
+        return result.getItems().stream()
+                .collect(
+                        Collectors.toMap(
+                                BulkTransitionTodosResult.Item::id,
+                                BulkTransitionTodosResult.Item::outcome));
+    }
+
+    private List<UUID> deleteCompleted() {
+        BulkTransitionTodosResult result =
+                deleteCompletedTodosService.execute(new DeleteCompletedTodosCommand(userId));
+        assertThat(result.getItems())
+                .allMatch(item -> item.outcome() == TodoTransitionOutcome.UPDATED);
+        return result.getItems().stream().map(BulkTransitionTodosResult.Item::id).toList();
+    }
+
+    private UUID insertTodo(UUID owner, boolean isCompleted, boolean isDeleted) {
+        UUID id = IdGenerators.next();
+        jdbcTemplate.update(
+                "INSERT INTO todos (id, title, user_id, completed, deleted) VALUES (?, ?, ?, ?, ?)",
+                id,
+                "todo",
+                owner,
+                isCompleted,
+                isDeleted);
+        return id;
+    }
+
+    private boolean isCompleted(UUID id) {
+        return jdbcTemplate.queryForObject(
+                "SELECT completed FROM todos WHERE id = ?", Boolean.class, id);
+    }
+
+    private boolean isDeleted(UUID id) {
+        return jdbcTemplate.queryForObject(
+                "SELECT deleted FROM todos WHERE id = ?", Boolean.class, id);
+    }
+}
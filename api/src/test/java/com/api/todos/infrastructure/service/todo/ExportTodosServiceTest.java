@@ -0,0 +1,81 @@
+package com.api.todos.infrastructure.service.todo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import com.api.todos.PostgresIntegrationTest;
+import com.api.todos.application.command.todo.ExportTodosCommand;
+import com.api.todos.application.dto.TodoResult;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * TODOエクスポートのテスト
+ *
+ * <p>取得件数より多い件数を投入し、キーセットで続きを取得して全件を作成日時・IDの古い順に出力できること（削除済みは除外）、
+ * 途中の行を再開位置に指定した場合にその次の行から出力されることを確認する。 Dockerが利用できない環境ではスキップされる
+ */
+@SpringBootTest(properties = "todo.export.batch-size=100")
+class ExportTodosServiceTest extends PostgresIntegrationTest {
+
+    private static final int TODO_COUNT = 1_050;
+
+    @Autowired private ExportTodosService service;
+
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = insertUser("export_");
+        // 作成日時の重複（同一時刻内はIDの順）と削除済み（1/10）を含める
+        jdbcTemplate.update(
+                "INSERT INTO todos (title, user_id, created_at, deleted)"
+                        + " SELECT 'todo ' || g, ?, timestamp '2025-01-01' + (g / 2) * interval"
+                        + " '1 second', g % 10 = 0 FROM generate_series(1, ?) g",
+                userId,
+                TODO_COUNT);
+    }
+
+    @Test
+    void exportsAllActiveTodosOldestFirst() {
+        List<TodoResult> exported = export(new ExportTodosCommand(userId, null, null));
+
+        assertThat(exported).hasSize(TODO_COUNT - TODO_COUNT / 10);
+        assertThat(exported).noneMatch(TodoResult::isDeleted);
+        assertThat(exported)
+                .isSortedAccordingTo(
+                        Comparator.comparing(TodoResult::getCreatedAt)
+                                // PostgreSQLのuuidはバイト順（UUID#compareToは符号付き比較のため文字列で比較する）
+                                .thenComparing(todo -> todo.getId().toString()));
+    }
+
+    @Test
+    void resumesAfterTheLastReceivedTodo() {
+        List<TodoResult> all = export(new ExportTodosCommand(userId, null, null));
+        TodoResult lastReceived = all.get(499);
+
+        List<TodoResult> resumed =
+                export(
+                        new ExportTodosCommand(
+                                userId, lastReceived.getCreatedAt(), lastReceived.getId()));
+
+        assertThat(resumed)
+                .extracting(TodoResult::getId)
+                .containsExactlyElementsOf(
+                        all.subList(500, all.size()).stream().map(TodoResult::getId).toList());
+    }
+
+    private List<TodoResult> export(ExportTodosCommand command) {
+        List<TodoResult> exported = new ArrayList<>();
+        long count = service.execute(command, exported::add);
+        assertThat(count).isEqualTo(exported.size());
+        return exported;
+    }
+}
@@ -0,0 +1,137 @@
+package com.api.todos.infrastructure.service.todo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.util.UUID;
+
+import com.api.todos.PostgresIntegrationTest;
+import com.api.todos.application.command.todo.ImportTodosCommand;
+import com.api.todos.application.dto.ImportTodosResult;
+import com.api.todos.presentation.dto.todo.TodoImportReader;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * TODOインポートのテスト
+ *
+ * <p>バッチサイズより多い件数を読み込み、有効な行のみが登録されること、不正な行（形式・文字数・引用符）が行番号付きのエラーとして返ることを確認する。
+ * 読み込みが途中で失敗した場合に、コミット済みのバッチが登録されたままとなることも確認する。
+ * Dockerが利用できない環境ではスキップされる
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.jdbc.batch_size=100")
+class ImportTodosServiceTest extends PostgresIntegrationTest {
+
+    private static final int TODO_COUNT = 1_050;
+    private static final int MAX_RECORD_LENGTH = 4096;
+
+    @Autowired private ImportTodosService service;
+
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = insertUser("import_");
+    }
+
+    @Test
+    void importsValidNdjsonLinesAndReportsInvalidOnes() {
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 1; i <= TODO_COUNT; i++) {
+            ndjson.append("{\"title\":\"todo ").append(i).append("\",\"completed\":false}\n");
+        }
+        // 1,051行目: タイトルが33文字、1,052行目: 空行（読み飛ばす）、1,053行目: JSONの形式が不正、1,054行目: タイトルが文字列でない
+        ndjson.append("{\"title\":\"").append("x".repeat(33)).append("\"}\n");
+        ndjson.append("\n");
+        ndjson.append("{\"title\":\n");
+        ndjson.append("{\"title\":1,\"descriptions\":\"d\"}\n");
+
+        ImportTodosResult result =
+                service.execute(
+                        new ImportTodosCommand(
+                                userId,
+                                TodoImportReader.ndjson(
+                                        new StringReader(ndjson.toString()), MAX_RECORD_LENGTH)));
+
+        assertThat(result.getImported()).isEqualTo(TODO_COUNT);
+        assertThat(result.getFailed()).isEqualTo(3);
+        assertThat(result.getErrors()).containsOnlyKeys(1_051L, 1_053L, 1_054L);
+        assertThat(countTodos()).isEqualTo(TODO_COUNT);
+    }
+
+    @Test
+    void importsCsvWithQuotedMultilineFields() throws IOException {
+        String csv =
+                "\uFEFFid,title,descriptions\r\n"
+                        + "1,first,\r\n"
+                        + "2,\"second, quoted\",\"line 1\r\nline 2 \"\"quoted\"\"\"\r\n"
+                        + "3,,missing title\r\n"
+                        + "4,too,many,columns\r\n"
+                        + "5,\"unterminated";
+
+        ImportTodosResult result =
+                service.execute(
+                        new ImportTodosCommand(
+                                userId,
+                                TodoImportReader.csv(new StringReader(csv), MAX_RECORD_LENGTH)));
+
+        assertThat(result.getImported()).isEqualTo(2);
+        assertThat(result.getFailed()).isEqualTo(3);
+        assertThat(result.getErrors()).containsOnlyKeys(5L, 6L, 7L);
+        assertThat(
+                        jdbcTemplate.queryForObject(
+                                "SELECT descriptions FROM todos WHERE user_id = ? AND title = ?",
+                                String.class,
+                                userId,
+                                "second, quoted"))
+                .isEqualTo("line 1\r\nline 2 \"quoted\"");
+    }
+
+    @Test
+    void keepsCommittedBatchesWhenReadingFails() {
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 1; i <= 250; i++) {
+            ndjson.append("{\"title\":\"todo ").append(i).append("\"}\n");
+        }
+        // 全件を読み込んだ後に接続が切断される
+        StringReader uploaded = new StringReader(ndjson.toString());
+        Reader disconnected =
+                new Reader() {
+                    @Override
+                    public int read(char[] buffer, int offset, int length) throws IOException {
+                        int read = uploaded.read(buffer, offset, length);
+                        if (read < 0) {
+                            throw new IOException("Connection reset");
+                        }
+                        return read;
+                    }
+
+                    @Override
+                    public void close() {}
+                };
+
+        assertThatThrownBy(
+                        () ->
+                                service.execute(
+                                        new ImportTodosCommand(
+                                                userId,
+                                                TodoImportReader.ndjson(
+                                                        disconnected, MAX_RECORD_LENGTH))))
+                .isInstanceOf(UncheckedIOException.class);
+
+        // バッチサイズ（100件）毎にコミットされた2バッチのみが残る
+        assertThat(countTodos()).isEqualTo(200);
+    }
+
+    private long countTodos() {
+        return jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM todos WHERE user_id = ?", Long.class, userId);
+    }
+}
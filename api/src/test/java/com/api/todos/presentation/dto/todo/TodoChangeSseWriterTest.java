@@ -0,0 +1,84 @@
+package com.api.todos.presentation.dto.todo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.UUID;
+
+import com.api.todos.domain.model.TodoChange;
+import com.api.todos.domain.model.TodoChangeType;
+import com.api.todos.infrastructure.event.TodoChangeEvent;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * TodoChangeSseWriter のテスト
+ *
+ * <p>Server-Sent Eventsの書式（id / event / data の各行と空行による区切り）を確認する。 IDを持つ変更・件数のみの変更・
+ * リセット（typeのみ）・再接続までの待機時間・接続維持のコメントを対象とする
+ */
+class TodoChangeSseWriterTest {
+
+    private static final long EPOCH = 1735689600000L;
+    private static final UUID USER_ID = UUID.fromString("0198a3c2-5f10-7000-8b1e-6a1f0c2d3e4f");
+    private static final UUID FIRST = UUID.fromString("0198a3c2-5f10-7001-8b1e-6a1f0c2d3e4f");
+    private static final UUID SECOND = UUID.fromString("0198a3c2-5f10-7002-8b1e-6a1f0c2d3e4f");
+
+    private final StringWriter output = new StringWriter();
+    private final TodoChangeSseWriter writer = new TodoChangeSseWriter(output);
+
+    @Test
+    void writesAChangeWithIds() throws IOException {
+        TodoChange change =
+                TodoChange.of(USER_ID, TodoChangeType.COMPLETED, List.of(FIRST, SECOND));
+
+        writer.writeEvent(new TodoChangeEvent(EPOCH, 42, change));
+        writer.flush();
+
+        assertThat(output.toString())
+                .isEqualTo(
+                        "id: 1735689600000-42\n"
+                                + "event: completed\n"
+                                + "data: {\"type\":\"completed\",\"count\":2,\"ids\":[\""
+                                + FIRST
+                                + "\",\""
+                                + SECOND
+                                + "\"],\"occurredAt\":\""
+                                + change.getOccurredAt()
+                                + "\"}\n\n");
+    }
+
+    @Test
+    void writesACountOnlyChangeWithEmptyIds() throws IOException {
+        TodoChange change = TodoChange.ofCount(USER_ID, TodoChangeType.CREATED, 250);
+
+        writer.writeEvent(new TodoChangeEvent(EPOCH, 7, change));
+
+        assertThat(output.toString())
+                .isEqualTo(
+                        "id: 1735689600000-7\n"
+                                + "event: created\n"
+                                + "data: {\"type\":\"created\",\"count\":250,\"ids\":[],"
+                                + "\"occurredAt\":\""
+                                + change.getOccurredAt()
+                                + "\"}\n\n");
+    }
+
+    @Test
+    void writesAResetWithTheTypeOnly() throws IOException {
+        writer.writeEvent(new TodoChangeEvent(EPOCH, 9, null));
+
+        assertThat(output.toString())
+                .isEqualTo("id: 1735689600000-9\nevent: reset\ndata: {\"type\":\"reset\"}\n\n");
+    }
+
+    @Test
+    void writesRetryAndHeartbeatAsSeparateBlocks() throws IOException {
+        writer.writeRetry(3000);
+        writer.writeHeartbeat();
+
+        assertThat(output.toString()).isEqualTo("retry: 3000\n\n:\n\n");
+    }
+}
@@ -0,0 +1,135 @@
+package com.api.todos.presentation.dto.todo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import com.api.todos.application.command.todo.ImportTodosCommand;
+import com.api.todos.application.dto.TodoResult;
+import com.api.todos.domain.model.Todo;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * TodoExportFormat のテスト
+ *
+ * <p>JSON文字列のエスケープ（引用符・バックスラッシュ・改行・制御文字）とCSVの引用符付け（区切り文字・引用符・改行を含む場合のみ）、
+ * nullの出力を確認する。 出力はインポート（{@link TodoImportReader}）でそのまま読み込めることも確認する
+ */
+class TodoExportFormatTest {
+
+    private static final UUID ID = UUID.fromString("0198a3c2-5f10-7000-8b1e-6a1f0c2d3e4f");
+    private static final LocalDateTime CREATED_AT =
+            LocalDateTime.of(2025, 1, 1, 9, 0, 0, 123_456_000);
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2025, 1, 2, 9, 0);
+
+    @Test
+    void ndjsonEscapesJsonStrings() throws IOException {
+        String written =
+                write(TodoExportFormat.NDJSON, todo("say \"hi\" \\ now", "a\nb\r\tc\u0001日本語"));
+
+        assertThat(written)
+                .isEqualTo(
+                        "{\"id\":\"0198a3c2-5f10-7000-8b1e-6a1f0c2d3e4f\","
+                                + "\"title\":\"say \\\"hi\\\" \\\\ now\","
+                                + "\"descriptions\":\"a\\nb\\r\\tc\\u0001日本語\","
+                                + "\"completed\":true,"
+                                + "\"createdAt\":\"2025-01-01T09:00:00.123456\","
+                                + "\"createdBy\":\"user\","
+                                + "\"updatedAt\":\"2025-01-02T09:00\","
+                                + "\"updatedBy\":\"user\"}\n");
+    }
+
+    @Test
+    void ndjsonWritesNullAsJsonNull() throws IOException {
+        assertThat(write(TodoExportFormat.NDJSON, todo("title", null)))
+                .contains("\"descriptions\":null,");
+    }
+
+    @Test
+    void csvQuotesOnlyFieldsThatNeedIt() throws IOException {
+        String written =
+                write(
+                        TodoExportFormat.CSV,
+                        todo("a, b", "say \"hi\"\r\nnext"),
+                        todo("plain", null));
+
+        assertThat(written)
+                .isEqualTo(
+                        "id,title,descriptions,completed,"
+                                + "createdAt,createdBy,updatedAt,updatedBy\r\n"
+                                + "0198a3c2-5f10-7000-8b1e-6a1f0c2d3e4f,\"a, b\","
+                                + "\"say \"\"hi\"\"\r\nnext\",true,2025-01-01T09:00:00.123456,"
+                                + "user,2025-01-02T09:00,user\r\n"
+                                + "0198a3c2-5f10-7000-8b1e-6a1f0c2d3e4f,plain,,true,"
+                                + "2025-01-01T09:00:00.123456,user,2025-01-02T09:00,user\r\n");
+    }
+
+    @Test
+    void exportedNdjsonCanBeImported() throws IOException {
+        TodoResult todo = todo("say \"hi\" \\ now", "a\nb\r\tc\u0001日本語");
+
+        List<ImportTodosCommand.Record> records =
+                read(TodoImportReader.ndjson(reader(TodoExportFormat.NDJSON, todo), 4096));
+
+        assertThat(records)
+                .containsExactly(
+                        ImportTodosCommand.Record.of(1, todo.getTitle(), todo.getDescriptions()));
+    }
+
+    @Test
+    void exportedCsvCanBeImported() throws IOException {
+        TodoResult quoted = todo("a, b", "say \"hi\"\r\nnext");
+        TodoResult plain = todo("plain", null);
+
+        List<ImportTodosCommand.Record> records =
+                read(TodoImportReader.csv(reader(TodoExportFormat.CSV, quoted, plain), 4096));
+
+        assertThat(records)
+                .containsExactly(
+                        ImportTodosCommand.Record.of(
+                                2, quoted.getTitle(), quoted.getDescriptions()),
+                        ImportTodosCommand.Record.of(4, plain.getTitle(), null));
+    }
+
+    private static TodoResult todo(String title, String descriptions) {
+        return TodoResult.from(
+                new Todo(
+                        ID,
+                        title,
+                        descriptions,
+                        true,
+                        UUID.randomUUID(),
+                        CREATED_AT,
+                        "user",
+                        UPDATED_AT,
+                        "user",
+                        false));
+    }
+
+    private static String write(TodoExportFormat format, TodoResult... todos) throws IOException {
+        StringWriter writer = new StringWriter();
+        format.writeHeader(writer);
+        for (TodoResult todo : todos) {
+            format.writeRow(writer, todo);
+        }
+        return writer.toString();
+    }
+
+    private static StringReader reader(TodoExportFormat format, TodoResult... todos)
+            throws IOException {
+        return new StringReader(write(format, todos));
+    }
+
+    private static List<ImportTodosCommand.Record> read(TodoImportReader reader) {
+        List<ImportTodosCommand.Record> records = new ArrayList<>();
+        reader.forEachRemaining(records::add);
+        return records;
+    }
+}
@@ -0,0 +1,44 @@
+package com.api.todos.presentation.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * TodoController のテスト
+ *
+ * <p>エクスポートの Accept-Encoding の判定（gzip・x-gzip・* の品質値、大文字小文字、q=0 による拒否）を確認する
+ */
+class TodoControllerTest {
+
+    @ParameterizedTest(name = "[{0}] -> {1}")
+    @CsvSource(
+            delimiter = '|',
+            nullValues = "(none)",
+            textBlock =
+                    """
+                    (none)                     | false
+                    ''                         | false
+                    gzip                       | true
+                    GZip                       | true
+                    x-gzip                     | true
+                    'deflate, gzip'            | true
+                    'br;q=1.0, gzip;q=0.8'     | true
+                    gzip;q=0.001               | true
+                    gzip; q=1                  | true
+                    gzip;q=0                   | false
+                    gzip; q=0.0                | false
+                    gzip;q=0.000               | false
+                    gzip;level=1;q=0           | false
+                    gzipx                      | false
+                    identity                   | false
+                    *                          | true
+                    *;q=0                      | false
+                    'gzip;q=0, *'              | false
+                    'br, *;q=0.5'              | true
+                    """)
+    void acceptsGzipUnlessRejectedByQuality(String acceptEncoding, boolean expected) {
+        assertThat(TodoController.acceptsGzip(acceptEncoding)).isEqualTo(expected);
+    }
+}